@@ -138,6 +138,8 @@ public class DMLOptions {
 							dmlOptions.linCachePolicy = LineageCachePolicy.DAGHEIGHT;
 						else if (lineageType.equalsIgnoreCase("policy_hybrid"))
 							dmlOptions.linCachePolicy = LineageCachePolicy.HYBRID;
+						else if (lineageType.equalsIgnoreCase("policy_lruk"))
+							dmlOptions.linCachePolicy = LineageCachePolicy.LRUK;
 						else if (lineageType.equalsIgnoreCase("estimate"))
 							dmlOptions.lineage_estimate = lineageType.equalsIgnoreCase("estimate");
 						else
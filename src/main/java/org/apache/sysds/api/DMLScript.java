@@ -57,7 +57,9 @@ import org.apache.sysds.parser.ParserWrapper;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.DMLScriptException;
 import org.apache.sysds.runtime.controlprogram.Program;
+import org.apache.sysds.runtime.controlprogram.caching.CachePrefetcher;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContextFactory;
 import org.apache.sysds.runtime.controlprogram.context.SparkExecutionContext;
@@ -65,9 +67,11 @@ import org.apache.sysds.runtime.controlprogram.federated.FederatedData;
 import org.apache.sysds.runtime.controlprogram.federated.FederatedWorker;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
 import org.apache.sysds.runtime.controlprogram.parfor.util.IDHandler;
+import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.instructions.gpu.context.GPUContextPool;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig;
+import org.apache.sysds.runtime.lineage.LineagePersistentCache;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.LineageCachePolicy;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
 import org.apache.sysds.runtime.privacy.CheckedConstraintsLog;
@@ -241,6 +245,9 @@ public class DMLScript
 			
 			if(dmlOptions.fedWorker) {
 				loadConfiguration(fnameOptConfig);
+				// enable lineage-based reuse of federated requests at the worker
+				LineageCacheConfig.setConfig(LINEAGE_REUSE);
+				LineageCacheConfig.setCachePolicy(LINEAGE_POLICY);
 				try {
 					new FederatedWorker(dmlOptions.fedWorkerPort).run();
 				}
@@ -440,6 +447,13 @@ public class DMLScript
 		
 		DMLScript.STATISTICS_MAX_WRAP_LEN = dmlconf.getIntValue(DMLConfig.STATS_MAX_WRAP_LEN);
 		NativeHelper.initialize(dmlconf.getTextValue(DMLConfig.NATIVE_BLAS_DIR), dmlconf.getTextValue(DMLConfig.NATIVE_BLAS).trim());
+		DenseBlockFactory.setOffHeapAllocation(dmlconf.getBooleanValue(DMLConfig.CP_OFFHEAP_DENSE));
+		LazyWriteBuffer.setMappedEviction(dmlconf.getBooleanValue(DMLConfig.CP_MMAP_EVICTION));
+		CachePrefetcher.setEnabled(dmlconf.getBooleanValue(DMLConfig.CP_PREFETCH));
+		LazyWriteBuffer.setPageCache(dmlconf.getBooleanValue(DMLConfig.CP_PAGECACHE));
+		LineageCacheConfig.setTraceFile(dmlconf.getTextValue(DMLConfig.LINEAGE_CACHE_TRACE));
+		LineagePersistentCache.init(dmlconf.getTextValue(DMLConfig.LINEAGE_PERSIST_DIR),
+			(long)dmlconf.getIntValue(DMLConfig.LINEAGE_PERSIST_SIZE) * 1024 * 1024);
 		
 		DMLScript.SYNCHRONIZE_GPU = dmlconf.getBooleanValue(DMLConfig.SYNCHRONIZE_GPU);
 		DMLScript.EAGER_CUDA_FREE = dmlconf.getBooleanValue(DMLConfig.EAGER_CUDA_FREE);
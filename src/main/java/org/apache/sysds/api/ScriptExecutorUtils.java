@@ -34,6 +34,7 @@ import org.apache.sysds.runtime.instructions.cp.Data;
 import org.apache.sysds.runtime.instructions.gpu.context.GPUContext;
 import org.apache.sysds.runtime.instructions.gpu.context.GPUContextPool;
 import org.apache.sysds.runtime.instructions.gpu.context.GPUObject;
+import org.apache.sysds.runtime.lineage.LineageCacheTrace;
 import org.apache.sysds.runtime.lineage.LineageEstimatorStatistics;
 import org.apache.sysds.utils.Statistics;
 
@@ -117,6 +118,9 @@ public class ScriptExecutorUtils {
 			if( ConfigurationManager.isCodegenEnabled() )
 				SpoofCompiler.cleanupCodeGenerator();
 			
+			// flush recorded lineage cache trace
+			LineageCacheTrace.close();
+			
 			// display statistics (incl caching stats if enabled)
 			Statistics.stopRunTimer();
 			System.out.println(Statistics.display(statisticsMaxHeavyHitters > 0 ?
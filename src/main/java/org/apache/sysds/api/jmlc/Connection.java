@@ -63,6 +63,7 @@ import org.apache.sysds.runtime.matrix.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.transform.TfUtils;
 import org.apache.sysds.runtime.transform.meta.TfMetaUtils;
+import org.apache.sysds.runtime.util.ArrowConverterUtils;
 import org.apache.sysds.runtime.util.CollectionUtils;
 import org.apache.sysds.runtime.util.DataConverter;
 
@@ -826,6 +827,78 @@ public class Connection implements Closeable
 		return ret;
 	}
 	
+	////////////////////////////////////////////
+	// Read arrow frames and matrices
+	////////////////////////////////////////////
+
+	/**
+	 * Converts an input stream in Apache Arrow IPC stream format into a frame block,
+	 * where the frame schema and column names are taken from the arrow schema.
+	 * 
+	 * @param input InputStream to a frame in arrow stream format
+	 * @return frame as a frame block
+	 * @throws IOException if IOException occurs
+	 */
+	public FrameBlock convertArrowToFrame(InputStream input) throws IOException {
+		try {
+			return ArrowConverterUtils.readFrameFromStream(input);
+		}
+		catch(DMLRuntimeException rex) {
+			throw new IOException(rex);
+		}
+	}
+
+	/**
+	 * Reads a local file in Apache Arrow IPC file format into a frame block,
+	 * where the frame schema and column names are taken from the arrow schema.
+	 * 
+	 * @param fname the filename of the input frame
+	 * @return frame as a frame block
+	 * @throws IOException if IOException occurs
+	 */
+	public FrameBlock readArrowFrame(String fname) throws IOException {
+		try {
+			return ArrowConverterUtils.readFrameFromFile(fname);
+		}
+		catch(DMLRuntimeException rex) {
+			throw new IOException(rex);
+		}
+	}
+
+	/**
+	 * Converts an input stream in Apache Arrow IPC stream format into a matrix block.
+	 * All arrow columns are required to be of numeric or boolean type.
+	 * 
+	 * @param input InputStream to a matrix in arrow stream format
+	 * @return matrix as a matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public MatrixBlock convertArrowToMatrix(InputStream input) throws IOException {
+		try {
+			return ArrowConverterUtils.readMatrixFromStream(input);
+		}
+		catch(DMLRuntimeException rex) {
+			throw new IOException(rex);
+		}
+	}
+
+	/**
+	 * Reads a local file in Apache Arrow IPC file format into a matrix block.
+	 * All arrow columns are required to be of numeric or boolean type.
+	 * 
+	 * @param fname the filename of the input matrix
+	 * @return matrix as a matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public MatrixBlock readArrowMatrix(String fname) throws IOException {
+		try {
+			return ArrowConverterUtils.readMatrixFromFile(fname);
+		}
+		catch(DMLRuntimeException rex) {
+			throw new IOException(rex);
+		}
+	}
+
 	////////////////////////////////////////////
 	// Read transform meta data
 	////////////////////////////////////////////
@@ -19,6 +19,8 @@
 
 package org.apache.sysds.api.jmlc;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Set;
 
@@ -29,6 +31,7 @@ import org.apache.sysds.runtime.instructions.cp.Data;
 import org.apache.sysds.runtime.instructions.cp.ScalarObject;
 import org.apache.sysds.runtime.matrix.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.ArrowConverterUtils;
 import org.apache.sysds.runtime.util.DataConverter;
 
 /**
@@ -96,6 +99,18 @@ public class ResultVariables
 		return mb;
 	}
 	
+	/**
+	 * Write the matrix represented by the given output variable to the given
+	 * stream in Apache Arrow IPC stream format, with one FP64 column per matrix column.
+	 * 
+	 * @param varname output variable name
+	 * @param out output stream (not closed)
+	 * @throws IOException if IOException occurs
+	 */
+	public void writeArrowMatrix(String varname, OutputStream out) throws IOException {
+		ArrowConverterUtils.writeMatrixToStream(getMatrixBlock(varname), out);
+	}
+	
 	/**
 	 * Obtain the frame represented by the given output variable.
 	 * 
@@ -129,6 +144,19 @@ public class ResultVariables
 		return fb;
 	}
 	
+	/**
+	 * Write the frame represented by the given output variable to the given
+	 * stream in Apache Arrow IPC stream format, preserving the frame schema
+	 * and column names.
+	 * 
+	 * @param varname output variable name
+	 * @param out output stream (not closed)
+	 * @throws IOException if IOException occurs
+	 */
+	public void writeArrowFrame(String varname, OutputStream out) throws IOException {
+		ArrowConverterUtils.writeFrameToStream(getFrameBlock(varname), out);
+	}
+	
 	/**
 	 * Obtain the double value represented by the given output variable.
 	 * 
@@ -112,13 +112,14 @@ public class Types
 	}
 	
 	/**
-	 * Serialization block types (empty, dense, sparse, ultra-sparse)
+	 * Serialization block types (empty, dense, sparse, ultra-sparse, compressed)
 	 */
 	public enum BlockType{
 		EMPTY_BLOCK,
 		ULTRA_SPARSE_BLOCK,
 		SPARSE_BLOCK,
 		DENSE_BLOCK,
+		COMPRESSED_BLOCK,
 	}
 	
 	/**
@@ -494,14 +495,20 @@ public class Types
 		JSONL,  // text nested JSON (Line) representation
 		BINARY, // binary block representation (dense/sparse/ultra-sparse)
 		FEDERATED, // A federated matrix
-		PROTO;  // protocol buffer representation
+		PROTO,  // protocol buffer representation
+		PARQUET, // apache parquet columnar representation
+		COMPRESSED; // compressed column group representation (single node only)
 		
 		public boolean isIJVFormat() {
 			return this == TEXT || this == MM;
 		}
 		
 		public boolean isTextFormat() {
-			return this != BINARY;
+			return this != BINARY && this != COMPRESSED && this != PARQUET;
+		}
+		
+		public boolean isSingleNodeFormat() {
+			return this == COMPRESSED || this == PARQUET;
 		}
 		
 		public static boolean isTextFormat(String fmt) {
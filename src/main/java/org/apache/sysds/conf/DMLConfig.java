@@ -67,13 +67,22 @@ public class DMLConfig
 	public static final String DEFAULT_BLOCK_SIZE   = "sysds.defaultblocksize";
 	public static final String CP_PARALLEL_OPS      = "sysds.cp.parallel.ops";
 	public static final String CP_PARALLEL_IO       = "sysds.cp.parallel.io";
+	public static final String CP_OFFHEAP_DENSE     = "sysds.cp.offheap.dense"; //boolean
+	public static final String CP_MMAP_EVICTION     = "sysds.cp.mmap.eviction"; //boolean
+	public static final String CP_PREFETCH          = "sysds.cp.prefetch"; //boolean
+	public static final String CP_PAGECACHE         = "sysds.cp.pagecache"; //boolean
+	public static final String TRANSFORM_STREAMING  = "sysds.transform.streaming"; //boolean
+	public static final String LINEAGE_CACHE_TRACE  = "sysds.lineage.cache.trace"; //trace file, empty for none
+	public static final String LINEAGE_PERSIST_DIR  = "sysds.lineage.persist.dir"; //local dir, empty for none
+	public static final String LINEAGE_PERSIST_SIZE = "sysds.lineage.persist.size"; //in MB
 	public static final String COMPRESSED_LINALG    = "sysds.compressed.linalg"; //auto, cost, true, false
 	public static final String COMPRESSED_LOSSY     = "sysds.compressed.lossy";
-	public static final String COMPRESSED_VALID_COMPRESSIONS = "sysds.compressed.valid.compressions";
+	public static final String COMPRESSED_VALID_COMPRESSIONS = "sysds.compressed.valid.compressions"; // DDC,OLE,RLE,SDC
 	public static final String COMPRESSED_OVERLAPPING = "sysds.compressed.overlapping"; // true, false
 	public static final String COMPRESSED_SAMPLING_RATIO = "sysds.compressed.sampling.ratio"; // 0.1
 	public static final String COMPRESSED_COCODE    = "sysds.compressed.cocode"; // COST
 	public static final String COMPRESSED_TRANSPOSE = "sysds.compressed.transpose"; // true, false, auto.
+	public static final String COMPRESSED_SHARED_DICTIONARY = "sysds.compressed.shared.dictionary"; // true, false
 	public static final String NATIVE_BLAS          = "sysds.native.blas";
 	public static final String NATIVE_BLAS_DIR      = "sysds.native.blas.directory";
 	public static final String CODEGEN              = "sysds.codegen.enabled"; //boolean
@@ -99,6 +108,9 @@ public class DMLConfig
 
 	public static final String USE_SSL_FEDERATED_COMMUNICATION = "sysds.federated.ssl"; // boolean
 	public static final String DEFAULT_FEDERATED_INITIALIZATION_TIMEOUT = "sysds.federated.initialization.timeout"; // int seconds
+	public static final String FEDERATED_BINARY_CODEC = "sysds.federated.codec.binary"; // boolean
+	public static final String FEDERATED_LZ4 = "sysds.federated.codec.lz4"; // boolean
+	public static final String FEDERATED_BATCHING = "sysds.federated.batching"; // boolean
 	public static final int DEFAULT_FEDERATED_PORT = 4040; // borrowed default Spark Port
 	public static final int DEFAULT_NUMBER_OF_FEDERATED_WORKER_THREADS = 2;
 	
@@ -122,6 +134,14 @@ public class DMLConfig
 		_defaultVals.put(DEFAULT_BLOCK_SIZE,     String.valueOf(OptimizerUtils.DEFAULT_BLOCKSIZE) );
 		_defaultVals.put(CP_PARALLEL_OPS,        "true" );
 		_defaultVals.put(CP_PARALLEL_IO,         "true" );
+		_defaultVals.put(CP_OFFHEAP_DENSE,       "false" );
+		_defaultVals.put(CP_MMAP_EVICTION,       "false" );
+		_defaultVals.put(CP_PREFETCH,            "false" );
+		_defaultVals.put(CP_PAGECACHE,           "false" );
+		_defaultVals.put(TRANSFORM_STREAMING,    "true" );
+		_defaultVals.put(LINEAGE_CACHE_TRACE,    "" );
+		_defaultVals.put(LINEAGE_PERSIST_DIR,    "" );
+		_defaultVals.put(LINEAGE_PERSIST_SIZE,   "4096" );
 		_defaultVals.put(COMPRESSED_LINALG,      Compression.CompressConfig.AUTO.name() );
 		_defaultVals.put(COMPRESSED_LOSSY,       "false" );
 		_defaultVals.put(COMPRESSED_VALID_COMPRESSIONS, "DDC,OLE,RLE");
@@ -129,6 +149,7 @@ public class DMLConfig
 		_defaultVals.put(COMPRESSED_SAMPLING_RATIO, "0.01");
 		_defaultVals.put(COMPRESSED_COCODE,      "COST");
 		_defaultVals.put(COMPRESSED_TRANSPOSE,   "auto");
+		_defaultVals.put(COMPRESSED_SHARED_DICTIONARY, "false");
 		_defaultVals.put(CODEGEN,                "false" );
 		_defaultVals.put(CODEGEN_API,		     GeneratorAPI.JAVA.name() );
 		_defaultVals.put(CODEGEN_COMPILER,       CompilerType.AUTO.name() );
@@ -150,6 +171,9 @@ public class DMLConfig
 		_defaultVals.put(FLOATING_POINT_PRECISION, "double" );
 		_defaultVals.put(USE_SSL_FEDERATED_COMMUNICATION, "false");
 		_defaultVals.put(DEFAULT_FEDERATED_INITIALIZATION_TIMEOUT, "10");
+		_defaultVals.put(FEDERATED_BINARY_CODEC, "false");
+		_defaultVals.put(FEDERATED_LZ4,          "false");
+		_defaultVals.put(FEDERATED_BATCHING,     "false");
 	}
 	
 	public DMLConfig() {
@@ -392,14 +416,15 @@ public class DMLConfig
 	public String getConfigInfo()  {
 		String[] tmpConfig = new String[] { 
 			LOCAL_TMP_DIR,SCRATCH_SPACE,OPTIMIZATION_LEVEL, DEFAULT_BLOCK_SIZE,
-			CP_PARALLEL_OPS, CP_PARALLEL_IO, NATIVE_BLAS, NATIVE_BLAS_DIR,
+			CP_PARALLEL_OPS, CP_PARALLEL_IO, TRANSFORM_STREAMING, NATIVE_BLAS, NATIVE_BLAS_DIR,
 			COMPRESSED_LINALG, COMPRESSED_LOSSY, COMPRESSED_VALID_COMPRESSIONS, COMPRESSED_OVERLAPPING,
-			COMPRESSED_SAMPLING_RATIO, COMPRESSED_COCODE, COMPRESSED_TRANSPOSE,
+			COMPRESSED_SAMPLING_RATIO, COMPRESSED_COCODE, COMPRESSED_TRANSPOSE, COMPRESSED_SHARED_DICTIONARY,
 			CODEGEN, CODEGEN_API, CODEGEN_COMPILER, CODEGEN_OPTIMIZER, CODEGEN_PLANCACHE, CODEGEN_LITERALS,
 			STATS_MAX_WRAP_LEN, PRINT_GPU_MEMORY_INFO,
 			AVAILABLE_GPUS, SYNCHRONIZE_GPU, EAGER_CUDA_FREE, FLOATING_POINT_PRECISION, GPU_EVICTION_POLICY, 
 			LOCAL_SPARK_NUM_THREADS, EVICTION_SHADOW_BUFFERSIZE, GPU_MEMORY_ALLOCATOR, GPU_MEMORY_UTILIZATION_FACTOR,
-			USE_SSL_FEDERATED_COMMUNICATION, DEFAULT_FEDERATED_INITIALIZATION_TIMEOUT
+			USE_SSL_FEDERATED_COMMUNICATION, DEFAULT_FEDERATED_INITIALIZATION_TIMEOUT,
+			FEDERATED_BINARY_CODEC, FEDERATED_LZ4, FEDERATED_BATCHING
 		}; 
 		
 		StringBuilder sb = new StringBuilder();
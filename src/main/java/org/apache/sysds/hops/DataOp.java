@@ -443,8 +443,9 @@ public class DataOp extends Hop {
 		{
 			checkAndSetForcedPlatform();
 
-			//additional check for write only
-			if( getDataType()==DataType.SCALAR )
+			//additional check for write only (incl formats w/o spark writers)
+			if( getDataType()==DataType.SCALAR
+				|| (_op == OpOpData.PERSISTENTWRITE && _inFormat.isSingleNodeFormat()) )
 				_etypeForced = ExecType.CP;
 			
 			if( _etypeForced != null )
@@ -482,7 +483,9 @@ public class DataOp extends Hop {
 				setRequiresRecompile();
 			}
 			
-			_etype = letype;
+			//formats w/o spark readers are always read in memory
+			_etype = (_op == OpOpData.PERSISTENTREAD && _inFormat.isSingleNodeFormat()) ?
+				ExecType.CP : letype;
 		}
 		
 		return _etype;
@@ -43,6 +43,7 @@ import org.apache.sysds.lops.LopsException;
 import org.apache.sysds.lops.ReBlock;
 import org.apache.sysds.lops.UnaryCP;
 import org.apache.sysds.parser.ParseInfo;
+import org.apache.sysds.runtime.compress.workload.Workload;
 import org.apache.sysds.runtime.controlprogram.LocalVariableMap;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.apache.sysds.runtime.controlprogram.context.SparkExecutionContext;
@@ -103,6 +104,10 @@ public abstract class Hop implements ParseInfo {
 	// (this happens on persistent reads after reblock but before checkpoint)
 	protected boolean _requiresCompression = false;
 
+	// summary of the operations consuming the compressed output,
+	// used for workload-aware compression planning (optional)
+	protected Workload _compressionWorkload = null;
+
 	/** Boolean specifying if decompression is required.*/
 	protected boolean _requiresDeCompression = false;
 	
@@ -271,6 +276,14 @@ public abstract class Hop implements ParseInfo {
 	public boolean requiresCompression() {
 		return _requiresCompression;
 	}
+
+	public void setCompressionWorkload(Workload workload) {
+		_compressionWorkload = workload;
+	}
+
+	public Workload getCompressionWorkload() {
+		return _compressionWorkload;
+	}
 	
 	public void setRequiresLineageCaching(boolean flag) {
 		_requiresLineageCaching = flag;
@@ -403,7 +416,7 @@ public abstract class Hop implements ParseInfo {
 		{
 			try
 			{
-				Lop compress = new Compression(getLops(), getDataType(), getValueType(), et);
+				Lop compress = new Compression(getLops(), getDataType(), getValueType(), et, _compressionWorkload);
 				setOutputDimensions( compress );
 				setLineNumbers( compress );
 				setLops( compress );
@@ -1354,6 +1367,7 @@ public abstract class Hop implements ParseInfo {
 		_requiresReblock = that._requiresReblock;
 		_requiresCheckpoint = that._requiresCheckpoint;
 		_requiresCompression = that._requiresCompression;
+		_compressionWorkload = that._compressionWorkload;
 		_requiresLineageCaching = that._requiresLineageCaching;
 		_outputEmptyBlocks = that._outputEmptyBlocks;
 		
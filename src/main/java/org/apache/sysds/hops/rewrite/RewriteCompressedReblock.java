@@ -21,6 +21,7 @@ package org.apache.sysds.hops.rewrite;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 
@@ -33,8 +34,10 @@ import org.apache.sysds.common.Types.OpOpData;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.hops.AggBinaryOp;
+import org.apache.sysds.hops.AggUnaryOp;
 import org.apache.sysds.hops.FunctionOp;
 import org.apache.sysds.hops.Hop;
+import org.apache.sysds.hops.IndexingOp;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.lops.Compression.CompressConfig;
 import org.apache.sysds.lops.MMTSJ.MMTSJType;
@@ -48,6 +51,8 @@ import org.apache.sysds.parser.IfStatementBlock;
 import org.apache.sysds.parser.StatementBlock;
 import org.apache.sysds.parser.WhileStatement;
 import org.apache.sysds.parser.WhileStatementBlock;
+import org.apache.sysds.runtime.compress.workload.Workload;
+import org.apache.sysds.runtime.compress.workload.Workload.OpType;
 import org.apache.sysds.runtime.controlprogram.context.SparkExecutionContext;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 
@@ -56,12 +61,20 @@ import org.apache.sysds.runtime.matrix.data.MatrixBlock;
  * matrices if number of rows is above 1000 and cols at least 1. In case of 'auto' compression, we apply compression if
  * the data size is known to exceed aggregate cluster memory, the matrix is used in loops, and all operations are
  * supported over compressed matrices.
+ * 
+ * For 'auto' and 'cost' compression, the consumers of the compressed matrix in the HOP DAG are summarized (weighted
+ * by the estimated number of loop iterations) into a workload, which makes the planning of column group types and
+ * co-coding during compression cost-based. Forced compression ('true') keeps the configured, workload-independent
+ * planning.
  */
 public class RewriteCompressedReblock extends StatementBlockRewriteRule {
 	private static final Log LOG = LogFactory.getLog(RewriteCompressedReblock.class.getName());
 
 	private static final String TMP_PREFIX = "__cmtx";
 
+	/** Assumed number of iterations of while loops, and for loops with unknown number of iterations */
+	private static final int DEFAULT_NUM_ITER = 15;
+
 	@Override
 	public boolean createsSplitDag() {
 		return false;
@@ -108,9 +121,11 @@ public class RewriteCompressedReblock extends StatementBlockRewriteRule {
 			case AUTO:
 				if(satisfiesAutoCompressionCondition(hop, prog))
 					hop.setRequiresCompression(true);
+				break;
 			case COST:
 				if(satisfiesCostCompressionCondition(hop, prog))
 					hop.setRequiresCompression(true);
+				break;
 			default:
 				break;
 		}
@@ -151,14 +166,14 @@ public class RewriteCompressedReblock extends StatementBlockRewriteRule {
 		// but conditionally only if all other conditions are met
 		if(hop.dimsKnown(true) && outOfCore && !ultraSparse) {
 			// analyze program recursively, including called functions
-			ProbeStatus status = new ProbeStatus(hop.getHopID(), prog);
-			for(StatementBlock sb : prog.getStatementBlocks())
-				rAnalyzeProgram(sb, status);
+			ProbeStatus status = analyzeProgram(hop, prog);
 
 			// applicable if used in loop (amortized compressed costs),
 			// no conditional updates in if-else branches
 			// and all operations are applicable (no decompression costs)
 			boolean ret = status.foundStart && status.usedInLoop && !status.condUpdate && !status.nonApplicable;
+			if(ret)
+				hop.setCompressionWorkload(status.workload);
 			if(LOG.isDebugEnabled()) {
 				LOG.debug("Auto compression: " + ret + " (dimsKnown=" + hop.dimsKnown(true) + ", outOfCore=" + outOfCore
 					+ ", !ultraSparse=" + !ultraSparse + ", foundStart=" + status.foundStart + ", usedInLoop="
@@ -175,8 +190,30 @@ public class RewriteCompressedReblock extends StatementBlockRewriteRule {
 	}
 
 	private static boolean satisfiesCostCompressionCondition(Hop hop, DMLProgram prog) {
-		// TODO Cost compression Condition
-		return false;
+		// check for basic compression condition, independent of the memory budgets
+		if(!(satisfiesCompressionCondition(hop) && hop.dimsKnown(true)))
+			return false;
+		double sparsity = OptimizerUtils.getSparsity(hop.getDim1(), hop.getDim2(), hop.getNnz());
+		if(sparsity < MatrixBlock.ULTRA_SPARSITY_TURN_POINT)
+			return false;
+
+		// compress if the workload amortizes the compression, i.e., the matrix is
+		// used in a loop with operations that are all supported over compressed data
+		ProbeStatus status = analyzeProgram(hop, prog);
+		boolean ret = status.foundStart && status.usedInLoop && !status.condUpdate && !status.nonApplicable &&
+			!status.workload.isEmpty();
+		if(ret)
+			hop.setCompressionWorkload(status.workload);
+		if(LOG.isDebugEnabled())
+			LOG.debug("Cost compression: " + ret + " " + status.workload);
+		return ret;
+	}
+
+	private static ProbeStatus analyzeProgram(Hop hop, DMLProgram prog) {
+		ProbeStatus status = new ProbeStatus(hop.getHopID(), prog);
+		for(StatementBlock sb : prog.getStatementBlocks())
+			rAnalyzeProgram(sb, status);
+		return status;
 	}
 
 	private static void rAnalyzeProgram(StatementBlock sb, ProbeStatus status) {
@@ -189,8 +226,11 @@ public class RewriteCompressedReblock extends StatementBlockRewriteRule {
 		else if(sb instanceof WhileStatementBlock) {
 			WhileStatementBlock wsb = (WhileStatementBlock) sb;
 			WhileStatement wstmt = (WhileStatement) wsb.getStatement(0);
+			double weight = status.loopWeight;
+			status.loopWeight *= DEFAULT_NUM_ITER;
 			for(StatementBlock csb : wstmt.getBody())
 				rAnalyzeProgram(csb, status);
+			status.loopWeight = weight;
 			if(wsb.variablesRead().containsAnyName(status.compMtx))
 				status.usedInLoop = true;
 		}
@@ -207,8 +247,11 @@ public class RewriteCompressedReblock extends StatementBlockRewriteRule {
 		else if(sb instanceof ForStatementBlock) { // incl parfor
 			ForStatementBlock fsb = (ForStatementBlock) sb;
 			ForStatement fstmt = (ForStatement) fsb.getStatement(0);
+			double weight = status.loopWeight;
+			status.loopWeight *= getNumIterations(fsb);
 			for(StatementBlock csb : fstmt.getBody())
 				rAnalyzeProgram(csb, status);
+			status.loopWeight = weight;
 			if(fsb.variablesRead().containsAnyName(status.compMtx))
 				status.usedInLoop = true;
 		}
@@ -306,11 +349,52 @@ public class RewriteCompressedReblock extends StatementBlockRewriteRule {
 			status.nonApplicable |= !(compUCOut || compCOut || metaOp);
 			if(compCOut)
 				status.compMtx.add(getTmpName(current));
+
+			// summarize the operation into the workload
+			if(!metaOp)
+				status.workload.add(getWorkloadType(current, compCOut, status), status.loopWeight);
 		}
 
 		current.setVisited();
 	}
 
+	private static OpType getWorkloadType(Hop current, boolean compCOut, ProbeStatus status) {
+		if(current instanceof AggBinaryOp) {
+			if(((AggBinaryOp) current).checkTransposeSelf() == MMTSJType.LEFT)
+				return OpType.TSMM;
+			return isCompressed(current.getInput().get(0), status) ? OpType.RIGHT_MM : OpType.LEFT_MM;
+		}
+		else if(HopRewriteUtils.isTransposeOperation(current) && current.getParent().size() == 1 &&
+			current.getParent().get(0) instanceof AggBinaryOp) {
+			// t(X) %*% Y is a left matrix multiplication over X, unless part of tsmm
+			AggBinaryOp mm = (AggBinaryOp) current.getParent().get(0);
+			return mm.checkTransposeSelf() == MMTSJType.LEFT ? OpType.TSMM : OpType.LEFT_MM;
+		}
+		else if(current instanceof AggUnaryOp)
+			return OpType.AGGREGATE;
+		else if(current instanceof IndexingOp)
+			return OpType.INDEXING;
+		else if(compCOut)
+			return OpType.DICTIONARY;
+		return OpType.DECOMPRESS;
+	}
+
+	private static long getNumIterations(ForStatementBlock fsb) {
+		try {
+			HashMap<Long, Long> memo = new HashMap<>();
+			long from = OptimizerUtils.rEvalSimpleLongExpression(fsb.getFromHops().getInput().get(0), memo);
+			long to = OptimizerUtils.rEvalSimpleLongExpression(fsb.getToHops().getInput().get(0), memo);
+			long incr = (fsb.getIncrementHops() == null) ? (from < to) ? 1 : -1 : OptimizerUtils
+				.rEvalSimpleLongExpression(fsb.getIncrementHops().getInput().get(0), memo);
+			if(from != Long.MAX_VALUE && to != Long.MAX_VALUE && incr != Long.MAX_VALUE && incr != 0)
+				return Math.max(1, (long) Math.ceil(((double) (to - from + 1)) / incr));
+		}
+		catch(Exception ex) {
+			// ignore, fall back to the default number of iterations
+		}
+		return DEFAULT_NUM_ITER;
+	}
+
 	private static String getTmpName(Hop hop) {
 		return TMP_PREFIX + hop.getHopID();
 	}
@@ -337,10 +421,13 @@ public class RewriteCompressedReblock extends StatementBlockRewriteRule {
 		private boolean nonApplicable = false;
 		private HashSet<String> procFn = new HashSet<>();
 		private HashSet<String> compMtx = new HashSet<>();
+		private final Workload workload;
+		private double loopWeight = 1;
 
 		public ProbeStatus(long hopID, DMLProgram p) {
 			startHopID = hopID;
 			prog = p;
+			workload = new Workload();
 		}
 
 		public ProbeStatus(ProbeStatus status) {
@@ -351,6 +438,9 @@ public class RewriteCompressedReblock extends StatementBlockRewriteRule {
 			condUpdate = status.condUpdate;
 			nonApplicable = status.nonApplicable;
 			procFn.addAll(status.procFn);
+			// operations within functions are accumulated into the caller's workload
+			workload = status.workload;
+			loopWeight = status.loopWeight;
 		}
 	}
 }
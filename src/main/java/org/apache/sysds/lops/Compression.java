@@ -22,6 +22,7 @@ package org.apache.sysds.lops;
 import org.apache.sysds.lops.LopProperties.ExecType;
 import org.apache.sysds.common.Types.DataType;
 import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.compress.workload.Workload;
 
 public class Compression extends Lop {
 	public static final String OPCODE = "compress";
@@ -34,8 +35,15 @@ public class Compression extends Lop {
 		}
 	}
 
+	private final Workload _workload;
+
 	public Compression(Lop input, DataType dt, ValueType vt, ExecType et) {
+		this(input, dt, vt, et, null);
+	}
+
+	public Compression(Lop input, DataType dt, ValueType vt, ExecType et, Workload workload) {
 		super(Lop.Type.Checkpoint, dt, vt);
+		_workload = workload;
 		addInput(input);
 		input.addOutput(this);
 		lps.setProperties(inputs, et);
@@ -56,6 +64,10 @@ public class Compression extends Lop {
 		sb.append(getInputs().get(0).prepInputOperand(input1));
 		sb.append(OPERAND_DELIMITOR);
 		sb.append(prepOutputOperand(output));
+		if(_workload != null && !_workload.isEmpty()) {
+			sb.append(OPERAND_DELIMITOR);
+			sb.append(_workload.encode());
+		}
 		return sb.toString();
 	}
 }
@@ -23,6 +23,7 @@ import static org.apache.sysds.runtime.instructions.fed.InitFEDInstruction.FED_F
 import static org.apache.sysds.runtime.instructions.fed.InitFEDInstruction.FED_MATRIX_IDENTIFIER;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -52,6 +53,7 @@ import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
 import org.apache.sysds.runtime.io.FileFormatPropertiesMM;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.io.ParquetUtils;
 import org.apache.sysds.runtime.privacy.PrivacyConstraint;
 import org.apache.sysds.runtime.privacy.PrivacyConstraint.PrivacyLevel;
 import org.apache.sysds.runtime.privacy.PrivacyUtils;
@@ -1059,6 +1061,7 @@ public class DataExpression extends DataIdentifier
 			}
 			
 			boolean isCSV = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.CSV.toString()));
+			boolean isParquet = (formatTypeString != null && formatTypeString.equalsIgnoreCase(FileFormat.PARQUET.toString()));
 			
 			if (shouldReadMTD){
 				configObject = readMetadataFile(mtdFileName, conditional);
@@ -1068,12 +1071,37 @@ public class DataExpression extends DataIdentifier
 					inferredFormatType = true;
 				}
 				else {
-					if(!isCSV){
+					if(!isCSV && !isParquet){
 						LOG.warn("Metadata file: " + new Path(mtdFileName) + " not provided");
 					}
 				}
 			}
 			
+			if (isParquet && shouldReadMTD) {
+				// parquet files are self-describing, obtain missing dimensions
+				// and frame schema from the parquet footers
+				try {
+					if( getVarParam(READROWPARAM) == null || getVarParam(READCOLPARAM) == null ) {
+						long[] dims = ParquetUtils.readDimensions(inputFileName, null);
+						addVarParam(READROWPARAM, new IntIdentifier(dims[0], this));
+						addVarParam(READCOLPARAM, new IntIdentifier(dims[1], this));
+					}
+					if( dataTypeString != null && dataTypeString.equalsIgnoreCase(Statement.FRAME_DATA_TYPE)
+						&& getVarParam(SCHEMAPARAM) == null ) {
+						StringBuilder sb = new StringBuilder();
+						for( ValueType vt : ParquetUtils.readValueTypes(inputFileName, null) ) {
+							sb.append(vt.toString());
+							sb.append(DEFAULT_DELIM_DELIMITER);
+						}
+						addVarParam(SCHEMAPARAM, new StringIdentifier(sb.toString(), this));
+					}
+				}
+				catch(IOException ex) {
+					raiseValidateError("Failed to read parquet footers of " 
+						+ inputFileName + ": " + ex.getMessage(), conditional);
+				}
+			}
+			
 			if (isCSV){
 
 				// there should be no MTD file for delimited file format
@@ -1343,9 +1371,12 @@ public class DataExpression extends DataIdentifier
 			}*/
 			
 			//validate read filename
-			if (getVarParam(FORMAT_TYPE) == null || FileFormat.isTextFormat(getVarParam(FORMAT_TYPE).toString()))
+			//note: parquet is a binary format but without blocked representation
+			if (getVarParam(FORMAT_TYPE) == null || FileFormat.isTextFormat(getVarParam(FORMAT_TYPE).toString())
+				|| getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FileFormat.PARQUET.toString()))
 				getOutput().setBlocksize(-1);
-			else if (getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FileFormat.BINARY.toString()))
+			else if (getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FileFormat.BINARY.toString())
+				|| getVarParam(FORMAT_TYPE).toString().equalsIgnoreCase(FileFormat.COMPRESSED.toString()))
 				getOutput().setBlocksize(ConfigurationManager.getBlocksize());
 			else
 				raiseValidateError("Invalid format " + getVarParam(FORMAT_TYPE)
@@ -31,6 +31,8 @@ import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.colgroup.ColGroup;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupValue;
+import org.apache.sysds.runtime.compress.lib.LibCTable;
+import org.apache.sysds.runtime.compress.lib.LibGroupedAgg;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.apache.sysds.runtime.instructions.cp.CM_COV_Object;
@@ -119,6 +121,24 @@ public abstract class AbstractCompressedMatrixBlock extends MatrixBlock {
 
 	public abstract MatrixBlock decompress();
 
+	/**
+	 * Replaces the column groups of this block by a single uncompressed column group of the given block, which
+	 * writes the results of in-place operations without compressed support into this block.
+	 * 
+	 * @param mb uncompressed block of the same dimensions
+	 */
+	public void allocateUncompressedColGroup(MatrixBlock mb) {
+		int[] colIndexes = new int[clen];
+		for(int i = 0; i < clen; i++)
+			colIndexes[i] = i;
+		List<ColGroup> colGroups = new ArrayList<>(1);
+		colGroups.add(new ColGroupUncompressed(colIndexes, mb, false));
+		_colGroups = colGroups;
+		overlappingColGroups = false;
+		v = null;
+		nonZeros = mb.getNonZeros();
+	}
+
 	@Override
 	public boolean isEmptyBlock(boolean safe) {
 		return(_colGroups == null || getNonZeros() == 0);
@@ -160,7 +180,7 @@ public abstract class AbstractCompressedMatrixBlock extends MatrixBlock {
 		printDecompressWarning("binaryOperationsInPlace", (MatrixBlock) thatValue);
 		MatrixBlock left = decompress();
 		MatrixBlock right = getUncompressed(thatValue);
-		left.binaryOperationsInPlace(op, right);
+		allocateUncompressedColGroup(left.binaryOperations(op, right, new MatrixBlock()));
 		return this;
 	}
 
@@ -359,10 +379,17 @@ public abstract class AbstractCompressedMatrixBlock extends MatrixBlock {
 	@Override
 	public MatrixBlock groupedAggOperations(MatrixValue tgt, MatrixValue wghts, MatrixValue ret, int ngroups,
 		Operator op, int k) {
+		MatrixBlock target = getUncompressed(tgt);
+		MatrixBlock weights = (wghts != null) ? getUncompressed(wghts) : null;
+		if(this instanceof CompressedMatrixBlock) {
+			MatrixBlock res = LibGroupedAgg
+				.groupedAggregate((CompressedMatrixBlock) this, target, weights, ret, ngroups, op);
+			if(res != null)
+				return res;
+		}
 		printDecompressWarning("groupedAggOperations");
 		MatrixBlock left = decompress();
-		MatrixBlock right = getUncompressed(wghts);
-		return left.groupedAggOperations(left, right, ret, ngroups, op, k);
+		return left.groupedAggOperations(target, weights, ret, ngroups, op, k);
 	}
 
 	@Override
@@ -390,15 +417,21 @@ public abstract class AbstractCompressedMatrixBlock extends MatrixBlock {
 	@Override
 	public void ctableOperations(Operator op, double scalar, MatrixValue that, CTableMap resultMap,
 		MatrixBlock resultBlock) {
+		MatrixBlock right = getUncompressed(that);
+		if(this instanceof CompressedMatrixBlock &&
+			LibCTable.ctable((CompressedMatrixBlock) this, scalar, right, resultMap, resultBlock))
+			return;
 		printDecompressWarning("ctableOperations");
 		MatrixBlock left = decompress();
-		MatrixBlock right = getUncompressed(that);
 		left.ctableOperations(op, scalar, right, resultMap, resultBlock);
 	}
 
 	@Override
 	public void ctableOperations(Operator op, double scalar, double scalar2, CTableMap resultMap,
 		MatrixBlock resultBlock) {
+		if(this instanceof CompressedMatrixBlock &&
+			LibCTable.ctable((CompressedMatrixBlock) this, scalar, scalar2, resultMap, resultBlock))
+			return;
 		printDecompressWarning("ctableOperations");
 		MatrixBlock tmp = decompress();
 		tmp.ctableOperations(op, scalar, scalar2, resultMap, resultBlock);
@@ -415,6 +448,10 @@ public abstract class AbstractCompressedMatrixBlock extends MatrixBlock {
 	@Override
 	public void ctableOperations(Operator op, MatrixValue that, double scalar, boolean ignoreZeros, CTableMap resultMap,
 		MatrixBlock resultBlock) {
+		// note: the second input is passed as is, to exploit its compression as well
+		if(this instanceof CompressedMatrixBlock && LibCTable
+			.ctable((CompressedMatrixBlock) this, (MatrixBlock) that, scalar, ignoreZeros, resultMap, resultBlock))
+			return;
 		printDecompressWarning("ctableOperations");
 		MatrixBlock left = decompress();
 		MatrixBlock right = getUncompressed(that);
@@ -423,9 +460,10 @@ public abstract class AbstractCompressedMatrixBlock extends MatrixBlock {
 
 	@Override
 	public MatrixBlock ctableSeqOperations(MatrixValue that, double scalar, MatrixBlock resultBlock) {
-		printDecompressWarning("ctableOperations");
+		// only the number of rows of this block is used, no need to decompress
+		printDecompressWarning("ctableOperations", (MatrixBlock) that);
 		MatrixBlock right = getUncompressed(that);
-		return this.ctableSeqOperations(right, scalar, resultBlock);
+		return super.ctableSeqOperations(right, scalar, resultBlock);
 	}
 
 	@Override
@@ -30,6 +30,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -47,6 +51,7 @@ import org.apache.sysds.runtime.compress.utils.DoubleIntListHashMap.DIListEntry;
 import org.apache.sysds.runtime.compress.utils.IntArrayList;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
 
 /**
  * Static functions for encoding bitmaps in various ways.
@@ -55,6 +60,9 @@ public class BitmapEncoder {
 
 	private static final Log LOG = LogFactory.getLog(BitmapEncoder.class.getName());
 
+	/** Minimum number of rows per partition for a parallel bitmap extraction */
+	private static final int PAR_MIN_ROWS = CompressionSettings.BITMAP_BLOCK_SZ;
+
 	/**
 	 * Generate uncompressed bitmaps for a set of columns in an uncompressed matrix block.
 	 * 
@@ -83,6 +91,106 @@ public class BitmapEncoder {
 
 	}
 
+	/**
+	 * Generate uncompressed bitmaps for a set of columns in an uncompressed matrix block, using multiple threads.
+	 * 
+	 * The rows are split into disjoint ranges that are scanned into individual hash maps in parallel. The partial maps
+	 * are merged in row order afterwards, such that the offset lists remain sorted.
+	 * 
+	 * @param colIndices Indexes (within the block) of the columns to extract
+	 * @param rawBlock   An uncompressed matrix block; can be dense or sparse
+	 * @param transposed Boolean specifying if the rawblock was transposed.
+	 * @param k          The degree of parallelism
+	 * @return uncompressed bitmap representation of the columns
+	 */
+	public static ABitmap extractBitmap(int[] colIndices, MatrixBlock rawBlock, boolean transposed, int k) {
+		final int rlen = transposed ? rawBlock.getNumColumns() : rawBlock.getNumRows();
+		final int numPar = Math.min(k, (int) Math.ceil((double) rlen / PAR_MIN_ROWS));
+		if(numPar <= 1 || (rawBlock.getNumRows() == 1 || rawBlock.getNumColumns() == 1))
+			return extractBitmap(colIndices, rawBlock, transposed);
+
+		final int blkz = (int) Math.ceil((double) rlen / numPar);
+		try {
+			ExecutorService pool = CommonThreadPool.get(numPar);
+			ArrayList<ExtractTask> tasks = new ArrayList<>();
+			for(int rl = 0; rl < rlen; rl += blkz)
+				tasks.add(new ExtractTask(colIndices, rawBlock, transposed, rl, Math.min(rl + blkz, rlen)));
+			List<Future<ExtractTask>> rtask = pool.invokeAll(tasks);
+			pool.shutdown();
+
+			if(colIndices.length == 1) {
+				DoubleIntListHashMap distinctVals = rtask.get(0).get()._single;
+				for(int i = 1; i < rtask.size(); i++)
+					for(DIListEntry e : rtask.get(i).get()._single.extractValues()) {
+						IntArrayList lstPtr = distinctVals.get(e.key);
+						if(lstPtr == null)
+							distinctVals.appendValue(e.key, e.value);
+						else
+							appendAll(lstPtr, e.value);
+					}
+				return makeBitmap(distinctVals);
+			}
+			else {
+				DblArrayIntListHashMap distinctVals = rtask.get(0).get()._multi;
+				int zero = rtask.get(0).get()._zero;
+				for(int i = 1; i < rtask.size(); i++) {
+					ExtractTask t = rtask.get(i).get();
+					for(DArrayIListEntry e : t._multi.extractValues()) {
+						IntArrayList lstPtr = distinctVals.get(e.key);
+						if(lstPtr == null)
+							distinctVals.appendValue(e.key, e.value);
+						else
+							appendAll(lstPtr, e.value);
+					}
+					zero += t._zero;
+				}
+				return makeBitmap(distinctVals, zero, colIndices.length);
+			}
+		}
+		catch(InterruptedException | ExecutionException e) {
+			throw new DMLRuntimeException("Failed to extract bitmap in parallel", e);
+		}
+	}
+
+	private static void appendAll(IntArrayList target, IntArrayList source) {
+		final int[] values = source.extractValues();
+		for(int i = 0; i < source.size(); i++)
+			target.appendValue(values[i]);
+	}
+
+	private static class ExtractTask implements Callable<ExtractTask> {
+		private final int[] _colIndices;
+		private final MatrixBlock _rawBlock;
+		private final boolean _transposed;
+		private final int _rl;
+		private final int _ru;
+
+		private DoubleIntListHashMap _single;
+		private DblArrayIntListHashMap _multi;
+		private int _zero;
+
+		protected ExtractTask(int[] colIndices, MatrixBlock rawBlock, boolean transposed, int rl, int ru) {
+			_colIndices = colIndices;
+			_rawBlock = rawBlock;
+			_transposed = transposed;
+			_rl = rl;
+			_ru = ru;
+		}
+
+		@Override
+		public ExtractTask call() {
+			if(_colIndices.length == 1)
+				_single = _transposed ? extractHashMapTransposed(_colIndices[0], _rawBlock, _rl,
+					_ru) : extractHashMap(_colIndices[0], _rawBlock, _rl, _ru);
+			else {
+				_multi = allocateHashMap(_colIndices.length);
+				_zero = extractHashMap(_multi,
+					ReaderColumnSelection.createReader(_rawBlock, _colIndices, _transposed, _rl, _ru));
+			}
+			return this;
+		}
+	}
+
 	public static ABitmap extractBitmap(int[] colIndices, int rows, BitSet rawBlock, CompressionSettings compSettings) {
 		ReaderColumnSelection reader = new ReaderColumnSelectionBitSet(rawBlock, rows, colIndices);
 		Bitmap res = extractBitmap(colIndices, reader);
@@ -100,22 +208,22 @@ public class BitmapEncoder {
 	 * @return Bitmap containing the Information of the column.
 	 */
 	private static Bitmap extractBitmap(int colIndex, MatrixBlock rawBlock, boolean transposed) {
-		DoubleIntListHashMap hashMap = transposed ? extractHashMapTransposed(colIndex,
-			rawBlock) : extractHashMap(colIndex, rawBlock);
+		DoubleIntListHashMap hashMap = transposed ? extractHashMapTransposed(colIndex, rawBlock, 0,
+			rawBlock.getNumColumns()) : extractHashMap(colIndex, rawBlock, 0, rawBlock.getNumRows());
 		return makeBitmap(hashMap);
 	}
 
-	private static DoubleIntListHashMap extractHashMap(int colIndex, MatrixBlock rawBlock) {
+	private static DoubleIntListHashMap extractHashMap(int colIndex, MatrixBlock rawBlock, int rl, int ru) {
 		// probe map for distinct items (for value or value groups)
 		DoubleIntListHashMap distinctVals = new DoubleIntListHashMap();
 
 		// scan rows and probe/build distinct items
-		final int m = rawBlock.getNumRows();
+		final int m = ru;
 
 		if((rawBlock.getNumRows() == 1 || rawBlock.getNumColumns() == 1) && !rawBlock.isInSparseFormat()) {
 			double[] values = rawBlock.getDenseBlockValues();
 			if(values != null)
-				for(int i = 0; i < values.length; i++) {
+				for(int i = rl; i < Math.min(m, values.length); i++) {
 					double val = values[i];
 					if(val != 0) {
 						distinctVals.appendValue(val, i);
@@ -124,8 +232,8 @@ public class BitmapEncoder {
 		}
 		else if(!rawBlock.isInSparseFormat() && rawBlock.getDenseBlock().blockSize() == 1) {
 			double[] values = rawBlock.getDenseBlockValues();
-			for(int i = 0, off = colIndex;
-				off < rawBlock.getNumRows() * rawBlock.getNumColumns();
+			for(int i = rl, off = colIndex + rl * rawBlock.getNumColumns();
+				i < m;
 				i++, off += rawBlock.getNumColumns()) {
 				double val = values[off];
 				if(val != 0) {
@@ -135,7 +243,7 @@ public class BitmapEncoder {
 		}
 		else // GENERAL CASE
 		{
-			for(int i = 0; i < m; i++) {
+			for(int i = rl; i < m; i++) {
 				double val = rawBlock.quickGetValue(i, colIndex);
 				if(val != 0) {
 					distinctVals.appendValue(val, i);
@@ -145,12 +253,12 @@ public class BitmapEncoder {
 		return distinctVals;
 	}
 
-	private static DoubleIntListHashMap extractHashMapTransposed(int colIndex, MatrixBlock rawBlock) {
+	private static DoubleIntListHashMap extractHashMapTransposed(int colIndex, MatrixBlock rawBlock, int rl, int ru) {
 		// probe map for distinct items (for value or value groups)
 		DoubleIntListHashMap distinctVals = new DoubleIntListHashMap();
 
 		// scan rows and probe/build distinct items
-		final int m = rawBlock.getNumColumns();
+		final int m = ru;
 
 		if(rawBlock.isInSparseFormat()) { // SPARSE and Transposed.
 			SparseBlock a = rawBlock.getSparseBlock();
@@ -160,7 +268,9 @@ public class BitmapEncoder {
 				int[] aix = a.indexes(colIndex);
 				double[] avals = a.values(colIndex);
 
-				for(int j = apos; j < apos + alen; j++) {
+				int j = (rl == 0) ? apos : Arrays.binarySearch(aix, apos, apos + alen, rl);
+				j = j < 0 ? -j - 1 : j;
+				for(; j < apos + alen && aix[j] < ru; j++) {
 					distinctVals.appendValue(avals[j], aix[j]);
 				}
 			}
@@ -168,7 +278,7 @@ public class BitmapEncoder {
 		else if((rawBlock.getNumRows() == 1 || rawBlock.getNumColumns() == 1) && !rawBlock.isInSparseFormat()) {
 			double[] values = rawBlock.getDenseBlockValues();
 			if(values != null) {
-				for(int i = 0; i < values.length; i++) {
+				for(int i = rl; i < Math.min(ru, values.length); i++) {
 					double val = values[i];
 					if(val != 0) {
 						distinctVals.appendValue(val, i);
@@ -178,7 +288,7 @@ public class BitmapEncoder {
 		}
 		else // GENERAL CASE
 		{
-			for(int i = 0; i < m; i++) {
+			for(int i = rl; i < m; i++) {
 				double val = rawBlock.quickGetValue(colIndex, i);
 				if(val != 0) {
 					distinctVals.appendValue(val, i);
@@ -199,16 +309,23 @@ public class BitmapEncoder {
 	 */
 	private static Bitmap extractBitmap(int[] colIndices, ReaderColumnSelection rowReader) {
 		// probe map for distinct items (for value or value groups)
+		DblArrayIntListHashMap distinctVals = allocateHashMap(colIndices.length);
+		int zero = extractHashMap(distinctVals, rowReader);
+		return makeBitmap(distinctVals, zero, colIndices.length);
+	}
 
-		DblArrayIntListHashMap distinctVals;
-		if(colIndices.length > 10) {
-			distinctVals = new DblArrayIntListHashMap(2048);
-		}
-		else {
-			distinctVals = new DblArrayIntListHashMap();
-		}
+	private static DblArrayIntListHashMap allocateHashMap(int numCols) {
+		return (numCols > 10) ? new DblArrayIntListHashMap(2048) : new DblArrayIntListHashMap();
+	}
 
-		// scan rows and probe/build distinct items
+	/**
+	 * Scan the rows of the reader and probe/build the distinct value groups.
+	 * 
+	 * @param distinctVals The map to insert the distinct value groups into.
+	 * @param rowReader    A Reader for the columns selected.
+	 * @return The number of rows containing only zero values.
+	 */
+	private static int extractHashMap(DblArrayIntListHashMap distinctVals, ReaderColumnSelection rowReader) {
 		DblArray cellVals = null;
 
 		int zero = 0;
@@ -226,7 +343,7 @@ public class BitmapEncoder {
 				lstPtr.appendValue(rowReader.getCurrentRowIndex());
 			}
 		}
-		return makeBitmap(distinctVals, zero, colIndices.length);
+		return zero;
 	}
 
 	/**
@@ -26,36 +26,43 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
-import org.apache.commons.lang.NotImplementedException;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.BlockType;
 import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.lops.MMTSJ.MMTSJType;
 import org.apache.sysds.lops.MapMultChain.ChainType;
 import org.apache.sysds.runtime.DMLCompressionException;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.colgroup.ADictionary;
 import org.apache.sysds.runtime.compress.colgroup.ColGroup;
 import org.apache.sysds.runtime.compress.colgroup.ColGroup.CompressionType;
-import org.apache.sysds.runtime.compress.colgroup.ColGroupConverter;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupIO;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupValue;
+import org.apache.sysds.runtime.compress.lib.LibAppend;
 import org.apache.sysds.runtime.compress.lib.LibBinaryCellOp;
 import org.apache.sysds.runtime.compress.lib.LibCompAgg;
 import org.apache.sysds.runtime.compress.lib.LibLeftMultBy;
 import org.apache.sysds.runtime.compress.lib.LibRightMultBy;
 import org.apache.sysds.runtime.compress.lib.LibScalar;
+import org.apache.sysds.runtime.compress.lib.LibSlice;
+import org.apache.sysds.runtime.compress.lib.LibUnaryCellOp;
 import org.apache.sysds.runtime.compress.utils.LinearAlgebraUtils;
+import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.Timing;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.functionobjects.Builtin;
@@ -74,6 +81,7 @@ import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ReorgOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.utils.DMLCompressionStatistics;
 
@@ -251,8 +259,16 @@ public class CompressedMatrixBlock extends AbstractCompressedMatrixBlock {
 	public long estimateCompressedSizeInMemory() {
 		long total = baseSizeInMemory();
 
-		for(ColGroup grp : _colGroups)
+		// dictionaries shared by multiple column groups are only counted once
+		Set<ADictionary> dicts = Collections.newSetFromMap(new IdentityHashMap<>());
+		for(ColGroup grp : _colGroups) {
 			total += grp.estimateInMemorySize();
+			if(grp instanceof ColGroupValue) {
+				ADictionary dict = ((ColGroupValue) grp).getDictionary();
+				if(!dicts.add(dict))
+					total -= dict.getInMemorySize();
+			}
+		}
 
 		return total;
 	}
@@ -291,7 +307,7 @@ public class CompressedMatrixBlock extends AbstractCompressedMatrixBlock {
 	@Override
 	public long getExactSizeOnDisk() {
 		// header information
-		long ret = 20;
+		long ret = 21;
 		for(ColGroup grp : _colGroups) {
 			ret += 1; // type info
 			ret += grp.getExactSizeOnDisk();
@@ -304,6 +320,21 @@ public class CompressedMatrixBlock extends AbstractCompressedMatrixBlock {
 		// deserialize compressed block
 		rlen = in.readInt();
 		clen = in.readInt();
+		byte bformat = in.readByte();
+		if(bformat != BlockType.COMPRESSED_BLOCK.ordinal())
+			throw new IOException("invalid format: '" + bformat + "' (expected compressed block).");
+		readCompressedBlock(in);
+	}
+
+	/**
+	 * Read the compressed payload (i.e., everything after the common matrix block header of dimensions and block
+	 * type) from the given input. This allows the uncompressed {@link MatrixBlock#readFields(DataInput)} to consume
+	 * serialized compressed blocks as well.
+	 * 
+	 * @param in data input positioned after the block type
+	 * @throws IOException if IOException occurs
+	 */
+	public void readCompressedBlock(DataInput in) throws IOException {
 		nonZeros = in.readLong();
 		overlappingColGroups = in.readBoolean();
 		_colGroups = ColGroupIO.readGroups(in);
@@ -314,6 +345,7 @@ public class CompressedMatrixBlock extends AbstractCompressedMatrixBlock {
 		// serialize compressed matrix block
 		out.writeInt(rlen);
 		out.writeInt(clen);
+		out.writeByte(BlockType.COMPRESSED_BLOCK.ordinal());
 		out.writeLong(nonZeros);
 		out.writeBoolean(overlappingColGroups);
 		ColGroupIO.writeGroups(out, _colGroups);
@@ -353,42 +385,34 @@ public class CompressedMatrixBlock extends AbstractCompressedMatrixBlock {
 		return LibBinaryCellOp.binaryOperations(op, this, thatValue, result);
 	}
 
+	/**
+	 * Executes the binary operation in-place by replacing the column groups of this block. Row vectors are applied
+	 * to the dictionaries only, while all other inputs decompress this block and write the result back as a single
+	 * uncompressed column group. The returned block is always this block.
+	 */
 	@Override
-	public MatrixBlock append(MatrixBlock that, MatrixBlock ret) {
-
-		final int m = rlen;
-		final int n = clen + that.getNumColumns();
-		final long nnz = nonZeros + that.getNonZeros();
-
-		// init result matrix
-		CompressedMatrixBlock ret2 = null;
-		if(ret == null || !(ret instanceof CompressedMatrixBlock)) {
-			ret2 = new CompressedMatrixBlock(m, n);
-		}
-		else {
-			ret2 = (CompressedMatrixBlock) ret;
-			ret2.reset(m, n);
-		}
+	public MatrixBlock binaryOperationsInPlace(BinaryOperator op, MatrixValue thatValue) {
+		return LibBinaryCellOp.binaryOperationsInPlace(op, this, thatValue);
+	}
 
-		// shallow copy of lhs column groups
-		ret2.allocateColGroupList(new ArrayList<ColGroup>());
-		ret2._colGroups.addAll(_colGroups);
+	@Override
+	public MatrixBlock unaryOperations(UnaryOperator op, MatrixValue result) {
+		return LibUnaryCellOp.unaryOperations(op, this, result);
+	}
 
-		// copy of rhs column groups w/ col index shifting
-		if(!(that instanceof CompressedMatrixBlock)) {
-			that = CompressedMatrixBlockFactory.compress(that).getLeft();
-		}
+	@Override
+	public MatrixBlock slice(int rl, int ru, int cl, int cu, boolean deep, CacheBlock ret) {
+		return LibSlice.slice(this, rl, ru, cl, cu, deep, (MatrixBlock) ret);
+	}
 
-		List<ColGroup> inColGroups = ((CompressedMatrixBlock) that)._colGroups;
-		for(ColGroup group : inColGroups) {
-			ColGroup tmp = ColGroupConverter.copyColGroup(group);
-			tmp.shiftColIndices(clen);
-			ret2._colGroups.add(tmp);
-		}
+	@Override
+	public MatrixBlock append(MatrixBlock that, MatrixBlock ret) {
+		return LibAppend.cbind(this, that, ret);
+	}
 
-		// meta data maintenance
-		ret2.setNonZeros(nnz);
-		return ret2;
+	@Override
+	public MatrixBlock append(MatrixBlock that, MatrixBlock ret, boolean cbind) {
+		return cbind ? LibAppend.cbind(this, that, ret) : LibAppend.rbind(this, that, ret);
 	}
 
 	@Override
@@ -551,13 +575,14 @@ public class CompressedMatrixBlock extends AbstractCompressedMatrixBlock {
 	public MatrixBlock aggregateUnaryOperations(AggregateUnaryOperator op, MatrixValue result, int blen,
 		MatrixIndexes indexesIn, boolean inCP) {
 
-		// check for supported operations
+		// check for supported operations, others (e.g., of distributed aggregates) fall back to decompression
 		if(!(op.aggOp.increOp.fn instanceof KahanPlus || op.aggOp.increOp.fn instanceof KahanPlusSq ||
 			op.aggOp.increOp.fn instanceof Mean ||
 			(op.aggOp.increOp.fn instanceof Builtin &&
 				(((Builtin) op.aggOp.increOp.fn).getBuiltinCode() == BuiltinCode.MIN ||
 					((Builtin) op.aggOp.increOp.fn).getBuiltinCode() == BuiltinCode.MAX)))) {
-			throw new NotImplementedException("Unary aggregate " + op.aggOp.increOp.fn + " not supported yet.");
+			printDecompressWarning("aggregateUnaryOperations " + op.aggOp.increOp.fn);
+			return decompress().aggregateUnaryOperations(op, result, blen, indexesIn, inCP);
 		}
 
 		// prepare output dimensions
@@ -601,9 +626,11 @@ public class CompressedMatrixBlock extends AbstractCompressedMatrixBlock {
 
 	@Override
 	public MatrixBlock transposeSelfMatrixMultOperations(MatrixBlock out, MMTSJType tstype, int k) {
-		// check for transpose type
-		if(tstype != MMTSJType.LEFT) // right not supported yet
-			throw new DMLRuntimeException("Invalid MMTSJ type '" + tstype.toString() + "'.");
+		// check for transpose type, right not supported yet
+		if(tstype != MMTSJType.LEFT) {
+			printDecompressWarning("transposeSelfMatrixMultOperations " + tstype.toString());
+			return decompress().transposeSelfMatrixMultOperations(out, tstype, k);
+		}
 
 		// create output matrix block
 		if(out == null)
@@ -34,6 +34,7 @@ import org.apache.sysds.runtime.compress.cocode.PlanningCoCoder;
 import org.apache.sysds.runtime.compress.colgroup.ColGroup;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupFactory;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
+import org.apache.sysds.runtime.compress.colgroup.DictionaryRegistry;
 import org.apache.sysds.runtime.compress.estim.CompressedSizeEstimator;
 import org.apache.sysds.runtime.compress.estim.CompressedSizeEstimatorFactory;
 import org.apache.sysds.runtime.compress.estim.CompressedSizeInfo;
@@ -115,6 +116,7 @@ public class CompressedMatrixBlockFactory {
 			return abortCompression();
 		transposePhase();
 		compressPhase();
+		sharePhase();
 		cleanupPhase();
 		if(res == null)
 			return abortCompression();
@@ -129,7 +131,7 @@ public class CompressedMatrixBlockFactory {
 		if(compSettings.investigateEstimate)
 			_stats.estimatedSizeCols = sizeInfos.memoryEstimate();
 
-		logPhase();
+		logPhase(CompressionStatistics.PHASE_CLASSIFY);
 
 		if(sizeInfos.isCompressible())
 			coCodePhase(sizeEstimator, sizeInfos, mb.getNumRows());
@@ -137,7 +139,7 @@ public class CompressedMatrixBlockFactory {
 
 	private void coCodePhase(CompressedSizeEstimator sizeEstimator, CompressedSizeInfo sizeInfos, int numRows) {
 		coCodeColGroups = PlanningCoCoder.findCoCodesByPartitioning(sizeEstimator, sizeInfos, numRows, k, compSettings);
-		logPhase();
+		logPhase(CompressionStatistics.PHASE_GROUPING);
 	}
 
 	private void transposePhase() {
@@ -146,7 +148,7 @@ public class CompressedMatrixBlockFactory {
 		mb = compSettings.transposed ? LibMatrixReorg.transpose(mb,
 			new MatrixBlock(mb.getNumColumns(), mb.getNumRows(), sparse),
 			k) : new MatrixBlock(mb.getNumRows(), mb.getNumColumns(), sparse).copyShallow(mb);
-		logPhase();
+		logPhase(CompressionStatistics.PHASE_TRANSPOSE);
 	}
 
 	private void transposeHeuristics() {
@@ -173,7 +175,16 @@ public class CompressedMatrixBlockFactory {
 		ColGroup[] colGroups = ColGroupFactory.compressColGroups(mb, null, coCodeColGroups, compSettings, k);
 		List<ColGroup> colGroupList = assignColumns(original.getNumColumns(), colGroups, mb, compSettings);
 		res.allocateColGroupList(colGroupList);
-		logPhase();
+		logPhase(CompressionStatistics.PHASE_COMPRESS);
+	}
+
+	private void sharePhase() {
+		if(!compSettings.allowSharedDictionary)
+			return;
+		int shared = new DictionaryRegistry().shareDictionaries(res.getColGroups());
+		if(LOG.isDebugEnabled())
+			LOG.debug("--col groups with shared dictionary: " + shared);
+		logPhase(CompressionStatistics.PHASE_SHARE);
 	}
 
 	private void cleanupPhase() {
@@ -195,7 +206,7 @@ public class CompressedMatrixBlockFactory {
 
 		_stats.setColGroupsCounts(res.getColGroups());
 
-		logPhase();
+		logPhase(CompressionStatistics.PHASE_CLEANUP);
 
 	}
 
@@ -204,33 +215,34 @@ public class CompressedMatrixBlockFactory {
 		return new ImmutablePair<>(original, _stats);
 	}
 
-	private void logPhase() {
-		_stats.setNextTimePhase(time.stop());
+	private void logPhase(int phase) {
+		this.phase = phase;
+		_stats.setPhaseTime(phase, time.stop());
 		if(DMLScript.STATISTICS) {
 			DMLCompressionStatistics.addCompressionTime(_stats.getLastTimePhase(), phase);
 		}
 		if(LOG.isDebugEnabled()) {
 			switch(phase) {
 				case 0:
-					LOG.debug("--compression phase " + phase++ + " Classify  : " + _stats.getLastTimePhase());
+					LOG.debug("--compression phase " + phase + " Classify  : " + _stats.getLastTimePhase());
 					break;
 				case 1:
-					LOG.debug("--compression phase " + phase++ + " Grouping  : " + _stats.getLastTimePhase());
+					LOG.debug("--compression phase " + phase + " Grouping  : " + _stats.getLastTimePhase());
 					break;
 				case 2:
-					LOG.debug("--compression phase " + phase++ + " Transpose : " + _stats.getLastTimePhase());
+					LOG.debug("--compression phase " + phase + " Transpose : " + _stats.getLastTimePhase());
 					break;
 				case 3:
-					LOG.debug("--compression phase " + phase++ + " Compress  : " + _stats.getLastTimePhase());
+					LOG.debug("--compression phase " + phase + " Compress  : " + _stats.getLastTimePhase());
 					LOG.debug("--compression Hash collisions:" + DblArrayIntListHashMap.hashMissCount);
 					DblArrayIntListHashMap.hashMissCount = 0;
 					break;
 				case 4:
-					LOG.debug("--compression phase " + phase++ + " Share     : " + _stats.getLastTimePhase());
+					LOG.debug("--compression phase " + phase + " Share     : " + _stats.getLastTimePhase());
 					break;
 				case 5:
 					LOG.debug("--num col groups: " + res.getColGroups().size());
-					LOG.debug("--compression phase " + phase++ + " Cleanup   : " + _stats.getLastTimePhase());
+					LOG.debug("--compression phase " + phase + " Cleanup   : " + _stats.getLastTimePhase());
 					LOG.debug("--col groups types " + _stats.getGroupsTypesString());
 					LOG.debug("--col groups sizes " + _stats.getGroupsSizesString());
 					LOG.debug("--compressed size: " + _stats.size);
@@ -23,6 +23,7 @@ import java.util.EnumSet;
 
 import org.apache.sysds.runtime.compress.cocode.PlanningCoCoder.PartitionerType;
 import org.apache.sysds.runtime.compress.colgroup.ColGroup.CompressionType;
+import org.apache.sysds.runtime.compress.workload.Workload;
 
 /**
  * Compression Settings class, used as a bundle of parameters inside the Compression framework. See
@@ -85,10 +86,16 @@ public class CompressionSettings {
 	 */
 	public final EnumSet<CompressionType> validCompressions;
 
+	/**
+	 * Summary of the operations consuming the compressed matrix, if known. If present, the compression types and
+	 * co-coding are selected to minimize the estimated execution cost over the workload instead of the size.
+	 */
+	public final Workload workload;
+
 	protected CompressionSettings(double samplingRatio, boolean allowSharedDictionary, String transposeInput,
 		boolean skipList, int seed, boolean investigateEstimate, boolean lossy,
 		EnumSet<CompressionType> validCompressions, boolean sortValuesByLength, PartitionerType columnPartitioner,
-		int maxStaticColGroupCoCode) {
+		int maxStaticColGroupCoCode, Workload workload) {
 		this.samplingRatio = samplingRatio;
 		this.allowSharedDictionary = allowSharedDictionary;
 		this.transposeInput = transposeInput;
@@ -100,6 +107,7 @@ public class CompressionSettings {
 		this.sortValuesByLength = sortValuesByLength;
 		this.columnPartitioner = columnPartitioner;
 		this.maxStaticColGroupCoCode = maxStaticColGroupCoCode;
+		this.workload = workload;
 	}
 
 	@Override
@@ -110,6 +118,7 @@ public class CompressionSettings {
 		sb.append("\n DDC1 share dict: " + allowSharedDictionary);
 		sb.append("\n Partitioner: " + columnPartitioner);
 		sb.append("\n Lossy: " + lossy);
+		sb.append("\n Workload: " + workload);
 		// If needed for debugging add more fields to the printing.
 		return sb.toString();
 	}
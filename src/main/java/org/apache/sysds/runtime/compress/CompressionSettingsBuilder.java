@@ -26,6 +26,7 @@ import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.runtime.DMLCompressionException;
 import org.apache.sysds.runtime.compress.cocode.PlanningCoCoder.PartitionerType;
 import org.apache.sysds.runtime.compress.colgroup.ColGroup.CompressionType;
+import org.apache.sysds.runtime.compress.workload.Workload;
 
 /**
  * Builder pattern for Compression Settings. See CompressionSettings for details on values.
@@ -42,6 +43,7 @@ public class CompressionSettingsBuilder {
 	private boolean sortValuesByLength = false;
 	private PartitionerType columnPartitioner;
 	private int maxStaticColGroupCoCode = 10;
+	private Workload workload = null;
 
 	public CompressionSettingsBuilder() {
 
@@ -56,6 +58,7 @@ public class CompressionSettingsBuilder {
 		columnPartitioner = PartitionerType.valueOf(conf.getTextValue(DMLConfig.COMPRESSED_COCODE));
 
 		transposeInput = conf.getTextValue(DMLConfig.COMPRESSED_TRANSPOSE);
+		allowSharedDictionary = conf.getBooleanValue(DMLConfig.COMPRESSED_SHARED_DICTIONARY);
 	}
 
 	/**
@@ -71,6 +74,7 @@ public class CompressionSettingsBuilder {
 		this.seed = that.seed;
 		this.investigateEstimate = that.investigateEstimate;
 		this.validCompressions = EnumSet.copyOf(that.validCompressions);
+		this.workload = that.workload;
 		return this;
 	}
 
@@ -232,6 +236,18 @@ public class CompressionSettingsBuilder {
 		return this;
 	}
 
+	/**
+	 * Set the workload summary of the operations consuming the compressed matrix, which makes the selection of
+	 * compression types and co-coding cost-based.
+	 * 
+	 * @param workload The workload summary, or null for size-based planning
+	 * @return The CompressionSettingsBuilder
+	 */
+	public CompressionSettingsBuilder setWorkload(Workload workload) {
+		this.workload = workload;
+		return this;
+	}
+
 	/**
 	 * Create the CompressionSettings object to use in the compression.
 	 * 
@@ -240,6 +256,6 @@ public class CompressionSettingsBuilder {
 	public CompressionSettings create() {
 		return new CompressionSettings(samplingRatio, allowSharedDictionary, transposeInput, skipList, seed,
 			investigateEstimate, lossy, validCompressions, sortValuesByLength, columnPartitioner,
-			maxStaticColGroupCoCode);
+			maxStaticColGroupCoCode, workload);
 	}
 }
@@ -28,7 +28,18 @@ import org.apache.sysds.runtime.compress.colgroup.ColGroup.CompressionType;
 
 public class CompressionStatistics {
 
+	public static final int PHASE_CLASSIFY = 0;
+	public static final int PHASE_GROUPING = 1;
+	public static final int PHASE_TRANSPOSE = 2;
+	public static final int PHASE_COMPRESS = 3;
+	public static final int PHASE_SHARE = 4;
+	public static final int PHASE_CLEANUP = 5;
+
+	/** Names of the compression phases, the position corresponds to the phase number. */
+	public static final String[] PHASE_NAMES = {"Classify", "Grouping", "Transpose", "Compress", "Share", "Cleanup"};
+
 	private double lastPhase;
+	private final double[] phaseTimes = new double[PHASE_NAMES.length];
 	public double ratio;
 	public long originalSize;
 	public long estimatedSizeColGroups;
@@ -48,6 +59,34 @@ public class CompressionStatistics {
 		return lastPhase;
 	}
 
+	/**
+	 * Set the time spent in a specific phase of the compression.
+	 * 
+	 * @param phase The phase number, see PHASE_NAMES.
+	 * @param time  The time in milliseconds.
+	 */
+	public void setPhaseTime(int phase, double time) {
+		lastPhase = time;
+		phaseTimes[phase] = time;
+	}
+
+	/**
+	 * Get the time spent in a specific phase of the compression, zero if the phase was not executed.
+	 * 
+	 * @param phase The phase number, see PHASE_NAMES.
+	 * @return The time in milliseconds.
+	 */
+	public double getPhaseTime(int phase) {
+		return phaseTimes[phase];
+	}
+
+	public String getPhaseTimesString() {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < PHASE_NAMES.length; i++)
+			sb.append(PHASE_NAMES[i] + ":" + String.format("%.3f", phaseTimes[i]) + " ");
+		return sb.toString();
+	}
+
 	/**
 	 * Set array of counts regarding col group types.
 	 * 
@@ -100,6 +139,7 @@ public class CompressionStatistics {
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
 		sb.append("Compression Statistics:\n");
+		sb.append("\t" + getPhaseTimesString() + "\n");
 		sb.append("\t" + getGroupsTypesString() + "\n");
 		sb.append("\t" + getGroupsSizesString() + "\n");
 		return sb.toString();
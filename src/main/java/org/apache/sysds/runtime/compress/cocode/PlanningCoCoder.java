@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
@@ -72,7 +73,7 @@ public class PlanningCoCoder {
 			int cardinality = colGroups[colIx].getEstCard();
 			double weight = ((double) cardinality) / numRows;
 			groupCols.add(colIx);
-			groupColsInfo.put(colIx, new GroupableColInfo(weight, colGroups[colIx].getMinSize(), cardinality));
+			groupColsInfo.put(colIx, new GroupableColInfo(weight, colGroups[colIx].getMinCost(), cardinality));
 		}
 
 		// use column group partitioner to create partitions of columns
@@ -110,7 +111,8 @@ public class PlanningCoCoder {
 			// brute force co-coding
 			PlanningCoCodingGroup[] outputGroups = findCocodesBruteForce(estimator,
 				rlen,
-				sgroups.toArray(new PlanningCoCodingGroup[0]));
+				sgroups.toArray(new PlanningCoCodingGroup[0]),
+				1);
 			for(PlanningCoCodingGroup grp : outputGroups)
 				retGroups.add(grp.getColIndices());
 		}
@@ -121,15 +123,19 @@ public class PlanningCoCoder {
 	private static List<int[]> getCocodingGroupsBruteForce(List<int[]> bins,
 		HashMap<Integer, GroupableColInfo> groupColsInfo, CompressedSizeEstimator estimator, int rlen, int k) {
 		List<int[]> retGroups = new ArrayList<>();
+		if(bins.isEmpty())
+			return retGroups;
 		try {
-			ExecutorService pool = CommonThreadPool.get(k);
+			// remaining parallelism if there are fewer bins than threads is used for the candidate pairs
+			final int kBin = Math.max(1, k / bins.size());
+			ExecutorService pool = CommonThreadPool.get(Math.min(k, bins.size()));
 			ArrayList<CocodeTask> tasks = new ArrayList<>();
 			for(int[] bin : bins) {
 				// building an array of singleton CoCodingGroup
 				ArrayList<PlanningCoCodingGroup> sgroups = new ArrayList<>();
 				for(int col : bin)
 					sgroups.add(new PlanningCoCodingGroup(col, groupColsInfo.get(col)));
-				tasks.add(new CocodeTask(estimator, sgroups, rlen));
+				tasks.add(new CocodeTask(estimator, sgroups, rlen, kBin));
 			}
 			List<Future<PlanningCoCodingGroup[]>> rtask = pool.invokeAll(tasks);
 			for(Future<PlanningCoCodingGroup[]> lrtask : rtask)
@@ -150,13 +156,17 @@ public class PlanningCoCoder {
 	 * 
 	 * TODO Find better faster ways of finding cocodes than brute force.
 	 * 
+	 * With a degree of parallelism above one, the not yet memoized candidate pairs of each phase are estimated in
+	 * parallel before the sequential selection of the best merge.
+	 * 
 	 * @param sizeEstimator  compressed size estimator
 	 * @param numRowsWeight  number of rows weight
 	 * @param singltonGroups planning co-coding groups
+	 * @param k              The concurrency degree allowed for evaluating candidate pairs.
 	 * @return A PlanningCoCodingGroup.
 	 */
 	private static PlanningCoCodingGroup[] findCocodesBruteForce(CompressedSizeEstimator estimator, int numRows,
-		PlanningCoCodingGroup[] singletonGroups) {
+		PlanningCoCodingGroup[] singletonGroups, int k) {
 		if(LOG.isTraceEnabled())
 			LOG.trace("Cocoding: process " + singletonGroups.length);
 
@@ -168,6 +178,10 @@ public class PlanningCoCoder {
 		// process merging iterations until no more change
 		boolean changed = true;
 		while(changed && workset.size() > 1) {
+			// parallel creation of missing candidates (incl bitmap extraction)
+			if(k > 1)
+				createCandidates(estimator, numRows, workset, memo, k);
+
 			// find best merge, incl memoization
 			PlanningCoCodingGroup tmp = null;
 			for(int i = 0; i < workset.size(); i++) {
@@ -214,6 +228,34 @@ public class PlanningCoCoder {
 		return workset.toArray(new PlanningCoCodingGroup[0]);
 	}
 
+	private static void createCandidates(CompressedSizeEstimator estimator, int numRows,
+		List<PlanningCoCodingGroup> workset, PlanningMemoTable memo, int k) {
+		ArrayList<MergeTask> tasks = new ArrayList<>();
+		for(int i = 0; i < workset.size(); i++) {
+			for(int j = i + 1; j < workset.size(); j++) {
+				PlanningCoCodingGroup c1 = workset.get(i);
+				PlanningCoCodingGroup c2 = workset.get(j);
+				// same pruning filter as the sequential selection, w/ the current optimum
+				if(-Math.min(c1.getEstSize(), c2.getEstSize()) > memo.getOptChangeInSize())
+					continue;
+				if(!memo.contains(c1, c2))
+					tasks.add(new MergeTask(estimator, c1, c2, numRows));
+			}
+		}
+		if(tasks.size() <= 1)
+			return;
+
+		try {
+			ExecutorService pool = CommonThreadPool.get(Math.min(k, tasks.size()));
+			for(Future<PlanningCoCodingGroup> f : pool.invokeAll(tasks))
+				memo.put(f.get());
+			pool.shutdown();
+		}
+		catch(InterruptedException | ExecutionException e) {
+			throw new DMLRuntimeException(e);
+		}
+	}
+
 	private static ColumnGroupPartitioner createColumnGroupPartitioner(PartitionerType type) {
 		switch(type) {
 			case BIN_PACKING:
@@ -245,17 +287,40 @@ public class PlanningCoCoder {
 		private CompressedSizeEstimator _estim = null;
 		private ArrayList<PlanningCoCodingGroup> _sgroups = null;
 		private int _rlen = -1;
+		private int _k = 1;
 
-		protected CocodeTask(CompressedSizeEstimator estim, ArrayList<PlanningCoCodingGroup> sgroups, int rlen) {
+		protected CocodeTask(CompressedSizeEstimator estim, ArrayList<PlanningCoCodingGroup> sgroups, int rlen,
+			int k) {
 			_estim = estim;
 			_sgroups = sgroups;
 			_rlen = rlen;
+			_k = k;
 		}
 
 		@Override
 		public PlanningCoCodingGroup[] call() {
 			// brute force co-coding
-			return findCocodesBruteForce(_estim, _rlen, _sgroups.toArray(new PlanningCoCodingGroup[0]));
+			return findCocodesBruteForce(_estim, _rlen, _sgroups.toArray(new PlanningCoCodingGroup[0]), _k);
+		}
+	}
+
+	private static class MergeTask implements Callable<PlanningCoCodingGroup> {
+		private final CompressedSizeEstimator _estim;
+		private final PlanningCoCodingGroup _c1;
+		private final PlanningCoCodingGroup _c2;
+		private final int _rlen;
+
+		protected MergeTask(CompressedSizeEstimator estim, PlanningCoCodingGroup c1, PlanningCoCodingGroup c2,
+			int rlen) {
+			_estim = estim;
+			_c1 = c1;
+			_c2 = c2;
+			_rlen = rlen;
+		}
+
+		@Override
+		public PlanningCoCodingGroup call() {
+			return new PlanningCoCodingGroup(_c1, _c2, _estim, _rlen);
 		}
 	}
 }
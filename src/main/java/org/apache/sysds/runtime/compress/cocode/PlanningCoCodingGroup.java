@@ -63,7 +63,7 @@ public class PlanningCoCodingGroup {
 		// estimating size info
 		CompressedSizeInfoColGroup groupSizeInfo = estim.estimateCompressedColGroupSize(_colIndexes);
 
-		_estSize = groupSizeInfo.getMinSize();
+		_estSize = groupSizeInfo.getMinCost();
 		_cardRatio = groupSizeInfo.getEstCard() / numRows;
 
 		_leftGrp = grp1;
@@ -75,7 +75,8 @@ public class PlanningCoCodingGroup {
 	}
 
 	/**
-	 * Obtain estimated compressed size of the grouped columns.
+	 * Obtain estimated compressed size of the grouped columns, or the estimated execution cost if the compression is
+	 * workload-aware.
 	 * 
 	 * @return estimated compressed size of the grouped columns
 	 */
@@ -52,6 +52,29 @@ public class PlanningMemoTable {
 		return c1c2;
 	}
 
+	/**
+	 * Probe the memo table for an already created merge of the two groups.
+	 * 
+	 * @param c1 The left group
+	 * @param c2 The right group
+	 * @return If the merged group is already memoized
+	 */
+	public boolean contains(PlanningCoCodingGroup c1, PlanningCoCodingGroup c2) {
+		return _memo.containsKey(
+			new ColIndexes(PlanningCoCodingGroup.getMergedIndexes(c1.getColIndices(), c2.getColIndices())));
+	}
+
+	/**
+	 * Add a merged group that was created outside the memo table, for instance by a parallel task.
+	 * 
+	 * @param c1c2 The merged group
+	 */
+	public void put(PlanningCoCodingGroup c1c2) {
+		_memo.put(new ColIndexes(c1c2.getColIndices()), c1c2);
+		_optChangeInSize = Math.min(_optChangeInSize, c1c2.getChangeInSize());
+		incrStats(0, 0, 1); // created plans
+	}
+
 	public void remove(PlanningCoCodingGroup grp) {
 		// remove atomic groups
 		_memo.remove(new ColIndexes(grp.getColIndices()));
@@ -27,6 +27,7 @@ import org.apache.sysds.runtime.functionobjects.Builtin;
 import org.apache.sysds.runtime.functionobjects.KahanFunction;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 
 /**
  * This dictionary class aims to encapsulate the storage and operations over unique floating point values of a column
@@ -102,6 +103,26 @@ public abstract class ADictionary {
 	 */
 	public abstract ADictionary applyScalarOp(ScalarOperator op, double newVal, int numCols);
 
+	/**
+	 * Applies the cellwise unary operation on the dictionary values. The returned dictionary contains a new instance
+	 * of the underlying data, and therefore does not modify this dictionary.
+	 * 
+	 * @param op The unary operator to apply to the dictionary values.
+	 * @return Another dictionary with modified values.
+	 */
+	public abstract ADictionary applyUnaryOp(UnaryOperator op);
+
+	/**
+	 * Applies the cellwise unary operation on the dictionary values, and appends a new tuple of the given value. The
+	 * returned dictionary contains a new instance of the underlying data.
+	 * 
+	 * @param op      The unary operator to apply to the dictionary values.
+	 * @param newVal  The value to append to the dictionary (with the operator already applied).
+	 * @param numCols The number of columns stored in the dictionary.
+	 * @return Another dictionary with modified values.
+	 */
+	public abstract ADictionary applyUnaryOp(UnaryOperator op, double newVal, int numCols);
+
 	public abstract ADictionary applyBinaryRowOp(ValueFunction fn, double[] v, boolean sparseSafe, int[] colIndexes);
 
 	/**
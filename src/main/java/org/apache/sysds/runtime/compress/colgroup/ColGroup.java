@@ -36,6 +36,7 @@ import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 
 import edu.emory.mathcs.backport.java.util.Arrays;
 
@@ -57,7 +58,7 @@ public abstract class ColGroup implements Serializable {
 	 * DDC for Dense dictionary encoding
 	 */
 	public enum CompressionType {
-		UNCOMPRESSED, RLE, OLE, DDC, CONST
+		UNCOMPRESSED, RLE, OLE, DDC, CONST, SDC
 	}
 
 	/**
@@ -66,7 +67,7 @@ public abstract class ColGroup implements Serializable {
 	 * Protected such that outside the ColGroup package it should be unknown which specific subtype is used.
 	 */
 	protected enum ColGroupType {
-		UNCOMPRESSED, RLE, OLE, DDC1, DDC2, CONST
+		UNCOMPRESSED, RLE, OLE, DDC1, DDC2, CONST, SDC
 	}
 
 	/** The ColGroup Indexes 0 offset, contained in the ColGroup */
@@ -413,6 +414,67 @@ public abstract class ColGroup implements Serializable {
 	 */
 	public abstract ColGroup scalarOperation(ScalarOperator op);
 
+	/**
+	 * Perform the specified cellwise unary operation directly on the compressed column group, by applying it to the
+	 * distinct values only if possible.
+	 * 
+	 * @param op The unary operation to perform
+	 * @return version of this column group with the operation applied
+	 */
+	public abstract ColGroup unaryOperation(UnaryOperator op);
+
+	/**
+	 * Slice out the columns within the range of cl and cu, while keeping the encoding and the rows of this column group.
+	 * The column indexes of the returned group are shifted to start at cl.
+	 * 
+	 * @param cl The lower column index to slice from (inclusive)
+	 * @param cu The upper column index to slice to (exclusive)
+	 * @return A column group with the selected columns, or null if none of the columns are in the range
+	 */
+	public abstract ColGroup sliceColumns(int cl, int cu);
+
+	/**
+	 * Slice out the rows within the range of rl and ru, while keeping the columns of this column group compressed. The
+	 * row indexes of the returned group start at zero. Value based groups share the dictionary of this group.
+	 * 
+	 * @param rl The lower row index to slice from (inclusive)
+	 * @param ru The upper row index to slice to (exclusive)
+	 * @return A column group with the selected rows
+	 */
+	public abstract ColGroup sliceRows(int rl, int ru);
+
+	/**
+	 * Get the positions of the column indexes within the range of cl (inclusive) and cu (exclusive).
+	 * 
+	 * @param cl The lower column index
+	 * @param cu The upper column index
+	 * @return The start (inclusive) and end (exclusive) offsets into the column indexes of this group
+	 */
+	protected int[] getColumnSliceOffsets(int cl, int cu) {
+		int idStart = 0;
+		while(idStart < _colIndexes.length && _colIndexes[idStart] < cl)
+			idStart++;
+		int idEnd = idStart;
+		while(idEnd < _colIndexes.length && _colIndexes[idEnd] < cu)
+			idEnd++;
+		return new int[] {idStart, idEnd};
+	}
+
+	/**
+	 * Get the column indexes between the given offsets shifted by cl.
+	 * 
+	 * @param idStart The start offset into the column indexes (inclusive)
+	 * @param idEnd   The end offset into the column indexes (exclusive)
+	 * @param cl      The number of columns to shift the indexes by
+	 * @return The shifted column indexes
+	 */
+	protected int[] getShiftedColIndexes(int idStart, int idEnd, int cl) {
+		int[] outCols = new int[idEnd - idStart];
+		for(int i = idStart; i < idEnd; i++)
+			outCols[i - idStart] = _colIndexes[i] - cl;
+		return outCols;
+	}
+
 	/**
 	 * Perform a binary row operation.
 	 * 
@@ -30,6 +30,7 @@ import org.apache.sysds.runtime.matrix.data.IJV;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 
 import edu.emory.mathcs.backport.java.util.Arrays;
 
@@ -221,11 +222,27 @@ public class ColGroupConst extends ColGroupValue {
 		return new ColGroupConst(_colIndexes, _numRows, applyScalarOp(op));
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		return new ColGroupConst(_colIndexes, _numRows, applyUnaryOp(op));
+	}
+
 	@Override
 	public ColGroup binaryRowOp(BinaryOperator op, double[] v, boolean sparseSafe) {
 		return new ColGroupConst(_colIndexes, _numRows, applyBinaryRowOp(op.fn, v, true));
 	}
 
+	@Override
+	public ColGroup sliceRows(int rl, int ru) {
+		return new ColGroupConst(_colIndexes, ru - rl, _dict);
+	}
+
+	@Override
+	protected void getCodes(int rl, int ru, int[] codes) {
+		for(int i = 0; i < ru - rl; i++)
+			codes[i] = 0;
+	}
+
 	@Override
 	public Iterator<IJV> getIterator(int rl, int ru, boolean inclZeros, boolean rowMajor) {
 		throw new DMLCompressionException("Unsupported Iterator of Const ColGroup");
@@ -59,6 +59,19 @@ public class ColGroupConverter {
 			ColGroupDDC1 in = (ColGroupDDC1) group;
 			ret = new ColGroupDDC1(colIndices, in._numRows, in._dict, in.getData(), in._zeros, null);
 		}
+		else if(group instanceof ColGroupDDC2) {
+			ColGroupDDC2 in = (ColGroupDDC2) group;
+			ret = new ColGroupDDC2(colIndices, in._numRows, in._dict, in.getData(), in._zeros, null);
+		}
+		else if(group instanceof ColGroupSDC) {
+			ColGroupSDC in = (ColGroupSDC) group;
+			ret = new ColGroupSDC(colIndices, in._numRows, in._dict, in.getDefaultCode(), in.getIndexes(),
+				in.getData(), in._zeros, null);
+		}
+		else if(group instanceof ColGroupConst) {
+			ColGroupConst in = (ColGroupConst) group;
+			ret = new ColGroupConst(colIndices, in._numRows, in._dict);
+		}
 		else {
 			throw new RuntimeException("Using '" + group.getClass() + "' instance of ColGroup not fully supported");
 		}
@@ -54,6 +54,73 @@ public abstract class ColGroupDDC extends ColGroupValue {
 		return CompressionType.DDC;
 	}
 
+	/**
+	 * Append the rows of the given DDC column group below the rows of this column group. If both groups contain the
+	 * same dictionary, the dictionary is reused, otherwise the dictionaries are concatenated and the codes of the
+	 * appended rows are offset accordingly.
+	 * 
+	 * @param that The column group to append, covering the same columns as this group
+	 * @return A DDC column group containing the rows of both groups, or null if the column indexes differ or the
+	 *         combined dictionary is too large for DDC encoding
+	 */
+	public ColGroupDDC rbind(ColGroupDDC that) {
+		if(!Arrays.equals(_colIndexes, that._colIndexes))
+			return null;
+
+		final int nv1 = getNumValues();
+		final int nv2 = that.getNumValues();
+		final double[] v1 = getValues();
+		final double[] v2 = that.getValues();
+		final boolean sameDict = Arrays.equals(v1, v2);
+		final int numVals = sameDict ? nv1 : nv1 + nv2;
+		if(numVals >= Character.MAX_VALUE)
+			return null;
+
+		// remap the codes into the combined dictionary, zero rows use numVals as code
+		final int numRows = _numRows + that._numRows;
+		final int off = sameDict ? 0 : nv1;
+		int[] codes = new int[numRows];
+		for(int i = 0; i < _numRows; i++) {
+			int ix = getIndex(i);
+			codes[i] = (ix < nv1) ? ix : numVals;
+		}
+		for(int i = 0; i < that._numRows; i++) {
+			int ix = that.getIndex(i);
+			codes[_numRows + i] = (ix < nv2) ? off + ix : numVals;
+		}
+
+		ADictionary dict = _dict;
+		if(!sameDict) {
+			double[] values = Arrays.copyOf(v1, v1.length + v2.length);
+			System.arraycopy(v2, 0, values, v1.length, v2.length);
+			dict = new Dictionary(values);
+		}
+
+		final boolean zeros = _zeros || that._zeros;
+		if(numVals < 256) {
+			byte[] data = new byte[numRows];
+			for(int i = 0; i < numRows; i++)
+				data[i] = (byte) codes[i];
+			return new ColGroupDDC1(_colIndexes, numRows, dict, data, zeros, null);
+		}
+		else {
+			char[] data = new char[numRows];
+			for(int i = 0; i < numRows; i++)
+				data[i] = (char) codes[i];
+			return new ColGroupDDC2(_colIndexes, numRows, dict, data, zeros, null);
+		}
+	}
+
+	@Override
+	protected void getCodes(int rl, int ru, int[] codes) {
+		final int numVals = getNumValues();
+		for(int i = rl; i < ru; i++) {
+			int ix = getIndex(i);
+			if(ix < numVals)
+				codes[i - rl] = ix;
+		}
+	}
+
 	@Override
 	public void decompressToBlockSafe(MatrixBlock target, int rl, int ru, int offT, double[] values, boolean safe) {
 		final int nCol = getNumCols();
@@ -143,8 +210,9 @@ public abstract class ColGroupDDC extends ColGroupValue {
 		for(int i = rl; i < ru; i++) {
 			int lnnz = 0;
 			int index = getIndex(i);
-			if(index < numVals * _colIndexes.length) {
-				for(int colIx = index; colIx < ncol + index; colIx++) {
+			if(index < numVals) {
+				int off = index * ncol;
+				for(int colIx = off; colIx < ncol + off; colIx++) {
 					lnnz += (values[colIx]) != 0 ? 1 : 0;
 				}
 			}
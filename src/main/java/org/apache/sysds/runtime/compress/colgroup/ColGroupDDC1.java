@@ -30,6 +30,7 @@ import org.apache.sysds.runtime.compress.utils.ABitmap;
 import org.apache.sysds.runtime.compress.utils.LinearAlgebraUtils;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Class to encapsulate information about a column group that is encoded with dense dictionary encoding (DDC) using 1
@@ -187,6 +188,16 @@ public class ColGroupDDC1 extends ColGroupDDC {
 		
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		double val0 = op.fn.execute(0);
+		if(val0 == 0 || !_zeros)
+			return new ColGroupDDC1(_colIndexes, _numRows, applyUnaryOp(op), _data, _zeros, getCachedCounts());
+		else
+			return new ColGroupDDC1(_colIndexes, _numRows, applyUnaryOp(op, val0, _colIndexes.length), _data, false,
+				getCachedCounts());
+	}
+
 	@Override
 	public ColGroup binaryRowOp(BinaryOperator op, double[] v, boolean sparseSafe) {
 		sparseSafe = sparseSafe || !_zeros;
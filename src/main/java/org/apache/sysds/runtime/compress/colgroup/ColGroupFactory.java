@@ -61,15 +61,21 @@ public class ColGroupFactory {
 	public static ColGroup[] compressColGroups(MatrixBlock in, HashMap<Integer, Double> compRatios, List<int[]> groups,
 		CompressionSettings compSettings, int k) {
 
-		if(k <= 1) {
+		if(k <= 1 || groups.isEmpty()) {
 			return compressColGroups(in, compRatios, groups, compSettings);
 		}
+		else if(groups.size() == 1) {
+			// single group, parallelize the bitmap extraction over rows instead
+			return new ColGroup[] {compressColGroup(in, compRatios, groups.get(0), compSettings, k)};
+		}
 		else {
 			try {
-				ExecutorService pool = CommonThreadPool.get(k);
+				// remaining parallelism if there are fewer groups than threads is used for the bitmap extraction
+				final int kGroup = Math.max(1, k / groups.size());
+				ExecutorService pool = CommonThreadPool.get(Math.min(k, groups.size()));
 				ArrayList<CompressTask> tasks = new ArrayList<>();
 				for(int[] colIndexes : groups)
-					tasks.add(new CompressTask(in, compRatios, colIndexes, compSettings));
+					tasks.add(new CompressTask(in, compRatios, colIndexes, compSettings, kGroup));
 				List<Future<ColGroup>> rtask = pool.invokeAll(tasks);
 				ArrayList<ColGroup> ret = new ArrayList<>();
 				for(Future<ColGroup> lrtask : rtask)
@@ -88,7 +94,7 @@ public class ColGroupFactory {
 		CompressionSettings compSettings) {
 		ColGroup[] ret = new ColGroup[groups.size()];
 		for(int i = 0; i < groups.size(); i++)
-			ret[i] = compressColGroup(in, compRatios, groups.get(i), compSettings);
+			ret[i] = compressColGroup(in, compRatios, groups.get(i), compSettings, 1);
 		return ret;
 	}
 
@@ -124,41 +130,45 @@ public class ColGroupFactory {
 		private final HashMap<Integer, Double> _compRatios;
 		private final int[] _colIndexes;
 		private final CompressionSettings _compSettings;
+		private final int _k;
 
 		protected CompressTask(MatrixBlock in, HashMap<Integer, Double> compRatios, int[] colIndexes,
-			CompressionSettings compSettings) {
+			CompressionSettings compSettings, int k) {
 			_in = in;
 			_compRatios = compRatios;
 			_colIndexes = colIndexes;
 			_compSettings = compSettings;
+			_k = k;
 		}
 
 		@Override
 		public ColGroup call() {
-			return compressColGroup(_in, _compRatios, _colIndexes, _compSettings);
+			return compressColGroup(_in, _compRatios, _colIndexes, _compSettings, _k);
 		}
 	}
 
 	private static ColGroup compressColGroup(MatrixBlock in, HashMap<Integer, Double> compRatios, int[] colIndexes,
-		CompressionSettings compSettings) {
+		CompressionSettings compSettings, int k) {
 		return (compRatios == null) ? compressColGroupForced(in,
 			colIndexes,
-			compSettings) : compressColGroupCorrecting(in, compRatios, colIndexes, compSettings);
+			compSettings,
+			k) : compressColGroupCorrecting(in, compRatios, colIndexes, compSettings, k);
 
 	}
 
-	private static ColGroup compressColGroupForced(MatrixBlock in, int[] colIndexes, CompressionSettings compSettings) {
+	private static ColGroup compressColGroupForced(MatrixBlock in, int[] colIndexes, CompressionSettings compSettings,
+		int k) {
 
 		CompressedSizeEstimator estimator = new CompressedSizeEstimatorExact(in, compSettings, compSettings.transposed);
-		ABitmap ubm = BitmapEncoder.extractBitmap(colIndexes, in, compSettings.transposed);
+		ABitmap ubm = BitmapEncoder.extractBitmap(colIndexes, in, compSettings.transposed, k);
 		CompressedSizeInfoColGroup sizeInfo = new CompressedSizeInfoColGroup(
-			estimator.estimateCompressedColGroupSize(ubm), compSettings.validCompressions);
+			estimator.estimateCompressedColGroupSize(ubm), compSettings.validCompressions, compSettings.workload);
 		int numRows = compSettings.transposed ? in.getNumColumns() : in.getNumRows();
 		return compress(colIndexes, numRows, ubm, sizeInfo.getBestCompressionType(), compSettings, in);
 	}
 
 	private static ColGroup compressColGroupCorrecting(MatrixBlock in, HashMap<Integer, Double> compRatios,
-		int[] colIndexes, CompressionSettings compSettings) {
+		int[] colIndexes, CompressionSettings compSettings, int k) {
 
 		int[] allGroupIndices = colIndexes.clone();
 		CompressedSizeInfoColGroup sizeInfo;
@@ -170,10 +180,10 @@ public class ColGroupFactory {
 
 			// STEP 1.
 			// Extract the entire input column list and observe compression ratio
-			ubm = BitmapEncoder.extractBitmap(colIndexes, in, compSettings.transposed);
+			ubm = BitmapEncoder.extractBitmap(colIndexes, in, compSettings.transposed, k);
 
 			sizeInfo = new CompressedSizeInfoColGroup(estimator.estimateCompressedColGroupSize(ubm),
-				compSettings.validCompressions);
+				compSettings.validCompressions, compSettings.workload);
 
 			// Throw error if for some reason the compression observed is 0.
 			if(sizeInfo.getMinSize() == 0) {
@@ -232,6 +242,8 @@ public class ColGroupFactory {
 				else {
 					return new ColGroupDDC2(colIndexes, rlen, ubm, cs);
 				}
+			case SDC:
+				return new ColGroupSDC(colIndexes, rlen, ubm, cs);
 			case RLE:
 				return new ColGroupRLE(colIndexes, rlen, ubm, cs);
 			case OLE:
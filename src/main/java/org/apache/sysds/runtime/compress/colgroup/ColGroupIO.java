@@ -54,46 +54,60 @@ public class ColGroupIO {
 		List<ColGroup> _colGroups = new ArrayList<>(nColGroups);
 
 		// Read each ColGroup one at a time.
+		for(int i = 0; i < nColGroups; i++)
+			_colGroups.add(readGroup(in));
 
-		for(int i = 0; i < nColGroups; i++) {
-			ColGroupType ctype = ColGroupType.values()[in.readByte()];
-			LOG.debug(ctype);
-			ColGroup grp = null;
-
-			// create instance of column group
-			switch(ctype) {
-				case UNCOMPRESSED:
-					grp = new ColGroupUncompressed();
-					break;
-				case OLE:
-					grp = new ColGroupOLE();
-					break;
-				case RLE:
-					grp = new ColGroupRLE();
-					break;
-				case DDC1:
-					grp = new ColGroupDDC1();
-					break;
-				case DDC2:
-					grp = new ColGroupDDC2();
-					break;
-				case CONST:
-					grp = new ColGroupConst();
-					break;
-				default:
-					throw new DMLRuntimeException("Unsupported ColGroup Type used:  " + ctype);
-			}
-
-			// Deserialize and add column group (flag for shared dictionary passed
-			// and numCols evaluated in DDC1 because numCols not available yet
-			grp.readFields(in);
-
-			_colGroups.add(grp);
-		}
+		// restore the sharing of identical dictionaries
+		new DictionaryRegistry().shareDictionaries(_colGroups);
 
 		return _colGroups;
 	}
 
+	/**
+	 * Read a single column group, written with writeGroup.
+	 * 
+	 * @param in The Data input object to read from.
+	 * @return The ColGroup read.
+	 * @throws IOException Throws IO Exception if the in refuses to read data.
+	 */
+	public static ColGroup readGroup(DataInput in) throws IOException {
+		ColGroupType ctype = ColGroupType.values()[in.readByte()];
+		LOG.debug(ctype);
+		ColGroup grp = null;
+
+		// create instance of column group
+		switch(ctype) {
+			case UNCOMPRESSED:
+				grp = new ColGroupUncompressed();
+				break;
+			case OLE:
+				grp = new ColGroupOLE();
+				break;
+			case RLE:
+				grp = new ColGroupRLE();
+				break;
+			case DDC1:
+				grp = new ColGroupDDC1();
+				break;
+			case DDC2:
+				grp = new ColGroupDDC2();
+				break;
+			case CONST:
+				grp = new ColGroupConst();
+				break;
+			case SDC:
+				grp = new ColGroupSDC();
+				break;
+			default:
+				throw new DMLRuntimeException("Unsupported ColGroup Type used:  " + ctype);
+		}
+
+		// Deserialize and add column group (flag for shared dictionary passed
+		// and numCols evaluated in DDC1 because numCols not available yet
+		grp.readFields(in);
+		return grp;
+	}
+
 	/**
 	 * Writes the ColGroups out to the DataOutput.
 	 * 
@@ -105,9 +119,19 @@ public class ColGroupIO {
 		// Write out how many ColGroups to save.
 		out.writeInt(colGroups.size());
 
-		for(ColGroup grp : colGroups) {
-			out.writeByte(grp.getColGroupType().ordinal());
-			grp.write(out);
-		}
+		for(ColGroup grp : colGroups)
+			writeGroup(out, grp);
+	}
+
+	/**
+	 * Writes a single ColGroup incl. its type to the DataOutput.
+	 * 
+	 * @param out The DataOutput the ColGroup is written to
+	 * @param grp The ColGroup to write
+	 * @throws IOException Throws IO Exception if the out refuses to write.
+	 */
+	public static void writeGroup(DataOutput out, ColGroup grp) throws IOException {
+		out.writeByte(grp.getColGroupType().ordinal());
+		grp.write(out);
 	}
 }
@@ -33,6 +33,7 @@ import org.apache.sysds.runtime.functionobjects.KahanPlus;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Class to encapsulate information about a column group that is encoded with simple lists of offsets for each set of
@@ -134,6 +135,30 @@ public class ColGroupOLE extends ColGroupOffset {
 		}
 	}
 
+	@Override
+	protected void getCodes(int rl, int ru, int[] codes) {
+		final int blksz = CompressionSettings.BITMAP_BLOCK_SZ;
+		final int numVals = getNumValues();
+		int[] apos = skipScan(numVals, rl);
+		for(int bi = (rl / blksz) * blksz; bi < ru; bi += blksz) {
+			for(int k = 0; k < numVals; k++) {
+				int boff = _ptr[k];
+				int blen = len(k);
+				int bix = apos[k];
+				if(bix >= blen)
+					continue;
+				int len = _data[boff + bix];
+				int pos = boff + bix + 1;
+				for(int i = pos; i < pos + len; i++) {
+					int row = bi + _data[i];
+					if(row >= rl && row < ru)
+						codes[row - rl] = k;
+				}
+				apos[k] += len + 1;
+			}
+		}
+	}
+
 	@Override
 	public void decompressToBlock(MatrixBlock target, int[] colixTargets) {
 		if(getNumValues() > 1) {
@@ -289,6 +314,31 @@ public class ColGroupOLE extends ColGroupOffset {
 		return new ColGroupOLE(_colIndexes, _numRows, false, rvalues, rbitmaps, rbitmapOffs, getCachedCounts());
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		double val0 = op.fn.execute(0);
+		// fast path: zero-preserving operations only modify the dictionary
+		// Note that bitmaps don't change and are shallow-copied
+		if(val0 == 0 || !_zeros) {
+			return new ColGroupOLE(_colIndexes, _numRows, _zeros, applyUnaryOp(op), _data, _ptr, getCachedCounts());
+		}
+		// slow path: materialize the offsets of zero rows as an additional bitmap
+		boolean[] lind = computeZeroIndicatorVector();
+		int[] loff = computeOffsets(lind);
+		if(loff.length == 0) { // empty offset list: go back to fast path
+			return new ColGroupOLE(_colIndexes, _numRows, false, applyUnaryOp(op), _data, _ptr, getCachedCounts());
+		}
+
+		ADictionary rvalues = applyUnaryOp(op, val0, getNumCols());
+		char[] lbitmap = genOffsetBitmap(loff, loff.length);
+		char[] rbitmaps = Arrays.copyOf(_data, _data.length + lbitmap.length);
+		System.arraycopy(lbitmap, 0, rbitmaps, _data.length, lbitmap.length);
+		int[] rbitmapOffs = Arrays.copyOf(_ptr, _ptr.length + 1);
+		rbitmapOffs[rbitmapOffs.length - 1] = rbitmaps.length;
+
+		return new ColGroupOLE(_colIndexes, _numRows, false, rvalues, rbitmaps, rbitmapOffs, getCachedCounts());
+	}
+
 	@Override
 	public ColGroup binaryRowOp(BinaryOperator op, double[] v, boolean sparseSafe) {
 
@@ -35,6 +35,7 @@ import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.data.Pair;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 
 /** A group of columns compressed with a single run-length encoded bitmap. */
 public class ColGroupRLE extends ColGroupOffset {
@@ -122,6 +123,25 @@ public class ColGroupRLE extends ColGroupOffset {
 		}
 	}
 
+	@Override
+	protected void getCodes(int rl, int ru, int[] codes) {
+		final int numVals = getNumValues();
+		int[] astart = new int[numVals];
+		int[] apos = skipScan(numVals, rl, astart);
+		for(int k = 0; k < numVals; k++) {
+			int boff = _ptr[k];
+			int blen = len(k);
+			int start = astart[k];
+			for(int bix = apos[k]; bix < blen && start < ru; bix += 2) {
+				start += _data[boff + bix];
+				int len = _data[boff + bix + 1];
+				for(int i = Math.max(rl, start); i < Math.min(start + len, ru); i++)
+					codes[i - rl] = k;
+				start += len;
+			}
+		}
+	}
+
 	@Override
 	public void decompressToBlock(MatrixBlock target, int[] colixTargets) {
 		if(getNumValues() > 1) {
@@ -596,6 +616,31 @@ public class ColGroupRLE extends ColGroupOffset {
 		return new ColGroupRLE(_colIndexes, _numRows, false, rvalues, rbitmaps, rbitmapOffs, getCachedCounts());
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		double val0 = op.fn.execute(0);
+		// fast path: zero-preserving operations only modify the dictionary
+		// Note that bitmaps don't change and are shallow-copied
+		if(val0 == 0 || !_zeros) {
+			return new ColGroupRLE(_colIndexes, _numRows, _zeros, applyUnaryOp(op), _data, _ptr, getCachedCounts());
+		}
+		// slow path: materialize the runs of zero rows as an additional bitmap
+		boolean[] lind = computeZeroIndicatorVector();
+		int[] loff = computeOffsets(lind);
+		if(loff.length == 0) { // empty offset list: go back to fast path
+			return new ColGroupRLE(_colIndexes, _numRows, false, applyUnaryOp(op), _data, _ptr, getCachedCounts());
+		}
+
+		ADictionary rvalues = applyUnaryOp(op, val0, getNumCols());
+		char[] lbitmap = genRLEBitmap(loff, loff.length);
+		char[] rbitmaps = Arrays.copyOf(_data, _data.length + lbitmap.length);
+		System.arraycopy(lbitmap, 0, rbitmaps, _data.length, lbitmap.length);
+		int[] rbitmapOffs = Arrays.copyOf(_ptr, _ptr.length + 1);
+		rbitmapOffs[rbitmapOffs.length - 1] = rbitmaps.length;
+
+		return new ColGroupRLE(_colIndexes, _numRows, false, rvalues, rbitmaps, rbitmapOffs, getCachedCounts());
+	}
+
 	@Override
 	public ColGroup binaryRowOp(BinaryOperator op, double[] v, boolean sparseSafe) {
 		sparseSafe = sparseSafe || !_zeros;
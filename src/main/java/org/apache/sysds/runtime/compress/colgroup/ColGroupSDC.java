@@ -0,0 +1,386 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.colgroup;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.sysds.runtime.DMLCompressionException;
+import org.apache.sysds.runtime.compress.CompressionSettings;
+import org.apache.sysds.runtime.compress.utils.ABitmap;
+import org.apache.sysds.runtime.functionobjects.KahanFunction;
+import org.apache.sysds.runtime.functionobjects.KahanPlus;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
+
+/**
+ * Column group that uses sparse default compression (SDC). The most frequent value tuple (which can be the zero
+ * tuple) is stored as a default code for all rows, and only the rows that differ from the default are encoded as
+ * exceptions, via a sorted list of row offsets and their dictionary codes. The dictionary semantics are the same as
+ * for the DDC encodings, such that codes equal to the number of values refer to zero rows.
+ */
+public class ColGroupSDC extends ColGroupDDC {
+	private static final long serialVersionUID = -7366203485212487013L;
+
+	/** The dictionary code of all rows not contained in the exceptions */
+	private int _defaultCode;
+	/** Sorted row offsets of the exceptions */
+	private int[] _indexes;
+	/** Dictionary codes of the exceptions */
+	private char[] _data;
+
+	protected ColGroupSDC() {
+		super();
+	}
+
+	protected ColGroupSDC(int[] colIndices, int numRows, ABitmap ubm, CompressionSettings cs) {
+		super(colIndices, numRows, ubm, cs);
+
+		final int numVals = ubm.getNumValues();
+		if(numVals >= Character.MAX_VALUE)
+			throw new DMLCompressionException("Too many distinct values for SDC encoding: " + numVals);
+
+		// materialize the codes of all rows, zero rows use the same code as in DDC
+		int zeroIx = containsAllZeroValue();
+		if(zeroIx < 0)
+			zeroIx = numVals;
+		int[] codes = new int[numRows];
+		Arrays.fill(codes, zeroIx);
+		int numZeros = numRows;
+		int maxCount = 0;
+		int defaultCode = zeroIx;
+		for(int i = 0; i < numVals; i++) {
+			int[] tmpList = ubm.getOffsetsList(i).extractValues();
+			int tmpListSize = ubm.getNumOffsets(i);
+			for(int k = 0; k < tmpListSize; k++)
+				codes[tmpList[k]] = i;
+			numZeros -= tmpListSize;
+			if(tmpListSize > maxCount) {
+				maxCount = tmpListSize;
+				defaultCode = i;
+			}
+		}
+		_zeros = numZeros > 0;
+		if(numZeros > maxCount)
+			defaultCode = zeroIx;
+
+		// extract the exceptions to the default code
+		_defaultCode = defaultCode;
+		int numExceptions = 0;
+		for(int i = 0; i < numRows; i++)
+			numExceptions += (codes[i] != defaultCode) ? 1 : 0;
+		_indexes = new int[numExceptions];
+		_data = new char[numExceptions];
+		for(int i = 0, pos = 0; i < numRows; i++) {
+			if(codes[i] != defaultCode) {
+				_indexes[pos] = i;
+				_data[pos++] = (char) codes[i];
+			}
+		}
+	}
+
+	protected ColGroupSDC(int[] colIndices, int numRows, ADictionary dict, int defaultCode, int[] indexes,
+		char[] data, boolean zeros, int[] cachedCounts) {
+		super(colIndices, numRows, dict, cachedCounts);
+		_defaultCode = defaultCode;
+		_indexes = indexes;
+		_data = data;
+		_zeros = zeros;
+	}
+
+	@Override
+	public CompressionType getCompType() {
+		return CompressionType.SDC;
+	}
+
+	@Override
+	protected ColGroupType getColGroupType() {
+		return ColGroupType.SDC;
+	}
+
+	public int getDefaultCode() {
+		return _defaultCode;
+	}
+
+	public int[] getIndexes() {
+		return _indexes;
+	}
+
+	public char[] getData() {
+		return _data;
+	}
+
+	@Override
+	protected int getIndex(int r) {
+		int pos = Arrays.binarySearch(_indexes, r);
+		return (pos >= 0) ? _data[pos] : _defaultCode;
+	}
+
+	@Override
+	protected int getIndex(int r, int colIx) {
+		return getIndex(r) * getNumCols() + colIx;
+	}
+
+	@Override
+	protected double getData(int r, double[] values) {
+		int index = getIndex(r) * getNumCols();
+		return (index < values.length) ? values[index] : 0.0;
+	}
+
+	@Override
+	protected double getData(int r, int colIx, double[] values) {
+		int index = getIndex(r, colIx);
+		return (index < values.length) ? values[index] : 0.0;
+	}
+
+	@Override
+	protected void setData(int r, int code) {
+		int pos = Arrays.binarySearch(_indexes, r);
+		if(pos < 0)
+			throw new DMLCompressionException("Cannot set code of non-exception row " + r + " in SDC group");
+		_data[pos] = (char) code;
+	}
+
+	/**
+	 * Get the position of the first exception with a row offset larger or equal to the given row.
+	 * 
+	 * @param r The row to search for
+	 * @return The position in the exception arrays
+	 */
+	private int skipTo(int r) {
+		int pos = Arrays.binarySearch(_indexes, r);
+		return (pos >= 0) ? pos : -(pos + 1);
+	}
+
+	@Override
+	public void decompressToBlockSafe(MatrixBlock target, int rl, int ru, int offT, double[] values, boolean safe) {
+		if(safe) {
+			super.decompressToBlockSafe(target, rl, ru, offT, values, safe);
+			return;
+		}
+		final int nCol = getNumCols();
+		final int tCol = target.getNumColumns();
+		final double[] c = target.getDenseBlockValues();
+		final int defOff = _defaultCode * nCol;
+		final boolean defZero = defOff >= values.length;
+		for(int i = rl, pos = skipTo(rl), rc = offT * tCol; i < ru; i++, rc += tCol) {
+			int off = defOff;
+			if(pos < _indexes.length && _indexes[pos] == i)
+				off = _data[pos++] * nCol;
+			else if(defZero)
+				continue;
+			if(off < values.length)
+				for(int j = 0; j < nCol; j++)
+					c[rc + _colIndexes[j]] += values[off + j];
+		}
+	}
+
+	@Override
+	public void rightMultByVector(double[] b, double[] c, int rl, int ru, double[] dictVals) {
+		final int numVals = getNumValues();
+		double[] vals = preaggValues(numVals, b, dictVals);
+		// add the default to all rows and correct the exceptions
+		final double def = vals[_defaultCode];
+		if(def != 0)
+			for(int i = rl; i < ru; i++)
+				c[i] += def;
+		for(int pos = skipTo(rl); pos < _indexes.length && _indexes[pos] < ru; pos++)
+			c[_indexes[pos]] += vals[_data[pos]] - def;
+	}
+
+	@Override
+	public void rightMultByMatrix(int[] outputColumns, double[] preAggregatedB, double[] c, int thatNrColumns, int rl,
+		int ru) {
+		final int numVals = getNumValues();
+		final int nOut = outputColumns.length;
+		for(int i = rl, pos = skipTo(rl), off = rl * thatNrColumns; i < ru; i++, off += thatNrColumns) {
+			int code = _defaultCode;
+			if(pos < _indexes.length && _indexes[pos] == i)
+				code = _data[pos++];
+			if(code < numVals)
+				for(int k = 0; k < nOut; k++)
+					c[off + outputColumns[k]] += preAggregatedB[code * nOut + k];
+		}
+	}
+
+	@Override
+	public int[] getCounts(int rl, int ru, int[] counts) {
+		int pos = skipTo(rl);
+		int numExceptions = 0;
+		for(; pos < _indexes.length && _indexes[pos] < ru; pos++, numExceptions++)
+			counts[_data[pos]]++;
+		counts[_defaultCode] += (ru - rl) - numExceptions;
+		return counts;
+	}
+
+	@Override
+	public void countNonZerosPerRow(int[] rnnz, int rl, int ru) {
+		final int ncol = _colIndexes.length;
+		final int numVals = getNumValues();
+		final double[] values = _dict.getValues();
+		int[] tupleNnz = new int[numVals + 1];
+		for(int k = 0; k < numVals; k++)
+			for(int j = 0; j < ncol; j++)
+				tupleNnz[k] += (values[k * ncol + j] != 0) ? 1 : 0;
+		final int defNnz = tupleNnz[Math.min(_defaultCode, numVals)];
+		for(int i = rl, pos = skipTo(rl); i < ru; i++) {
+			if(pos < _indexes.length && _indexes[pos] == i)
+				rnnz[i - rl] += tupleNnz[Math.min(_data[pos++], numVals)];
+			else
+				rnnz[i - rl] += defNnz;
+		}
+	}
+
+	@Override
+	protected void computeRowSums(double[] c, KahanFunction kplus, int rl, int ru, boolean mean) {
+		final int numVals = getNumValues();
+		KahanPlus kplus2 = KahanPlus.getKahanPlusFnObject();
+		// pre-aggregate nnz per value tuple
+		double[] vals = _dict.sumAllRowsToDouble(kplus, _colIndexes.length);
+
+		final int mult = (2 + (mean ? 1 : 0));
+		for(int rix = rl, pos = skipTo(rl); rix < ru; rix++) {
+			int index = _defaultCode;
+			if(pos < _indexes.length && _indexes[pos] == rix)
+				index = _data[pos++];
+			if(index < numVals)
+				setandExecute(c, kplus2, vals[index], rix * mult);
+		}
+	}
+
+	@Override
+	public double[] preAggregate(double[] a, int numVals, int aRows) {
+		double[] vals = allocDVector(numVals + 1, true);
+		final int off = (aRows > 0) ? _numRows * aRows : 0;
+		// aggregate all rows into the default and move the exceptions
+		double sum = 0;
+		for(int i = 0; i < _numRows; i++)
+			sum += a[off + i];
+		vals[_defaultCode] = sum;
+		for(int pos = 0; pos < _indexes.length; pos++) {
+			double v = a[off + _indexes[pos]];
+			vals[_data[pos]] += v;
+			vals[_defaultCode] -= v;
+		}
+		return vals;
+	}
+
+	@Override
+	public void leftMultByRowVector(double[] a, double[] c, int numVals, double[] values) {
+		numVals = getNumValues();
+		double[] vals = preAggregate(a, numVals);
+		postScaling(values, vals, c, numVals);
+	}
+
+	@Override
+	public void leftMultByMatrix(double[] a, double[] c, double[] values, int numRows, int numCols, int rl, int ru,
+		int voff) {
+		final int numVals = getNumValues();
+		for(int i = rl, j = voff; i < ru; i++, j++) {
+			double[] vals = preAggregate(a, numVals, j);
+			postScaling(values, vals, c, numVals, i, numCols);
+		}
+	}
+
+	@Override
+	public void write(DataOutput out) throws IOException {
+		super.write(out);
+		out.writeInt(_defaultCode);
+		out.writeInt(_indexes.length);
+		for(int i = 0; i < _indexes.length; i++)
+			out.writeInt(_indexes[i]);
+		for(int i = 0; i < _data.length; i++)
+			out.writeChar(_data[i]);
+	}
+
+	@Override
+	public void readFields(DataInput in) throws IOException {
+		super.readFields(in);
+		_defaultCode = in.readInt();
+		final int numExceptions = in.readInt();
+		_indexes = new int[numExceptions];
+		_data = new char[numExceptions];
+		for(int i = 0; i < numExceptions; i++)
+			_indexes[i] = in.readInt();
+		for(int i = 0; i < numExceptions; i++)
+			_data[i] = in.readChar();
+	}
+
+	@Override
+	public long getExactSizeOnDisk() {
+		long ret = super.getExactSizeOnDisk();
+		ret += 4; // default code
+		ret += 4; // number of exceptions
+		ret += 4L * _indexes.length;
+		ret += 2L * _data.length;
+		return ret;
+	}
+
+	@Override
+	public long estimateInMemorySize() {
+		return ColGroupSizes.estimateInMemorySizeSDC(getNumCols(), getNumValues(), _indexes.length, isLossy());
+	}
+
+	@Override
+	public ColGroup scalarOperation(ScalarOperator op) {
+		double val0 = op.executeScalar(0);
+		boolean isSparseSafeOp = op.sparseSafe || val0 == 0 || !_zeros;
+		if(isSparseSafeOp)
+			return new ColGroupSDC(_colIndexes, _numRows, applyScalarOp(op), _defaultCode, _indexes, _data, _zeros,
+				getCachedCounts());
+		else
+			return new ColGroupSDC(_colIndexes, _numRows, applyScalarOp(op, val0, _colIndexes.length), _defaultCode,
+				_indexes, _data, false, getCachedCounts());
+	}
+
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		double val0 = op.fn.execute(0);
+		if(val0 == 0 || !_zeros)
+			return new ColGroupSDC(_colIndexes, _numRows, applyUnaryOp(op), _defaultCode, _indexes, _data, _zeros,
+				getCachedCounts());
+		else
+			return new ColGroupSDC(_colIndexes, _numRows, applyUnaryOp(op, val0, _colIndexes.length), _defaultCode,
+				_indexes, _data, false, getCachedCounts());
+	}
+
+	@Override
+	public ColGroup binaryRowOp(BinaryOperator op, double[] v, boolean sparseSafe) {
+		sparseSafe = sparseSafe || !_zeros;
+		return new ColGroupSDC(_colIndexes, _numRows, applyBinaryRowOp(op.fn, v, sparseSafe), _defaultCode, _indexes,
+			_data, !sparseSafe, getCachedCounts());
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(super.toString());
+		sb.append("\nDefault: " + _defaultCode);
+		sb.append("\nExceptions: " + _indexes.length);
+		sb.append(Arrays.toString(_indexes));
+		sb.append(Arrays.toString(_data));
+		return sb.toString();
+	}
+}
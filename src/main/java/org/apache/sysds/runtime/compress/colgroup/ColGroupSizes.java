@@ -71,6 +71,16 @@ public class ColGroupSizes {
 		return size;
 	}
 
+	public static long estimateInMemorySizeSDC(int nrCols, int uniqueVals, int numExceptions, boolean lossy) {
+		if(uniqueVals >= Character.MAX_VALUE)
+			return Long.MAX_VALUE;
+		long size = estimateInMemorySizeDDC(nrCols, uniqueVals, lossy);
+		size += 4; // default code int
+		size += MemoryEstimates.intArrayCost(numExceptions);
+		size += MemoryEstimates.charArrayCost(numExceptions);
+		return size;
+	}
+
 	public static long estimateInMemorySizeOffset(int nrColumns, int nrValues, int pointers, int offsetLength,
 		boolean lossy) {
 		long size = estimateInMemorySizeGroupValue(nrColumns, nrValues, lossy);
@@ -39,6 +39,7 @@ import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 import org.apache.sysds.runtime.util.SortUtils;
 
 /**
@@ -366,6 +367,30 @@ public class ColGroupUncompressed extends ColGroup {
 		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
 	}
 
+	@Override
+	public ColGroup unaryOperation(UnaryOperator op) {
+		// execute unary operations
+		MatrixBlock retContent = _data.unaryOperations(op, new MatrixBlock());
+		// construct new uncompressed column group
+		return new ColGroupUncompressed(getColIndices(), _data.getNumRows(), retContent);
+	}
+
+	@Override
+	public ColGroup sliceColumns(int cl, int cu) {
+		int[] ids = getColumnSliceOffsets(cl, cu);
+		if(ids[0] == ids[1])
+			return null;
+		int[] outCols = getShiftedColIndexes(ids[0], ids[1], cl);
+		MatrixBlock retContent = _data.slice(0, _data.getNumRows() - 1, ids[0], ids[1] - 1, new MatrixBlock());
+		return new ColGroupUncompressed(outCols, _data.getNumRows(), retContent);
+	}
+
+	@Override
+	public ColGroup sliceRows(int rl, int ru) {
+		MatrixBlock retContent = _data.slice(rl, ru - 1, 0, _data.getNumColumns() - 1, new MatrixBlock());
+		return new ColGroupUncompressed(_colIndexes, ru - rl, retContent);
+	}
+
 	@Override
 	public ColGroup binaryRowOp(BinaryOperator op, double[] v, boolean sparseSafe) {
 		throw new NotImplementedException("Should not be called use other matrix function for uncompressed columns");
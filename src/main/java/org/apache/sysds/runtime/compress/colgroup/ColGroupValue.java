@@ -47,6 +47,7 @@ import org.apache.sysds.runtime.functionobjects.ValueFunction;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 
 /**
  * Base class for column groups encoded with value dictionary. This include column groups such as DDC OLE and RLE.
@@ -392,6 +393,30 @@ public abstract class ColGroupValue extends ColGroup implements Cloneable {
 		return _dict.clone().apply(op);
 	}
 
+	/**
+	 * Indicates if the scalar operation only modifies the values of the dictionary, i.e., if it does not require an
+	 * additional tuple for the (previously implicit) zero rows of this column group.
+	 * 
+	 * @param op The scalar operation
+	 * @return True if the result of the operation only differs in the dictionary values
+	 */
+	public boolean isDictionaryOnlyScalarOp(ScalarOperator op) {
+		return op.sparseSafe || op.executeScalar(0) == 0 || !_zeros;
+	}
+
+	/**
+	 * Shallow copy of this column group with the given dictionary, used to assign the result of a dictionary-only
+	 * operation that is shared by multiple column groups.
+	 * 
+	 * @param dict The new dictionary
+	 * @return A shallow copy of this column group referencing the given dictionary
+	 */
+	public ColGroupValue copyAndSet(ADictionary dict) {
+		ColGroupValue ret = (ColGroupValue) copy();
+		ret.setDictionary(dict);
+		return ret;
+	}
+
 	/**
 	 * Method for use by subclasses. Applies a scalar operation to the value metadata stored in the dictionary. This
 	 * specific method is used in cases where an new entry is to be added in the dictionary.
@@ -408,6 +433,29 @@ public abstract class ColGroupValue extends ColGroup implements Cloneable {
 		return _dict.applyScalarOp(op, newVal, numCols);
 	}
 
+	/**
+	 * Method for use by subclasses. Applies a cellwise unary operation to the value metadata stored in the dictionary.
+	 * 
+	 * @param op unary operation to perform
+	 * @return transformed copy of value metadata for this column group
+	 */
+	protected ADictionary applyUnaryOp(UnaryOperator op) {
+		return _dict.applyUnaryOp(op);
+	}
+
+	/**
+	 * Method for use by subclasses. Applies a cellwise unary operation to the value metadata stored in the dictionary
+	 * and appends a new tuple for the (previously implicit) zero values.
+	 * 
+	 * @param op      The unary operation to apply to the underlying data.
+	 * @param newVal  The new value to append to the underlying data, with the operation already applied.
+	 * @param numCols The number of columns in the ColGroup.
+	 * @return The new Dictionary containing the values.
+	 */
+	protected ADictionary applyUnaryOp(UnaryOperator op, double newVal, int numCols) {
+		return _dict.applyUnaryOp(op, newVal, numCols);
+	}
+
 	/**
 	 * Apply the binary row-wise operator to the dictionary, and copy it appropriately if needed.
 	 * 
@@ -613,6 +661,92 @@ public abstract class ColGroupValue extends ColGroup implements Cloneable {
 		return null;
 	}
 
+	@Override
+	public ColGroup sliceColumns(int cl, int cu) {
+		int[] ids = getColumnSliceOffsets(cl, cu);
+		if(ids[0] == ids[1])
+			return null;
+		int[] outCols = getShiftedColIndexes(ids[0], ids[1], cl);
+		if(outCols.length == _colIndexes.length) {
+			// all columns selected, only the column indexes change
+			ColGroupValue clone = (ColGroupValue) copy();
+			clone.setColIndices(outCols);
+			return clone;
+		}
+
+		// project the dictionary tuples to the selected columns, the row encoding is shared
+		final int numCols = getNumCols();
+		final int numVals = getNumValues();
+		final double[] values = getValues();
+		double[] newValues = new double[numVals * outCols.length];
+		for(int k = 0, off = 0; k < numVals; k++, off += outCols.length)
+			System.arraycopy(values, k * numCols + ids[0], newValues, off, outCols.length);
+		return copyAndSet(outCols, newValues);
+	}
+
+	@Override
+	public ColGroup sliceRows(int rl, int ru) {
+		final int numRows = ru - rl;
+		final int numVals = getNumValues();
+
+		// extract the dictionary codes of the selected rows, zero rows use numVals as code
+		int[] codes = new int[numRows];
+		Arrays.fill(codes, numVals);
+		getCodes(rl, ru, codes);
+		boolean zeros = false;
+		for(int i = 0; i < numRows && !zeros; i++)
+			zeros = codes[i] == numVals;
+
+		// re-encode the selected rows as DDC, sharing the dictionary of this group
+		if(numVals < 256) {
+			byte[] data = new byte[numRows];
+			for(int i = 0; i < numRows; i++)
+				data[i] = (byte) codes[i];
+			return new ColGroupDDC1(_colIndexes, numRows, _dict, data, zeros, null);
+		}
+		else if(numVals < Character.MAX_VALUE) {
+			char[] data = new char[numRows];
+			for(int i = 0; i < numRows; i++)
+				data[i] = (char) codes[i];
+			return new ColGroupDDC2(_colIndexes, numRows, _dict, data, zeros, null);
+		}
+
+		// too many distinct tuples for DDC, fall back to an uncompressed group
+		final int numCols = getNumCols();
+		final double[] values = getValues();
+		MatrixBlock ret = new MatrixBlock(numRows, numCols, false).allocateBlock();
+		double[] c = ret.getDenseBlockValues();
+		for(int i = 0, off = 0; i < numRows; i++, off += numCols)
+			if(codes[i] < numVals)
+				System.arraycopy(values, codes[i] * numCols, c, off, numCols);
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		return new ColGroupUncompressed(_colIndexes, numRows, ret);
+	}
+
+	/**
+	 * Get the dictionary codes of all rows, i.e., the grouping of rows by distinct tuple. Rows not covered by the
+	 * dictionary (zero rows) are assigned the code getNumValues().
+	 * 
+	 * @return The array of codes, one per row
+	 */
+	public int[] getCodes() {
+		int[] codes = new int[_numRows];
+		Arrays.fill(codes, getNumValues());
+		getCodes(0, _numRows, codes);
+		return codes;
+	}
+
+	/**
+	 * Extract the dictionary codes of the rows within the range of rl and ru. Rows not covered by the dictionary (zero
+	 * rows) are left untouched in the output array.
+	 * 
+	 * @param rl    The lower row index (inclusive)
+	 * @param ru    The upper row index (exclusive)
+	 * @param codes The output array of codes, starting at row rl
+	 */
+	protected abstract void getCodes(int rl, int ru, int[] codes);
+
 	/**
 	 * shallow copy of the colGroup.
 	 * 
@@ -32,6 +32,7 @@ import org.apache.sysds.runtime.functionobjects.KahanPlus;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
 import org.apache.sysds.runtime.instructions.cp.KahanObject;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 import org.apache.sysds.utils.MemoryEstimates;
 
 /**
@@ -114,6 +115,25 @@ public class Dictionary extends ADictionary {
 		return new Dictionary(values);
 	}
 
+	@Override
+	public Dictionary applyUnaryOp(UnaryOperator op) {
+		final int len = size();
+		double[] values = new double[len];
+		for(int i = 0; i < len; i++)
+			values[i] = op.fn.execute(_values[i]);
+		return new Dictionary(values);
+	}
+
+	@Override
+	public Dictionary applyUnaryOp(UnaryOperator op, double newVal, int numCols) {
+		final int len = size();
+		double[] values = new double[len + numCols];
+		for(int i = 0; i < len; i++)
+			values[i] = op.fn.execute(_values[i]);
+		Arrays.fill(values, len, len + numCols, newVal);
+		return new Dictionary(values);
+	}
+
 	@Override
 	public Dictionary applyBinaryRowOp(ValueFunction fn, double[] v, boolean sparseSafe, int[] colIndexes) {
 		final int len = size();
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.colgroup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of dictionaries that deduplicates dictionaries of identical content, such that column groups with equal
+ * distinct value tuples (e.g., many one-hot encoded or binary columns) reference a single dictionary instance.
+ * 
+ * A registry is scoped to a single compression or deserialization call, i.e., dictionaries are only shared between
+ * the column groups of one block. Sharing requires no copy-on-write, because column group operations never modify
+ * a dictionary in-place but always derive a new dictionary (see {@link ColGroupValue}).
+ */
+public class DictionaryRegistry {
+
+	private final Map<DictionaryKey, ADictionary> _dicts = new HashMap<>();
+
+	/**
+	 * Register the given dictionary and obtain the shared dictionary instance of identical content.
+	 * 
+	 * @param dict The dictionary to register
+	 * @return The shared dictionary, which is either a previously registered dictionary or the given dictionary
+	 */
+	public ADictionary share(ADictionary dict) {
+		return _dicts.computeIfAbsent(new DictionaryKey(dict), k -> dict);
+	}
+
+	/**
+	 * Get the number of distinct registered dictionaries.
+	 * 
+	 * @return The number of distinct dictionaries
+	 */
+	public int getNumDictionaries() {
+		return _dicts.size();
+	}
+
+	/**
+	 * Register the dictionaries of all given column groups, and replace dictionaries of identical content by the
+	 * shared dictionary instance.
+	 * 
+	 * @param colGroups The column groups to share dictionaries across
+	 * @return The number of column groups that now reference a shared dictionary of another column group
+	 */
+	public int shareDictionaries(List<ColGroup> colGroups) {
+		int ret = 0;
+		for(ColGroup grp : colGroups) {
+			if(!(grp instanceof ColGroupValue))
+				continue;
+			ColGroupValue vgrp = (ColGroupValue) grp;
+			ADictionary dict = vgrp.getDictionary();
+			ADictionary shared = share(dict);
+			if(shared != dict) {
+				vgrp.setDictionary(shared);
+				ret++;
+			}
+		}
+		return ret;
+	}
+
+	private static class DictionaryKey {
+		private final Class<?> _type;
+		private final double[] _values;
+		private final int _hash;
+
+		private DictionaryKey(ADictionary dict) {
+			_type = dict.getClass();
+			_values = dict.getValues();
+			_hash = 31 * _type.hashCode() + Arrays.hashCode(_values);
+		}
+
+		@Override
+		public int hashCode() {
+			return _hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(!(o instanceof DictionaryKey))
+				return false;
+			DictionaryKey that = (DictionaryKey) o;
+			return _hash == that._hash && _type == that._type && Arrays.equals(_values, that._values);
+		}
+	}
+}
@@ -37,6 +37,7 @@ import org.apache.sysds.runtime.functionobjects.Plus;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
 import org.apache.sysds.runtime.instructions.cp.KahanObject;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 import org.apache.sysds.utils.MemoryEstimates;
 
 /**
@@ -184,6 +185,26 @@ public class QDictionary extends ADictionary {
 		return new QDictionary(res, scale);
 	}
 
+	@Override
+	public Dictionary applyUnaryOp(UnaryOperator op) {
+		// unary operations are non-linear, re-quantizing the result would lose precision
+		final int len = size();
+		double[] values = new double[len];
+		for(int i = 0; i < len; i++)
+			values[i] = op.fn.execute(getValue(i));
+		return new Dictionary(values);
+	}
+
+	@Override
+	public Dictionary applyUnaryOp(UnaryOperator op, double newVal, int numCols) {
+		final int len = size();
+		double[] values = new double[len + numCols];
+		for(int i = 0; i < len; i++)
+			values[i] = op.fn.execute(getValue(i));
+		Arrays.fill(values, len, len + numCols, newVal);
+		return new Dictionary(values);
+	}
+
 	@Override
 	public QDictionary applyBinaryRowOp(ValueFunction fn, double[] v, boolean sparseSafe, int[] colIndexes) {
 	
@@ -37,6 +37,6 @@ public class CompressedSizeEstimatorExact extends CompressedSizeEstimator {
 	public CompressedSizeInfoColGroup estimateCompressedColGroupSize(int[] colIndexes) {
 		ABitmap entireBitMap = BitmapEncoder.extractBitmap(colIndexes, _data, _transposed);
 		return new CompressedSizeInfoColGroup(estimateCompressedColGroupSize(entireBitMap),
-			_compSettings.validCompressions);
+			_compSettings.validCompressions, _compSettings.workload);
 	}
 }
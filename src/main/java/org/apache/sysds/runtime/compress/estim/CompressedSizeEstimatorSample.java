@@ -79,7 +79,7 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator {
 
 		// extract statistics from sample
 		ABitmap ubm = BitmapEncoder.extractBitmap(colIndexes, _data, _transposed);
-		EstimationFactors fact = EstimationFactors.computeSizeEstimationFactors(ubm, false, _numRows, numCols);
+		EstimationFactors fact = EstimationFactors.computeSizeEstimationFactors(ubm, false, sampleSize, numCols);
 
 		// estimate number of distinct values (incl fixes for anomalies w/ large sample fraction)
 		// TODO Replace this with lib matrix/data/LibMatrixCountDistinct
@@ -107,11 +107,15 @@ public class CompressedSizeEstimatorSample extends CompressedSizeEstimator {
 
 		boolean containsZero = numZeros > 0;
 
+		// scale the most frequent tuple of the sample to the full number of rows
+		int largestOff = (int) Math.min(_numRows, Math.ceil((double) fact.largestOff * _numRows / sampleSize));
+		largestOff = Math.max(largestOff, _numRows - numNonZeros);
+
 		EstimationFactors totalFacts = new EstimationFactors(numCols, totalCardinality, numNonZeros, totalNumRuns,
-			fact.numSingle, _numRows, containsZero, ubm.getType() == BitmapType.Lossy);
+			fact.numSingle, largestOff, _numRows, containsZero, ubm.getType() == BitmapType.Lossy);
 
 		// construct new size info summary
-		return new CompressedSizeInfoColGroup(totalFacts, _compSettings.validCompressions);
+		return new CompressedSizeInfoColGroup(totalFacts, _compSettings.validCompressions, _compSettings.workload);
 	}
 
 	private static int getNumDistinctValues(ABitmap ubm, int numRows, int sampleSize,
@@ -26,6 +26,7 @@ import java.util.Set;
 import org.apache.commons.lang.NotImplementedException;
 import org.apache.sysds.runtime.compress.colgroup.ColGroup.CompressionType;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupSizes;
+import org.apache.sysds.runtime.compress.workload.Workload;
 
 /**
  * Information collected about a specific ColGroup's compression size.
@@ -35,20 +36,42 @@ public class CompressedSizeInfoColGroup {
 	private final int _numVals;
 	private final int _numOffs;
 	private final long _minSize;
+	private final long _minCost;
 	private final CompressionType _bestCompressionType;
 	private final Map<CompressionType, Long> _sizes;
 
 	public CompressedSizeInfoColGroup(EstimationFactors fact, Set<CompressionType> validCompressionTypes) {
+		this(fact, validCompressionTypes, null);
+	}
+
+	/**
+	 * Create the size information of a column group, and select the best compression type. Without workload (or an
+	 * empty workload) the type with minimum size is selected, otherwise the type with minimum estimated execution cost
+	 * over the workload.
+	 * 
+	 * @param fact                  The estimation factors of the column group
+	 * @param validCompressionTypes The valid compression types
+	 * @param workload              The workload summary, or null for size-based selection
+	 */
+	public CompressedSizeInfoColGroup(EstimationFactors fact, Set<CompressionType> validCompressionTypes,
+		Workload workload) {
 		_numVals = fact.numVals;
 		_numOffs = fact.numOffs;
 		_sizes = calculateCompressionSizes(fact, validCompressionTypes);
-		Map.Entry<CompressionType, Long> bestEntry = null;
+		boolean costBased = workload != null && !workload.isEmpty();
+		CompressionType bestType = null;
+		double bestCost = Double.POSITIVE_INFINITY;
 		for(Map.Entry<CompressionType, Long> ent : _sizes.entrySet()) {
-			if(bestEntry == null || ent.getValue() < bestEntry.getValue())
-				bestEntry = ent;
+			double cost = costBased ? ComputationCostEstimator
+				.getCost(ent.getKey(), fact, ent.getValue(), workload) : ent.getValue();
+			if(bestType == null || cost < bestCost) {
+				bestType = ent.getKey();
+				bestCost = cost;
+			}
 		}
-		_bestCompressionType = bestEntry.getKey();
-		_minSize = bestEntry.getValue();
+		_bestCompressionType = bestType;
+		_minSize = _sizes.get(bestType);
+		_minCost = (long) Math.ceil(bestCost);
 	}
 
 	public long getCompressionSize(CompressionType ct) {
@@ -67,6 +90,16 @@ public class CompressedSizeInfoColGroup {
 		return _minSize;
 	}
 
+	/**
+	 * Get the objective value of the best compression type, which is the size if no workload is given and the
+	 * estimated execution cost over the workload otherwise. Co-coding decisions are based on this value.
+	 * 
+	 * @return The cost of the best compression type
+	 */
+	public long getMinCost() {
+		return _minCost;
+	}
+
 	/**
 	 * Note cardinality is the same as number of distinct values.
 	 * 
@@ -105,6 +138,11 @@ public class CompressedSizeInfoColGroup {
 					size = ColGroupSizes.estimateInMemorySizeDDC2(fact.numCols, fact.numVals, fact.numRows, fact.lossy);
 				}
 				break;
+			case SDC:
+				// the default is the most frequent tuple (possibly zero), all other rows are exceptions
+				int numExceptions = Math.max(0, fact.numRows - fact.largestOff);
+				size = ColGroupSizes.estimateInMemorySizeSDC(fact.numCols, fact.numVals, numExceptions, fact.lossy);
+				break;
 			case RLE:
 				size = ColGroupSizes
 					.estimateInMemorySizeRLE(fact.numCols, fact.numVals, fact.numRuns, fact.numRows, fact.lossy);
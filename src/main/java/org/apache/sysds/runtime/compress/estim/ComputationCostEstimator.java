@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.estim;
+
+import org.apache.sysds.runtime.compress.colgroup.ColGroup.CompressionType;
+import org.apache.sysds.runtime.compress.workload.Workload;
+import org.apache.sysds.runtime.compress.workload.Workload.OpType;
+
+/**
+ * Simple analytical cost model of operations over column groups of different compression types. The costs are
+ * expressed in number of elementary cell accesses, and combined with the weights of a workload summary into the
+ * estimated execution cost of a column group over the entire workload.
+ */
+public final class ComputationCostEstimator {
+
+	/** Additional cost factor for row-wise random access into offset or run based encodings */
+	private static final double RANDOM_ACCESS_PENALTY = 2.0;
+
+	private ComputationCostEstimator() {
+		// private constructor, static methods only
+	}
+
+	/**
+	 * Estimate the cost of the given workload over a column group with the given compression type. The in-memory size
+	 * (in 8 byte words) is included once, representing the cost of constructing and reading the group.
+	 * 
+	 * @param ct       The compression type
+	 * @param fact     The estimation factors of the column group
+	 * @param size     The estimated in-memory size of the column group in bytes
+	 * @param workload The workload summary
+	 * @return The estimated execution cost
+	 */
+	public static double getCost(CompressionType ct, EstimationFactors fact, long size, Workload workload) {
+		double cost = size / 8.0;
+		for(OpType type : OpType.values()) {
+			double w = workload.getWeight(type);
+			if(w > 0)
+				cost += w * getCost(ct, fact, type);
+		}
+		return cost;
+	}
+
+	private static double getCost(CompressionType ct, EstimationFactors fact, OpType type) {
+		final double nRows = fact.numRows;
+		final double nCols = fact.numCols;
+		final double dict = (double) fact.numVals * fact.numCols;
+		final double cells = nRows * nCols;
+		// number of row accesses required to traverse the group once
+		final double scan = getScanCost(ct, fact);
+
+		switch(type) {
+			case LEFT_MM:
+			case AGGREGATE:
+				// aggregate per distinct tuple, then combine with the dictionary
+				return ct == CompressionType.UNCOMPRESSED ? cells : scan + dict;
+			case RIGHT_MM:
+				// pre-aggregate the dictionary, then scatter per row
+				return ct == CompressionType.UNCOMPRESSED ? cells : dict + scan;
+			case TSMM:
+				// one left matrix multiplication per column
+				return ct == CompressionType.UNCOMPRESSED ? cells * nCols : (scan + dict) * nCols;
+			case DICTIONARY:
+				return ct == CompressionType.UNCOMPRESSED ? cells : dict;
+			case INDEXING:
+				if(ct == CompressionType.OLE || ct == CompressionType.RLE)
+					return (cells + scan) * RANDOM_ACCESS_PENALTY;
+				return cells + scan;
+			case DECOMPRESS:
+			default:
+				return cells + scan;
+		}
+	}
+
+	private static double getScanCost(CompressionType ct, EstimationFactors fact) {
+		switch(ct) {
+			case DDC:
+				return fact.numRows;
+			case SDC:
+				return fact.numRows - fact.largestOff;
+			case OLE:
+				return fact.numOffs;
+			case RLE:
+				return fact.numOffs + fact.numRuns;
+			case UNCOMPRESSED:
+			default:
+				return (double) fact.numRows * fact.numCols;
+		}
+	}
+}
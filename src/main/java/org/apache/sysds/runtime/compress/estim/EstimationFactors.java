@@ -43,17 +43,20 @@ public class EstimationFactors {
 	protected final int numRuns;
 	/** The Number of Values in the collection not Zero , Also refered to as singletons */
 	protected final int numSingle;
+	/** The number of offsets of the most frequent value tuple including the zero tuple, used as default in SDC */
+	protected final int largestOff;
 	protected final int numRows;
 	protected final boolean containsZero;
 	protected final boolean lossy;
 
-	protected EstimationFactors(int numCols, int numVals, int numOffs, int numRuns, int numSingle, int numRows,
-		boolean containsZero, boolean lossy) {
+	protected EstimationFactors(int numCols, int numVals, int numOffs, int numRuns, int numSingle, int largestOff,
+		int numRows, boolean containsZero, boolean lossy) {
 		this.numCols = numCols;
 		this.numVals = numVals;
 		this.numOffs = numOffs;
 		this.numRuns = numRuns;
 		this.numSingle = numSingle;
+		this.largestOff = largestOff;
 		this.numRows = numRows;
 		this.containsZero = containsZero;
 		this.lossy = lossy;
@@ -65,10 +68,12 @@ public class EstimationFactors {
 		
 		int numVals = (ubm != null) ? ubm.getNumValues(): 0;
 		boolean containsZero = (ubm != null) ? ubm.containsZero() : true;
+		boolean lossy = (ubm != null) && ubm.getType() == BitmapType.Lossy;
 
 		int numRuns = 0;
 		int numOffs = 0;
 		int numSingle = 0;
+		int largestOff = 0;
 
 		LOG.debug("NumCols :" + numCols);
 
@@ -77,6 +82,7 @@ public class EstimationFactors {
 			int listSize = ubm.getNumOffsets(i);
 			numOffs += listSize;
 			numSingle += (listSize == 1) ? 1 : 0;
+			largestOff = Math.max(largestOff, listSize);
 			if(inclRLE) {
 				int[] list = ubm.getOffsetsList(i).extractValues();
 				int lastOff = -2;
@@ -90,8 +96,13 @@ public class EstimationFactors {
 			}
 		}
 
-		return new EstimationFactors(numCols, numVals * numCols, numOffs + numVals, numRuns, numSingle, numRows,
-			containsZero, ubm.getType() == BitmapType.Lossy);
+		// the zero tuple covers all rows without offsets, and is the SDC default if it is the most frequent tuple
+		// (the zero counts of the bitmap are not maintained by all extraction paths)
+		if(ubm != null)
+			largestOff = Math.max(largestOff, numRows - numOffs);
+
+		return new EstimationFactors(numCols, numVals * numCols, numOffs + numVals, numRuns, numSingle, largestOff,
+			numRows, containsZero, lossy);
 	}
 
 	@Override
@@ -101,6 +112,7 @@ public class EstimationFactors {
 		sb.append("\tcols:" + numCols);
 		sb.append("\tnum Offsets:" + numOffs);
 		sb.append("\tnum Singles:" + numSingle);
+		sb.append("\tlargest Offset:" + largestOff);
 		sb.append("\tnum Runs:" + numRuns);
 		sb.append("\tnum Unique Vals:" + numVals);
 		sb.append("\tcontains a 0: " + containsZero);
@@ -210,13 +210,18 @@ public class HassAndStokes {
 	 */
 	private static double getMethodOfMomentsEstimate(int nj, double q, double min, double max,
 		HashMap<Integer, Double> solveCache) {
-		if(solveCache.containsKey(nj))
-			return solveCache.get(nj);
+		// the cache is shared by concurrent size estimation tasks of the same estimator
+		synchronized(solveCache) {
+			if(solveCache.containsKey(nj))
+				return solveCache.get(nj);
+		}
 
 		double est = UnivariateSolverUtils.solve(new MethodOfMomentsFunction(nj, q), min, max, 1e-9);
 
-		if(solveCache.size() < MAX_SOLVE_CACHE_SIZE)
-			solveCache.put(nj, est);
+		synchronized(solveCache) {
+			if(solveCache.size() < MAX_SOLVE_CACHE_SIZE)
+				solveCache.put(nj, est);
+		}
 
 		return est;
 	}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.lib;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.AbstractCompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupConverter;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupDDC;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
+import org.apache.sysds.runtime.compress.colgroup.Dictionary;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Column and row wise append (cbind and rbind) of compressed matrix blocks, that keeps the column groups compressed.
+ */
+public class LibAppend {
+
+	private static final Log LOG = LogFactory.getLog(LibAppend.class.getName());
+
+	/**
+	 * Append the columns of the right matrix to the compressed left matrix. The column groups of the left side are
+	 * shallow copied, while the right side is added as shifted compressed column groups, a constant column group if
+	 * all rows are equal, or an uncompressed column group.
+	 * 
+	 * @param left  The compressed left side
+	 * @param right The right side to append
+	 * @param ret   The output block to reuse if compressed
+	 * @return The compressed concatenation
+	 */
+	public static MatrixBlock cbind(CompressedMatrixBlock left, MatrixBlock right, MatrixBlock ret) {
+		if(left.getNumRows() != right.getNumRows())
+			throw new DMLRuntimeException("Invalid cbind dimensions: " + left.getNumRows() + " vs "
+				+ right.getNumRows() + " rows");
+
+		final int m = left.getNumRows();
+		final int clen = left.getNumColumns();
+		final int n = clen + right.getNumColumns();
+		final long nnz = (left.getNonZeros() < 0 || right.getNonZeros() < 0) ? -1 : left.getNonZeros() +
+			right.getNonZeros();
+
+		// init result matrix
+		CompressedMatrixBlock ret2 = null;
+		if(ret == null || !(ret instanceof CompressedMatrixBlock)) {
+			ret2 = new CompressedMatrixBlock(m, n);
+		}
+		else {
+			ret2 = (CompressedMatrixBlock) ret;
+			ret2.reset(m, n);
+		}
+
+		// shallow copy of lhs column groups
+		List<ColGroup> colGroups = new ArrayList<>(left.getColGroups());
+		boolean overlapping = left.isOverlapping();
+
+		// copy of rhs column groups w/ col index shifting
+		List<ColGroup> rightGroups = null;
+		if(right instanceof CompressedMatrixBlock) {
+			rightGroups = ((CompressedMatrixBlock) right).getColGroups();
+			overlapping |= ((CompressedMatrixBlock) right).isOverlapping();
+		}
+		else {
+			rightGroups = compressAppendedColumns(right);
+		}
+		for(ColGroup group : rightGroups) {
+			ColGroup tmp = ColGroupConverter.copyColGroup(group);
+			tmp.shiftColIndices(clen);
+			colGroups.add(tmp);
+		}
+
+		// meta data maintenance
+		ret2.allocateColGroupList(colGroups);
+		ret2.setOverlapping(overlapping);
+		ret2.setNonZeros(nnz);
+		return ret2;
+	}
+
+	/**
+	 * Append the rows of the bottom matrix to the compressed top matrix. Both sides have to be compressed with the same
+	 * column partitioning of DDC or equal constant column groups to stay compressed, otherwise the operation falls back
+	 * to uncompressed append.
+	 * 
+	 * @param top    The compressed top side
+	 * @param bottom The bottom side to append
+	 * @param ret    The output block to reuse if compressed
+	 * @return The compressed concatenation if possible, otherwise the uncompressed concatenation
+	 */
+	public static MatrixBlock rbind(CompressedMatrixBlock top, MatrixBlock bottom, MatrixBlock ret) {
+		if(top.getNumColumns() != bottom.getNumColumns())
+			throw new DMLRuntimeException("Invalid rbind dimensions: " + top.getNumColumns() + " vs "
+				+ bottom.getNumColumns() + " columns");
+
+		List<ColGroup> colGroups = (bottom instanceof CompressedMatrixBlock) ? rbindColGroups(top,
+			(CompressedMatrixBlock) bottom) : null;
+		if(colGroups == null) {
+			LOG.warn("Decompressing since rbind is not supported for the given column groups");
+			MatrixBlock left = top.decompress();
+			MatrixBlock right = AbstractCompressedMatrixBlock.getUncompressed(bottom);
+			// a compressed output block cannot hold the uncompressed result
+			return left.append(right, (ret instanceof CompressedMatrixBlock) ? null : ret, false);
+		}
+
+		final long nnz = (top.getNonZeros() < 0 || bottom.getNonZeros() < 0) ? -1 : top.getNonZeros() +
+			bottom.getNonZeros();
+		final int m = top.getNumRows() + bottom.getNumRows();
+		final int n = top.getNumColumns();
+
+		// init result matrix
+		CompressedMatrixBlock ret2 = null;
+		if(ret == null || !(ret instanceof CompressedMatrixBlock)) {
+			ret2 = new CompressedMatrixBlock(m, n);
+		}
+		else {
+			ret2 = (CompressedMatrixBlock) ret;
+			ret2.reset(m, n);
+		}
+		ret2.allocateColGroupList(colGroups);
+		ret2.setNonZeros(nnz);
+		return ret2;
+	}
+
+	private static List<ColGroup> rbindColGroups(CompressedMatrixBlock top, CompressedMatrixBlock bottom) {
+		if(top.isOverlapping() || bottom.isOverlapping() ||
+			top.getColGroups().size() != bottom.getColGroups().size())
+			return null;
+
+		Map<Integer, ColGroup> bottomGroups = new HashMap<>();
+		for(ColGroup g : bottom.getColGroups())
+			bottomGroups.put(g.getColIndices()[0], g);
+
+		final int numRows = top.getNumRows() + bottom.getNumRows();
+		List<ColGroup> ret = new ArrayList<>(top.getColGroups().size());
+		for(ColGroup a : top.getColGroups()) {
+			ColGroup b = bottomGroups.get(a.getColIndices()[0]);
+			ColGroup c = null;
+			if(b == null || !Arrays.equals(a.getColIndices(), b.getColIndices()))
+				return null;
+			else if(a instanceof ColGroupDDC && b instanceof ColGroupDDC)
+				c = ((ColGroupDDC) a).rbind((ColGroupDDC) b);
+			else if(a instanceof ColGroupConst && b instanceof ColGroupConst &&
+				Arrays.equals(a.getValues(), b.getValues()))
+				c = new ColGroupConst(a.getColIndices(), numRows, ((ColGroupConst) a).getDictionary());
+			if(c == null)
+				return null;
+			ret.add(c);
+		}
+		return ret;
+	}
+
+	private static List<ColGroup> compressAppendedColumns(MatrixBlock right) {
+		List<ColGroup> ret = new ArrayList<>(1);
+		int[] colIndexes = new int[right.getNumColumns()];
+		for(int i = 0; i < colIndexes.length; i++)
+			colIndexes[i] = i;
+
+		// constant columns such as intercepts are appended as a single constant group
+		double[] constValues = getConstantRow(right);
+		if(constValues != null) {
+			ret.add(new ColGroupConst(colIndexes, right.getNumRows(), new Dictionary(constValues)));
+			return ret;
+		}
+
+		MatrixBlock compressed = CompressedMatrixBlockFactory.compress(right).getLeft();
+		if(compressed instanceof CompressedMatrixBlock)
+			return ((CompressedMatrixBlock) compressed).getColGroups();
+		ret.add(new ColGroupUncompressed(colIndexes, right, false));
+		return ret;
+	}
+
+	private static double[] getConstantRow(MatrixBlock mb) {
+		if(mb.getNumRows() == 0)
+			return null;
+		final int nCol = mb.getNumColumns();
+		double[] row = new double[nCol];
+		for(int j = 0; j < nCol; j++)
+			row[j] = mb.quickGetValue(0, j);
+		for(int i = 1; i < mb.getNumRows(); i++)
+			for(int j = 0; j < nCol; j++)
+				if(mb.quickGetValue(i, j) != row[j])
+					return null;
+		return row;
+	}
+}
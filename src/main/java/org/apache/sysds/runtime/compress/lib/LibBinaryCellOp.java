@@ -70,6 +70,41 @@ public class LibBinaryCellOp {
 		return selectProcessingBasedOnAccessType(op, m1, that, thatValue, result);
 	}
 
+	public static MatrixBlock binaryOperationsInPlace(BinaryOperator op, CompressedMatrixBlock m1,
+		MatrixValue thatValue) {
+		MatrixBlock that = AbstractCompressedMatrixBlock.getUncompressed(thatValue);
+		LibMatrixBincell.isValidDimensionsBinary(m1, that);
+
+		if(isValidForInPlaceOperation(op, m1, that)) {
+			// compute the new column groups and swap them into the input block
+			CompressedMatrixBlock tmp = new CompressedMatrixBlock(m1.getNumRows(), m1.getNumColumns());
+			bincellOp(m1, that, tmp, op);
+			m1.allocateColGroupList(tmp.getColGroups());
+			m1.setOverlapping(tmp.isOverlapping());
+			m1.setNonZeros(tmp.getNonZeros());
+			return m1;
+		}
+		else {
+			LOG.warn("Decompressing since in-place Binary Ops " + op.fn + " is not supported compressed");
+			// (the uncompressed in-place operation does not support vectors)
+			MatrixBlock ret = m1.decompress().binaryOperations(op, that, new MatrixBlock());
+			m1.allocateUncompressedColGroup(ret);
+			return m1;
+		}
+	}
+
+	private static boolean isValidForInPlaceOperation(BinaryOperator op, CompressedMatrixBlock m1, MatrixBlock that) {
+		BinaryAccessType atype = LibMatrixBincell.getBinaryAccessType(m1, that);
+		if(!isSupportedBinaryCellOp(op.fn) || atype != BinaryAccessType.MATRIX_ROW_VECTOR)
+			return false;
+		if(m1.isOverlapping())
+			return isValidForOverlappingBinaryCellOperations(m1, op);
+		for(ColGroup g : m1.getColGroups())
+			if(g instanceof ColGroupUncompressed)
+				return false;
+		return true;
+	}
+
 	private static MatrixBlock selectProcessingBasedOnAccessType(BinaryOperator op, CompressedMatrixBlock m1,
 		MatrixBlock that, MatrixValue thatValue, MatrixValue result) {
 		BinaryAccessType atype = LibMatrixBincell.getBinaryAccessType(m1, that);
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.lib;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupValue;
+import org.apache.sysds.runtime.functionobjects.CTable;
+import org.apache.sysds.runtime.matrix.data.CTableMap;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Contingency tables (ctable/table) over compressed matrices. Since a compressed column group already groups the rows
+ * by distinct tuple, the table is computed per distinct tuple with the aggregated weight of all rows of this tuple,
+ * instead of per row over the decompressed input.
+ */
+public class LibCTable {
+
+	/** Maximum number of code pairs for computing the co-occurrences of two compressed columns */
+	private static final int MAX_CODE_PAIRS = 1 << 20;
+
+	/**
+	 * D = ctable(A, v2, w) with a compressed input A, computed from the counts of distinct tuples.
+	 * 
+	 * @param a           The compressed input matrix
+	 * @param v2          The scalar second input
+	 * @param w           The scalar weight
+	 * @param resultMap   The result map, if resultBlock is null
+	 * @param resultBlock The result block
+	 * @return True if the operation was executed, false if it is not supported over this compressed input
+	 */
+	public static boolean ctable(CompressedMatrixBlock a, double v2, double w, CTableMap resultMap,
+		MatrixBlock resultBlock) {
+		if(a.isOverlapping())
+			return false;
+		final CTable ctable = CTable.getCTableFnObject();
+		final int nRows = a.getNumRows();
+		for(ColGroup grp : a.getColGroups()) {
+			final int nCol = grp.getNumCols();
+			if(grp instanceof ColGroupValue) {
+				ColGroupValue vgrp = (ColGroupValue) grp;
+				final int numVals = vgrp.getNumValues();
+				final double[] values = vgrp.getValues();
+				final int[] counts = vgrp.getCounts();
+				long nnzRows = 0;
+				for(int k = 0; k < numVals; k++) {
+					if(counts[k] == 0)
+						continue;
+					nnzRows += counts[k];
+					for(int j = 0; j < nCol; j++)
+						ctable.execute(values[k * nCol + j], v2, w * counts[k], false, resultMap, resultBlock);
+				}
+				// rows not covered by the dictionary (zero rows)
+				if(nnzRows < nRows)
+					for(int j = 0; j < nCol; j++)
+						ctable.execute(0, v2, w * (nRows - nnzRows), false, resultMap, resultBlock);
+			}
+			else {
+				MatrixBlock data = ((ColGroupUncompressed) grp).getData();
+				for(int i = 0; i < nRows; i++)
+					for(int j = 0; j < nCol; j++)
+						ctable.execute(data.quickGetValue(i, j), v2, w, false, resultMap, resultBlock);
+			}
+		}
+		if(resultBlock != null)
+			resultBlock.recomputeNonZeros();
+		return true;
+	}
+
+	/**
+	 * D = ctable(A, v2, W) with a compressed column vector A, computed by aggregating the weights per distinct value.
+	 * 
+	 * @param a           The compressed input column vector
+	 * @param v2          The scalar second input
+	 * @param w           The weights column vector
+	 * @param resultMap   The result map, if resultBlock is null
+	 * @param resultBlock The result block
+	 * @return True if the operation was executed, false if it is not supported over this compressed input
+	 */
+	public static boolean ctable(CompressedMatrixBlock a, double v2, MatrixBlock w, CTableMap resultMap,
+		MatrixBlock resultBlock) {
+		ColGroupValue grp = getSingleColumnGroup(a);
+		if(grp == null || w.getNumColumns() != 1 || w.getNumRows() != a.getNumRows())
+			return false;
+		final CTable ctable = CTable.getCTableFnObject();
+		final int numVals = grp.getNumValues();
+		final int[] codes = grp.getCodes();
+
+		// aggregate the weights per code, NaN weights are skipped as in ctable
+		double[] wsum = new double[numVals + 1];
+		boolean[] seen = new boolean[numVals + 1];
+		for(int i = 0; i < codes.length; i++) {
+			double wi = w.quickGetValue(i, 0);
+			if(!Double.isNaN(wi)) {
+				wsum[codes[i]] += wi;
+				seen[codes[i]] = true;
+			}
+		}
+
+		final double[] values = grp.getValues();
+		for(int k = 0; k <= numVals; k++)
+			if(seen[k])
+				ctable.execute(getValue(values, k, numVals), v2, wsum[k], false, resultMap, resultBlock);
+		if(resultBlock != null)
+			resultBlock.recomputeNonZeros();
+		return true;
+	}
+
+	/**
+	 * D = ctable(A, B, w) with a compressed column vector A. If B is compressed as well, the table is computed from the
+	 * co-occurrence counts of the dictionary codes of both inputs.
+	 * 
+	 * @param a           The compressed input column vector
+	 * @param b           The second input column vector, compressed or uncompressed
+	 * @param w           The scalar weight
+	 * @param ignoreZeros Indicator to ignore pairs of zeros
+	 * @param resultMap   The result map, if resultBlock is null
+	 * @param resultBlock The result block
+	 * @return True if the operation was executed, false if it is not supported over this compressed input
+	 */
+	public static boolean ctable(CompressedMatrixBlock a, MatrixBlock b, double w, boolean ignoreZeros,
+		CTableMap resultMap, MatrixBlock resultBlock) {
+		ColGroupValue grpA = getSingleColumnGroup(a);
+		if(grpA == null || b.getNumColumns() != 1 || b.getNumRows() != a.getNumRows())
+			return false;
+		final CTable ctable = CTable.getCTableFnObject();
+		final int numValsA = grpA.getNumValues();
+		final double[] valuesA = grpA.getValues();
+		final int[] codesA = grpA.getCodes();
+
+		ColGroupValue grpB = (b instanceof CompressedMatrixBlock) ? getSingleColumnGroup(
+			(CompressedMatrixBlock) b) : null;
+		if(grpB != null && (long) (numValsA + 1) * (grpB.getNumValues() + 1) <= MAX_CODE_PAIRS) {
+			// co-occurrence counts of code pairs
+			final int numValsB = grpB.getNumValues();
+			final double[] valuesB = grpB.getValues();
+			final int[] codesB = grpB.getCodes();
+			final int nb = numValsB + 1;
+			int[] pairs = new int[(numValsA + 1) * nb];
+			for(int i = 0; i < codesA.length; i++)
+				pairs[codesA[i] * nb + codesB[i]]++;
+			for(int ka = 0; ka <= numValsA; ka++)
+				for(int kb = 0; kb <= numValsB; kb++) {
+					int cnt = pairs[ka * nb + kb];
+					if(cnt > 0)
+						ctable.execute(getValue(valuesA, ka, numValsA), getValue(valuesB, kb, numValsB), w * cnt,
+							ignoreZeros, resultMap, resultBlock);
+				}
+		}
+		else {
+			// row-wise lookup of the compressed input, avoiding its decompression
+			MatrixBlock ub = CompressedMatrixBlock.getUncompressed(b);
+			for(int i = 0; i < codesA.length; i++)
+				ctable.execute(getValue(valuesA, codesA[i], numValsA), ub.quickGetValue(i, 0), w, ignoreZeros,
+					resultMap, resultBlock);
+		}
+		if(resultBlock != null)
+			resultBlock.recomputeNonZeros();
+		return true;
+	}
+
+	/**
+	 * Get the single column group of a compressed column vector, if it is a value-based column group.
+	 * 
+	 * @param m The compressed matrix
+	 * @return The column group, or null if the matrix is not a column vector of a single value-based column group
+	 */
+	protected static ColGroupValue getSingleColumnGroup(CompressedMatrixBlock m) {
+		if(m.getNumColumns() != 1 || m.isOverlapping() || m.getColGroups().size() != 1)
+			return null;
+		ColGroup grp = m.getColGroups().get(0);
+		return (grp instanceof ColGroupValue) ? (ColGroupValue) grp : null;
+	}
+
+	private static double getValue(double[] values, int code, int numVals) {
+		return code < numVals ? values[code] : 0;
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.lib;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupValue;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.functionobjects.CM;
+import org.apache.sysds.runtime.instructions.cp.CM_COV_Object;
+import org.apache.sysds.runtime.instructions.cp.KahanObject;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixValue;
+import org.apache.sysds.runtime.matrix.operators.AggregateOperator;
+import org.apache.sysds.runtime.matrix.operators.CMOperator;
+import org.apache.sysds.runtime.matrix.operators.CMOperator.AggregateOperationTypes;
+import org.apache.sysds.runtime.matrix.operators.Operator;
+
+/**
+ * Grouped aggregates (aggregate(target, groups, fn)) with compressed groups. The groups are obtained from the
+ * dictionary codes of the compressed column instead of the decompressed values, and counts are computed from the
+ * number of rows per distinct value without any pass over the rows.
+ */
+public class LibGroupedAgg {
+
+	/**
+	 * Compute the grouped aggregate of the target with the given compressed group vector.
+	 * 
+	 * @param groups  The compressed groups column vector
+	 * @param target  The uncompressed target column vector or matrix
+	 * @param weights The uncompressed weights column vector, or null
+	 * @param ret     The result, or null to allocate a new result
+	 * @param ngroups The number of groups, or a value below one to determine it from the groups
+	 * @param op      The aggregation operator
+	 * @return The result, or null if the operation is not supported over the compressed groups
+	 */
+	public static MatrixBlock groupedAggregate(CompressedMatrixBlock groups, MatrixBlock target, MatrixBlock weights,
+		MatrixValue ret, int ngroups, Operator op) {
+		ColGroupValue grp = LibCTable.getSingleColumnGroup(groups);
+		final int nRows = groups.getNumRows();
+		if(grp == null || target.getNumRows() != nRows || (weights != null && (weights.getNumColumns() != 1 ||
+			weights.getNumRows() != nRows)) || !(op instanceof CMOperator || op instanceof AggregateOperator))
+			return null;
+		if(op instanceof CMOperator && target.getNumColumns() != 1)
+			return null;
+
+		// map the dictionary codes to groups, zero rows use the code numVals
+		final int numVals = grp.getNumValues();
+		final double[] values = grp.getValues();
+		final int[] counts = grp.getCounts();
+		long nnzRows = 0;
+		for(int k = 0; k < numVals; k++)
+			nnzRows += counts[k];
+		final boolean zeros = nnzRows < nRows;
+		int[] gmap = new int[numVals + 1];
+		for(int k = 0; k < numVals; k++)
+			gmap[k] = (int) values[k];
+
+		// determine the number of groups from the dictionary
+		if(ngroups <= 0) {
+			double min = zeros ? 0 : Double.POSITIVE_INFINITY;
+			double max = zeros ? 0 : Double.NEGATIVE_INFINITY;
+			for(int k = 0; k < numVals; k++) {
+				min = Math.min(min, values[k]);
+				max = Math.max(max, values[k]);
+			}
+			if(min <= 0)
+				throw new DMLRuntimeException(
+					"Invalid value (" + min + ") encountered in 'groups' while computing groupedAggregate");
+			ngroups = (int) max;
+		}
+
+		final int numCols = target.getNumColumns();
+		MatrixBlock result = (ret instanceof MatrixBlock && !(ret instanceof CompressedMatrixBlock)) ?
+			(MatrixBlock) ret : new MatrixBlock();
+		result.reset(ngroups, numCols, false);
+
+		if(op instanceof CMOperator) {
+			CMOperator cmOp = (CMOperator) op;
+			if(cmOp.getAggOpType() == AggregateOperationTypes.COUNT && weights == null)
+				groupedCount(grp, counts, nRows - nnzRows, gmap, numVals, result, ngroups);
+			else
+				groupedCM(grp.getCodes(), gmap, target, weights, result, ngroups, cmOp);
+		}
+		else
+			groupedKahanPlus(grp.getCodes(), gmap, target, weights, result, ngroups, (AggregateOperator) op);
+
+		result.examSparsity();
+		return result;
+	}
+
+	private static void groupedCount(ColGroupValue grp, int[] counts, long zeroRows, int[] gmap, int numVals,
+		MatrixBlock result, int ngroups) {
+		long[] tmp = new long[ngroups];
+		for(int k = 0; k <= numVals; k++) {
+			long cnt = (k < numVals) ? counts[k] : zeroRows;
+			if(cnt == 0 || gmap[k] > ngroups)
+				continue;
+			tmp[checkGroup(gmap[k]) - 1] += cnt;
+		}
+		for(int i = 0; i < ngroups; i++)
+			result.appendValue(i, 0, tmp[i]);
+	}
+
+	private static void groupedKahanPlus(int[] codes, int[] gmap, MatrixBlock target, MatrixBlock weights,
+		MatrixBlock result, int ngroups, AggregateOperator aggop) {
+		if(target.isEmptyBlock(false))
+			return;
+		final int numCols = target.getNumColumns();
+		KahanObject[][] buffer = new KahanObject[ngroups][numCols];
+		for(int i = 0; i < ngroups; i++)
+			for(int j = 0; j < numCols; j++)
+				buffer[i][j] = new KahanObject(aggop.initialValue, 0);
+
+		double w = 1;
+		if(target.isInSparseFormat()) {
+			SparseBlock a = target.getSparseBlock();
+			for(int i = 0; i < codes.length; i++) {
+				int g = gmap[codes[i]];
+				if(g > ngroups || a.isEmpty(i))
+					continue;
+				checkGroup(g);
+				int pos = a.pos(i);
+				int len = a.size(i);
+				int[] aix = a.indexes(i);
+				double[] avals = a.values(i);
+				if(weights != null)
+					w = weights.quickGetValue(i, 0);
+				for(int j = pos; j < pos + len; j++)
+					aggop.increOp.fn.execute(buffer[g - 1][aix[j]], avals[j] * w);
+			}
+		}
+		else {
+			DenseBlock a = target.getDenseBlock();
+			for(int i = 0; i < codes.length; i++) {
+				int g = gmap[codes[i]];
+				if(g > ngroups)
+					continue;
+				double[] avals = a.values(i);
+				int aix = a.pos(i);
+				for(int j = 0; j < numCols; j++) {
+					double d = avals[aix + j];
+					if(d != 0) { // sparse-safe
+						checkGroup(g);
+						if(weights != null)
+							w = weights.quickGetValue(i, 0);
+						aggop.increOp.fn.execute(buffer[g - 1][j], d * w);
+					}
+				}
+			}
+		}
+
+		for(int i = 0; i < ngroups; i++)
+			for(int j = 0; j < numCols; j++)
+				result.appendValue(i, j, buffer[i][j]._sum);
+	}
+
+	private static void groupedCM(int[] codes, int[] gmap, MatrixBlock target, MatrixBlock weights,
+		MatrixBlock result, int ngroups, CMOperator cmOp) {
+		CM cmFn = CM.getCMFnObject(cmOp.getAggOpType());
+		CM_COV_Object[] cmValues = new CM_COV_Object[ngroups];
+		for(int i = 0; i < ngroups; i++)
+			cmValues[i] = new CM_COV_Object();
+
+		double w = 1;
+		for(int i = 0; i < codes.length; i++) {
+			int g = gmap[codes[i]];
+			if(g > ngroups)
+				continue;
+			checkGroup(g);
+			if(weights != null)
+				w = weights.quickGetValue(i, 0);
+			cmFn.execute(cmValues[g - 1], target.quickGetValue(i, 0), w);
+		}
+
+		for(int i = 0; i < ngroups; i++)
+			result.appendValue(i, 0, cmValues[i].getRequiredResult(cmOp));
+	}
+
+	private static int checkGroup(int g) {
+		if(g <= 0)
+			throw new DMLRuntimeException(
+				"Invalid value (" + g + ") encountered in 'groups' while computing groupedAggregate");
+		return g;
+	}
+}
@@ -21,7 +21,9 @@ package org.apache.sysds.runtime.compress.lib;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -32,6 +34,7 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.ADictionary;
 import org.apache.sysds.runtime.compress.colgroup.ColGroup;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupConst;
 import org.apache.sysds.runtime.compress.colgroup.ColGroupOLE;
@@ -82,15 +85,16 @@ public class LibScalar {
 		else {
 			int threadsAvailable = (sop.getNumThreads() > 1) ? sop.getNumThreads() : OptimizerUtils
 				.getConstrainedNumThreads(-1);
+			Map<ADictionary, ADictionary> shared = sharedDictionaryOperations(sop, colGroups);
 			if(threadsAvailable > 1) {
-				parallelScalarOperations(sop, colGroups, ret, threadsAvailable);
+				parallelScalarOperations(sop, colGroups, shared, ret, threadsAvailable);
 			}
 			else {
 				// Apply the operation to each of the column groups.
 				// Most implementations will only modify metadata.
 				List<ColGroup> newColGroups = new ArrayList<>();
 				for(ColGroup grp : colGroups) {
-					newColGroups.add(grp.scalarOperation(sop));
+					newColGroups.add(scalarOperation(grp, sop, shared));
 				}
 				ret.allocateColGroupList(newColGroups);
 			}
@@ -103,6 +107,38 @@ public class LibScalar {
 
 	}
 
+	/**
+	 * Apply the scalar operation once to each dictionary that is shared by multiple column groups, such that the
+	 * column groups of the result again share a single dictionary.
+	 * 
+	 * @param sop       The scalar operation
+	 * @param colGroups The input column groups
+	 * @return Map from shared input dictionaries to the shared output dictionaries
+	 */
+	private static Map<ADictionary, ADictionary> sharedDictionaryOperations(ScalarOperator sop,
+		List<ColGroup> colGroups) {
+		Map<ADictionary, Integer> refs = new IdentityHashMap<>();
+		for(ColGroup grp : colGroups)
+			if(grp instanceof ColGroupValue && ((ColGroupValue) grp).isDictionaryOnlyScalarOp(sop))
+				refs.merge(((ColGroupValue) grp).getDictionary(), 1, Integer::sum);
+
+		Map<ADictionary, ADictionary> ret = new IdentityHashMap<>();
+		for(Map.Entry<ADictionary, Integer> e : refs.entrySet())
+			if(e.getValue() > 1)
+				ret.put(e.getKey(), e.getKey().clone().apply(sop));
+		return ret;
+	}
+
+	private static ColGroup scalarOperation(ColGroup grp, ScalarOperator sop, Map<ADictionary, ADictionary> shared) {
+		if(!shared.isEmpty() && grp instanceof ColGroupValue) {
+			ColGroupValue vgrp = (ColGroupValue) grp;
+			ADictionary dict = shared.get(vgrp.getDictionary());
+			if(dict != null && vgrp.isDictionaryOnlyScalarOp(sop))
+				return vgrp.copyAndSet(dict);
+		}
+		return grp.scalarOperation(sop);
+	}
+
 	private static CompressedMatrixBlock setupRet(CompressedMatrixBlock m1, MatrixValue result){
 		CompressedMatrixBlock ret;
 		if(result == null || !(result instanceof CompressedMatrixBlock))
@@ -150,11 +186,11 @@ public class LibScalar {
 	}
 
 	private static void parallelScalarOperations(ScalarOperator sop, List<ColGroup> colGroups,
-		CompressedMatrixBlock ret, int k) {
+		Map<ADictionary, ADictionary> shared, CompressedMatrixBlock ret, int k) {
 		if(colGroups == null)
 			return;
 		ExecutorService pool = CommonThreadPool.get(k);
-		List<ScalarTask> tasks = partition(sop, colGroups);
+		List<ScalarTask> tasks = partition(sop, colGroups, shared);
 		try {
 			List<Future<List<ColGroup>>> rtasks = pool.invokeAll(tasks);
 			pool.shutdown();
@@ -169,14 +205,15 @@ public class LibScalar {
 		}
 	}
 
-	private static List<ScalarTask> partition(ScalarOperator sop, List<ColGroup> colGroups) {
+	private static List<ScalarTask> partition(ScalarOperator sop, List<ColGroup> colGroups,
+		Map<ADictionary, ADictionary> shared) {
 		ArrayList<ScalarTask> tasks = new ArrayList<>();
 		ArrayList<ColGroup> small = new ArrayList<>();
 		for(ColGroup grp : colGroups) {
 			if(grp instanceof ColGroupUncompressed) {
 				ArrayList<ColGroup> uc = new ArrayList<>();
 				uc.add(grp);
-				tasks.add(new ScalarTask(uc, sop));
+				tasks.add(new ScalarTask(uc, sop, shared));
 			}
 			else {
 				int nv = ((ColGroupValue) grp).getNumValues() * grp.getColIndices().length;
@@ -186,16 +223,16 @@ public class LibScalar {
 				else {
 					ArrayList<ColGroup> large = new ArrayList<>();
 					large.add(grp);
-					tasks.add(new ScalarTask(large, sop));
+					tasks.add(new ScalarTask(large, sop, shared));
 				}
 			}
 			if(small.size() > 10) {
-				tasks.add(new ScalarTask(small, sop));
+				tasks.add(new ScalarTask(small, sop, shared));
 				small = new ArrayList<>();
 			}
 		}
 		if(small.size() > 0) {
-			tasks.add(new ScalarTask(small, sop));
+			tasks.add(new ScalarTask(small, sop, shared));
 		}
 		return tasks;
 	}
@@ -203,17 +240,19 @@ public class LibScalar {
 	private static class ScalarTask implements Callable<List<ColGroup>> {
 		private final List<ColGroup> _colGroups;
 		private final ScalarOperator _sop;
+		private final Map<ADictionary, ADictionary> _shared;
 
-		protected ScalarTask(List<ColGroup> colGroups, ScalarOperator sop) {
+		protected ScalarTask(List<ColGroup> colGroups, ScalarOperator sop, Map<ADictionary, ADictionary> shared) {
 			_colGroups = colGroups;
 			_sop = sop;
+			_shared = shared;
 		}
 
 		@Override
 		public List<ColGroup> call() {
 			List<ColGroup> res = new ArrayList<>();
 			for(ColGroup x : _colGroups) {
-				res.add(x.scalarOperation(_sop));
+				res.add(scalarOperation(x, _sop, _shared));
 			}
 			return res;
 		}
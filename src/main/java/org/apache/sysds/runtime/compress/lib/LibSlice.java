@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.lib;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Right indexing on compressed matrix blocks. Column slices are executed on the column groups directly and return a
+ * compressed block, while row slices only decompress the requested rows via the row range decompression of the
+ * column groups. Note that OLE and RLE groups do not maintain skip lists, and hence scan their segment lengths or
+ * runs up to the first requested row.
+ */
+public class LibSlice {
+
+	/**
+	 * Slice the given row and column range out of the compressed matrix block.
+	 * 
+	 * @param cmb  The compressed matrix block to slice
+	 * @param rl   The row lower index (inclusive)
+	 * @param ru   The row upper index (inclusive)
+	 * @param cl   The column lower index (inclusive)
+	 * @param cu   The column upper index (inclusive)
+	 * @param deep If the entire matrix is requested, return a copy of the column group list
+	 * @return A compressed block for full row ranges, otherwise an uncompressed block of the selected rows
+	 */
+	public static MatrixBlock slice(CompressedMatrixBlock cmb, int rl, int ru, int cl, int cu, boolean deep) {
+		final int rlen = cmb.getNumRows();
+		final int clen = cmb.getNumColumns();
+		checkRange(rlen, clen, rl, ru, cl, cu);
+
+		final boolean allRows = rl == 0 && ru == rlen - 1;
+		final boolean allCols = cl == 0 && cu == clen - 1;
+		if(allRows && allCols && !deep)
+			return cmb;
+
+		List<ColGroup> colGroups = allCols ? cmb.getColGroups() : sliceColumns(cmb.getColGroups(), cl, cu + 1);
+		if(allRows) {
+			CompressedMatrixBlock ret = new CompressedMatrixBlock(rlen, cu - cl + 1);
+			ret.allocateColGroupList(new ArrayList<>(colGroups));
+			ret.setOverlapping(cmb.isOverlapping());
+			ret.setNonZeros(allCols ? cmb.getNonZeros() : -1);
+			return ret;
+		}
+		return sliceRows(colGroups, rl, ru + 1, cu - cl + 1, null);
+	}
+
+	/**
+	 * Slice the given row and column range out of the compressed matrix block into the given output block. If an
+	 * uncompressed output block is given, the selected rows of the sliced column groups are decompressed into it,
+	 * which preserves the semantics of {@link MatrixBlock#slice(int, int, int, int, boolean,
+	 * org.apache.sysds.runtime.controlprogram.caching.CacheBlock)} for callers that rely on the output argument.
+	 * 
+	 * @param cmb  The compressed matrix block to slice
+	 * @param rl   The row lower index (inclusive)
+	 * @param ru   The row upper index (inclusive)
+	 * @param cl   The column lower index (inclusive)
+	 * @param cu   The column upper index (inclusive)
+	 * @param deep If the entire matrix is requested, return a copy
+	 * @param ret  The output block, or null to return a (potentially compressed) new block
+	 * @return The output block if given, otherwise the result of {@link #slice}
+	 */
+	public static MatrixBlock slice(CompressedMatrixBlock cmb, int rl, int ru, int cl, int cu, boolean deep,
+		MatrixBlock ret) {
+		if(ret == null || ret instanceof CompressedMatrixBlock)
+			return slice(cmb, rl, ru, cl, cu, deep);
+
+		final int rlen = cmb.getNumRows();
+		final int clen = cmb.getNumColumns();
+		checkRange(rlen, clen, rl, ru, cl, cu);
+		final boolean allCols = cl == 0 && cu == clen - 1;
+		if(rl == 0 && ru == rlen - 1 && allCols && !deep)
+			return cmb;
+
+		List<ColGroup> colGroups = allCols ? cmb.getColGroups() : sliceColumns(cmb.getColGroups(), cl, cu + 1);
+		return sliceRows(colGroups, rl, ru + 1, cu - cl + 1, ret);
+	}
+
+	/**
+	 * Slice the given row and column range out of the compressed matrix block, while keeping all column groups
+	 * compressed. In contrast to {@link #slice}, row ranges are re-encoded per column group on top of the shared
+	 * dictionaries, which allows the block-wise partitioning of compressed matrices (e.g., for broadcasts).
+	 * 
+	 * @param cmb The compressed matrix block to slice
+	 * @param rl  The row lower index (inclusive)
+	 * @param ru  The row upper index (inclusive)
+	 * @param cl  The column lower index (inclusive)
+	 * @param cu  The column upper index (inclusive)
+	 * @return A compressed block of the selected range
+	 */
+	public static CompressedMatrixBlock sliceCompressed(CompressedMatrixBlock cmb, int rl, int ru, int cl, int cu) {
+		final int rlen = cmb.getNumRows();
+		final int clen = cmb.getNumColumns();
+		checkRange(rlen, clen, rl, ru, cl, cu);
+
+		final boolean allRows = rl == 0 && ru == rlen - 1;
+		final boolean allCols = cl == 0 && cu == clen - 1;
+		List<ColGroup> colGroups = allCols ? cmb.getColGroups() : sliceColumns(cmb.getColGroups(), cl, cu + 1);
+		List<ColGroup> retGroups = new ArrayList<>(colGroups.size());
+		for(ColGroup grp : colGroups)
+			retGroups.add(allRows ? grp : grp.sliceRows(rl, ru + 1));
+
+		CompressedMatrixBlock ret = new CompressedMatrixBlock(ru - rl + 1, cu - cl + 1);
+		ret.allocateColGroupList(retGroups);
+		ret.setOverlapping(cmb.isOverlapping());
+		ret.setNonZeros(allRows && allCols ? cmb.getNonZeros() : countNonZeros(ret));
+		return ret;
+	}
+
+	private static long countNonZeros(CompressedMatrixBlock cmb) {
+		// overlapping groups might cancel out, requiring a decompression
+		if(cmb.isOverlapping())
+			return cmb.decompress().getNonZeros();
+		final int nrow = cmb.getNumRows();
+		int[] rnnz = new int[nrow];
+		for(ColGroup grp : cmb.getColGroups())
+			grp.countNonZerosPerRow(rnnz, 0, nrow);
+		long nnz = 0;
+		for(int i = 0; i < nrow; i++)
+			nnz += rnnz[i];
+		return nnz;
+	}
+
+	private static void checkRange(int rlen, int clen, int rl, int ru, int cl, int cu) {
+		if(rl < 0 || rl >= rlen || ru < rl || ru >= rlen || cl < 0 || cl >= clen || cu < cl || cu >= clen) {
+			throw new DMLRuntimeException("Invalid values for matrix indexing: [" + (rl + 1) + ":" + (ru + 1) + ","
+				+ (cl + 1) + ":" + (cu + 1) + "] " + "must be within matrix dimensions [" + rlen + "," + clen + "]");
+		}
+	}
+
+	private static List<ColGroup> sliceColumns(List<ColGroup> colGroups, int cl, int cu) {
+		List<ColGroup> ret = new ArrayList<>();
+		for(ColGroup grp : colGroups) {
+			ColGroup slice = grp.sliceColumns(cl, cu);
+			if(slice != null)
+				ret.add(slice);
+		}
+		return ret;
+	}
+
+	private static MatrixBlock sliceRows(List<ColGroup> colGroups, int rl, int ru, int ncol, MatrixBlock ret) {
+		if(ret == null)
+			ret = new MatrixBlock(ru - rl, ncol, false, -1);
+		else
+			ret.reset(ru - rl, ncol, false);
+		ret.allocateDenseBlock();
+		// decompress only the selected rows into the beginning of the output
+		for(ColGroup grp : colGroups)
+			grp.decompressToBlockSafe(ret, rl, ru, 0, grp.getValues(), false);
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		return ret;
+	}
+}
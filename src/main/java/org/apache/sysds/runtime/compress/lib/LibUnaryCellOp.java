@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.lib;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup;
+import org.apache.sysds.runtime.matrix.data.LibMatrixAgg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixValue;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Cell-wise unary operations (e.g., exp, log, abs, round, sqrt, sigmoid) on compressed matrix blocks. The operations
+ * are applied to the dictionaries of the column groups only, such that the output remains compressed.
+ */
+public class LibUnaryCellOp {
+
+	private static final Log LOG = LogFactory.getLog(LibUnaryCellOp.class.getName());
+
+	public static MatrixBlock unaryOperations(UnaryOperator op, CompressedMatrixBlock m1, MatrixValue result) {
+		// cumulative aggregates depend on the row order and overlapping groups
+		// are summed up before the operation, hence both require decompression
+		if(LibMatrixAgg.isSupportedUnaryOperator(op) || m1.isOverlapping()) {
+			LOG.warn("Decompressing since unary op " + op.fn + " is not supported compressed");
+			MatrixBlock m1d = m1.decompress(op.getNumThreads());
+			return m1d.unaryOperations(op, result);
+		}
+
+		CompressedMatrixBlock ret = setupRet(m1, result);
+		List<ColGroup> colGroups = m1.getColGroups();
+		int k = op.getNumThreads();
+		if(k > 1 && colGroups.size() > 1)
+			parallelUnaryOperations(op, colGroups, ret, k);
+		else {
+			List<ColGroup> newColGroups = new ArrayList<>(colGroups.size());
+			for(ColGroup grp : colGroups)
+				newColGroups.add(grp.unaryOperation(op));
+			ret.allocateColGroupList(newColGroups);
+		}
+		ret.setOverlapping(false);
+		ret.setNonZeros(-1);
+		return ret;
+	}
+
+	private static CompressedMatrixBlock setupRet(CompressedMatrixBlock m1, MatrixValue result) {
+		CompressedMatrixBlock ret;
+		if(result == null || !(result instanceof CompressedMatrixBlock))
+			ret = new CompressedMatrixBlock(m1.getNumRows(), m1.getNumColumns());
+		else {
+			ret = (CompressedMatrixBlock) result;
+			ret.setNumColumns(m1.getNumColumns());
+			ret.setNumRows(m1.getNumRows());
+		}
+		return ret;
+	}
+
+	private static void parallelUnaryOperations(UnaryOperator op, List<ColGroup> colGroups,
+		CompressedMatrixBlock ret, int k) {
+		ExecutorService pool = CommonThreadPool.get(k);
+		ArrayList<UnaryTask> tasks = new ArrayList<>(colGroups.size());
+		for(ColGroup grp : colGroups)
+			tasks.add(new UnaryTask(grp, op));
+		try {
+			List<ColGroup> newColGroups = new ArrayList<>(colGroups.size());
+			for(Future<ColGroup> f : pool.invokeAll(tasks))
+				newColGroups.add(f.get());
+			pool.shutdown();
+			ret.allocateColGroupList(newColGroups);
+		}
+		catch(InterruptedException | ExecutionException e) {
+			throw new DMLRuntimeException(e);
+		}
+	}
+
+	private static class UnaryTask implements Callable<ColGroup> {
+		private final ColGroup _group;
+		private final UnaryOperator _op;
+
+		protected UnaryTask(ColGroup group, UnaryOperator op) {
+			_group = group;
+			_op = op;
+		}
+
+		@Override
+		public ColGroup call() {
+			return _group.unaryOperation(_op);
+		}
+	}
+}
@@ -35,9 +35,20 @@ public abstract class ReaderColumnSelection {
 	private DblArray nonZeroReturn;
 
 	protected ReaderColumnSelection(int[] colIndexes, int numRows) {
+		this(colIndexes, 0, numRows);
+	}
+
+	/**
+	 * Constructor of a reader that only iterates the rows in the range [rl, ru).
+	 * 
+	 * @param colIndexes The column indexes to read
+	 * @param rl         The row to start at (inclusive)
+	 * @param ru         The row to end at (exclusive)
+	 */
+	protected ReaderColumnSelection(int[] colIndexes, int rl, int ru) {
 		_colIndexes = colIndexes;
-		_numRows = numRows;
-		_lastRow = -1;
+		_numRows = ru;
+		_lastRow = rl - 1;
 	}
 
 	/**
@@ -58,17 +69,33 @@ public abstract class ReaderColumnSelection {
 	}
 
 	public static ReaderColumnSelection createReader(MatrixBlock rawBlock, int[] colIndices, boolean transposed) {
+		int rlen = transposed ? rawBlock.getNumColumns() : rawBlock.getNumRows();
+		return createReader(rawBlock, colIndices, transposed, 0, rlen);
+	}
+
+	/**
+	 * Create a reader that only iterates the rows in the range [rl, ru) of the (logical, not transposed) input. This
+	 * allows multiple readers to scan disjoint row partitions of the same block in parallel.
+	 * 
+	 * @param rawBlock   The block to read from
+	 * @param colIndices The column indexes to read
+	 * @param transposed If the rawBlock is transposed
+	 * @param rl         The row to start at (inclusive)
+	 * @param ru         The row to end at (exclusive)
+	 * @return A reader of the selected columns and rows
+	 */
+	public static ReaderColumnSelection createReader(MatrixBlock rawBlock, int[] colIndices, boolean transposed,
+		int rl, int ru) {
 		int[] in = colIndices.clone();
 		if(rawBlock.isInSparseFormat() && transposed)
-			return new ReaderColumnSelectionSparseTransposed(rawBlock, in);
+			return new ReaderColumnSelectionSparseTransposed(rawBlock, in, rl, ru);
 		else if(rawBlock.isInSparseFormat())
-			return new ReaderColumnSelectionSparse(rawBlock, in);
+			return new ReaderColumnSelectionSparse(rawBlock, in, rl, ru);
 		else if(rawBlock.getDenseBlock().numBlocks() > 1)
-			return transposed ? new ReaderColumnSelectionDenseMultiBlockTransposed(rawBlock,
-				in) : new ReaderColumnSelectionDenseMultiBlock(rawBlock, in);
+			return transposed ? new ReaderColumnSelectionDenseMultiBlockTransposed(rawBlock, in, rl,
+				ru) : new ReaderColumnSelectionDenseMultiBlock(rawBlock, in, rl, ru);
 		else
-			return transposed ? new ReaderColumnSelectionDenseSingleBlockTransposed(rawBlock,
-				in) : new ReaderColumnSelectionDenseSingleBlock(rawBlock, in);
-
+			return transposed ? new ReaderColumnSelectionDenseSingleBlockTransposed(rawBlock, in, rl,
+				ru) : new ReaderColumnSelectionDenseSingleBlock(rawBlock, in, rl, ru);
 	}
 }
@@ -29,7 +29,11 @@ public class ReaderColumnSelectionDenseMultiBlock extends ReaderColumnSelection
 	private double[] reusableArr;
 
 	public ReaderColumnSelectionDenseMultiBlock(MatrixBlock data, int[] colIndices) {
-		super(colIndices, data.getNumRows());
+		this(data, colIndices, 0, data.getNumRows());
+	}
+
+	public ReaderColumnSelectionDenseMultiBlock(MatrixBlock data, int[] colIndices, int rl, int ru) {
+		super(colIndices, rl, ru);
 		_data = data.getDenseBlock();
 		reusableArr = new double[colIndices.length];
 		reusableReturn = new DblArray(reusableArr);
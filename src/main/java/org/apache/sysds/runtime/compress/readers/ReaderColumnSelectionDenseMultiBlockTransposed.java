@@ -30,7 +30,11 @@ public class ReaderColumnSelectionDenseMultiBlockTransposed extends ReaderColumn
 	private double[] reusableArr;
 
 	public ReaderColumnSelectionDenseMultiBlockTransposed(MatrixBlock data, int[] colIndices) {
-		super(colIndices.clone(), data.getNumColumns() );
+		this(data, colIndices, 0, data.getNumColumns());
+	}
+
+	public ReaderColumnSelectionDenseMultiBlockTransposed(MatrixBlock data, int[] colIndices, int rl, int ru) {
+		super(colIndices.clone(), rl, ru);
 		_data = data.getDenseBlock();
 
 		reusableArr = new double[colIndices.length];
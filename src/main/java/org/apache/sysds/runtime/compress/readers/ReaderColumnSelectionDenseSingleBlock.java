@@ -32,9 +32,13 @@ public class ReaderColumnSelectionDenseSingleBlock extends ReaderColumnSelection
 	private double[] reusableArr;
 
 	public ReaderColumnSelectionDenseSingleBlock(MatrixBlock data, int[] colIndices) {
-		super(colIndices, data.getNumRows());
+		this(data, colIndices, 0, data.getNumRows());
+	}
+
+	public ReaderColumnSelectionDenseSingleBlock(MatrixBlock data, int[] colIndices, int rl, int ru) {
+		super(colIndices, rl, ru);
 		_data = data.getDenseBlockValues();
-		indexOff = 0;
+		indexOff = rl * data.getNumColumns();
 		if(data.getDenseBlock().numBlocks() > 1)
 			throw new DMLCompressionException("Not handling multi block data reading in dense reader");
 
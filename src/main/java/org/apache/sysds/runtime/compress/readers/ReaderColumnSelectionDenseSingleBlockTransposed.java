@@ -30,14 +30,18 @@ public class ReaderColumnSelectionDenseSingleBlockTransposed extends ReaderColum
 	private double[] reusableArr;
 
 	public ReaderColumnSelectionDenseSingleBlockTransposed(MatrixBlock data, int[] colIndices) {
-		super(colIndices.clone(), data.getNumColumns() );
+		this(data, colIndices, 0, data.getNumColumns());
+	}
+
+	public ReaderColumnSelectionDenseSingleBlockTransposed(MatrixBlock data, int[] colIndices, int rl, int ru) {
+		super(colIndices.clone(), rl, ru);
 		_data = data.getDenseBlockValues();
 		if(data.getDenseBlock().numBlocks() > 1)
 			throw new DMLCompressionException("Not handling multi block data reading in dense transposed reader");
-		
-		for(int i = 0; i < colIndices.length; i++){
-			colIndices[i] = colIndices[i] * data.getNumRows();
-		}
+
+		// offsets of the first row to read in the transposed layout, incremented per row
+		for(int i = 0; i < _colIndexes.length; i++)
+			_colIndexes[i] = _colIndexes[i] * data.getNumColumns() + rl;
 		reusableArr = new double[colIndices.length];
 		reusableReturn = new DblArray(reusableArr);
 	}
@@ -49,7 +49,19 @@ public class ReaderColumnSelectionSparse extends ReaderColumnSelection {
 	 * @param colIndexes   The column indexes to combine
 	 */
 	public ReaderColumnSelectionSparse(MatrixBlock data, int[] colIndexes) {
-		super(colIndexes, data.getNumRows());
+		this(data, colIndexes, 0, data.getNumRows());
+	}
+
+	/**
+	 * Reader of a row range of sparse matrix blocks for compression.
+	 * 
+	 * @param data       The sparse matrix
+	 * @param colIndexes The column indexes to combine
+	 * @param rl         The row to start at (inclusive)
+	 * @param ru         The row to end at (exclusive)
+	 */
+	public ReaderColumnSelectionSparse(MatrixBlock data, int[] colIndexes, int rl, int ru) {
+		super(colIndexes, rl, ru);
 		reusableArr = new double[colIndexes.length];
 		reusableReturn = new DblArray(reusableArr);
 		a = data.getSparseBlock();
@@ -19,6 +19,8 @@
 
 package org.apache.sysds.runtime.compress.readers;
 
+import java.util.Arrays;
+
 import org.apache.sysds.runtime.compress.utils.DblArray;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -51,7 +53,19 @@ public class ReaderColumnSelectionSparseTransposed extends ReaderColumnSelection
 	 * @param colIndexes The column indexes to combine
 	 */
 	public ReaderColumnSelectionSparseTransposed(MatrixBlock data, int[] colIndexes) {
-		super(colIndexes, data.getNumColumns());
+		this(data, colIndexes, 0, data.getNumColumns());
+	}
+
+	/**
+	 * Reader of a row range of transposed sparse matrix blocks for compression.
+	 * 
+	 * @param data       The transposed and sparse matrix
+	 * @param colIndexes The column indexes to combine
+	 * @param rl         The row to start at (inclusive)
+	 * @param ru         The row to end at (exclusive)
+	 */
+	public ReaderColumnSelectionSparseTransposed(MatrixBlock data, int[] colIndexes, int rl, int ru) {
+		super(colIndexes, rl, ru);
 		reusableArr = new double[colIndexes.length];
 		reusableReturn = new DblArray(reusableArr);
 
@@ -65,7 +79,13 @@ public class ReaderColumnSelectionSparseTransposed extends ReaderColumnSelection
 					// Use -1 to indicate that this column is done.
 					sparsePos[i] = -1;
 				else {
-					sparsePos[i] = a.pos(_colIndexes[i]);
+					// skip to the first non zero in the row range
+					final int apos = a.pos(_colIndexes[i]);
+					final int alen = a.size(_colIndexes[i]) + apos;
+					final int[] aix = a.indexes(_colIndexes[i]);
+					int pos = (rl == 0) ? apos : Arrays.binarySearch(aix, apos, alen, rl);
+					pos = pos < 0 ? -pos - 1 : pos;
+					sparsePos[i] = pos < alen ? pos : -1;
 				}
 
 			}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.compress.workload;
+
+import java.util.Arrays;
+
+import org.apache.sysds.runtime.DMLCompressionException;
+
+/**
+ * Summary of the operations that consume a compressed matrix, e.g., extracted from the HOP DAG of a program. Each
+ * operation type is weighted by its estimated number of executions (i.e., scaled by the iterations of surrounding
+ * loops), such that the compression planning can minimize the estimated execution cost instead of only the
+ * compressed size.
+ */
+public class Workload {
+
+	/** Classes of operations with different access patterns over the compressed column groups. */
+	public enum OpType {
+		/** Left matrix multiplication v %*% X or t(X) %*% v, aggregating per distinct tuple */
+		LEFT_MM,
+		/** Right matrix multiplication X %*% v, pre-aggregating the dictionary and scattering per row */
+		RIGHT_MM,
+		/** Transpose self matrix multiplication t(X) %*% X */
+		TSMM,
+		/** Full or row/column aggregates such as sum, colSums, rowSums, min and max */
+		AGGREGATE,
+		/** Operations only modifying the dictionaries, e.g., matrix-scalar and matrix-row-vector operations */
+		DICTIONARY,
+		/** Row or column slicing */
+		INDEXING,
+		/** Operations not supported over compressed matrices, which decompress the input */
+		DECOMPRESS,
+	}
+
+	private static final String DELIM = ",";
+
+	private final double[] _weights = new double[OpType.values().length];
+
+	/**
+	 * Record an operation of the given type.
+	 * 
+	 * @param type   The operation type
+	 * @param weight The estimated number of executions of the operation
+	 */
+	public void add(OpType type, double weight) {
+		_weights[type.ordinal()] += weight;
+	}
+
+	/**
+	 * Merge the operations of another workload into this workload.
+	 * 
+	 * @param that The other workload
+	 */
+	public void add(Workload that) {
+		for(int i = 0; i < _weights.length; i++)
+			_weights[i] += that._weights[i];
+	}
+
+	/**
+	 * Get the accumulated weight of the given operation type.
+	 * 
+	 * @param type The operation type
+	 * @return The estimated number of executions of operations of this type
+	 */
+	public double getWeight(OpType type) {
+		return _weights[type.ordinal()];
+	}
+
+	/**
+	 * Indicates if no operations have been recorded, in which case the compression falls back to size-based planning.
+	 * 
+	 * @return True if the workload is empty
+	 */
+	public boolean isEmpty() {
+		for(double w : _weights)
+			if(w > 0)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Serialize the workload into a string that can be passed as instruction operand, see {@link #parse(String)}.
+	 * 
+	 * @return The encoded workload
+	 */
+	public String encode() {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < _weights.length; i++) {
+			if(i > 0)
+				sb.append(DELIM);
+			sb.append(_weights[i]);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Parse a workload that was serialized with {@link #encode()}.
+	 * 
+	 * @param str The encoded workload
+	 * @return The decoded workload
+	 */
+	public static Workload parse(String str) {
+		String[] parts = str.split(DELIM);
+		if(parts.length != OpType.values().length)
+			throw new DMLCompressionException("Invalid encoded compression workload: " + str);
+		Workload ret = new Workload();
+		for(int i = 0; i < parts.length; i++)
+			ret._weights[i] = Double.parseDouble(parts[i]);
+		return ret;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(getClass().getSimpleName());
+		sb.append(Arrays.toString(OpType.values()));
+		sb.append(Arrays.toString(_weights));
+		return sb.toString();
+	}
+}
@@ -32,6 +32,7 @@ import org.apache.sysds.parser.ParseInfo;
 import org.apache.sysds.parser.StatementBlock;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.DMLScriptException;
+import org.apache.sysds.runtime.controlprogram.caching.CachePrefetcher;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
@@ -202,6 +203,9 @@ public abstract class ProgramBlock implements ParseInfo
 		for (int i = 0; i < inst.size(); i++) {
 			//indexed access required due to dynamic add
 			Instruction currInst = inst.get(i);
+			//prefetch evicted inputs of upcoming instructions
+			if( CachePrefetcher.isEnabled() )
+				CachePrefetcher.prefetch(inst, i, ec);
 			//execute instruction
 			executeSingleInstruction(currInst, ec);
 		}
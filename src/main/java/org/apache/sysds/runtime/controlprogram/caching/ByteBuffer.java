@@ -41,6 +41,11 @@ public class ByteBuffer
 	private volatile boolean _matrix;
 	private final long _size;
 	
+	//number of concurrent readers, and pending release of the
+	//buffer (both guarded by the lock of the write buffer queue)
+	private int _pins = 0;
+	private boolean _freePending = false;
+	
 	protected byte[]     _bdata = null; //sparse matrix
 	protected CacheBlock _cdata = null; //dense matrix/frame
 	
@@ -60,7 +65,7 @@ public class ByteBuffer
 			if( !_shallow ) //SPARSE/DENSE -> SPARSE
 			{
 				//deep serialize (for compression)
-				if( CacheableData.CACHING_BUFFER_PAGECACHE )
+				if( LazyWriteBuffer.isPageCache() )
 					_bdata = PageCache.getPage((int)_size);
 				if( _bdata==null )
 					_bdata = new byte[(int)_size];
@@ -106,12 +111,12 @@ public class ByteBuffer
 		throws IOException
 	{
 		if( !_shallow ) {
-			//write out byte serialized array
-			LocalFileUtils.writeByteArrayToLocal(fname, _bdata);
+			//write out byte serialized array (pooled pages might be larger)
+			LocalFileUtils.writeByteArrayToLocal(fname, _bdata, (int)_size);
 		}
 		else {
-			//serialize cache block to output stream
-			LocalFileUtils.writeCacheBlockToLocal(fname, _cdata);
+			//serialize cache block to output stream or mapped file
+			LazyWriteBuffer.writeBlockToLocal(fname, _cdata);
 		}
 	}
 	
@@ -128,11 +133,37 @@ public class ByteBuffer
 		return _shallow;
 	}
 	
+	/**
+	 * Pins the buffer for deserialization outside the global lock,
+	 * which defers any concurrent release of the buffer until unpin.
+	 * NOTE: callers need to synchronize on the write buffer queue.
+	 */
+	public void pin() {
+		_pins++;
+	}
+	
+	/**
+	 * Unpins the buffer and performs a deferred release if required.
+	 * NOTE: callers need to synchronize on the write buffer queue.
+	 */
+	public void unpin() {
+		if( --_pins == 0 && _freePending ) {
+			_freePending = false;
+			freeMemory();
+		}
+	}
+	
 	public void freeMemory()
 	{
+		//defer release of pinned buffers (e.g., pooled pages)
+		if( _pins > 0 ) {
+			_freePending = true;
+			return;
+		}
+		
 		//clear strong references to buffer/matrix
 		if( !_shallow ) {
-			if( CacheableData.CACHING_BUFFER_PAGECACHE )
+			if( LazyWriteBuffer.isPageCache() )
 				PageCache.putPage(_bdata);
 			_bdata = null;
 		}
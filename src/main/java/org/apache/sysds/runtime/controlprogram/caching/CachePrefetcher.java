@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.controlprogram.caching;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.hops.recompile.Recompiler;
+import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
+import org.apache.sysds.runtime.instructions.Instruction;
+import org.apache.sysds.runtime.instructions.cp.BuiltinNaryCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.CPOperand;
+import org.apache.sysds.runtime.instructions.cp.ComputationCPInstruction;
+import org.apache.sysds.runtime.instructions.cp.Data;
+import org.apache.sysds.runtime.instructions.cp.FunctionCallCPInstruction;
+import org.apache.sysds.runtime.instructions.spark.ReblockSPInstruction;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+
+/**
+ * Lookahead prefetcher that scans the input operands of upcoming instructions
+ * of a program block, and asynchronously restores evicted matrices from local
+ * spill files (or reads not-yet-read matrices from HDFS) on a small background
+ * thread pool. Pending reads are consumed by the next acquire of the respective
+ * matrix object, which then only waits for the remaining read time. The total
+ * size of pending prefetches is bounded by the size of the write buffer.
+ */
+public class CachePrefetcher
+{
+	//number of upcoming instructions scanned for inputs
+	public static final int LOOKAHEAD = 4;
+	//number of background threads for prefetching
+	public static final int NUM_THREADS = 2;
+	
+	private static boolean _enabled = false;
+	private static ExecutorService _pool = null;
+	
+	//estimated size in bytes of pending prefetches
+	private static final AtomicLong _size = new AtomicLong(0);
+	
+	public static void setEnabled(boolean flag) {
+		_enabled = flag;
+	}
+	
+	public static boolean isEnabled() {
+		return _enabled;
+	}
+	
+	public synchronized static void init() {
+		if( _enabled && _pool == null )
+			_pool = Executors.newFixedThreadPool(NUM_THREADS);
+		_size.set(0);
+	}
+	
+	public synchronized static void cleanup() {
+		if( _pool != null )
+			_pool.shutdownNow();
+		_pool = null;
+	}
+	
+	/**
+	 * Issues prefetches for the inputs of the instructions in the lookahead
+	 * window before executing the instruction at the given position. The entire
+	 * window is scanned because inputs might only be bound to variables by
+	 * preceding instructions; already issued prefetches are skipped.
+	 * 
+	 * @param inst list of instructions
+	 * @param pos position of the instruction to be executed next
+	 * @param ec execution context
+	 */
+	public static void prefetch(List<Instruction> inst, int pos, ExecutionContext ec) {
+		ExecutorService pool = _pool;
+		if( pool == null || !CacheableData.isCachingActive() )
+			return;
+		for( int i=pos+1; i<=pos+LOOKAHEAD && i<inst.size(); i++ )
+			prefetch(inst.get(i), ec, pool);
+	}
+	
+	private static void prefetch(Instruction inst, ExecutionContext ec, ExecutorService pool) {
+		CPOperand[] inputs = getInputs(inst);
+		if( inputs == null )
+			return;
+		for( CPOperand in : inputs ) {
+			if( in == null || !in.isMatrix() )
+				continue;
+			Data dat = ec.getVariables().get(in.getName());
+			if( !(dat instanceof MatrixObject) )
+				continue;
+			MatrixObject mo = (MatrixObject) dat;
+			DataCharacteristics dc = mo.getDataCharacteristics();
+			if( !dc.dimsKnown() )
+				continue;
+			//read from HDFS only for persistent reads (empty temporary variables are not
+			//yet written) and reblocks that are executed in memory (otherwise read via rdd)
+			boolean hdfs = in.getName().startsWith(org.apache.sysds.lops.Data.PREAD_PREFIX)
+				&& (!(inst instanceof ReblockSPInstruction) || Recompiler.checkCPReblock(ec, in.getName()));
+			//reserve memory budget before issuing the prefetch
+			long size = OptimizerUtils.estimateSize(dc);
+			if( _size.addAndGet(size) > LazyWriteBuffer.getWriteBufferLimit()
+				|| !mo.startPrefetch(pool, size, hdfs) )
+				_size.addAndGet(-size);
+		}
+	}
+	
+	private static CPOperand[] getInputs(Instruction inst) {
+		if( inst instanceof ComputationCPInstruction )
+			return ((ComputationCPInstruction) inst).getInputs();
+		else if( inst instanceof BuiltinNaryCPInstruction )
+			return ((BuiltinNaryCPInstruction) inst).getInputs();
+		else if( inst instanceof FunctionCallCPInstruction )
+			return ((FunctionCallCPInstruction) inst).getInputs();
+		else if( inst instanceof ReblockSPInstruction ) //in-memory reblock of reads
+			return new CPOperand[] {((ReblockSPInstruction) inst).input1};
+		return null;
+	}
+	
+	/**
+	 * Releases the memory budget of a consumed or discarded prefetch.
+	 * 
+	 * @param size estimated size in bytes
+	 */
+	protected static void release(long size) {
+		_size.addAndGet(-size);
+	}
+}
@@ -57,12 +57,24 @@ public class CacheStatistics
 	private static final LongAdder _numHitsFS       = new LongAdder();
 	private static final LongAdder _numHitsHDFS     = new LongAdder();
 	private static final LongAdder _numHitsLin      = new LongAdder();
+	private static final LongAdder _numHitsFSMapped = new LongAdder();
 
 	//write statistics caching
 	private static final LongAdder _numWritesFSBuff = new LongAdder();
 	private static final LongAdder _numWritesFS     = new LongAdder();
 	private static final LongAdder _numWritesHDFS   = new LongAdder();
 	private static final LongAdder _numWritesLin    = new LongAdder();
+	private static final LongAdder _numWritesFSMapped = new LongAdder();
+	
+	//prefetch statistics caching
+	private static final LongAdder _numPrefetchHits = new LongAdder();
+	private static final LongAdder _numPrefetchWasted = new LongAdder();
+	private static final LongAdder _ctimePrefetchSaved = new LongAdder(); //in nano sec
+	
+	//page cache statistics
+	private static final LongAdder _numPageCacheHits = new LongAdder();
+	private static final LongAdder _numPageCacheMisses = new LongAdder();
+	private static volatile long _sizePageCache = 0; //in bytes
 	
 	//time statistics caching
 	private static final LongAdder _ctimeAcquireR   = new LongAdder(); //in nano sec
@@ -76,11 +88,21 @@ public class CacheStatistics
 		_numHitsFSBuff.reset();
 		_numHitsFS.reset();
 		_numHitsHDFS.reset();
+		_numHitsFSMapped.reset();
 		
 		_numWritesFSBuff.reset();
 		_numWritesFS.reset();
 		_numWritesHDFS.reset();
 		_numWritesLin.reset();
+		_numWritesFSMapped.reset();
+		
+		_numPrefetchHits.reset();
+		_numPrefetchWasted.reset();
+		_ctimePrefetchSaved.reset();
+		
+		_numPageCacheHits.reset();
+		_numPageCacheMisses.reset();
+		_sizePageCache = 0;
 		
 		_ctimeAcquireR.reset();
 		_ctimeAcquireM.reset();
@@ -124,6 +146,14 @@ public class CacheStatistics
 		return _numHitsFS.longValue();
 	}
 	
+	public static void incrementFSMappedHits() {
+		_numHitsFSMapped.increment();
+	}
+	
+	public static long getFSMappedHits() {
+		return _numHitsFSMapped.longValue();
+	}
+	
 	public static void incrementHDFSHits() {
 		_numHitsHDFS.increment();
 	}
@@ -172,6 +202,14 @@ public class CacheStatistics
 		return _numWritesFS.longValue();
 	}
 	
+	public static void incrementFSMappedWrites() {
+		_numWritesFSMapped.increment();
+	}
+	
+	public static long getFSMappedWrites() {
+		return _numWritesFSMapped.longValue();
+	}
+	
 	public static void incrementHDFSWrites() {
 		_numWritesHDFS.increment();
 	}
@@ -196,6 +234,54 @@ public class CacheStatistics
 		return _numWritesLin.longValue();
 	}
 	
+	public static void incrementPrefetchHits() {
+		_numPrefetchHits.increment();
+	}
+	
+	public static long getPrefetchHits() {
+		return _numPrefetchHits.longValue();
+	}
+	
+	public static void incrementPrefetchWasted() {
+		_numPrefetchWasted.increment();
+	}
+	
+	public static long getPrefetchWasted() {
+		return _numPrefetchWasted.longValue();
+	}
+	
+	public static void incrementPrefetchSavedTime(long delta) {
+		_ctimePrefetchSaved.add(delta);
+	}
+	
+	public static long getPrefetchSavedTime() {
+		return _ctimePrefetchSaved.longValue();
+	}
+	
+	public static void incrementPageCacheHits() {
+		_numPageCacheHits.increment();
+	}
+	
+	public static long getPageCacheHits() {
+		return _numPageCacheHits.longValue();
+	}
+	
+	public static void incrementPageCacheMisses() {
+		_numPageCacheMisses.increment();
+	}
+	
+	public static long getPageCacheMisses() {
+		return _numPageCacheMisses.longValue();
+	}
+	
+	public static void setPageCacheSize(long size) {
+		_sizePageCache = size;
+	}
+	
+	public static long getPageCacheSize() {
+		return _sizePageCache;
+	}
+	
 	public static void incrementAcquireRTime(long delta) {
 		_ctimeAcquireR.add(delta);
 	}
@@ -256,6 +342,37 @@ public class CacheStatistics
 		return sb.toString();
 	}
 	
+	public static String displayMappedIO() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numHitsFSMapped.longValue());
+		sb.append("/");
+		sb.append(_numWritesFSMapped.longValue());
+		
+		return sb.toString();
+	}
+	
+	public static String displayPrefetch() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numPrefetchHits.longValue());
+		sb.append("/");
+		sb.append(_numPrefetchWasted.longValue());
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_ctimePrefetchSaved.longValue())/1000000000)); //in sec
+		
+		return sb.toString();
+	}
+	
+	public static String displayPageCache() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numPageCacheHits.longValue());
+		sb.append("/");
+		sb.append(_numPageCacheMisses.longValue());
+		sb.append("/");
+		sb.append(_sizePageCache);
+		
+		return sb.toString();
+	}
+	
 	public static String displayTime() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(String.format("%.3f", ((double)_ctimeAcquireR.longValue())/1000000000)); //in sec
@@ -24,6 +24,9 @@ import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang.mutable.MutableBoolean;
@@ -84,7 +87,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		1e-5 * InfrastructureAnalyzer.getLocalMaxMemory());       //if below threshold [in bytes]
 	public static final double CACHING_BUFFER_SIZE = 0.15;
 	public static final RPolicy CACHING_BUFFER_POLICY = RPolicy.FIFO;
-	public static final boolean CACHING_BUFFER_PAGECACHE = false;
+	public static final double CACHING_BUFFER_PAGECACHE_SIZE = 0.25; //fraction of buffer size
 	public static final boolean CACHING_WRITE_CACHE_ON_READ = false;
 	public static final String  CACHING_COUNTER_GROUP_NAME = "SystemDS Caching Counters";
 	public static final String  CACHING_EVICTION_FILEEXTENSION = ".dat";
@@ -216,6 +219,9 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 
 	private LineageItem _lineage = null;
 	
+	//pending asynchronous read of evicted or not-yet-read data (see CachePrefetcher)
+	private Prefetch<T> _prefetch = null;
+	
 	/**
 	 * Basic constructor for any cacheable data.
 	 * 
@@ -286,9 +292,11 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 	}
 
 	public synchronized void setFileName( String file ) {
-		if( _hdfsFileName!=null && !_hdfsFileName.equals(file) )
+		if( _hdfsFileName!=null && !_hdfsFileName.equals(file) ) {
 			if( !isEmpty(true) )
 				_dirtyFlag = true;
+			discardPrefetch();
+		}
 		_hdfsFileName = file;
 	}
 	
@@ -405,6 +413,11 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		_rddHandle = rdd;
 		if( _rddHandle != null )
 			rdd.setBackReference(this);
+		
+		//discard pending prefetch of the replaced data
+		synchronized( this ) {
+			discardPrefetch();
+		}
 	}
 	
 	public BroadcastObject<T> getBroadcastHandle() {
@@ -528,8 +541,10 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 					if( _hdfsFileName == null )
 						throw new DMLRuntimeException("Cannot read matrix for empty filename.");
 					
-					//read cacheable data from hdfs
-					_data = readBlobFromHDFS( _hdfsFileName );
+					//read cacheable data from hdfs (or consume pending prefetch)
+					_data = getPrefetchedBlob(false);
+					if( _data == null )
+						_data = readBlobFromHDFS( _hdfsFileName );
 					
 					//mark for initial local write despite read operation
 					_requiresLocalWrite = CACHING_WRITE_CACHE_ON_READ;
@@ -596,8 +611,12 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		if (! isAvailableToModify ())
 			throw new DMLRuntimeException("CacheableData not available to modify.");
 		
-		//clear old data
-		clearData();
+		//discard pending prefetch (also if cleanup disabled)
+		discardPrefetch();
+		
+		//clear old data (w/ synchronous delete of the evicted file because
+		//a re-eviction of the new data writes to the same file name)
+		clearData(-1, false);
 		
 		//cache status maintenance
 		acquire (true, false); //no need to load evicted matrix
@@ -646,6 +665,9 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 			write = true;
 			setDirty(true);
 			
+			//discard pending prefetch of outdated data
+			discardPrefetch();
+			
 			//update meta data
 			refreshMetaData();
 			
@@ -695,8 +717,15 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 	 * @param tid thread ID
 	 * 
 	 */
-	public synchronized void clearData(long tid) 
+	public synchronized void clearData(long tid) {
+		clearData(tid, true);
+	}
+	
+	private void clearData(long tid, boolean asyncDelete) 
 	{
+		// discard pending prefetch (independent of cleanup)
+		discardPrefetch();
+		
 		// check if cleanup enabled and possible 
 		if( !isCleanupEnabled() ) 
 			return; // do nothing
@@ -707,7 +736,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		// clear existing WB / FS representation (but prevent unnecessary probes)
 		if( !(isEmpty(true)||(_data!=null && isBelowCachingThreshold()) 
 			  ||(_data!=null && !isCachingActive()) )) //additional condition for JMLC
-			freeEvictedBlob();
+			freeEvictedBlob(asyncDelete);
 
 		// clear the in-memory data
 		_data = null;
@@ -942,7 +971,10 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 			throw new DMLRuntimeException(cacheFilePathAndName + " : Cannot restore on top of existing in-memory data.");
 
 		try {
-			_data = readBlobFromCache(cacheFilePathAndName);
+			//consume pending prefetch or read synchronously
+			_data = getPrefetchedBlob(true);
+			if( _data == null )
+				_data = readBlobFromCache(cacheFilePathAndName);
 		}
 		catch (IOException e) {
 			throw new DMLRuntimeException(cacheFilePathAndName + " : Restore failed.", e);	
@@ -959,12 +991,105 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 	protected abstract T readBlobFromCache(String fname)
 		throws IOException;
 	
+	/**
+	 * Starts an asynchronous restore of the evicted data blob, or an asynchronous
+	 * read of the not-yet-read HDFS file, whose result is consumed by the next
+	 * acquire. Only binary and text formats are read ahead because the CSV and
+	 * federated readers update the meta data of this object.
+	 * 
+	 * @param pool background thread pool
+	 * @param size estimated size in bytes
+	 * @param hdfs allow reads of not-yet-read HDFS files
+	 * @return true if a prefetch has been issued
+	 */
+	protected synchronized boolean startPrefetch(ExecutorService pool, long size, boolean hdfs) {
+		if( _prefetch != null || _data != null || (_cache != null && _cache.get() != null) )
+			return false;
+		final boolean local = (_cacheStatus == CacheStatus.CACHED);
+		final String fname;
+		if( local )
+			fname = getCacheFilePathAndName();
+		else if( hdfs && isEmpty(true) && !hasValidLineage() && !isFederated() && getRDDHandle() == null
+			&& _hdfsFileName != null && _metaData instanceof MetaDataFormat
+			&& ((MetaDataFormat)_metaData).getFileFormat() != FileFormat.CSV
+			&& ((MetaDataFormat)_metaData).getFileFormat() != FileFormat.FEDERATED )
+			fname = _hdfsFileName;
+		else
+			return false;
+		
+		final Prefetch<T> p = new Prefetch<>(local, size);
+		p._future = pool.submit(() -> {
+			long t0 = System.nanoTime();
+			T ret = local ? readBlobFromCache(fname) : readBlobFromHDFS(fname);
+			p._time = System.nanoTime() - t0;
+			return ret;
+		});
+		_prefetch = p;
+		return true;
+	}
+	
+	private T getPrefetchedBlob(boolean local) {
+		Prefetch<T> p = _prefetch;
+		if( p == null )
+			return null;
+		if( p._local != local ) {
+			discardPrefetch();
+			return null;
+		}
+		_prefetch = null;
+		long t0 = System.nanoTime();
+		try {
+			T ret = p._future.get();
+			if( DMLScript.STATISTICS ) {
+				CacheStatistics.incrementPrefetchHits();
+				CacheStatistics.incrementPrefetchSavedTime(
+					Math.max(p._time - (System.nanoTime() - t0), 0));
+			}
+			return ret;
+		}
+		catch(InterruptedException | ExecutionException e) {
+			//fall back to the synchronous read by the caller
+			LOG.warn("Prefetch of "+getDebugName()+" failed, reading synchronously.", e);
+			return null;
+		}
+		finally {
+			CachePrefetcher.release(p._size);
+		}
+	}
+	
+	private void discardPrefetch() {
+		Prefetch<T> p = _prefetch;
+		if( p == null )
+			return;
+		_prefetch = null;
+		p._future.cancel(false);
+		CachePrefetcher.release(p._size);
+		if( DMLScript.STATISTICS )
+			CacheStatistics.incrementPrefetchWasted();
+	}
+	
+	private static class Prefetch<T> {
+		private final boolean _local; //local FS or HDFS
+		private final long _size;     //estimated size in bytes
+		private volatile long _time;  //read time in nano sec
+		private Future<T> _future;
+		
+		private Prefetch(boolean local, long size) {
+			_local = local;
+			_size = size;
+		}
+	}
+	
 	/**
 	 * Low-level cache I/O method that deletes the file containing the
 	 * evicted data blob, without reading it.
 	 * Must be defined by a subclass, never called by users.
 	 */
 	public final void freeEvictedBlob() {
+		freeEvictedBlob(true);
+	}
+	
+	private void freeEvictedBlob(boolean async) {
 		String cacheFilePathAndName = getCacheFilePathAndName();
 		long begin = LOG.isTraceEnabled() ? System.currentTimeMillis() : 0;
 		if( LOG.isTraceEnabled() )
@@ -972,7 +1097,7 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 				(_hdfsFileName == null ? "null" : _hdfsFileName) + " Eviction path: " + cacheFilePathAndName);
 		
 		if(isCachingActive())
-			LazyWriteBuffer.deleteBlock(cacheFilePathAndName);
+			LazyWriteBuffer.deleteBlock(cacheFilePathAndName, async);
 		
 		if( LOG.isTraceEnabled() )
 			LOG.trace("Freeing evicted matrix - COMPLETED ... " + (System.currentTimeMillis()-begin) + " msec.");
@@ -1190,6 +1315,19 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 		setEmpty();
 	}
 	
+	/**
+	 * Indicates if the data is neither in memory nor in the buffer pool, but
+	 * only available in its (consistent) persistent file. Such objects can be
+	 * processed by streaming over the file instead of reading it entirely.
+	 * 
+	 * @return true if the data exists only in the persistent file
+	 */
+	public synchronized boolean isPersistentOnly() {
+		return _cacheStatus == CacheStatus.EMPTY && _data == null
+			&& !isDirty() && _hdfsFileName != null && getRDDHandle() == null
+			&& !hasValidLineage() && !isFederated();
+	}
+	
 	protected boolean isEmpty(boolean inclCachedNoWrite) {
 		return _cacheStatus == CacheStatus.EMPTY
 			|| (inclCachedNoWrite && _cacheStatus == CacheStatus.CACHED_NOWRITE);
@@ -1298,8 +1436,9 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 	// --------- STATIC CACHE INIT/CLEANUP OPERATIONS ----------
 
 	public synchronized static void cleanupCacheDir() {
-		//cleanup remaining cached writes
+		//cleanup remaining cached writes and prefetches
 		LazyWriteBuffer.cleanup();
+		CachePrefetcher.cleanup();
 		
 		//delete cache dir and files
 		cleanupCacheDir(true);
@@ -1365,8 +1504,9 @@ public abstract class CacheableData<T extends CacheBlock> extends Data
 			throw new IOException(e);
 		}
 	
-		//init write-ahead buffer
+		//init write-ahead buffer and prefetcher
 		LazyWriteBuffer.init();
+		CachePrefetcher.init();
 		_refBCs.set(0);
 		
 		_activeFlag = true; //turn on caching
@@ -29,6 +29,7 @@ import java.util.concurrent.Executors;
 import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.LocalFileUtils;
 
 public class LazyWriteBuffer 
@@ -51,6 +52,12 @@ public class LazyWriteBuffer
 	//maintenance service for synchronous or asynchronous delete of evicted files
 	private static MaintenanceService _fClean;
 	
+	//write large dense matrices to memory-mapped files (zero-copy restore)
+	private static boolean _mapped = false;
+	
+	//reuse byte arrays of deep-serialized blocks via the page cache
+	private static boolean _pageCache = false;
+	
 	static {
 		//obtain the logical buffer size in bytes
 		long maxMem = InfrastructureAnalyzer.getLocalMaxMemory();
@@ -111,7 +118,7 @@ public class LazyWriteBuffer
 		else
 		{
 			//write directly to local FS (bypass buffer if too large)
-			LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+			writeBlockToLocal(fname, cb);
 			if( DMLScript.STATISTICS ) {
 				CacheStatistics.incrementFSWrites();
 			}
@@ -121,7 +128,11 @@ public class LazyWriteBuffer
 		return numEvicted;
 	}
 	
-	public static void deleteBlock(String fname)
+	public static void deleteBlock(String fname) {
+		deleteBlock(fname, true);
+	}
+	
+	public static void deleteBlock(String fname, boolean async)
 	{
 		boolean requiresDelete = true;
 		
@@ -137,8 +148,12 @@ public class LazyWriteBuffer
 		}
 		
 		//delete from FS if required
-		if( requiresDelete )
-			_fClean.deleteFile(fname);
+		if( requiresDelete ) {
+			if( async )
+				_fClean.deleteFile(fname);
+			else
+				LocalFileUtils.deleteFileIfExists(fname, true);
+		}
 	}
 	
 	public static CacheBlock readBlock(String fname, boolean matrix)
@@ -152,6 +167,11 @@ public class LazyWriteBuffer
 		{
 			ldata = _mQueue.get(fname);
 			
+			//pin buffer to prevent concurrent release by eviction or
+			//cleanup, while deserializing outside the critical path
+			if( ldata != null )
+				ldata.pin();
+			
 			//modify eviction order (accordingly to access)
 			if(    CacheableData.CACHING_BUFFER_POLICY == RPolicy.LRU
 				&& ldata != null )
@@ -165,13 +185,27 @@ public class LazyWriteBuffer
 		//deserialize or read from FS if required
 		if( ldata != null )
 		{
-			cb = ldata.deserializeBlock();
+			try {
+				cb = ldata.deserializeBlock();
+			}
+			finally {
+				synchronized( _mQueue ) {
+					ldata.unpin();
+				}
+			}
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSBuffHits();
 		}
 		else
 		{
-			cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
+			//probe memory-mapped file, otherwise deserialize
+			if( _mapped && matrix ) {
+				cb = LocalFileUtils.readMatrixBlockFromLocalMapped(fname);
+				if( cb != null && DMLScript.STATISTICS )
+					CacheStatistics.incrementFSMappedHits();
+			}
+			if( cb == null )
+				cb = LocalFileUtils.readCacheBlockFromLocal(fname, matrix);
 			if( DMLScript.STATISTICS )
 				CacheStatistics.incrementFSHits();
 		}
@@ -179,12 +213,51 @@ public class LazyWriteBuffer
 		return cb;
 	}
 
+	/**
+	 * Writes the given cache block to the local file system, either as
+	 * memory-mapped file for large dense matrices (if enabled) or as
+	 * serialized block.
+	 * 
+	 * @param fname file name to write
+	 * @param cb cache block
+	 * @throws IOException if IOException occurs
+	 */
+	static void writeBlockToLocal(String fname, CacheBlock cb)
+		throws IOException
+	{
+		if( _mapped && LocalFileUtils.isMappableCacheBlock(cb) ) {
+			LocalFileUtils.writeMatrixBlockToLocalMapped(fname, (MatrixBlock)cb);
+			if( DMLScript.STATISTICS )
+				CacheStatistics.incrementFSMappedWrites();
+		}
+		else
+			LocalFileUtils.writeCacheBlockToLocal(fname, cb);
+	}
+	
+	public static void setMappedEviction(boolean flag) {
+		_mapped = flag;
+	}
+	
+	public static boolean isMappedEviction() {
+		return _mapped;
+	}
+	
+	public static void setPageCache(boolean flag) {
+		_pageCache = flag;
+	}
+	
+	public static boolean isPageCache() {
+		return _pageCache;
+	}
+
 	public static void init() {
 		_mQueue = new EvictionQueue();
 		_fClean = new MaintenanceService();
 		_size = 0;
-		if( CacheableData.CACHING_BUFFER_PAGECACHE )
-			PageCache.init();
+		if( _pageCache )
+			PageCache.init((long)(CacheableData.CACHING_BUFFER_PAGECACHE_SIZE * _limit));
+		else
+			PageCache.clear();
 	}
 
 	public static void cleanup() {
@@ -192,8 +265,7 @@ public class LazyWriteBuffer
 			_mQueue.clear();
 		if( _fClean != null )
 			_fClean.close();
-		if( CacheableData.CACHING_BUFFER_PAGECACHE )
-			PageCache.clear();
+		PageCache.clear();
 	}
 
 	public static long getWriteBufferLimit() {
@@ -19,49 +19,121 @@
 
 package org.apache.sysds.runtime.controlprogram.caching;
 
-import java.lang.ref.SoftReference;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.sysds.api.DMLScript;
+
+/**
+ * Bounded pool of byte arrays for the serialized blocks of the write buffer.
+ * Pages are kept in power-of-two size classes, where class b holds pages of
+ * length [2^b, 2^(b+1)), and requests are served by pages of at most twice the
+ * requested size, which allows reuse across blocks of variable size. Each size
+ * class is locked independently to support concurrent evictions, and the total
+ * size of pooled pages is bounded by a hard byte budget.
+ */
 public class PageCache 
 {
-	private static final int CLEANUP_THRESHOLD = 128;
-	private static HashMap<Integer, LinkedList<SoftReference<byte[]>>> _pool;
+	//number of size classes (up to 2^31 bytes)
+	private static final int NUM_CLASSES = 32;
+	//max number of pages probed per size class
+	private static final int MAX_PROBES = 8;
+	
+	private static List<ArrayDeque<byte[]>> _pool;
+	private static long _budget;
+	private static final AtomicLong _size = new AtomicLong(0);
 
-	public static void init() {
-		_pool = new HashMap<>();
+	/**
+	 * Initializes the page cache with the given byte budget.
+	 * 
+	 * @param budget max size of pooled pages in bytes
+	 */
+	public static void init(long budget) {
+		List<ArrayDeque<byte[]>> pool = new ArrayList<>(NUM_CLASSES);
+		for( int i=0; i<NUM_CLASSES; i++ )
+			pool.add(new ArrayDeque<>());
+		_pool = pool;
+		_budget = budget;
+		_size.set(0);
 	}
 
-	public static void clear()
-	{
+	public static void clear() {
 		_pool = null;
+		_size.set(0);
 	}
 
-	public static void putPage( byte[] data )
-	{
-		//cleanup if too many different size lists
-		if( _pool.size()>CLEANUP_THRESHOLD )
-			_pool.clear();
+	/**
+	 * Returns the given page to the pool, unless the byte budget is exceeded.
+	 * 
+	 * @param data page
+	 */
+	public static void putPage( byte[] data ) {
+		List<ArrayDeque<byte[]>> pool = _pool;
+		if( pool == null || data.length == 0 )
+			return;
 		
-		LinkedList<SoftReference<byte[]>> list = _pool.get( data.length );
-		if( list==null ){
-			list = new LinkedList<>();
-			_pool.put(data.length, list);
+		//reserve budget, otherwise drop page
+		if( _size.addAndGet(data.length) > _budget ) {
+			_size.addAndGet(-data.length);
+			return;
 		}
-		list.addLast(new SoftReference<>(data));	
+		
+		ArrayDeque<byte[]> list = pool.get(sizeClass(data.length));
+		synchronized( list ) {
+			list.addLast(data);
+		}
+		if( DMLScript.STATISTICS )
+			CacheStatistics.setPageCacheSize(_size.get());
 	}
 
-	public static byte[] getPage( int size )
-	{
-		LinkedList<SoftReference<byte[]>> list = _pool.get( size );
-		if( list!=null ) {
-			while( !list.isEmpty() ){
-				SoftReference<byte[]> ref = list.removeFirst();
-				byte[] tmp = ref.get();
-				if( tmp!=null )
+	/**
+	 * Obtains a pooled page of at least the given size (and less than
+	 * twice the given size), or null if no such page exists.
+	 * 
+	 * @param size requested size in bytes
+	 * @return page or null
+	 */
+	public static byte[] getPage( int size ) {
+		List<ArrayDeque<byte[]>> pool = _pool;
+		if( pool == null || size <= 0 )
+			return null;
+		
+		//probe size class of requested size and the next larger class
+		int sc = sizeClass(size);
+		byte[] ret = getPage(pool.get(sc), size);
+		if( ret == null && sc+1 < NUM_CLASSES )
+			ret = getPage(pool.get(sc+1), size);
+		
+		if( ret != null )
+			_size.addAndGet(-ret.length);
+		if( DMLScript.STATISTICS ) {
+			if( ret != null )
+				CacheStatistics.incrementPageCacheHits();
+			else
+				CacheStatistics.incrementPageCacheMisses();
+			CacheStatistics.setPageCacheSize(_size.get());
+		}
+		return ret;
+	}
+	
+	private static byte[] getPage(ArrayDeque<byte[]> list, int size) {
+		synchronized( list ) {
+			Iterator<byte[]> iter = list.iterator();
+			for( int i=0; i<MAX_PROBES && iter.hasNext(); i++ ) {
+				byte[] tmp = iter.next();
+				if( tmp.length >= size && tmp.length/2 < size ) {
+					iter.remove();
 					return tmp;
+				}
 			}
 		}
 		return null;
 	}
+	
+	private static int sizeClass(int size) {
+		return 31 - Integer.numberOfLeadingZeros(size);
+	}
 }
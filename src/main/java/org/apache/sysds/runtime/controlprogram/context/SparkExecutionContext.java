@@ -42,6 +42,7 @@ import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.lops.Checkpoint;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.lib.LibSlice;
 import org.apache.sysds.runtime.controlprogram.Program;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
@@ -73,6 +74,7 @@ import org.apache.sysds.runtime.matrix.data.MatrixCell;
 import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
 import org.apache.sysds.runtime.meta.DataCharacteristics;
 import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
 import org.apache.sysds.runtime.meta.TensorCharacteristics;
 import org.apache.sysds.runtime.util.HDFSTool;
 import org.apache.sysds.runtime.util.UtilFunctions;
@@ -402,7 +404,15 @@ public class SparkExecutionContext extends ExecutionContext
 		{
 			// parallelize hdfs-resident file
 			// For binary block, these are: SequenceFileInputFormat.class, MatrixIndexes.class, MatrixBlock.class
-			if(fmt == FileFormat.BINARY) {
+			boolean singleNode = isSingleNodeFormat(mo, fmt);
+			if(singleNode) {
+				//read through buffer pool and parallelize (no spark reader)
+				MatrixBlock mb = mo.acquireRead(); //pin matrix in memory
+				rdd = toMatrixJavaPairRDD(sc, mb, (int)mo.getBlocksize(), numParts, inclEmpty);
+				mo.release(); //unpin matrix
+				_parRDDs.registerRDD(rdd.id(), OptimizerUtils.estimatePartitionedSizeExactSparsity(mo.getDataCharacteristics()), true);
+			}
+			else if(fmt == FileFormat.BINARY) {
 				rdd = sc.hadoopFile( mo.getFileName(), inputInfo.inputFormatClass, inputInfo.keyClass, inputInfo.valueClass);
 				//note: this copy is still required in Spark 1.4 because spark hands out whatever the inputformat
 				//recordreader returns; the javadoc explicitly recommend to copy all key/value pairs
@@ -418,7 +428,8 @@ public class SparkExecutionContext extends ExecutionContext
 
 			//keep rdd handle for future operations on it
 			RDDObject rddhandle = new RDDObject(rdd);
-			rddhandle.setHDFSFile(true);
+			rddhandle.setHDFSFile(!singleNode);
+			rddhandle.setParallelizedRDD(singleNode);
 			mo.setRDDHandle(rddhandle);
 		}
 
@@ -558,7 +569,15 @@ public class SparkExecutionContext extends ExecutionContext
 		{
 			// parallelize hdfs-resident file
 			// For binary block, these are: SequenceFileInputFormat.class, MatrixIndexes.class, MatrixBlock.class
-			if(fmt == FileFormat.BINARY) {
+			boolean singleNode = isSingleNodeFormat(fo, fmt);
+			if(singleNode) {
+				//read through buffer pool and parallelize (no spark reader)
+				FrameBlock fb = fo.acquireRead(); //pin frame in memory
+				rdd = toFrameJavaPairRDD(sc, fb);
+				fo.release(); //unpin frame
+				_parRDDs.registerRDD(rdd.id(), OptimizerUtils.estimatePartitionedSizeExactSparsity(fo.getDataCharacteristics()), true);
+			}
+			else if(fmt == FileFormat.BINARY) {
 				rdd = sc.hadoopFile( fo.getFileName(), inputInfo2.inputFormatClass, inputInfo2.keyClass, inputInfo2.valueClass);
 				//note: this copy is still required in Spark 1.4 because spark hands out whatever the inputformat
 				//recordreader returns; the javadoc explicitly recommend to copy all key/value pairs
@@ -574,13 +593,19 @@ public class SparkExecutionContext extends ExecutionContext
 
 			//keep rdd handle for future operations on it
 			RDDObject rddhandle = new RDDObject(rdd);
-			rddhandle.setHDFSFile(true);
+			rddhandle.setHDFSFile(!singleNode);
 			fo.setRDDHandle(rddhandle);
 		}
 
 		return rdd;
 	}
 
+	private static boolean isSingleNodeFormat(CacheableData<?> cd, FileFormat fmt) {
+		//formats w/o spark readers, also if requested as binary blocks
+		return fmt.isSingleNodeFormat() || (cd.getMetaData() instanceof MetaDataFormat
+			&& ((MetaDataFormat)cd.getMetaData()).getFileFormat().isSingleNodeFormat());
+	}
+
 	public Broadcast<CacheBlock> broadcastVariable(CacheableData<CacheBlock> cd) {
 		long t0 = DMLScript.STATISTICS ? System.nanoTime() : 0;
 		Broadcast<CacheBlock> brBlock = null;
@@ -620,8 +645,21 @@ public class SparkExecutionContext extends ExecutionContext
 		return brBlock;
 	}
 
-	@SuppressWarnings("unchecked")
 	public PartitionedBroadcast<MatrixBlock> getBroadcastForMatrixObject(MatrixObject mo) {
+		return getBroadcastForMatrixObject(mo, false);
+	}
+	
+	/**
+	 * Obtains a partitioned broadcast of the given matrix object, where compressed
+	 * inputs are partitioned into compressed blocks if requested. Compressed partitions
+	 * are only supported by the broadcast side of map-side matrix multiplications.
+	 * 
+	 * @param mo matrix object
+	 * @param compressed keep compressed inputs as compressed partition blocks
+	 * @return partitioned broadcast
+	 */
+	@SuppressWarnings("unchecked")
+	public PartitionedBroadcast<MatrixBlock> getBroadcastForMatrixObject(MatrixObject mo, boolean compressed) {
 		//NOTE: The memory consumption of this method is the in-memory size of the 
 		//matrix object plus the partitioned size in 1k-1k blocks. Since the call
 		//to broadcast happens after the matrix object has been released, the memory
@@ -634,12 +672,14 @@ public class SparkExecutionContext extends ExecutionContext
 
 		PartitionedBroadcast<MatrixBlock> bret = null;
 
-		//reuse existing broadcast handle
+		//reuse existing broadcast handle (compressed partitions only if requested)
 		if (mo.getBroadcastHandle() != null && mo.getBroadcastHandle().isPartitionedBroadcastValid()) {
 			bret = mo.getBroadcastHandle().getPartitionedBroadcast();
+			if( bret.isCompressed() && !compressed )
+				bret = null;
 		}
 
-		//create new broadcast handle (never created, evicted)
+		//create new broadcast handle (never created, evicted, compressed)
 		if (bret == null) {
 			//account for overwritten invalid broadcast (e.g., evicted)
 			if (mo.getBroadcastHandle() != null)
@@ -649,8 +689,12 @@ public class SparkExecutionContext extends ExecutionContext
 			int blen = (int) mo.getBlocksize();
 
 			//create partitioned matrix block and release memory consumed by input
+			//(compressed inputs are partitioned into compressed blocks if requested)
 			MatrixBlock mb = mo.acquireRead();
-			PartitionedBlock<MatrixBlock> pmb = new PartitionedBlock<>(mb, blen);
+			boolean cpart = compressed && mb instanceof CompressedMatrixBlock;
+			PartitionedBlock<MatrixBlock> pmb = new PartitionedBlock<>(mb, blen, cpart);
+			long size = cpart ? pmb.getInMemorySize() :
+				OptimizerUtils.estimatePartitionedSizeExactSparsity(mo.getDataCharacteristics());
 			mo.release();
 
 			//determine coarse-grained partitioning
@@ -667,13 +711,12 @@ public class SparkExecutionContext extends ExecutionContext
 					pmb.clearBlocks();
 			}
 			
-			bret = new PartitionedBroadcast<>(ret, mo.getDataCharacteristics());
+			bret = new PartitionedBroadcast<>(ret, mo.getDataCharacteristics(), cpart);
 			// create the broadcast handle if the matrix or frame has never been broadcasted
 			if (mo.getBroadcastHandle() == null) {
 				mo.setBroadcastHandle(new BroadcastObject<MatrixBlock>());
 			}
-			mo.getBroadcastHandle().setPartitionedBroadcast(bret,
-				OptimizerUtils.estimatePartitionedSizeExactSparsity(mo.getDataCharacteristics()));
+			mo.getBroadcastHandle().setPartitionedBroadcast(bret, size);
 			CacheableData.addBroadcastSize(mo.getBroadcastHandle().getPartitionedBroadcastSize());
 		}
 
@@ -746,6 +789,10 @@ public class SparkExecutionContext extends ExecutionContext
 		return getBroadcastForMatrixObject(getMatrixObject(varname));
 	}
 
+	public PartitionedBroadcast<MatrixBlock> getBroadcastForVariable(String varname, boolean compressed) {
+		return getBroadcastForMatrixObject(getMatrixObject(varname), compressed);
+	}
+
 	public PartitionedBroadcast<TensorBlock> getBroadcastForTensorVariable(String varname) {
 		return getBroadcastForTensorObject(getTensorObject(varname));
 	}
@@ -915,10 +962,10 @@ public class SparkExecutionContext extends ExecutionContext
 			//compute block sizes
 			int maxRow = UtilFunctions.computeBlockSize(mc.getRows(), blockRow+1, mc.getBlocksize());
 			int maxCol = UtilFunctions.computeBlockSize(mc.getCols(), blockCol+1, mc.getBlocksize());
-			//copy sub-matrix to block
-			MatrixBlock block = new MatrixBlock(maxRow, maxCol, mb.isInSparseFormat());
 			int row_offset = (int)blockRow*mc.getBlocksize();
 			int col_offset = (int)blockCol*mc.getBlocksize();
+			//copy sub-matrix to block (compressed inputs decompressed block-wise)
+			MatrixBlock block = new MatrixBlock(maxRow, maxCol, mb.isInSparseFormat());
 			block = mb.slice( row_offset, row_offset+maxRow-1,
 				col_offset, col_offset+maxCol-1, block );
 			//create key-value pair
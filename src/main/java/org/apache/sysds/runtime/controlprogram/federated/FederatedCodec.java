@@ -0,0 +1,539 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.instructions.cp.ScalarObject;
+import org.apache.sysds.runtime.instructions.cp.ScalarObjectFactory;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlockDataInput;
+import org.apache.sysds.runtime.matrix.data.MatrixBlockDataOutput;
+import org.apache.sysds.runtime.privacy.PrivacyConstraint.PrivacyLevel;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.serialization.ClassResolvers;
+import io.netty.handler.codec.serialization.ObjectDecoder;
+import io.netty.handler.codec.serialization.ObjectEncoder;
+import io.netty.util.AttributeKey;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Compact binary wire protocol for federated requests and responses, as an
+ * alternative to Java serialization. Every message is sent as a frame of
+ * <code>[int length][byte flags]([int raw length])[body]</code>, where the
+ * body contains the request headers as primitives and matrix and frame blocks
+ * in their native binary format, written directly into pooled byte buffers.
+ * Other parameters (e.g., UDFs or exceptions) fall back to Java serialization.
+ * 
+ * Bodies of at least {@link #MIN_COMPRESS_SIZE} bytes are optionally compressed
+ * with LZ4. Decoders always support LZ4, but the coordinator advertises if it
+ * accepts compressed responses, and federated workers only compress responses
+ * for connections that advertised it and if compression is enabled locally.
+ */
+public class FederatedCodec
+{
+	public static final int MIN_COMPRESS_SIZE = 4096;
+	
+	private static final byte FLAG_LZ4 = 1;        //body is LZ4 compressed
+	private static final byte FLAG_ACCEPT_LZ4 = 2; //sender accepts LZ4 compressed responses
+	
+	private static final byte MSG_REQUESTS = 1;
+	private static final byte MSG_RESPONSE = 2;
+	
+	private static final byte TAG_NULL = 0;
+	private static final byte TAG_STRING = 1;
+	private static final byte TAG_LONG = 2;
+	private static final byte TAG_INT = 3;
+	private static final byte TAG_DOUBLE = 4;
+	private static final byte TAG_BOOLEAN = 5;
+	private static final byte TAG_SCALAR = 6;
+	private static final byte TAG_MATRIX = 7;
+	private static final byte TAG_FRAME = 8;
+	private static final byte TAG_ARRAY = 9;
+	private static final byte TAG_JAVA = 10;
+	
+	private static final AttributeKey<Boolean> ACCEPT_LZ4 = AttributeKey.valueOf("sysds.federated.lz4");
+	
+	/**
+	 * Adds the message decoder and encoder of the configured codec
+	 * (binary w/ or w/o LZ4, or Java serialization) to the given pipeline.
+	 * 
+	 * @param cp channel pipeline
+	 * @param worker true for federated workers, false for the coordinator
+	 */
+	public static void addCodec(ChannelPipeline cp, boolean worker) {
+		DMLConfig conf = ConfigurationManager.getDMLConfig();
+		if( conf.getBooleanValue(DMLConfig.FEDERATED_BINARY_CODEC) ) {
+			boolean lz4 = conf.getBooleanValue(DMLConfig.FEDERATED_LZ4);
+			cp.addLast("FederatedDecoder", new Decoder());
+			cp.addLast("FederatedEncoder", new Encoder(lz4, worker));
+		}
+		else {
+			cp.addLast("ObjectDecoder", new ObjectDecoder(Integer.MAX_VALUE,
+				ClassResolvers.weakCachingResolver(ClassLoader.getSystemClassLoader())));
+			cp.addLast("ObjectEncoder", new ObjectEncoder());
+		}
+	}
+	
+	public static class Encoder extends MessageToByteEncoder<Object> {
+		private final boolean _lz4;
+		private final boolean _worker;
+		
+		public Encoder(boolean lz4, boolean worker) {
+			_lz4 = lz4;
+			_worker = worker;
+		}
+		
+		@Override
+		protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, Object msg, boolean preferDirect) {
+			//pre-size buffer to avoid re-allocations for large blocks
+			int size = (int) Math.min(Integer.MAX_VALUE, 64 + estimateSize(msg));
+			return preferDirect ? ctx.alloc().ioBuffer(size) : ctx.alloc().heapBuffer(size);
+		}
+		
+		@Override
+		protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) throws Exception {
+			boolean compress = _lz4 && (!_worker
+				|| Boolean.TRUE.equals(ctx.channel().attr(ACCEPT_LZ4).get()));
+			byte flags = (_lz4 && !_worker) ? FLAG_ACCEPT_LZ4 : 0;
+			int start = out.writerIndex();
+			out.writeInt(0); //frame length, set below
+			
+			if( compress ) {
+				ByteBuf body = ctx.alloc().buffer(out.capacity());
+				try {
+					writeMessage(new ByteBufDataOutput(body), msg);
+					compress = body.readableBytes() >= MIN_COMPRESS_SIZE
+						&& writeCompressed(body, out, flags);
+					if( !compress ) {
+						out.writeByte(flags);
+						out.writeBytes(body);
+					}
+				}
+				finally {
+					body.release();
+				}
+			}
+			else {
+				out.writeByte(flags);
+				writeMessage(new ByteBufDataOutput(out), msg);
+			}
+			out.setInt(start, out.writerIndex() - start - 4);
+		}
+	}
+	
+	public static class Decoder extends LengthFieldBasedFrameDecoder {
+		public Decoder() {
+			super(Integer.MAX_VALUE, 0, 4, 0, 4);
+		}
+		
+		@Override
+		protected Object decode(ChannelHandlerContext ctx, ByteBuf in) throws Exception {
+			ByteBuf frame = (ByteBuf) super.decode(ctx, in);
+			if( frame == null )
+				return null;
+			ByteBuf body = frame;
+			try {
+				byte flags = frame.readByte();
+				if( (flags & FLAG_ACCEPT_LZ4) != 0 )
+					ctx.channel().attr(ACCEPT_LZ4).set(true);
+				if( (flags & FLAG_LZ4) != 0 )
+					body = readCompressed(ctx, frame);
+				return readMessage(new ByteBufDataInput(body));
+			}
+			finally {
+				if( body != frame )
+					body.release();
+				frame.release();
+			}
+		}
+	}
+	
+	//---------------- LZ4 COMPRESSION -----------------
+	
+	private static boolean writeCompressed(ByteBuf body, ByteBuf out, byte flags) {
+		LZ4Compressor lz4 = LZ4Factory.fastestInstance().fastCompressor();
+		int len = body.readableBytes();
+		int maxLen = lz4.maxCompressedLength(len);
+		int pos = out.writerIndex();
+		out.ensureWritable(5 + maxLen);
+		ByteBuffer src = body.nioBuffer(body.readerIndex(), len);
+		ByteBuffer dest = out.nioBuffer(pos + 5, maxLen);
+		int clen = lz4.compress(src, 0, len, dest, 0, maxLen);
+		if( clen >= len * 0.9 )
+			return false; //not compressible, send raw body
+		out.writeByte(flags | FLAG_LZ4);
+		out.writeInt(len);
+		out.writerIndex(pos + 5 + clen);
+		return true;
+	}
+	
+	private static ByteBuf readCompressed(ChannelHandlerContext ctx, ByteBuf frame) {
+		LZ4FastDecompressor lz4 = LZ4Factory.fastestInstance().fastDecompressor();
+		int len = frame.readInt();
+		ByteBuf ret = ctx.alloc().buffer(len);
+		ByteBuffer src = frame.nioBuffer(frame.readerIndex(), frame.readableBytes());
+		ByteBuffer dest = ret.nioBuffer(0, len);
+		lz4.decompress(src, 0, dest, 0, len);
+		ret.writerIndex(len);
+		return ret;
+	}
+	
+	//---------------- MESSAGE SERIALIZATION -----------------
+	
+	private static long estimateSize(Object msg) {
+		long size = 0;
+		if( msg instanceof FederatedRequest[] ) {
+			for( FederatedRequest fr : (FederatedRequest[]) msg )
+				for( int i=0; i<fr.getNumParams(); i++ )
+					size += estimateSize(fr.getParam(i));
+		}
+		else if( msg instanceof FederatedResponse ) {
+			Object[] data = ((FederatedResponse) msg).getRawData();
+			if( data != null )
+				for( Object o : data )
+					size += estimateSize(o);
+		}
+		else if( msg instanceof MatrixBlock || msg instanceof FrameBlock )
+			size += ((CacheBlock) msg).getExactSerializedSize();
+		return size + 32;
+	}
+	
+	private static void writeMessage(ByteBufDataOutput out, Object msg) throws IOException {
+		if( msg instanceof FederatedRequest[] ) {
+			FederatedRequest[] requests = (FederatedRequest[]) msg;
+			out.writeByte(MSG_REQUESTS);
+			out.writeInt(requests.length);
+			for( FederatedRequest fr : requests ) {
+				out.writeByte(fr.getType().ordinal());
+				out.writeLong(fr.getID());
+				out.writeLong(fr.getTID());
+				out.writeBoolean(fr.checkPrivacy());
+				List<Long> checksums = fr.getChecksums();
+				out.writeInt(checksums != null ? checksums.size() : -1);
+				if( checksums != null )
+					for( Long cs : checksums )
+						out.writeLong(cs);
+				out.writeInt(fr.getNumParams());
+				for( int i=0; i<fr.getNumParams(); i++ )
+					writeObject(out, fr.getParam(i));
+			}
+		}
+		else if( msg instanceof FederatedResponse ) {
+			FederatedResponse resp = (FederatedResponse) msg;
+			out.writeByte(MSG_RESPONSE);
+			out.writeByte(resp.getStatus().ordinal());
+			writeObject(out, resp.getRawData());
+			Map<PrivacyLevel,LongAdder> constraints = resp.getCheckedConstraints();
+			out.writeInt(constraints != null ? constraints.size() : -1);
+			if( constraints != null )
+				for( Entry<PrivacyLevel,LongAdder> e : constraints.entrySet() ) {
+					out.writeByte(e.getKey().ordinal());
+					out.writeLong(e.getValue().longValue());
+				}
+			out.writeInt(resp.getNumInstructions());
+			out.writeInt(resp.getNumReused());
+		}
+		else
+			throw new DMLRuntimeException("Unsupported federated message: " + msg.getClass().getSimpleName());
+	}
+	
+	private static Object readMessage(ByteBufDataInput in) throws IOException {
+		byte type = in.readByte();
+		if( type == MSG_REQUESTS ) {
+			FederatedRequest[] ret = new FederatedRequest[in.readInt()];
+			for( int i=0; i<ret.length; i++ ) {
+				RequestType method = RequestType.values()[in.readByte()];
+				long id = in.readLong();
+				long tid = in.readLong();
+				boolean checkPrivacy = in.readBoolean();
+				int nchecksums = in.readInt();
+				List<Long> checksums = (nchecksums >= 0) ? new ArrayList<>(nchecksums) : null;
+				for( int j=0; j<nchecksums; j++ )
+					checksums.add(in.readLong());
+				int nparams = in.readInt();
+				List<Object> data = new ArrayList<>(nparams);
+				for( int j=0; j<nparams; j++ )
+					data.add(readObject(in));
+				ret[i] = new FederatedRequest(method, id, tid, data, checkPrivacy, checksums);
+			}
+			return ret;
+		}
+		else if( type == MSG_RESPONSE ) {
+			ResponseType status = ResponseType.values()[in.readByte()];
+			FederatedResponse ret = new FederatedResponse(status, (Object[]) readObject(in));
+			int nconstraints = in.readInt();
+			if( nconstraints >= 0 ) {
+				Map<PrivacyLevel,LongAdder> constraints = new EnumMap<>(PrivacyLevel.class);
+				for( int i=0; i<nconstraints; i++ ) {
+					PrivacyLevel level = PrivacyLevel.values()[in.readByte()];
+					LongAdder count = new LongAdder();
+					count.add(in.readLong());
+					constraints.put(level, count);
+				}
+				ret.setCheckedConstraints(constraints);
+			}
+			int numInst = in.readInt();
+			ret.setReuseStatistics(numInst, in.readInt());
+			return ret;
+		}
+		throw new DMLRuntimeException("Unsupported federated message type: " + type);
+	}
+	
+	private static void writeObject(ByteBufDataOutput out, Object o) throws IOException {
+		if( o == null )
+			out.writeByte(TAG_NULL);
+		else if( o instanceof String ) {
+			out.writeByte(TAG_STRING);
+			writeString(out, (String) o);
+		}
+		else if( o instanceof Long ) {
+			out.writeByte(TAG_LONG);
+			out.writeLong((Long) o);
+		}
+		else if( o instanceof Integer ) {
+			out.writeByte(TAG_INT);
+			out.writeInt((Integer) o);
+		}
+		else if( o instanceof Double ) {
+			out.writeByte(TAG_DOUBLE);
+			out.writeDouble((Double) o);
+		}
+		else if( o instanceof Boolean ) {
+			out.writeByte(TAG_BOOLEAN);
+			out.writeBoolean((Boolean) o);
+		}
+		else if( o instanceof ScalarObject ) {
+			ScalarObject so = (ScalarObject) o;
+			out.writeByte(TAG_SCALAR);
+			out.writeByte(so.getValueType().ordinal());
+			writeString(out, so.getStringValue());
+		}
+		//exact classes only, subclasses like compressed blocks use custom formats
+		else if( o.getClass() == MatrixBlock.class ) {
+			out.writeByte(TAG_MATRIX);
+			((MatrixBlock) o).write(out);
+		}
+		else if( o.getClass() == FrameBlock.class ) {
+			out.writeByte(TAG_FRAME);
+			((FrameBlock) o).write(out);
+		}
+		else if( o.getClass() == Object[].class ) {
+			Object[] arr = (Object[]) o;
+			out.writeByte(TAG_ARRAY);
+			out.writeInt(arr.length);
+			for( Object e : arr )
+				writeObject(out, e);
+		}
+		else {
+			//fallback to java serialization
+			out.writeByte(TAG_JAVA);
+			ByteBuf buf = out.buffer();
+			int pos = buf.writerIndex();
+			out.writeInt(0);
+			try( ObjectOutputStream oos = new ObjectOutputStream(new ByteBufOutputStream(buf)) ) {
+				oos.writeObject(o);
+			}
+			buf.setInt(pos, buf.writerIndex() - pos - 4);
+		}
+	}
+	
+	private static Object readObject(ByteBufDataInput in) throws IOException {
+		byte tag = in.readByte();
+		switch( tag ) {
+			case TAG_NULL:
+				return null;
+			case TAG_STRING:
+				return readString(in);
+			case TAG_LONG:
+				return in.readLong();
+			case TAG_INT:
+				return in.readInt();
+			case TAG_DOUBLE:
+				return in.readDouble();
+			case TAG_BOOLEAN:
+				return in.readBoolean();
+			case TAG_SCALAR: {
+				ValueType vt = ValueType.values()[in.readByte()];
+				return ScalarObjectFactory.createScalarObject(vt, readString(in));
+			}
+			case TAG_MATRIX: {
+				MatrixBlock mb = new MatrixBlock();
+				mb.readFields(in);
+				return mb;
+			}
+			case TAG_FRAME: {
+				FrameBlock fb = new FrameBlock();
+				fb.readFields(in);
+				return fb;
+			}
+			case TAG_ARRAY: {
+				Object[] ret = new Object[in.readInt()];
+				for( int i=0; i<ret.length; i++ )
+					ret[i] = readObject(in);
+				return ret;
+			}
+			case TAG_JAVA: {
+				int len = in.readInt();
+				ByteBuf buf = in.buffer();
+				try( ObjectInputStream ois = new ObjectInputStream(new ByteBufInputStream(buf.readSlice(len))) ) {
+					return ois.readObject();
+				}
+				catch(ClassNotFoundException ex) {
+					throw new IOException(ex);
+				}
+			}
+			default:
+				throw new IOException("Unsupported federated message object tag: " + tag);
+		}
+	}
+	
+	private static void writeString(ByteBufDataOutput out, String s) throws IOException {
+		//length-prefixed, not limited to 64KB as writeUTF
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	
+	private static String readString(ByteBufDataInput in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Data output that writes directly into a (pooled) byte buffer,
+	 * with bulk serialization of dense and sparse matrix blocks.
+	 */
+	private static class ByteBufDataOutput extends ByteBufOutputStream implements MatrixBlockDataOutput {
+		public ByteBufDataOutput(ByteBuf buf) {
+			super(buf);
+		}
+		
+		@Override
+		public void writeDoubleArray(int len, double[] varr) throws IOException {
+			ByteBuf buf = buffer();
+			buf.ensureWritable(len * 8);
+			for( int i=0; i<len; i++ )
+				buf.writeLong(Double.doubleToRawLongBits(varr[i]));
+		}
+		
+		@Override
+		public void writeSparseRows(int rlen, SparseBlock rows) throws IOException {
+			ByteBuf buf = buffer();
+			int lrlen = Math.min(rows.numRows(), rlen);
+			for( int i=0; i<lrlen; i++ ) {
+				if( rows.isEmpty(i) ) {
+					buf.writeInt(0);
+					continue;
+				}
+				int apos = rows.pos(i);
+				int alen = rows.size(i);
+				int[] aix = rows.indexes(i);
+				double[] avals = rows.values(i);
+				buf.ensureWritable(4 + alen * 12);
+				buf.writeInt(alen);
+				for( int j=apos; j<apos+alen; j++ ) {
+					buf.writeInt(aix[j]);
+					buf.writeLong(Double.doubleToRawLongBits(avals[j]));
+				}
+			}
+			//process remaining empty rows
+			for( int i=lrlen; i<rlen; i++ )
+				buf.writeInt(0);
+		}
+	}
+	
+	/**
+	 * Data input that reads directly from a byte buffer,
+	 * with bulk deserialization of dense and sparse matrix blocks.
+	 */
+	private static class ByteBufDataInput extends ByteBufInputStream implements MatrixBlockDataInput {
+		private final ByteBuf _buf;
+		
+		public ByteBufDataInput(ByteBuf buf) {
+			super(buf);
+			_buf = buf;
+		}
+		
+		public ByteBuf buffer() {
+			return _buf;
+		}
+		
+		@Override
+		public long readDoubleArray(int len, double[] varr) throws IOException {
+			long nnz = 0;
+			for( int i=0; i<len; i++ ) {
+				varr[i] = Double.longBitsToDouble(_buf.readLong());
+				nnz += (varr[i] != 0) ? 1 : 0;
+			}
+			return nnz;
+		}
+		
+		@Override
+		public long readSparseRows(int rlen, long nnz, SparseBlock rows) throws IOException {
+			long gnnz = 0;
+			for( int i=0; i<rlen; i++ ) {
+				int lnnz = _buf.readInt();
+				if( lnnz > 0 ) {
+					rows.allocate(i, lnnz);
+					for( int j=0; j<lnnz; j++ ) {
+						int aix = _buf.readInt();
+						rows.append(i, aix, Double.longBitsToDouble(_buf.readLong()));
+					}
+					gnnz += lnnz;
+				}
+			}
+			//sanity check valid number of read nnz
+			if( gnnz != nnz )
+				throw new IOException("Invalid number of read nnz: "+gnnz+" vs "+nnz);
+			return nnz;
+		}
+	}
+}
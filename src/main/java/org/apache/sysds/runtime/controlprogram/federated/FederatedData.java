@@ -21,10 +21,17 @@ package org.apache.sysds.runtime.controlprogram.federated;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.net.ssl.SSLException;
 
@@ -35,20 +42,21 @@ import org.apache.sysds.conf.ConfigurationManager;
 import org.apache.sysds.conf.DMLConfig;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.serialization.ClassResolvers;
-import io.netty.handler.codec.serialization.ObjectDecoder;
-import io.netty.handler.codec.serialization.ObjectEncoder;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
@@ -58,6 +66,13 @@ public class FederatedData {
 	private static final Log LOG = LogFactory.getLog(FederatedData.class.getName());
 	private static final Set<InetSocketAddress> _allFedSites = new HashSet<>();
 
+	/** Deferred requests per worker, which are sent along with the next message to this worker. */
+	private static final Map<InetSocketAddress, DeferredBatch> _pending = new HashMap<>();
+	/** The last sent batch of deferred requests per worker, which has to complete before the next message. */
+	private static final Map<InetSocketAddress, DeferredBatch> _inflight = new HashMap<>();
+	/** Maximum number of deferred requests per worker before the batch is sent eagerly. */
+	private static final int MAX_DEFERRED_REQUESTS = 64;
+
 	/** A Singleton constructed SSL context, that only is assigned if ssl is enabled. */
 	private static SslContextMan instance = null;
 
@@ -147,15 +162,126 @@ public class FederatedData {
 		}
 	}
 
+	public synchronized Future<FederatedResponse> deferFederatedOperation(FederatedRequest... request) {
+		try {
+			return deferFederatedOperation(_address, request);
+		}
+		catch(SSLException e) {
+			throw new DMLRuntimeException("Error in SSL Connection", e);
+		}
+	}
+
+	/**
+	 * Indicates if federated request batching is enabled, i.e., if requests without results
+	 * are deferred and coalesced with the next message to the same federated worker.
+	 *
+	 * @return true if request batching is enabled
+	 */
+	public static boolean isBatchingEnabled() {
+		return ConfigurationManager.getDMLConfig().getBooleanValue(DMLConfig.FEDERATED_BATCHING);
+	}
+
+	/**
+	 * Indicates if the given requests can be deferred, i.e., if they only create or modify
+	 * variables at the federated worker and the caller does not consume response data.
+	 *
+	 * @param request the requested operations
+	 * @return true if all requests can be deferred
+	 */
+	public static boolean isDeferrable(FederatedRequest... request) {
+		if(request == null)
+			return true;
+		for(FederatedRequest fr : request)
+			if(fr.getType() != RequestType.PUT_VAR && fr.getType() != RequestType.EXEC_INST)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Defers the given requests to a federated worker. Deferred requests are appended to a per-worker
+	 * batch which is sent as a prefix of the next message to this worker (and thus executed in order
+	 * before any subsequent request), or as a separate message once the returned future is accessed.
+	 * Errors of deferred requests surface in the response of the message that carried the batch.
+	 *
+	 * @param address socket address (incl host and port)
+	 * @param request the requested operations
+	 * @return a future response, that is successful if the entire batch executed successfully
+	 * @throws SSLException Throws an SSL exception if the ssl construction fails.
+	 */
+	public static Future<FederatedResponse> deferFederatedOperation(InetSocketAddress address,
+		FederatedRequest... request) throws SSLException {
+		DeferredBatch batch;
+		boolean flush;
+		synchronized(_pending) {
+			batch = _pending.computeIfAbsent(address, k -> new DeferredBatch());
+			Collections.addAll(batch.requests, request);
+			flush = batch.requests.size() >= MAX_DEFERRED_REQUESTS;
+		}
+		if(flush)
+			flushFederatedOperations(address);
+		return new DeferredResponse(address, batch);
+	}
+
+	/**
+	 * Sends all deferred requests to the given federated worker, if any.
+	 *
+	 * @param address socket address (incl host and port)
+	 * @throws SSLException Throws an SSL exception if the ssl construction fails.
+	 */
+	public static void flushFederatedOperations(InetSocketAddress address) throws SSLException {
+		executeFederatedOperation(address);
+	}
+
 	/**
-	 * Executes an federated operation on a federated worker.
+	 * Executes an federated operation on a federated worker. Deferred requests to this worker are
+	 * prepended to the given requests, so the worker executes them in order within a single message.
 	 *
 	 * @param address socket address (incl host and port)
 	 * @param request the requested operation
-	 * @return the response
+	 * @return the response, or null if neither requests nor deferred requests were given
 	 * @throws SSLException Throws an SSL exception if the ssl construction fails.
 	 */
 	public static Future<FederatedResponse> executeFederatedOperation(InetSocketAddress address,
+		FederatedRequest... request) throws SSLException {
+		// obtain deferred requests, and the previous batch that has to complete first
+		DeferredBatch batch, prev;
+		synchronized(_pending) {
+			prev = _inflight.get(address);
+			batch = _pending.remove(address);
+			if(batch != null)
+				_inflight.put(address, batch);
+		}
+		if(prev != null && !prev.response.isDone()) {
+			long t0 = System.nanoTime();
+			try {
+				prev.response.get();
+			}
+			catch(Exception ex) {
+				// errors are reported through the responses of the previous batch
+			}
+			FederatedStatistics.incrementWaitTime(address, System.nanoTime() - t0);
+		}
+		if(batch == null && request.length == 0)
+			return null;
+
+		FederatedRequest[] message = request;
+		if(batch != null) {
+			Collections.addAll(batch.requests, request);
+			message = batch.requests.toArray(new FederatedRequest[0]);
+			batch.requests.clear();
+		}
+		FederatedStatistics.incrementMessages(address, message.length, message.length - request.length);
+		try {
+			return send(address, batch, message);
+		}
+		catch(RuntimeException | SSLException ex) {
+			if(batch != null)
+				batch.response.completeExceptionally(ex);
+			throw ex;
+		}
+	}
+
+	private static Future<FederatedResponse> send(InetSocketAddress address, DeferredBatch batch,
 		FederatedRequest... request) throws SSLException {
 		// Careful with the number of threads. Each thread opens connections to multiple files making resulting in
 		// java.io.IOException: Too many open files
@@ -163,22 +289,20 @@ public class FederatedData {
 
 		try {
 			Bootstrap b = new Bootstrap();
-			final DataRequestHandler handler = new DataRequestHandler(workerGroup);
+			final DataRequestHandler handler = new DataRequestHandler(workerGroup, address, batch);
 			// Client Netty
 			b.group(workerGroup).channel(NioSocketChannel.class).handler(new ChannelInitializer<SocketChannel>() {
 				@Override
 				protected void initChannel(SocketChannel ch) throws Exception {
 					ChannelPipeline cp = ch.pipeline();
+					cp.addLast("FederatedByteCounter", new ByteCountHandler(address));
 					if(ConfigurationManager.getDMLConfig().getBooleanValue(DMLConfig.USE_SSL_FEDERATED_COMMUNICATION)) {
 						cp.addLast(SslConstructor().context
 							.newHandler(ch.alloc(), address.getAddress().getHostAddress(), address.getPort()));
 					}
 
-					cp.addLast("ObjectDecoder",
-						new ObjectDecoder(Integer.MAX_VALUE,
-							ClassResolvers.weakCachingResolver(ClassLoader.getSystemClassLoader())));
+					FederatedCodec.addCodec(cp, false);
 					cp.addLast("FederatedOperationHandler", handler);
-					cp.addLast("ObjectEncoder", new ObjectEncoder());
 
 				}
 			});
@@ -222,30 +346,139 @@ public class FederatedData {
 
 	public static void resetFederatedSites() {
 		_allFedSites.clear();
+		synchronized(_pending) {
+			_pending.clear();
+			_inflight.clear();
+		}
 	}
 
 	private static class DataRequestHandler extends ChannelInboundHandlerAdapter {
 		private Promise<FederatedResponse> _prom;
 		private EventLoopGroup _workerGroup;
+		private final InetSocketAddress _address;
+		private final DeferredBatch _batch;
+		private long _t0;
 
-		public DataRequestHandler(EventLoopGroup workerGroup) {
+		public DataRequestHandler(EventLoopGroup workerGroup, InetSocketAddress address, DeferredBatch batch) {
 			_workerGroup = workerGroup;
+			_address = address;
+			_batch = batch;
 		}
 
 		public void setPromise(Promise<FederatedResponse> prom) {
 			_prom = prom;
+			_t0 = System.nanoTime();
 		}
 
 		@Override
 		public void channelRead(ChannelHandlerContext ctx, Object msg) {
 			if(_prom == null)
 				throw new DMLRuntimeException("Read while no message was sent");
-			_prom.setSuccess((FederatedResponse) msg);
+			FederatedStatistics.incrementWaitTime(_address, System.nanoTime() - _t0);
+			FederatedResponse response = (FederatedResponse) msg;
+			FederatedStatistics.incrementReuse(_address, response.getNumInstructions(), response.getNumReused());
+			if(_batch != null) {
+				// deferred requests only observe errors, but not the results of the carrying message
+				_batch.response.complete(response.isSuccessful() ?
+					new FederatedResponse(ResponseType.SUCCESS_EMPTY) : response);
+			}
+			_prom.setSuccess(response);
 			ctx.close();
 			_workerGroup.shutdownGracefully();
 		}
 	}
 
+	/**
+	 * Pipeline handler that counts the bytes sent to and received from a federated worker.
+	 */
+	private static class ByteCountHandler extends ChannelDuplexHandler {
+		private final InetSocketAddress _address;
+
+		public ByteCountHandler(InetSocketAddress address) {
+			_address = address;
+		}
+
+		@Override
+		public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+			if(msg instanceof ByteBuf)
+				FederatedStatistics.incrementBytesReceived(_address, ((ByteBuf) msg).readableBytes());
+			super.channelRead(ctx, msg);
+		}
+
+		@Override
+		public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+			if(msg instanceof ByteBuf)
+				FederatedStatistics.incrementBytesSent(_address, ((ByteBuf) msg).readableBytes());
+			super.write(ctx, msg, promise);
+		}
+	}
+
+	/**
+	 * Batch of deferred requests to a single federated worker, and the future response
+	 * of the message that eventually carries this batch.
+	 */
+	private static class DeferredBatch {
+		private final List<FederatedRequest> requests = new ArrayList<>();
+		private final CompletableFuture<FederatedResponse> response = new CompletableFuture<>();
+	}
+
+	/**
+	 * Future response of deferred requests, which sends the batch on access if still pending.
+	 */
+	private static class DeferredResponse implements Future<FederatedResponse> {
+		private final InetSocketAddress _address;
+		private final DeferredBatch _batch;
+
+		public DeferredResponse(InetSocketAddress address, DeferredBatch batch) {
+			_address = address;
+			_batch = batch;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return false;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return false;
+		}
+
+		@Override
+		public boolean isDone() {
+			return _batch.response.isDone();
+		}
+
+		@Override
+		public FederatedResponse get() throws InterruptedException, ExecutionException {
+			flushIfPending();
+			return _batch.response.get();
+		}
+
+		@Override
+		public FederatedResponse get(long timeout, TimeUnit unit)
+			throws InterruptedException, ExecutionException, TimeoutException
+		{
+			flushIfPending();
+			return _batch.response.get(timeout, unit);
+		}
+
+		private void flushIfPending() throws ExecutionException {
+			boolean pending;
+			synchronized(_pending) {
+				pending = _pending.get(_address) == _batch;
+			}
+			if(pending) {
+				try {
+					flushFederatedOperations(_address);
+				}
+				catch(SSLException e) {
+					throw new ExecutionException(e);
+				}
+			}
+		}
+	}
+
 	private static class SslContextMan {
 		protected final SslContext context;
 
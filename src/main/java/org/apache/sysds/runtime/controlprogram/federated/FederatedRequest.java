@@ -79,6 +79,21 @@ public class FederatedRequest implements Serializable {
 			setChecksum();
 	}
 	
+	/**
+	 * Creates a request from its deserialized fields, without
+	 * maintaining statistics or recomputing checksums.
+	 */
+	FederatedRequest(RequestType method, long id, long tid, List<Object> data,
+		boolean checkPrivacy, List<Long> checksums)
+	{
+		_method = method;
+		_id = id;
+		_tid = tid;
+		_data = data;
+		_checkPrivacy = checkPrivacy;
+		_checksums = checksums;
+	}
+	
 	public RequestType getType() {
 		return _method;
 	}
@@ -146,6 +161,10 @@ public class FederatedRequest implements Serializable {
 		return _checksums.get(i);
 	}
 	
+	List<Long> getChecksums() {
+		return _checksums;
+	}
+	
 	private void calcChecksum() throws IOException {
 		for (Object ob : _data) {
 			if (!(ob instanceof CacheBlock) && !(ob instanceof ScalarObject))
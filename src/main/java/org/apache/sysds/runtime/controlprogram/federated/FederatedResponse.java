@@ -41,6 +41,9 @@ public class FederatedResponse implements Serializable {
 	private ResponseType _status;
 	private Object[] _data;
 	private Map<PrivacyLevel,LongAdder> checkedConstraints;
+	// number of executed and lineage-reused instructions of the batch at the worker
+	private int _numInst = 0;
+	private int _numReused = 0;
 	
 	public FederatedResponse(ResponseType status) {
 		this(status, null);
@@ -60,6 +63,31 @@ public class FederatedResponse implements Serializable {
 			_status = ResponseType.SUCCESS_EMPTY;
 	}
 	
+	ResponseType getStatus() {
+		return _status;
+	}
+	
+	Object[] getRawData() {
+		return _data;
+	}
+	
+	Map<PrivacyLevel,LongAdder> getCheckedConstraints() {
+		return checkedConstraints;
+	}
+	
+	void setReuseStatistics(int numInst, int numReused) {
+		_numInst = numInst;
+		_numReused = numReused;
+	}
+	
+	int getNumInstructions() {
+		return _numInst;
+	}
+	
+	int getNumReused() {
+		return _numReused;
+	}
+	
 	public boolean isSuccessful() {
 		return _status != ResponseType.ERROR;
 	}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.controlprogram.federated;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This singleton provides per-worker communication statistics of the
+ * federated coordinator: the number of sent messages, the number of
+ * requests (incl requests coalesced into batches), bytes sent and received,
+ * and the time spent waiting for responses. Furthermore, it collects the
+ * instruction reuse reported by workers with enabled lineage-based reuse.
+ */
+public class FederatedStatistics {
+	private static final Map<InetSocketAddress, WorkerStatistics> _stats = new ConcurrentHashMap<>();
+
+	public static void reset() {
+		_stats.clear();
+	}
+
+	public static void incrementMessages(InetSocketAddress address, int numRequests, int numDeferred) {
+		WorkerStatistics ws = get(address);
+		ws.messages.increment();
+		ws.requests.add(numRequests);
+		ws.deferred.add(numDeferred);
+	}
+
+	public static void incrementBytesSent(InetSocketAddress address, long bytes) {
+		get(address).bytesSent.add(bytes);
+	}
+
+	public static void incrementBytesReceived(InetSocketAddress address, long bytes) {
+		get(address).bytesReceived.add(bytes);
+	}
+
+	public static void incrementWaitTime(InetSocketAddress address, long delta) {
+		// time in nanoseconds between sending a message and receiving its response
+		get(address).waitTime.add(delta);
+	}
+
+	public static void incrementReuse(InetSocketAddress address, int numInst, int numReused) {
+		if(numInst <= 0)
+			return;
+		WorkerStatistics ws = get(address);
+		ws.reuseInst.add(numInst);
+		ws.reuseHits.add(numReused);
+	}
+
+	public static long getMessages(InetSocketAddress address) {
+		WorkerStatistics ws = _stats.get(address);
+		return (ws != null) ? ws.messages.longValue() : 0;
+	}
+
+	public static long getRequests(InetSocketAddress address) {
+		WorkerStatistics ws = _stats.get(address);
+		return (ws != null) ? ws.requests.longValue() : 0;
+	}
+
+	public static long getDeferredRequests(InetSocketAddress address) {
+		WorkerStatistics ws = _stats.get(address);
+		return (ws != null) ? ws.deferred.longValue() : 0;
+	}
+
+	public static long getBytesSent(InetSocketAddress address) {
+		WorkerStatistics ws = _stats.get(address);
+		return (ws != null) ? ws.bytesSent.longValue() : 0;
+	}
+
+	public static long getReuseHits(InetSocketAddress address) {
+		WorkerStatistics ws = _stats.get(address);
+		return (ws != null) ? ws.reuseHits.longValue() : 0;
+	}
+
+	public static long getTotalReuseHits() {
+		return _stats.values().stream().mapToLong(ws -> ws.reuseHits.longValue()).sum();
+	}
+
+	public static long getTotalMessages() {
+		return _stats.values().stream().mapToLong(ws -> ws.messages.longValue()).sum();
+	}
+
+	public static boolean isEmpty() {
+		return _stats.isEmpty();
+	}
+
+	public static void display(StringBuilder sb) {
+		// sort workers by address for a deterministic output
+		Map<String, WorkerStatistics> sorted = new TreeMap<>();
+		for(Entry<InetSocketAddress, WorkerStatistics> e : _stats.entrySet())
+			sorted.put(e.getKey().getHostString() + ":" + e.getKey().getPort(), e.getValue());
+		sb.append("Federated (Msg/Req/Deferred/Sent/Recv/Wait):\n");
+		for(Entry<String, WorkerStatistics> e : sorted.entrySet()) {
+			WorkerStatistics ws = e.getValue();
+			sb.append(String.format("  %s:\t%d/%d/%d/%.3f MB/%.3f MB/%.3f sec.\n", e.getKey(),
+				ws.messages.longValue(), ws.requests.longValue(), ws.deferred.longValue(),
+				((double) ws.bytesSent.longValue()) / 1024 / 1024,
+				((double) ws.bytesReceived.longValue()) / 1024 / 1024,
+				((double) ws.waitTime.longValue()) / 1000000000));
+		}
+		if(sorted.values().stream().anyMatch(ws -> ws.reuseInst.longValue() > 0)) {
+			sb.append("Federated worker reuse (Inst/Hits/Rate):\n");
+			for(Entry<String, WorkerStatistics> e : sorted.entrySet()) {
+				long inst = e.getValue().reuseInst.longValue();
+				long hits = e.getValue().reuseHits.longValue();
+				sb.append(String.format("  %s:\t%d/%d/%.2f%%.\n", e.getKey(), inst, hits,
+					(inst > 0) ? 100d * hits / inst : 0));
+			}
+		}
+	}
+
+	private static WorkerStatistics get(InetSocketAddress address) {
+		return _stats.computeIfAbsent(address, k -> new WorkerStatistics());
+	}
+
+	private static class WorkerStatistics {
+		private final LongAdder messages = new LongAdder();
+		private final LongAdder requests = new LongAdder();
+		private final LongAdder deferred = new LongAdder();
+		private final LongAdder bytesSent = new LongAdder();
+		private final LongAdder bytesReceived = new LongAdder();
+		private final LongAdder waitTime = new LongAdder(); //in nano sec
+		private final LongAdder reuseInst = new LongAdder();
+		private final LongAdder reuseHits = new LongAdder();
+	}
+}
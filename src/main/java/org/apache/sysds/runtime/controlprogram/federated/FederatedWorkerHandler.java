@@ -49,6 +49,8 @@ import org.apache.sysds.runtime.instructions.cp.ScalarObject;
 import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig;
+import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.apache.sysds.runtime.lineage.LineageCacheStatistics;
 import org.apache.sysds.runtime.lineage.LineageItem;
 import org.apache.sysds.runtime.meta.MatrixCharacteristics;
 import org.apache.sysds.runtime.meta.MetaDataFormat;
@@ -90,6 +92,8 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 				"FederatedWorkerHandler: Received object no instance of 'FederatedRequest[]'.");
 		FederatedRequest[] requests = (FederatedRequest[]) msg;
 		FederatedResponse response = null; // last response
+		boolean reuse = !ReuseCacheType.isNone();
+		int numInst = 0, numReused = 0;
 
 		for(int i = 0; i < requests.length; i++) {
 			FederatedRequest request = requests[i];
@@ -103,8 +107,15 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 			PrivacyMonitor.clearCheckedConstraints();
 
 			// execute command and handle privacy constraints
+			// (reuse of instructions from the lineage cache is observed via the
+			// hits of this thread, which executes the request)
+			long hits = reuse ? LineageCacheStatistics.getThreadInstHits() : 0;
 			FederatedResponse tmp = executeCommand(request);
 			conditionalAddCheckedConstraints(request, tmp);
+			if(reuse && request.getType() == RequestType.EXEC_INST) {
+				numInst++;
+				numReused += (LineageCacheStatistics.getThreadInstHits() > hits) ? 1 : 0;
+			}
 
 			// select the response for the entire batch of requests
 			if(!tmp.isSuccessful()) {
@@ -126,6 +137,8 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 				Statistics.reset();
 			}
 		}
+		if(response != null)
+			response.setReuseStatistics(numInst, numReused);
 		return response;
 	}
 
@@ -192,6 +205,7 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 
 		FileFormat fmt = null;
 		boolean header = false;
+		long mtime = -1;
 		FileSystem fs = null;
 		try {
 			String mtdname = DataExpression.getMTDFileName(filename);
@@ -211,6 +225,10 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 				cd = (CacheableData<?>) PrivacyPropagator.parseAndSetPrivacyConstraint(cd, mtd);
 				fmt = FileFormat.safeValueOf(mtd.getString(DataExpression.FORMAT_TYPE));
 			}
+			// modification time of the data, which invalidates reused results on changes
+			Path dpath = new Path(filename);
+			if(fs.exists(dpath))
+				mtime = fs.getFileStatus(dpath).getModificationTime();
 		}
 		catch (DMLPrivacyException | FederatedWorkerHandlerException ex){
 			throw ex;
@@ -235,8 +253,9 @@ public class FederatedWorkerHandler extends ChannelInboundHandlerAdapter {
 		_ecm.get(tid).setVariable(String.valueOf(id), cd);
 
 		if (DMLScript.LINEAGE)
-			// create a literal type lineage item with the file name
-			_ecm.get(tid).getLineage().set(String.valueOf(id), new LineageItem(filename));
+			// create a literal type lineage item with the file name and modification time
+			_ecm.get(tid).getLineage().set(String.valueOf(id),
+				new LineageItem(mtime >= 0 ? filename + "@" + mtime : filename));
 
 		if(dataType == Types.DataType.FRAME) {
 			FrameObject frameObject = (FrameObject) cd;
@@ -194,14 +194,21 @@ public class FederationMap {
 		FederatedRequest... fr) {
 		// executes step1[] - step 2 - ... step4 (only first step federated-data-specific)
 		setThreadID(tid, frSlices, fr);
+		// requests without results are deferred and coalesced with the next message per worker
+		boolean defer = FederatedData.isBatchingEnabled()
+			&& FederatedData.isDeferrable(fr) && FederatedData.isDeferrable(frSlices);
 		List<Future<FederatedResponse>> ret = new ArrayList<>();
 		int pos = 0;
-		for(Entry<FederatedRange, FederatedData> e : _fedMap.entrySet())
-			ret.add(e.getValue().executeFederatedOperation((frSlices != null) ? addAll(frSlices[pos++], fr) : fr));
+		for(Entry<FederatedRange, FederatedData> e : _fedMap.entrySet()) {
+			FederatedRequest[] request = (frSlices != null) ? addAll(frSlices[pos++], fr) : fr;
+			ret.add(defer ? e.getValue().deferFederatedOperation(request) :
+				e.getValue().executeFederatedOperation(request));
+		}
 
 		// prepare results (future federated responses), with optional wait to ensure the
-		// order of requests without data dependencies (e.g., cleanup RPCs)
-		if(wait)
+		// order of requests without data dependencies (e.g., cleanup RPCs); deferred
+		// requests are already executed in order with subsequent requests per worker
+		if(wait && !defer)
 			FederationUtils.waitFor(ret);
 		return ret.toArray(new Future[0]);
 	}
@@ -229,8 +236,9 @@ public class FederationMap {
 			VariableCPInstruction.prepareRemoveInstruction(id).toString());
 		request.setTID(tid);
 		List<Future<FederatedResponse>> tmp = new ArrayList<>();
+		boolean defer = FederatedData.isBatchingEnabled();
 		for(FederatedData fd : _fedMap.values())
-			tmp.add(fd.executeFederatedOperation(request));
+			tmp.add(defer ? fd.deferFederatedOperation(request) : fd.executeFederatedOperation(request));
 		// This cleaning is allowed to go in a separate thread, and finish on its own.
 		// The benefit is that the program is able to continue working on other things.
 		// The downside is that at the end of execution these threads can have executed
@@ -205,6 +205,17 @@ public abstract class DenseBlock implements Serializable
 	 */
 	public abstract boolean isNumeric();
 	
+	/**
+	 * Indicates if the dense block stores its values outside the
+	 * Java heap, in which case {@link #values(int)} and {@link #valuesAt(int)}
+	 * require a migration to the heap.
+	 * 
+	 * @return true if values are stored off-heap
+	 */
+	public boolean isOffHeap() {
+		return false;
+	}
+	
 	/**
 	 * Indicates if the dense block has a single
 	 * underlying block, i.e., if numBlocks==1.
@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.data;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Dense row block of doubles, whose values are stored outside the Java heap
+ * in direct buffers of at most 1GB each. This reduces GC pressure and heap
+ * occupancy of large dense matrices. Kernels with off-heap support read and
+ * write row ranges via {@link #copyTo(int, double[], int, int)} and
+ * {@link #copyFrom(int, double[], int, int)}. All other kernels request the
+ * heap array via {@link #values(int)}, which migrates the block once to
+ * the heap, after which it behaves like a {@link DenseBlockFP64}.
+ * The segments are either allocated direct buffers or memory-mapped
+ * regions of a file (see {@link #mapFile(FileChannel, long, int[], MapMode)}).
+ */
+public class DenseBlockFP64Off extends DenseBlockDRB
+{
+	private static final long serialVersionUID = -3271907531640367120L;
+
+	//segment size of 2^27 values (1GB), below the 2GB limit of direct buffers
+	private static final int SEG_SHIFT = 27;
+	private static final int SEG_SIZE = 1 << SEG_SHIFT;
+	private static final int SEG_MASK = SEG_SIZE - 1;
+
+	//off-heap segments, null after migration to the heap
+	private transient volatile DoubleBuffer[] _segs;
+	private int _len;
+	//heap array, only set after migration
+	private double[] _data;
+
+	public DenseBlockFP64Off(int[] dims) {
+		super(dims);
+		reset(_rlen, _odims, 0);
+	}
+
+	private DenseBlockFP64Off(int[] dims, DoubleBuffer[] segs, int len) {
+		super(dims);
+		_segs = segs;
+		_len = len;
+	}
+
+	/**
+	 * Creates a dense block whose storage is the memory-mapped region of the
+	 * given file channel starting at the given byte offset, i.e., without
+	 * copying the values. The values are expected in native byte order and
+	 * the file needs to be large enough to hold all cells of the block.
+	 * 
+	 * @param ch file channel
+	 * @param offset byte offset of the first value
+	 * @param dims block dimensions
+	 * @param mode map mode (e.g., PRIVATE for copy-on-write)
+	 * @return dense block backed by the mapped file
+	 * @throws IOException if IOException occurs
+	 */
+	public static DenseBlockFP64Off mapFile(FileChannel ch, long offset, int[] dims, MapMode mode)
+		throws IOException
+	{
+		long length = UtilFunctions.prod(dims);
+		int nseg = (int)((length + SEG_MASK) >>> SEG_SHIFT);
+		DoubleBuffer[] segs = new DoubleBuffer[nseg];
+		for( int i=0; i<nseg; i++ ) {
+			long slen = Math.min(SEG_SIZE, length - (long)i*SEG_SIZE);
+			segs[i] = ch.map(mode, offset + ((long)i << SEG_SHIFT) * 8, slen * 8)
+				.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+		}
+		return new DenseBlockFP64Off(dims, segs, (int)length);
+	}
+
+	@Override
+	protected void allocateBlock(int bix, int length) {
+		if( _segs == null && _data != null ) {
+			_data = new double[length];
+			return;
+		}
+		//direct buffers are zero-initialized
+		int nseg = (int)(((long)length + SEG_MASK) >>> SEG_SHIFT);
+		DoubleBuffer[] segs = new DoubleBuffer[nseg];
+		for( int i=0; i<nseg; i++ ) {
+			int slen = Math.min(SEG_SIZE, length - i*SEG_SIZE);
+			segs[i] = ByteBuffer.allocateDirect(slen * 8)
+				.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+		}
+		_len = length;
+		_segs = segs;
+	}
+
+	@Override
+	public boolean isNumeric() {
+		return true;
+	}
+
+	@Override
+	public boolean isOffHeap() {
+		return _segs != null;
+	}
+
+	@Override
+	public long capacity() {
+		return (_segs != null) ? _len :
+			(_data != null) ? _data.length : -1;
+	}
+
+	@Override
+	protected long computeNnz(int bix, int start, int length) {
+		DoubleBuffer[] segs = _segs;
+		if( segs == null )
+			return UtilFunctions.computeNnz(_data, start, length);
+		long nnz = 0;
+		for( int i=start; i<start+length; i++ )
+			nnz += (getInternal(segs, i) != 0) ? 1 : 0;
+		return nnz;
+	}
+
+	@Override
+	public double[] values(int r) {
+		return toHeap();
+	}
+
+	@Override
+	public double[] valuesAt(int bix) {
+		return toHeap();
+	}
+
+	@Override
+	public int index(int r) {
+		return 0;
+	}
+
+	@Override
+	public void incr(int r, int c) {
+		incr(r, c, 1);
+	}
+
+	@Override
+	public void incr(int r, int c, double delta) {
+		int ix = pos(r, c);
+		DoubleBuffer[] segs = _segs;
+		if( segs == null )
+			_data[ix] += delta;
+		else
+			setInternal(segs, ix, getInternal(segs, ix) + delta);
+	}
+
+	@Override
+	protected void fillBlock(int bix, int fromIndex, int toIndex, double v) {
+		DoubleBuffer[] segs = _segs;
+		if( segs == null )
+			Arrays.fill(_data, fromIndex, toIndex, v);
+		else
+			for( int i=fromIndex; i<toIndex; i++ )
+				setInternal(segs, i, v);
+	}
+
+	@Override
+	protected void setInternal(int bix, int ix, double v) {
+		DoubleBuffer[] segs = _segs;
+		if( segs == null )
+			_data[ix] = v;
+		else
+			setInternal(segs, ix, v);
+	}
+
+	@Override
+	public DenseBlock set(int r, int c, double v) {
+		setInternal(0, pos(r, c), v);
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(DenseBlock db) {
+		int len = _rlen * _odims[0];
+		if( db instanceof DenseBlockFP64Off && db.isOffHeap() ) {
+			//row-wise copy through a reusable heap buffer
+			double[] buff = getReuseRow(false);
+			for( int i=0, pos=0; i<_rlen; i++, pos+=_odims[0] ) {
+				((DenseBlockFP64Off)db).copyTo(pos, buff, 0, _odims[0]);
+				copyFrom(pos, buff, 0, _odims[0]);
+			}
+		}
+		else {
+			copyFrom(0, db.valuesAt(0), 0, len);
+		}
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int rl, int ru, int ol, int ou, DenseBlock db) {
+		double[] a = db.valuesAt(0);
+		if( ol == 0 && ou == _odims[0] )
+			copyFrom(rl*_odims[0], a, 0, (ru - rl) * _odims[0]);
+		else {
+			int len = ou - ol;
+			for(int i=rl, ix1=0, ix2=rl*_odims[0]+ol; i<ru; i++, ix1+=len, ix2+=_odims[0])
+				copyFrom(ix2, a, ix1, len);
+		}
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int r, double[] v) {
+		copyFrom(pos(r), v, 0, _odims[0]);
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int[] ix, double v) {
+		setInternal(0, pos(ix), v);
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int[] ix, long v) {
+		setInternal(0, pos(ix), v);
+		return this;
+	}
+
+	@Override
+	public DenseBlock set(int[] ix, String v) {
+		setInternal(0, pos(ix), Double.parseDouble(v));
+		return this;
+	}
+
+	@Override
+	public double get(int r, int c) {
+		return getInternal(pos(r, c));
+	}
+
+	@Override
+	public double get(int[] ix) {
+		return getInternal(pos(ix));
+	}
+
+	@Override
+	public String getString(int[] ix) {
+		return String.valueOf(getInternal(pos(ix)));
+	}
+
+	@Override
+	public long getLong(int[] ix) {
+		return UtilFunctions.toLong(getInternal(pos(ix)));
+	}
+
+	/**
+	 * Copies a range of values at the given linearized position into the
+	 * given heap array, without migrating the block to the heap.
+	 * 
+	 * @param pos linearized source position
+	 * @param dst destination array
+	 * @param dpos destination position
+	 * @param len number of values
+	 */
+	public void copyTo(int pos, double[] dst, int dpos, int len) {
+		DoubleBuffer[] segs = _segs;
+		if( segs == null ) {
+			System.arraycopy(_data, pos, dst, dpos, len);
+			return;
+		}
+		while( len > 0 ) {
+			int off = pos & SEG_MASK;
+			int clen = Math.min(len, SEG_SIZE - off);
+			//duplicate for thread-local buffer positions
+			DoubleBuffer seg = segs[pos >>> SEG_SHIFT].duplicate();
+			seg.position(off);
+			seg.get(dst, dpos, clen);
+			pos += clen; dpos += clen; len -= clen;
+		}
+	}
+
+	/**
+	 * Copies a range of values from the given heap array into this block
+	 * at the given linearized position, without migrating the block to the heap.
+	 * 
+	 * @param pos linearized target position
+	 * @param src source array
+	 * @param spos source position
+	 * @param len number of values
+	 */
+	public void copyFrom(int pos, double[] src, int spos, int len) {
+		DoubleBuffer[] segs = _segs;
+		if( segs == null ) {
+			System.arraycopy(src, spos, _data, pos, len);
+			return;
+		}
+		while( len > 0 ) {
+			int off = pos & SEG_MASK;
+			int clen = Math.min(len, SEG_SIZE - off);
+			DoubleBuffer seg = segs[pos >>> SEG_SHIFT].duplicate();
+			seg.position(off);
+			seg.put(src, spos, clen);
+			pos += clen; spos += clen; len -= clen;
+		}
+	}
+
+	private double getInternal(int ix) {
+		DoubleBuffer[] segs = _segs;
+		return (segs != null) ? getInternal(segs, ix) : _data[ix];
+	}
+
+	private static double getInternal(DoubleBuffer[] segs, int ix) {
+		return segs[ix >>> SEG_SHIFT].get(ix & SEG_MASK);
+	}
+
+	private static void setInternal(DoubleBuffer[] segs, int ix, double v) {
+		segs[ix >>> SEG_SHIFT].put(ix & SEG_MASK, v);
+	}
+
+	private synchronized double[] toHeap() {
+		if( _segs != null ) {
+			double[] data = new double[_len];
+			copyTo(0, data, 0, _len);
+			_data = data;
+			_segs = null; //release off-heap memory
+		}
+		return _data;
+	}
+
+	private Object writeReplace() {
+		//serialize as regular heap-based dense block
+		int[] dims = new int[_odims.length + 1];
+		for( int i=0; i<dims.length; i++ )
+			dims[i] = getDim(i);
+		double[] data = new double[(int)size()];
+		copyTo(0, data, 0, data.length);
+		return new DenseBlockFP64(dims, data);
+	}
+}
@@ -29,6 +29,24 @@ import java.util.BitSet;
 
 public abstract class DenseBlockFactory
 {
+	//minimum number of cells for off-heap allocation of FP64 dense blocks
+	public static final long OFFHEAP_MIN_CELLS = 1024 * 1024;
+	
+	//allocate large FP64 dense blocks off-heap (see DMLConfig.CP_OFFHEAP_DENSE)
+	private static boolean OFFHEAP = false;
+	
+	public static void setOffHeapAllocation(boolean flag) {
+		OFFHEAP = flag;
+	}
+	
+	public static boolean isOffHeapAllocation() {
+		return OFFHEAP;
+	}
+	
+	public static boolean isOffHeapAllocation(long len) {
+		return OFFHEAP && len >= OFFHEAP_MIN_CELLS && len < Integer.MAX_VALUE;
+	}
+	
 	public static DenseBlock createDenseBlock(int rlen, int clen) {
 		return createDenseBlock(new int[]{rlen, clen});
 	}
@@ -42,6 +60,22 @@ public abstract class DenseBlockFactory
 			DenseBlock.Type.DRB : DenseBlock.Type.LDRB;
 		return createDenseBlock(vt, type, dims);
 	}
+	
+	/**
+	 * Creates an off-heap FP64 dense block if off-heap allocation is enabled
+	 * and the block is sufficiently large, otherwise a regular FP64 dense block.
+	 * This is only used by consumers that write the block without migrating
+	 * it to the heap (e.g., off-heap dense-dense matrix multiplication).
+	 * 
+	 * @param rlen number of rows
+	 * @param clen number of columns
+	 * @return dense block
+	 */
+	public static DenseBlock createOffHeapDenseBlock(int rlen, int clen) {
+		return isOffHeapAllocation((long)rlen * clen) ?
+			new DenseBlockFP64Off(new int[]{rlen, clen}) :
+			createDenseBlock(rlen, clen);
+	}
 
 	public static DenseBlock createDenseBlock(BitSet data, int[] dims) {
 		return new DenseBlockBool(dims, data);
@@ -21,6 +21,8 @@ package org.apache.sysds.runtime.instructions.cp;
 
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.CompressionSettingsBuilder;
+import org.apache.sysds.runtime.compress.workload.Workload;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -28,8 +30,12 @@ import org.apache.sysds.runtime.matrix.operators.Operator;
 
 public class CompressionCPInstruction extends ComputationCPInstruction {
 
-	private CompressionCPInstruction(Operator op, CPOperand in, CPOperand out, String opcode, String istr) {
+	private final Workload _workload;
+
+	private CompressionCPInstruction(Operator op, CPOperand in, CPOperand out, Workload workload, String opcode,
+		String istr) {
 		super(CPType.Compression, op, in, null, null, out, opcode, istr);
+		_workload = workload;
 	}
 
 	public static CompressionCPInstruction parseInstruction(String str) {
@@ -37,7 +43,8 @@ public class CompressionCPInstruction extends ComputationCPInstruction {
 		String opcode = parts[0];
 		CPOperand in1 = new CPOperand(parts[1]);
 		CPOperand out = new CPOperand(parts[2]);
-		return new CompressionCPInstruction(null, in1, out, opcode, str);
+		Workload workload = (parts.length > 3) ? Workload.parse(parts[3]) : null;
+		return new CompressionCPInstruction(null, in1, out, workload, opcode, str);
 	}
 
 	@Override
@@ -45,7 +52,8 @@ public class CompressionCPInstruction extends ComputationCPInstruction {
 		// Get matrix block input
 		MatrixBlock in = ec.getMatrixInput(input1.getName());
 		// Compress the matrix block
-		MatrixBlock out = CompressedMatrixBlockFactory.compress(in, OptimizerUtils.getConstrainedNumThreads(-1)).getLeft();
+		MatrixBlock out = CompressedMatrixBlockFactory.compress(in, OptimizerUtils.getConstrainedNumThreads(-1),
+			new CompressionSettingsBuilder().setWorkload(_workload).create()).getLeft();
 		// Set output and release input
 		ec.releaseMatrixInput(input1.getName());
 		ec.setMatrixOutput(output.getName(), out);
@@ -32,6 +32,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.sysds.common.Types.DataType;
 import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.lops.Lop;
 import org.apache.sysds.parser.ParameterizedBuiltinFunctionExpression;
 import org.apache.sysds.parser.Statement;
@@ -52,6 +53,7 @@ import org.apache.sysds.runtime.matrix.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.Operator;
 import org.apache.sysds.runtime.matrix.operators.SimpleOperator;
+import org.apache.sysds.runtime.transform.StreamingTransformApply;
 import org.apache.sysds.runtime.transform.TfUtils;
 import org.apache.sysds.runtime.transform.decode.Decoder;
 import org.apache.sysds.runtime.transform.decode.DecoderFactory;
@@ -256,6 +258,15 @@ public class ParameterizedBuiltinCPInstruction extends ComputationCPInstruction
 			ec.setMatrixOutput(output.getName(), ret);
 			ec.releaseMatrixInput(params.get("target"));
 		}
+		else if ( opcode.equalsIgnoreCase("transformapply")
+			&& ec.containsVariable(output) && StreamingTransformApply.isApplicable(
+				ec.getFrameObject(params.get("target")), ec.getMatrixObject(output)) ) {
+			//stream over input file and write output file for lazy read
+			FrameBlock meta = ec.getFrameInput(params.get("meta"));
+			StreamingTransformApply.apply(ec.getFrameObject(params.get("target")), params.get("spec"),
+				meta, ec.getMatrixObject(output), OptimizerUtils.getConstrainedNumThreads(-1));
+			ec.releaseFrameInput(params.get("meta"));
+		}
 		else if ( opcode.equalsIgnoreCase("transformapply")) {
 			//acquire locks
 			FrameBlock data = ec.getFrameInput(params.get("target"));
@@ -264,7 +275,8 @@ public class ParameterizedBuiltinCPInstruction extends ComputationCPInstruction
 			
 			//compute transformapply
 			Encoder encoder = EncoderFactory.createEncoder(params.get("spec"), colNames, data.getNumColumns(), meta);
-			MatrixBlock mbout = encoder.apply(data, new MatrixBlock(data.getNumRows(), data.getNumColumns(), false));
+			MatrixBlock mbout = encoder.apply(data, new MatrixBlock(data.getNumRows(), data.getNumColumns(), false),
+				OptimizerUtils.getConstrainedNumThreads(-1));
 			
 			//release locks
 			ec.setMatrixOutput(output.getName(), mbout);
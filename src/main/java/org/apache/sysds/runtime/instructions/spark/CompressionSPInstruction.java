@@ -22,6 +22,8 @@ package org.apache.sysds.runtime.instructions.spark;
 import org.apache.spark.api.java.JavaPairRDD;
 import org.apache.spark.api.java.function.Function;
 import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.CompressionSettingsBuilder;
+import org.apache.sysds.runtime.compress.workload.Workload;
 import org.apache.sysds.runtime.controlprogram.context.ExecutionContext;
 import org.apache.sysds.runtime.controlprogram.context.SparkExecutionContext;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
@@ -32,14 +34,20 @@ import org.apache.sysds.runtime.matrix.operators.Operator;
 
 public class CompressionSPInstruction extends UnarySPInstruction {
 
-	private CompressionSPInstruction(Operator op, CPOperand in, CPOperand out, String opcode, String istr) {
+	private final Workload _workload;
+
+	private CompressionSPInstruction(Operator op, CPOperand in, CPOperand out, Workload workload, String opcode,
+		String istr) {
 		super(SPType.Compression, op, in, out, opcode, istr);
+		_workload = workload;
 	}
 
 	public static CompressionSPInstruction parseInstruction(String str) {
-		InstructionUtils.checkNumFields(str, 2);
+		InstructionUtils.checkNumFields(str, 2, 3);
 		String[] parts = InstructionUtils.getInstructionPartsWithValueType(str);
-		return new CompressionSPInstruction(null, new CPOperand(parts[1]), new CPOperand(parts[2]), parts[0], str);
+		Workload workload = (parts.length > 3) ? Workload.parse(parts[3]) : null;
+		return new CompressionSPInstruction(null, new CPOperand(parts[1]), new CPOperand(parts[2]), workload,
+			parts[0], str);
 	}
 
 	@Override
@@ -50,7 +58,7 @@ public class CompressionSPInstruction extends UnarySPInstruction {
 		JavaPairRDD<MatrixIndexes, MatrixBlock> in = sec.getBinaryMatrixBlockRDDHandleForVariable(input1.getName());
 
 		// execute compression
-		JavaPairRDD<MatrixIndexes, MatrixBlock> out = in.mapValues(new CompressionFunction());
+		JavaPairRDD<MatrixIndexes, MatrixBlock> out = in.mapValues(new CompressionFunction(_workload));
 
 		// set outputs
 		sec.setRDDHandleForVariable(output.getName(), out);
@@ -60,9 +68,23 @@ public class CompressionSPInstruction extends UnarySPInstruction {
 	public static class CompressionFunction implements Function<MatrixBlock, MatrixBlock> {
 		private static final long serialVersionUID = -6528833083609423922L;
 
+		// encoded workload summary, or null for size-based compression planning
+		private final String _workload;
+
+		public CompressionFunction() {
+			this(null);
+		}
+
+		public CompressionFunction(Workload workload) {
+			_workload = (workload != null) ? workload.encode() : null;
+		}
+
 		@Override
 		public MatrixBlock call(MatrixBlock arg0) throws Exception {
-			return CompressedMatrixBlockFactory.compress(arg0).getLeft();
+			if(_workload == null)
+				return CompressedMatrixBlockFactory.compress(arg0).getLeft();
+			return CompressedMatrixBlockFactory.compress(arg0, 1,
+				new CompressionSettingsBuilder().setWorkload(Workload.parse(_workload)).create()).getLeft();
 		}
 	}
 }
@@ -126,7 +126,7 @@ public class MapmmSPInstruction extends BinarySPInstruction {
 		}
 		
 		//get inputs
-		PartitionedBroadcast<MatrixBlock> in2 = sec.getBroadcastForVariable(bcastVar); 
+		PartitionedBroadcast<MatrixBlock> in2 = sec.getBroadcastForVariable(bcastVar, true); 
 		
 		//empty input block filter
 		if( !_outputEmpty )
@@ -55,6 +55,7 @@ import org.apache.sysds.runtime.transform.encode.EncoderFactory;
 import org.apache.sysds.runtime.transform.encode.EncoderMVImpute;
 import org.apache.sysds.runtime.transform.encode.EncoderMVImpute.MVMethod;
 import org.apache.sysds.runtime.transform.encode.EncoderRecode;
+import org.apache.sysds.runtime.transform.encode.RecodeMap;
 import org.apache.sysds.runtime.transform.meta.TfMetaUtils;
 import org.apache.sysds.runtime.transform.meta.TfOffsetMap;
 import scala.Tuple2;
@@ -62,7 +63,6 @@ import scala.Tuple2;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map.Entry;
 
@@ -262,10 +262,10 @@ public class MultiReturnParameterizedBuiltinSPInstruction extends ComputationSPI
 			
 			//output recode maps as columnID - token pairs
 			ArrayList<Tuple2<Integer,Object>> ret = new ArrayList<>();
-			HashMap<Integer,HashSet<Object>> tmp = _raEncoder.getCPRecodeMapsPartial();
-			for( Entry<Integer,HashSet<Object>> e1 : tmp.entrySet() )
-				for( Object token : e1.getValue() )
-					ret.add(new Tuple2<>(e1.getKey(), token));
+			HashMap<Integer,RecodeMap> tmp = _raEncoder.getCPRecodeMapsPartial();
+			for( Entry<Integer,RecodeMap> e1 : tmp.entrySet() )
+				for( int i=0; i<e1.getValue().size(); i++ )
+					ret.add(new Tuple2<>(e1.getKey(), e1.getValue().getTokenObject(i)));
 			if( _raEncoder != null )
 				_raEncoder.getCPRecodeMapsPartial().clear();
 		
@@ -95,8 +95,9 @@ public class ReblockSPInstruction extends UnarySPInstruction {
 		if(iimd == null)
 			throw new DMLRuntimeException("Error: Metadata not found");
 
-		//check for in-memory reblock (w/ lazy spark context, potential for latency reduction)
-		if( Recompiler.checkCPReblock(sec, input1.getName()) ) {
+		//check for in-memory reblock (w/ lazy spark context, potential for latency reduction),
+		//which is also the only option for formats without spark readers
+		if( Recompiler.checkCPReblock(sec, input1.getName()) || iimd.getFileFormat().isSingleNodeFormat() ) {
 			if( input1.getDataType().isMatrix() || input1.getDataType().isFrame() )
 				Recompiler.executeInMemoryReblock(sec, input1.getName(), output.getName());
 			Statistics.decrementNoOfExecutedSPInst();
@@ -30,6 +30,8 @@ import java.io.ObjectOutputStream;
 import java.util.Arrays;
 
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.lib.LibSlice;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlockFactory;
 import org.apache.sysds.runtime.util.FastBufferedDataInputStream;
@@ -55,8 +57,22 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		//do nothing (required for Externalizable)
 	}
 	
+	public PartitionedBlock(T block, int blen) {
+		this(block, blen, false);
+	}
+	
+	/**
+	 * Creates a partitioned block of the given input block. Compressed inputs are
+	 * decompressed block-wise unless compressed partitions are requested, which
+	 * is only supported for consumers that handle compressed blocks (e.g., the
+	 * broadcast side of map-side matrix multiplications).
+	 * 
+	 * @param block input block
+	 * @param blen block size
+	 * @param compressed keep compressed inputs as compressed partition blocks
+	 */
 	@SuppressWarnings("unchecked")
-	public PartitionedBlock(T block, int blen) 
+	public PartitionedBlock(T block, int blen, boolean compressed) 
 	{
 		//get the input frame block
 		int rlen = block.getNumRows();
@@ -67,16 +83,21 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		_blen = blen;
 		int nrblks = getNumRowBlocks();
 		int ncblks = getNumColumnBlocks();
-		int code = CacheBlockFactory.getCode(block);
+		boolean keepCompressed = compressed && block instanceof CompressedMatrixBlock;
+		int code = (block instanceof CompressedMatrixBlock) ? 0 : CacheBlockFactory.getCode(block);
 		
 		try {
 			_partBlocks = new CacheBlock[nrblks * ncblks];
 			Arrays.parallelSetAll(_partBlocks, index -> {
 				int i = index / ncblks;
 				int j = index % ncblks;
+				int rl = i * _blen, ru = Math.min((i + 1) * _blen, rlen) - 1;
+				int cl = j * _blen, cu = Math.min((j + 1) * _blen, clen) - 1;
+				//keep compressed inputs compressed (row blocks share dictionaries)
+				if( keepCompressed )
+					return LibSlice.sliceCompressed((CompressedMatrixBlock) block, rl, ru, cl, cu);
 				T tmp = (T) CacheBlockFactory.newInstance(code);
-				return block.slice(i * _blen, Math.min((i + 1) * _blen, rlen) - 1,
-					j * _blen, Math.min((j + 1) * _blen, clen) - 1, tmp);
+				return block.slice(rl, ru, cl, cu, tmp);
 			});
 		} catch(Exception ex) {
 			throw new RuntimeException("Failed partitioning of broadcast variable input.", ex);
@@ -240,7 +261,7 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		DataInput dis = is;
 		
 		int code = readHeader(dis);
-		if( is instanceof ObjectInputStream && code == 0) {	// Apply only for MatrixBlock at this point as a temporary workaround
+		if( is instanceof ObjectInputStream && (code == 0 || code == 3) ) {	// Apply only for MatrixBlock at this point as a temporary workaround
 															// We will generalize this code by adding UTF functionality to support Frame
 			//fast deserialize of dense/sparse blocks
 			ObjectInputStream ois = (ObjectInputStream)is;
@@ -282,12 +303,22 @@ public class PartitionedBlock<T extends CacheBlock> implements Externalizable
 		dos.writeInt(_blen);
 		dos.writeInt(_offset);
 		dos.writeInt(_partBlocks.length);
-		dos.writeByte(CacheBlockFactory.getCode(_partBlocks[0]));
+		dos.writeByte(getPartitionCode());
 		
 		for( CacheBlock block : _partBlocks )
 			block.write(dos);
 	}
 
+	private int getPartitionCode() {
+		//compressed partitions require all blocks to be compressed, while
+		//mixed partitions are read as uncompressed (decompressing) blocks
+		int code = CacheBlockFactory.getCode(_partBlocks[0]);
+		for( int i=1; i<_partBlocks.length && code == 3; i++ )
+			if( !(_partBlocks[i] instanceof CompressedMatrixBlock) )
+				code = 0;
+		return code;
+	}
+	
 	private int readHeader(DataInput dis) 
 		throws IOException
 	{
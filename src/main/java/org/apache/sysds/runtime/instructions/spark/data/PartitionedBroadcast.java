@@ -49,14 +49,30 @@ public class PartitionedBroadcast<T extends CacheBlock> implements Serializable
 	
 	private Broadcast<PartitionedBlock<T>>[] _pbc = null;
 	private DataCharacteristics _dc;
+	private boolean _compressed = false;
 	
 	public PartitionedBroadcast() {
 		//do nothing (required for Externalizable)
 	}
 	
 	public PartitionedBroadcast(Broadcast<PartitionedBlock<T>>[] broadcasts, DataCharacteristics dc) {
+		this(broadcasts, dc, false);
+	}
+	
+	public PartitionedBroadcast(Broadcast<PartitionedBlock<T>>[] broadcasts, DataCharacteristics dc, boolean compressed) {
 		_pbc = broadcasts;
 		_dc = dc;
+		_compressed = compressed;
+	}
+	
+	/**
+	 * Indicates if the partition blocks might be compressed matrix blocks,
+	 * which are only handed out to consumers that support compressed blocks.
+	 * 
+	 * @return true if partitions of compressed blocks
+	 */
+	public boolean isCompressed() {
+		return _compressed;
 	}
 	
 	public Broadcast<PartitionedBlock<T>>[] getBroadcasts() {
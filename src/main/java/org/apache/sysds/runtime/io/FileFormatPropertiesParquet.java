@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+public class FileFormatPropertiesParquet extends FileFormatProperties implements Serializable
+{
+	private static final long serialVersionUID = 4839572619730563470L;
+	
+	public static final String DEFAULT_COMPRESSION = "snappy";
+	
+	//selected columns (by name) for column projection, null for all columns
+	private final String[] _columns;
+	//compression codec of written files (uncompressed, snappy, gzip)
+	private final String _compression;
+	
+	public FileFormatPropertiesParquet() {
+		this(null, DEFAULT_COMPRESSION);
+	}
+	
+	public FileFormatPropertiesParquet(String[] columns) {
+		this(columns, DEFAULT_COMPRESSION);
+	}
+	
+	public FileFormatPropertiesParquet(String[] columns, String compression) {
+		_columns = columns;
+		_compression = (compression != null) ? compression : DEFAULT_COMPRESSION;
+	}
+	
+	public String[] getColumns() {
+		return _columns;
+	}
+	
+	public boolean hasProjection() {
+		return _columns != null;
+	}
+	
+	public String getCompression() {
+		return _compression;
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(" columns " + Arrays.toString(_columns));
+		sb.append(" compression " + _compression);
+		return sb.toString();
+	}
+}
@@ -69,6 +69,16 @@ public class FrameReaderFactory {
 				reader = new FrameReaderProto();
 				break;
 
+			case PARQUET: {
+				FileFormatPropertiesParquet pprops = (props instanceof FileFormatPropertiesParquet) ?
+					(FileFormatPropertiesParquet) props : null;
+				if(ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_READ_BINARYFORMATS))
+					reader = new FrameReaderParquetParallel(pprops);
+				else
+					reader = new FrameReaderParquet(pprops);
+				break;
+			}
+
 			default:
 				throw new DMLRuntimeException("Failed to create frame reader for unknown format: " + fmt.toString());
 		}
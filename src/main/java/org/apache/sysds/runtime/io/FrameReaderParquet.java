@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+
+/**
+ * Single-threaded parquet frame reader, which maps the (selected) columns
+ * of a parquet file to frame columns of the requested or inferred value
+ * types, and uses the parquet field names as column names.
+ * 
+ */
+public class FrameReaderParquet extends FrameReader
+{
+	protected final FileFormatPropertiesParquet _props;
+	
+	public FrameReaderParquet(FileFormatPropertiesParquet props) {
+		_props = (props != null) ? props : new FileFormatPropertiesParquet();
+	}
+	
+	@Override
+	public final FrameBlock readFrameFromHDFS(String fname, ValueType[] schema, String[] names, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//check existence and non-empty file
+		checkValidInputFile(fs, path);
+		
+		//obtain row groups and projected schema from footers
+		List<RowGroup> groups = ParquetUtils.getRowGroups(fs, path, job);
+		MessageType pschema = ParquetUtils.getProjection(groups.isEmpty() ?
+			ParquetUtils.readSchema(fs, path, job) : groups.get(0).getSchema(), _props.getColumns());
+		long nrow = ParquetUtils.getNumRows(groups);
+		long ncol = pschema.getFieldCount();
+		if( (rlen >= 0 && rlen != nrow) || (clen >= 0 && clen != ncol) )
+			throw new IOException("Read frame dimensions mismatch with metadata: "
+				+ nrow + "x" + ncol + " vs " + rlen + "x" + clen + ".");
+		
+		//allocate output frame block (requested schema or parquet types)
+		ValueType[] lschema = (schema != null && (schema.length == ncol || schema.length == 1)) ?
+			createOutputSchema(schema, ncol) : ParquetUtils.getValueTypes(pschema);
+		String[] lnames = ParquetUtils.getColumnNames(pschema);
+		FrameBlock ret = createOutputFrameBlock(lschema, lnames, nrow);
+		
+		//core read (sequential/parallel)
+		readParquetFrameFromHDFS(groups, pschema, job, ret);
+		
+		return ret;
+	}
+	
+	@Override
+	public FrameBlock readFrameFromInputStream(InputStream is, ValueType[] schema, String[] names, long rlen, long clen)
+		throws IOException, DMLRuntimeException
+	{
+		//parquet requires random access to the footer
+		throw new DMLRuntimeException("Not implemented yet.");
+	}
+	
+	protected void readParquetFrameFromHDFS(List<RowGroup> groups, MessageType schema, JobConf job, FrameBlock dest)
+		throws IOException
+	{
+		for( RowGroup group : groups )
+			readRowGroup(group, schema, job, dest);
+	}
+	
+	protected static void readRowGroup(RowGroup group, MessageType schema, JobConf job, FrameBlock dest)
+		throws IOException
+	{
+		final PrimitiveTypeName[] types = ParquetUtils.getPrimitiveTypes(schema);
+		final ValueType[] vts = dest.getSchema();
+		ParquetUtils.readRowGroup(group, schema, job, (row, record) -> {
+			for( int j=0; j<types.length; j++ )
+				dest.set(row, j, ParquetUtils.getObject(record, j, types[j], vts[j]));
+		});
+	}
+}
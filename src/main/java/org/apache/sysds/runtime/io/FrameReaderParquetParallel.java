@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Multi-threaded parquet frame reader, which reads the row groups of
+ * all part files in parallel into disjoint row ranges of the output.
+ * 
+ */
+public class FrameReaderParquetParallel extends FrameReaderParquet
+{
+	public FrameReaderParquetParallel(FileFormatPropertiesParquet props) {
+		super(props);
+	}
+	
+	@Override
+	protected void readParquetFrameFromHDFS(List<RowGroup> groups, MessageType schema, JobConf job, FrameBlock dest)
+		throws IOException
+	{
+		int numThreads = Math.min(OptimizerUtils.getParallelBinaryReadParallelism(), groups.size());
+		
+		//fall back to sequential read for single row groups
+		if( numThreads <= 1 ) {
+			super.readParquetFrameFromHDFS(groups, schema, job, dest);
+			return;
+		}
+		
+		try {
+			ExecutorService pool = CommonThreadPool.get(numThreads);
+			ArrayList<ReadRowGroupTask> tasks = new ArrayList<>();
+			for( RowGroup group : groups )
+				tasks.add(new ReadRowGroupTask(group, schema, job, dest));
+			CommonThreadPool.invokeAndShutdown(pool, tasks);
+		}
+		catch (Exception e) {
+			throw new IOException("Failed parallel read of parquet input.", e);
+		}
+	}
+	
+	private static class ReadRowGroupTask implements Callable<Object> 
+	{
+		private final RowGroup _group;
+		private final MessageType _schema;
+		private final JobConf _job;
+		private final FrameBlock _dest;
+		
+		public ReadRowGroupTask(RowGroup group, MessageType schema, JobConf job, FrameBlock dest) {
+			_group = group;
+			_schema = schema;
+			_job = job;
+			_dest = dest;
+		}
+		
+		@Override
+		public Object call() throws Exception {
+			readRowGroup(_group, _schema, _job, _dest);
+			return null;
+		}
+	}
+}
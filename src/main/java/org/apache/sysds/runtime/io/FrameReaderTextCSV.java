@@ -21,6 +21,7 @@ package org.apache.sysds.runtime.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.hadoop.fs.FileSystem;
@@ -118,10 +119,6 @@ public class FrameReaderTextCSV extends FrameReader {
 		JobConf job, FrameBlock dest, ValueType[] schema, String[] names, long rlen, long clen, int rl, boolean first)
 		throws IOException {
 		boolean hasHeader = _props.hasHeader();
-		boolean isFill = _props.isFill();
-		double dfillValue = _props.getFillValue();
-		String sfillValue = String.valueOf(_props.getFillValue());
-		Set<String> naValues = _props.getNAStrings();
 		String delim = _props.getDelim();
 
 		// create record reader
@@ -129,7 +126,6 @@ public class FrameReaderTextCSV extends FrameReader {
 		LongWritable key = new LongWritable();
 		Text value = new Text();
 		int row = rl;
-		int col = -1;
 
 		// handle header if existing
 		if(first && hasHeader) {
@@ -138,45 +134,10 @@ public class FrameReaderTextCSV extends FrameReader {
 		}
 
 		// Read the data
-		boolean emptyValuesFound = false;
 		try {
 			while(reader.next(key, value)) // foreach line
-			{
-				String cellStr = value.toString().trim();
-				emptyValuesFound = false;
-				col = 0;
-				String[] parts = IOUtilFunctions.splitCSV(cellStr, delim);
-
-				// parse frame meta data (missing values / num distinct)
-				if(parts[0].equals(TfUtils.TXMTD_MVPREFIX) || parts[0].equals(TfUtils.TXMTD_NDPREFIX)) {
-					if(parts[0].equals(TfUtils.TXMTD_MVPREFIX))
-						for(int j = 0; j < dest.getNumColumns(); j++)
-							dest.getColumnMetadata(j).setMvValue(parts[j + 1]);
-					else if(parts[0].equals(TfUtils.TXMTD_NDPREFIX))
-						for(int j = 0; j < dest.getNumColumns(); j++)
-							dest.getColumnMetadata(j).setNumDistinct(Long.parseLong(parts[j + 1]));
-					continue;
-				}
-
-				for(String part : parts) // foreach cell
-				{
-					part = part.trim();
-					if(part.isEmpty() || naValues.contains(part)) {
-						if(isFill && dfillValue != 0)
-							dest.set(row, col, UtilFunctions.stringToObject(schema[col], sfillValue));
-						emptyValuesFound = true;
-					}
-					else {
-						dest.set(row, col, UtilFunctions.stringToObject(schema[col], part));
-					}
-					col++;
-				}
-
-				// sanity checks for empty values and number of columns
-				IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, isFill, emptyValuesFound);
-				IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", cellStr, parts, clen);
-				row++;
-			}
+				if( parseCSVLine(value.toString(), dest, schema, clen, row) )
+					row++;
 		}
 		finally {
 			IOUtilFunctions.closeSilently(reader);
@@ -185,6 +146,87 @@ public class FrameReaderTextCSV extends FrameReader {
 		return row;
 	}
 
+	/**
+	 * Reads the given csv lines (without header) into a new frame block. 
+	 * This allows to read csv files that exceed the available memory in 
+	 * chunks of rows, e.g., for streaming transformapply.
+	 * 
+	 * @param lines csv lines
+	 * @param schema value types of the columns
+	 * @param names column names
+	 * @return frame block of all data lines
+	 * @throws IOException if IOException occurs
+	 */
+	public FrameBlock readFrameFromLines(List<String> lines, ValueType[] schema, String[] names)
+		throws IOException
+	{
+		long clen = schema.length;
+		FrameBlock ret = createOutputFrameBlock(schema, names, lines.size());
+		int row = 0;
+		for( String line : lines )
+			if( parseCSVLine(line, ret, schema, clen, row) )
+				row++;
+		if( row == 0 )
+			ret = createOutputFrameBlock(schema, names, 0);
+		else if( row < lines.size() ) //remove meta data lines
+			ret = ret.slice(0, row - 1, 0, (int) clen - 1, new FrameBlock());
+		return ret;
+	}
+
+	/**
+	 * Parses a single csv line into the given row of the output frame block,
+	 * or into the column meta data if the line holds frame meta data.
+	 * 
+	 * @param line csv line
+	 * @param dest output frame block
+	 * @param schema value types of the columns
+	 * @param clen number of columns
+	 * @param row row index of the line
+	 * @return true if the line was a data row, false for meta data
+	 * @throws IOException if the line has empty fields or an invalid number of columns
+	 */
+	protected final boolean parseCSVLine(String line, FrameBlock dest, ValueType[] schema, long clen, int row)
+		throws IOException
+	{
+		boolean isFill = _props.isFill();
+		double dfillValue = _props.getFillValue();
+		Set<String> naValues = _props.getNAStrings();
+		String cellStr = line.trim();
+		boolean emptyValuesFound = false;
+		int col = 0;
+		String[] parts = IOUtilFunctions.splitCSV(cellStr, _props.getDelim());
+
+		// parse frame meta data (missing values / num distinct)
+		if(parts[0].equals(TfUtils.TXMTD_MVPREFIX) || parts[0].equals(TfUtils.TXMTD_NDPREFIX)) {
+			if(parts[0].equals(TfUtils.TXMTD_MVPREFIX))
+				for(int j = 0; j < dest.getNumColumns(); j++)
+					dest.getColumnMetadata(j).setMvValue(parts[j + 1]);
+			else if(parts[0].equals(TfUtils.TXMTD_NDPREFIX))
+				for(int j = 0; j < dest.getNumColumns(); j++)
+					dest.getColumnMetadata(j).setNumDistinct(Long.parseLong(parts[j + 1]));
+			return false;
+		}
+
+		for(String part : parts) // foreach cell
+		{
+			part = part.trim();
+			if(part.isEmpty() || naValues.contains(part)) {
+				if(isFill && dfillValue != 0)
+					dest.set(row, col, UtilFunctions.stringToObject(schema[col], String.valueOf(dfillValue)));
+				emptyValuesFound = true;
+			}
+			else {
+				dest.set(row, col, UtilFunctions.stringToObject(schema[col], part));
+			}
+			col++;
+		}
+
+		// sanity checks for empty values and number of columns
+		IOUtilFunctions.checkAndRaiseErrorCSVEmptyField(cellStr, isFill, emptyValuesFound);
+		IOUtilFunctions.checkAndRaiseErrorCSVNumColumns("", cellStr, parts, clen);
+		return true;
+	}
+
 	protected Pair<Integer, Integer> computeCSVSize(Path path, JobConf job, FileSystem fs) throws IOException {
 		TextInputFormat informat = new TextInputFormat();
 		informat.configure(job);
@@ -61,6 +61,16 @@ public class FrameWriterFactory
 				writer = new FrameWriterProto();
 				break;
 			
+			case PARQUET: {
+				FileFormatPropertiesParquet pprops = (props instanceof FileFormatPropertiesParquet) ?
+					(FileFormatPropertiesParquet) props : new FileFormatPropertiesParquet();
+				if( ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_WRITE_BINARYFORMATS) )
+					writer = new FrameWriterParquetParallel(pprops);
+				else
+					writer = new FrameWriterParquet(pprops);
+				break;
+			}
+			
 			default:
 				throw new DMLRuntimeException("Failed to create frame writer for unknown format: " + fmt.toString());
 		}
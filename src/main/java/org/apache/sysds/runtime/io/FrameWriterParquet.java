@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Single-threaded parquet frame writer, which maps the frame schema to
+ * optional parquet columns named by the frame column names.
+ * 
+ */
+public class FrameWriterParquet extends FrameWriter
+{
+	protected final FileFormatPropertiesParquet _props;
+	
+	public FrameWriterParquet(FileFormatPropertiesParquet props) {
+		_props = props;
+	}
+	
+	@Override
+	public final void writeFrameToHDFS(FrameBlock src, String fname, long rlen, long clen) 
+		throws IOException, DMLRuntimeException 
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS( fname );
+		
+		//validity check frame dimensions
+		if( src.getNumRows() != rlen || src.getNumColumns() != clen ) {
+			throw new IOException("Frame dimensions mismatch with metadata: " + 
+				src.getNumRows()+"x"+src.getNumColumns()+" vs "+rlen+"x"+clen+".");
+		}
+		
+		//core write (sequential/parallel)
+		writeParquetFrameToHDFS(path, job, src);
+	}
+	
+	protected void writeParquetFrameToHDFS(Path path, JobConf job, FrameBlock src) 
+		throws IOException
+	{
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//sequential write to single file
+		writeParquetFrameToFile(path, job, src, 0, src.getNumRows());
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+	
+	protected final void writeParquetFrameToFile(Path path, JobConf job, FrameBlock src, int rl, int ru) 
+		throws IOException
+	{
+		ValueType[] schema = src.getSchema();
+		MessageType pschema = ParquetUtils.createSchema(schema,
+			src.getColumnNames(), ParquetUtils.FRAME_SCHEMA_NAME);
+		SimpleGroupFactory factory = new SimpleGroupFactory(pschema);
+		ParquetWriter<Group> writer = ParquetUtils.createWriter(path, job, pschema, _props);
+		
+		try {
+			for( int i=rl; i<ru; i++ ) {
+				Group record = factory.newGroup();
+				for( int j=0; j<schema.length; j++ )
+					ParquetUtils.setObject(record, j, schema[j], src.get(i, j));
+				writer.write(record);
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(writer);
+		}
+	}
+}
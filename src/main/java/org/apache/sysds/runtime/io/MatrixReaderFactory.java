@@ -61,6 +61,16 @@ public class MatrixReaderFactory {
 				reader = (par & mcsr) ? 
 					new ReaderBinaryBlockParallel(false) : new ReaderBinaryBlock(false);
 				break;
+
+			case COMPRESSED:
+				reader = ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_READ_BINARYFORMATS) ?
+					new ReaderCompressedParallel(false) : new ReaderCompressed(false);
+				break;
+
+			case PARQUET:
+				reader = (ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_READ_BINARYFORMATS) & mcsr) ?
+					new ReaderParquetParallel(null) : new ReaderParquet(null);
+				break;
 			
 			default:
 				throw new DMLRuntimeException("Failed to create matrix reader for unknown format: " + fmt.toString());
@@ -106,6 +116,19 @@ public class MatrixReaderFactory {
 				reader = (par & mcsr) ?
 					new ReaderBinaryBlockParallel(props.localFS) : new ReaderBinaryBlock(props.localFS);
 				break;
+
+			case COMPRESSED:
+				reader = ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_READ_BINARYFORMATS) ?
+					new ReaderCompressedParallel(props.localFS) : new ReaderCompressed(props.localFS);
+				break;
+
+			case PARQUET: {
+				FileFormatPropertiesParquet pprops = (props.formatProperties instanceof FileFormatPropertiesParquet) ?
+					(FileFormatPropertiesParquet) props.formatProperties : null;
+				reader = (ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_READ_BINARYFORMATS) & mcsr) ?
+					new ReaderParquetParallel(pprops) : new ReaderParquet(pprops);
+				break;
+			}
 		
 			default:
 				throw new DMLRuntimeException("Failed to create matrix reader for unknown format: " + fmt.toString());
@@ -74,6 +74,23 @@ public class MatrixWriterFactory
 				else
 					writer = new WriterBinaryBlock(replication);
 				break;
+
+			case COMPRESSED:
+				if( ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_WRITE_BINARYFORMATS) )
+					writer = new WriterCompressedParallel(replication);
+				else
+					writer = new WriterCompressed(replication);
+				break;
+
+			case PARQUET: {
+				FileFormatPropertiesParquet pprops = (props instanceof FileFormatPropertiesParquet) ?
+					(FileFormatPropertiesParquet) props : new FileFormatPropertiesParquet();
+				if( ConfigurationManager.getCompilerConfigFlag(ConfigType.PARALLEL_CP_WRITE_BINARYFORMATS) )
+					writer = new WriterParquetParallel(pprops);
+				else
+					writer = new WriterParquet(pprops);
+				break;
+			}
 		
 			default:
 				throw new DMLRuntimeException("Failed to create matrix writer for unknown format: " + fmt.toString());
@@ -0,0 +1,450 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.GroupWriteSupport;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.metadata.FileMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Type.Repetition;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Shared functionality of the parquet matrix and frame readers and writers,
+ * which includes the enumeration of row groups (the unit of parallel reads),
+ * column projection, and the mapping of parquet types to value types.
+ */
+public class ParquetUtils 
+{
+	public static final String MATRIX_SCHEMA_NAME = "matrix";
+	public static final String FRAME_SCHEMA_NAME = "frame";
+	
+	//alphanumeric order of part files (hadoop paths are raw comparables)
+	private static final Comparator<Path> PART_FILE_ORDER = Comparator.comparing(Path::getName);
+	
+	private ParquetUtils() {
+		//prevent instantiation via private constructor
+	}
+	
+	/**
+	 * Row group of a parquet file along with its row offset in the
+	 * overall input, which might consist of multiple part files.
+	 */
+	public static class RowGroup {
+		private final Path _path;
+		private final FileMetaData _meta;
+		private final BlockMetaData _block;
+		private final long _rowOffset;
+		
+		protected RowGroup(Path path, FileMetaData meta, BlockMetaData block, long rowOffset) {
+			_path = path;
+			_meta = meta;
+			_block = block;
+			_rowOffset = rowOffset;
+		}
+		
+		public long getRowOffset() {
+			return _rowOffset;
+		}
+		
+		public long getNumRows() {
+			return _block.getRowCount();
+		}
+		
+		public MessageType getSchema() {
+			return _meta.getSchema();
+		}
+	}
+	
+	/**
+	 * Consumer of the records (rows) of a row group.
+	 */
+	public interface RowConsumer {
+		void accept(int row, Group record);
+	}
+	
+	/**
+	 * Obtains all row groups of the given file or directory of part
+	 * files (in alphanumeric order) by reading the parquet footers.
+	 * 
+	 * @param fs file system
+	 * @param path file or directory path
+	 * @param conf hadoop configuration
+	 * @return list of row groups with row offsets
+	 * @throws IOException if IOException occurs
+	 */
+	public static List<RowGroup> getRowGroups(FileSystem fs, Path path, Configuration conf)
+		throws IOException
+	{
+		//prepare file paths in alphanumeric order
+		List<Path> files = new ArrayList<>();
+		if( fs.isDirectory(path) ) {
+			for( FileStatus stat : fs.listStatus(path, IOUtilFunctions.hiddenFileFilter) )
+				files.add(stat.getPath());
+			files.sort(PART_FILE_ORDER);
+		}
+		else
+			files.add(path);
+		
+		//read footers and compute row offsets via cumsum
+		List<RowGroup> ret = new ArrayList<>();
+		MessageType schema = null;
+		long offset = 0;
+		for( Path file : files ) {
+			ParquetMetadata footer = ParquetFileReader
+				.readFooter(conf, file, ParquetMetadataConverter.NO_FILTER);
+			if( schema != null && !schema.equals(footer.getFileMetaData().getSchema()) )
+				throw new IOException("Incompatible schemas of parquet part files: "+file);
+			schema = footer.getFileMetaData().getSchema();
+			for( BlockMetaData block : footer.getBlocks() ) {
+				ret.add(new RowGroup(file, footer.getFileMetaData(), block, offset));
+				offset += block.getRowCount();
+			}
+		}
+		return ret;
+	}
+	
+	/**
+	 * Reads the schema of the given parquet file or directory of part files.
+	 * 
+	 * @param fs file system
+	 * @param path file or directory path
+	 * @param conf hadoop configuration
+	 * @return message type of the first part file
+	 * @throws IOException if IOException occurs
+	 */
+	public static MessageType readSchema(FileSystem fs, Path path, Configuration conf)
+		throws IOException
+	{
+		Path file = path;
+		if( fs.isDirectory(path) ) {
+			List<Path> files = new ArrayList<>();
+			for( FileStatus stat : fs.listStatus(path, IOUtilFunctions.hiddenFileFilter) )
+				files.add(stat.getPath());
+			if( files.isEmpty() )
+				throw new IOException("Empty parquet input directory: "+path);
+			file = Collections.min(files, PART_FILE_ORDER);
+		}
+		return ParquetFileReader.readFooter(conf, file, ParquetMetadataConverter.NO_FILTER)
+			.getFileMetaData().getSchema();
+	}
+	
+	/**
+	 * Reads the dimensions (number of rows and selected columns) of a 
+	 * parquet input, which is self-describing via its footers.
+	 * 
+	 * @param fname file name
+	 * @param columns selected columns or null for all columns
+	 * @return dimensions as array of rows and columns
+	 * @throws IOException if IOException occurs
+	 */
+	public static long[] readDimensions(String fname, String[] columns)
+		throws IOException
+	{
+		Configuration conf = ConfigurationManager.getCachedJobConf();
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, conf);
+		List<RowGroup> groups = getRowGroups(fs, path, conf);
+		MessageType schema = getProjection(groups.isEmpty() ?
+			readSchema(fs, path, conf) : groups.get(0).getSchema(), columns);
+		return new long[] {getNumRows(groups), schema.getFieldCount()};
+	}
+	
+	/**
+	 * Reads the value types of the (selected) columns of a parquet input.
+	 * 
+	 * @param fname file name
+	 * @param columns selected columns or null for all columns
+	 * @return value types
+	 * @throws IOException if IOException occurs
+	 */
+	public static ValueType[] readValueTypes(String fname, String[] columns)
+		throws IOException
+	{
+		Configuration conf = ConfigurationManager.getCachedJobConf();
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, conf);
+		return getValueTypes(getProjection(readSchema(fs, path, conf), columns));
+	}
+	
+	public static long getNumRows(List<RowGroup> groups) {
+		long ret = 0;
+		for( RowGroup group : groups )
+			ret += group.getNumRows();
+		return ret;
+	}
+	
+	/**
+	 * Creates the projected schema of the given columns (in the given
+	 * order), or returns the input schema if no columns are specified.
+	 * 
+	 * @param schema file schema
+	 * @param columns selected columns or null for all columns
+	 * @return projected schema
+	 */
+	public static MessageType getProjection(MessageType schema, String[] columns) {
+		List<Type> fields = new ArrayList<>();
+		if( columns == null )
+			fields.addAll(schema.getFields());
+		else {
+			for( String col : columns ) {
+				if( !schema.containsField(col) )
+					throw new DMLRuntimeException("Parquet column projection: unknown column '"
+						+col+"' (available columns: "+schema.getFields()+").");
+				fields.add(schema.getType(col));
+			}
+		}
+		for( Type field : fields )
+			if( !field.isPrimitive() || field.isRepetition(Repetition.REPEATED) )
+				throw new DMLRuntimeException("Unsupported nested or repeated parquet column: "+field);
+		return new MessageType(schema.getName(), fields);
+	}
+	
+	public static String[] getColumnNames(MessageType schema) {
+		String[] ret = new String[schema.getFieldCount()];
+		for( int j=0; j<ret.length; j++ )
+			ret[j] = schema.getType(j).getName();
+		return ret;
+	}
+	
+	public static ValueType[] getValueTypes(MessageType schema) {
+		ValueType[] ret = new ValueType[schema.getFieldCount()];
+		for( int j=0; j<ret.length; j++ )
+			ret[j] = getValueType(schema.getType(j).asPrimitiveType());
+		return ret;
+	}
+	
+	public static PrimitiveTypeName[] getPrimitiveTypes(MessageType schema) {
+		PrimitiveTypeName[] ret = new PrimitiveTypeName[schema.getFieldCount()];
+		for( int j=0; j<ret.length; j++ )
+			ret[j] = schema.getType(j).asPrimitiveType().getPrimitiveTypeName();
+		return ret;
+	}
+	
+	public static ValueType getValueType(PrimitiveType type) {
+		switch( type.getPrimitiveTypeName() ) {
+			case DOUBLE:  return ValueType.FP64;
+			case FLOAT:   return ValueType.FP32;
+			case INT64:   return ValueType.INT64;
+			case INT32:   return ValueType.INT32;
+			case BOOLEAN: return ValueType.BOOLEAN;
+			default:      return ValueType.STRING; //binary, fixed, int96
+		}
+	}
+	
+	/**
+	 * Creates a flat parquet schema for the given value types and column
+	 * names, where all columns are optional in order to represent nulls.
+	 * 
+	 * @param schema value types
+	 * @param names column names
+	 * @param name name of the message type
+	 * @return parquet message type
+	 */
+	public static MessageType createSchema(ValueType[] schema, String[] names, String name) {
+		List<Type> fields = new ArrayList<>();
+		for( int j=0; j<schema.length; j++ ) {
+			switch( schema[j] ) {
+				case FP64:
+					fields.add(new PrimitiveType(Repetition.OPTIONAL, PrimitiveTypeName.DOUBLE, names[j])); break;
+				case FP32:
+					fields.add(new PrimitiveType(Repetition.OPTIONAL, PrimitiveTypeName.FLOAT, names[j])); break;
+				case INT64:
+					fields.add(new PrimitiveType(Repetition.OPTIONAL, PrimitiveTypeName.INT64, names[j])); break;
+				case UINT8:
+				case INT32:
+					fields.add(new PrimitiveType(Repetition.OPTIONAL, PrimitiveTypeName.INT32, names[j])); break;
+				case BOOLEAN:
+					fields.add(new PrimitiveType(Repetition.OPTIONAL, PrimitiveTypeName.BOOLEAN, names[j])); break;
+				default:
+					fields.add(new PrimitiveType(Repetition.OPTIONAL,
+						PrimitiveTypeName.BINARY, names[j], OriginalType.UTF8));
+			}
+		}
+		return new MessageType(name, fields);
+	}
+	
+	/**
+	 * Creates a flat parquet schema of required double columns.
+	 * 
+	 * @param clen number of columns
+	 * @return parquet message type
+	 */
+	public static MessageType createMatrixSchema(int clen) {
+		List<Type> fields = new ArrayList<>();
+		for( String name : FrameBlock.createColNames(clen) )
+			fields.add(new PrimitiveType(Repetition.REQUIRED, PrimitiveTypeName.DOUBLE, name));
+		return new MessageType(MATRIX_SCHEMA_NAME, fields);
+	}
+	
+	/**
+	 * Reads the given row group with the given (projected) schema, and
+	 * passes all records with their global row index to the consumer.
+	 * 
+	 * @param group row group
+	 * @param schema projected schema
+	 * @param conf hadoop configuration
+	 * @param consumer record consumer
+	 * @throws IOException if IOException occurs
+	 */
+	public static void readRowGroup(RowGroup group, MessageType schema, Configuration conf, RowConsumer consumer)
+		throws IOException
+	{
+		ParquetFileReader reader = new ParquetFileReader(conf, group._meta,
+			group._path, Collections.singletonList(group._block), schema.getColumns());
+		try {
+			PageReadStore pages = reader.readNextRowGroup();
+			MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(schema, group.getSchema());
+			RecordReader<Group> records = columnIO.getRecordReader(pages, new GroupRecordConverter(schema));
+			int rl = (int) group._rowOffset;
+			for( int i=0; i<pages.getRowCount(); i++ )
+				consumer.accept(rl + i, records.read());
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+	}
+	
+	/**
+	 * Obtains the value of a column as double, where nulls are
+	 * represented as zeros (and strings are parsed).
+	 * 
+	 * @param record parquet record
+	 * @param col column index
+	 * @param type primitive type of the column
+	 * @return double value
+	 */
+	public static double getDouble(Group record, int col, PrimitiveTypeName type) {
+		if( record.getFieldRepetitionCount(col) == 0 )
+			return 0;
+		switch( type ) {
+			case DOUBLE:  return record.getDouble(col, 0);
+			case FLOAT:   return record.getFloat(col, 0);
+			case INT64:   return record.getLong(col, 0);
+			case INT32:   return record.getInteger(col, 0);
+			case BOOLEAN: return record.getBoolean(col, 0) ? 1 : 0;
+			case BINARY:  return UtilFunctions.parseToDouble(
+				record.getString(col, 0), UtilFunctions.defaultNaString);
+			default:
+				throw new DMLRuntimeException("Unsupported parquet type for matrix read: "+type);
+		}
+	}
+	
+	/**
+	 * Obtains the value of a column as object of the given value type.
+	 * 
+	 * @param record parquet record
+	 * @param col column index
+	 * @param type primitive type of the column
+	 * @param vt target value type
+	 * @return object or null
+	 */
+	public static Object getObject(Group record, int col, PrimitiveTypeName type, ValueType vt) {
+		if( record.getFieldRepetitionCount(col) == 0 )
+			return null;
+		Object val = null;
+		switch( type ) {
+			case DOUBLE:  val = record.getDouble(col, 0); break;
+			case FLOAT:   val = record.getFloat(col, 0); break;
+			case INT64:   val = record.getLong(col, 0); break;
+			case INT32:   val = record.getInteger(col, 0); break;
+			case BOOLEAN: val = record.getBoolean(col, 0); break;
+			case BINARY:  val = record.getString(col, 0); break;
+			default:      val = record.getValueToString(col, 0);
+		}
+		return UtilFunctions.objectToObject(vt, val);
+	}
+	
+	/**
+	 * Appends the given object to the record, where nulls are omitted.
+	 * 
+	 * @param record parquet record
+	 * @param col column index
+	 * @param vt value type of the object
+	 * @param val object or null
+	 */
+	public static void setObject(Group record, int col, ValueType vt, Object val) {
+		if( val == null )
+			return;
+		switch( vt ) {
+			case FP64:    record.add(col, (Double) val); break;
+			case FP32:    record.add(col, (Float) val); break;
+			case INT64:   record.add(col, (Long) val); break;
+			case UINT8:
+			case INT32:   record.add(col, (Integer) val); break;
+			case BOOLEAN: record.add(col, (Boolean) val); break;
+			default:      record.add(col, Binary.fromString(val.toString()));
+		}
+	}
+	
+	/**
+	 * Creates a parquet writer of records with the given schema.
+	 * 
+	 * @param path output file path
+	 * @param conf hadoop configuration
+	 * @param schema parquet message type
+	 * @param props parquet file format properties or null
+	 * @return parquet writer
+	 * @throws IOException if IOException occurs
+	 */
+	public static ParquetWriter<Group> createWriter(Path path, Configuration conf,
+		MessageType schema, FileFormatPropertiesParquet props) throws IOException
+	{
+		Configuration lconf = new Configuration(conf);
+		GroupWriteSupport.setSchema(schema, lconf);
+		CompressionCodecName codec = CompressionCodecName.fromConf(
+			(props != null) ? props.getCompression() : FileFormatPropertiesParquet.DEFAULT_COMPRESSION);
+		return new ParquetWriter<>(path, new GroupWriteSupport(), codec,
+			ParquetWriter.DEFAULT_BLOCK_SIZE, ParquetWriter.DEFAULT_PAGE_SIZE, ParquetWriter.DEFAULT_PAGE_SIZE,
+			ParquetWriter.DEFAULT_IS_DICTIONARY_ENABLED, ParquetWriter.DEFAULT_IS_VALIDATING_ENABLED,
+			ParquetWriter.DEFAULT_WRITER_VERSION, lconf);
+	}
+}
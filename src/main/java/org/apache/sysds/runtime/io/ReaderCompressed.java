@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupIO;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Reader for the native compressed matrix format written by {@link WriterCompressed}. The column groups are read as
+ * they are, and the result is a compressed matrix block without recompression. A column range can be read
+ * selectively, in which case column groups outside the range are skipped without deserialization.
+ */
+public class ReaderCompressed extends MatrixReader {
+	protected boolean _localFS = false;
+
+	public ReaderCompressed(boolean localFS) {
+		_localFS = localFS;
+	}
+
+	public void setLocalFS(boolean flag) {
+		_localFS = flag;
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException {
+		return readCompressedMatrixFromHDFS(fname, rlen, clen, -1, -1);
+	}
+
+	/**
+	 * Read a range of columns from a compressed matrix file. Column groups that do not intersect with the range are
+	 * skipped, and the remaining groups are sliced to the requested columns.
+	 * 
+	 * @param fname The file name
+	 * @param rlen  The number of rows, or -1 if unknown
+	 * @param clen  The number of columns, or -1 if unknown
+	 * @param cl    The column lower index (inclusive, starting at 0)
+	 * @param cu    The column upper index (inclusive)
+	 * @return The matrix block of the selected columns
+	 * @throws IOException         if IOException occurs
+	 * @throws DMLRuntimeException if DMLRuntimeException occurs
+	 */
+	public MatrixBlock readColumnsFromHDFS(String fname, long rlen, long clen, int cl, int cu)
+		throws IOException, DMLRuntimeException {
+		if(cl < 0 || cu < cl || (clen >= 0 && cu >= clen))
+			throw new DMLRuntimeException("Invalid column range [" + (cl + 1) + ":" + (cu + 1) + "] for reading "
+				+ fname + " with " + clen + " columns.");
+		return readCompressedMatrixFromHDFS(fname, rlen, clen, cl, cu);
+	}
+
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz)
+		throws IOException, DMLRuntimeException {
+		List<CompressedFile> files = new ArrayList<>(1);
+		files.add(readCompressedFile(new DataInputStream(is), -1, -1));
+		return combine(files, rlen, clen, -1, -1);
+	}
+
+	private MatrixBlock readCompressedMatrixFromHDFS(String fname, long rlen, long clen, int cl, int cu)
+		throws IOException {
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path((_localFS ? "file:///" : "") + fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// check existence and non-empty file
+		checkValidInputFile(fs, path);
+
+		// core read of all files (sequential or parallel)
+		List<CompressedFile> files = readCompressedFiles(fs, IOUtilFunctions.getSequenceFilePaths(fs, path), cl, cu);
+		return combine(files, rlen, clen, cl, cu);
+	}
+
+	protected List<CompressedFile> readCompressedFiles(FileSystem fs, Path[] paths, int cl, int cu)
+		throws IOException {
+		List<CompressedFile> ret = new ArrayList<>(paths.length);
+		for(Path path : paths)
+			ret.add(readCompressedFile(fs, path, cl, cu));
+		return ret;
+	}
+
+	protected static CompressedFile readCompressedFile(FileSystem fs, Path path, int cl, int cu) throws IOException {
+		DataInputStream in = fs.open(path);
+		try {
+			return readCompressedFile(in, cl, cu);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(in);
+		}
+	}
+
+	private static CompressedFile readCompressedFile(DataInputStream in, int cl, int cu) throws IOException {
+		// header with the metadata of the entire matrix
+		CompressedFile ret = new CompressedFile(in.readInt(), in.readInt(), in.readLong(), in.readBoolean());
+		int numGroups = in.readInt();
+
+		// column groups, w/ skipping of groups outside the column range
+		for(int i = 0; i < numGroups; i++) {
+			int numCols = in.readInt();
+			boolean selected = cl < 0;
+			for(int j = 0; j < numCols; j++) {
+				int col = in.readInt();
+				selected |= col >= cl && col <= cu;
+			}
+			int numBytes = in.readInt();
+			if(selected)
+				ret.colGroups.add(ColGroupIO.readGroup(in));
+			else
+				skipFully(in, numBytes);
+		}
+		return ret;
+	}
+
+	private static void skipFully(DataInputStream in, int numBytes) throws IOException {
+		while(numBytes > 0) {
+			int skipped = in.skipBytes(numBytes);
+			if(skipped <= 0)
+				throw new EOFException("Unexpected end of compressed matrix file.");
+			numBytes -= skipped;
+		}
+	}
+
+	private static MatrixBlock combine(List<CompressedFile> files, long rlen, long clen, int cl, int cu)
+		throws IOException {
+		CompressedFile first = files.get(0);
+		List<ColGroup> colGroups = new ArrayList<>();
+		for(CompressedFile f : files) {
+			if(f.rlen != first.rlen || f.clen != first.clen)
+				throw new IOException("Inconsistent dimensions of compressed part files: [" + f.rlen + "," + f.clen
+					+ "] vs [" + first.rlen + "," + first.clen + "].");
+			colGroups.addAll(f.colGroups);
+		}
+		if((rlen >= 0 && rlen != first.rlen) || (clen >= 0 && clen != first.clen))
+			throw new IOException("Compressed matrix dimensions [" + first.rlen + "," + first.clen
+				+ "] do not match the expected dimensions [" + rlen + "," + clen + "].");
+
+		final boolean allCols = cl < 0 || (cl == 0 && cu == first.clen - 1);
+		final int ncol = allCols ? first.clen : cu - cl + 1;
+		if(colGroups.isEmpty())
+			return new MatrixBlock(first.rlen, ncol, true);
+
+		CompressedMatrixBlock ret = new CompressedMatrixBlock(first.rlen, first.clen);
+		ret.allocateColGroupList(colGroups);
+		ret.setOverlapping(first.overlapping);
+		ret.setNonZeros(first.nnz);
+		return allCols ? ret : ret.slice(0, first.rlen - 1, cl, cu, false, null);
+	}
+
+	/** Content of a single compressed (part) file */
+	protected static class CompressedFile {
+		protected final int rlen;
+		protected final int clen;
+		protected final long nnz;
+		protected final boolean overlapping;
+		protected final List<ColGroup> colGroups = new ArrayList<>();
+
+		protected CompressedFile(int rlen, int clen, long nnz, boolean overlapping) {
+			this.rlen = rlen;
+			this.clen = clen;
+			this.nnz = nnz;
+			this.overlapping = overlapping;
+		}
+	}
+}
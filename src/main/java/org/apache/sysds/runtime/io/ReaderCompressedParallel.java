@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Parallel reader for the native compressed matrix format, which reads the part files of a parallel write
+ * concurrently.
+ */
+public class ReaderCompressedParallel extends ReaderCompressed {
+	private int _numThreads = 1;
+
+	public ReaderCompressedParallel(boolean localFS) {
+		super(localFS);
+		_numThreads = OptimizerUtils.getParallelBinaryReadParallelism();
+	}
+
+	@Override
+	protected List<CompressedFile> readCompressedFiles(FileSystem fs, Path[] paths, int cl, int cu)
+		throws IOException {
+		int numThreads = Math.min(_numThreads, paths.length);
+		if(numThreads <= 1)
+			return super.readCompressedFiles(fs, paths, cl, cu);
+
+		try {
+			// create read tasks for all files
+			ExecutorService pool = CommonThreadPool.get(numThreads);
+			ArrayList<ReadFileTask> tasks = new ArrayList<>();
+			for(Path path : paths)
+				tasks.add(new ReadFileTask(fs, path, cl, cu));
+
+			// wait until all tasks have been executed
+			List<CompressedFile> ret = new ArrayList<>(paths.length);
+			for(Future<CompressedFile> task : pool.invokeAll(tasks))
+				ret.add(task.get());
+			pool.shutdown();
+			return ret;
+		}
+		catch(Exception e) {
+			throw new IOException("Failed parallel read of compressed input.", e);
+		}
+	}
+
+	private static class ReadFileTask implements Callable<CompressedFile> {
+		private final FileSystem _fs;
+		private final Path _path;
+		private final int _cl;
+		private final int _cu;
+
+		public ReadFileTask(FileSystem fs, Path path, int cl, int cu) {
+			_fs = fs;
+			_path = path;
+			_cl = cl;
+			_cu = cu;
+		}
+
+		@Override
+		public CompressedFile call() throws Exception {
+			return readCompressedFile(_fs, _path, _cl, _cu);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Single-threaded parquet matrix reader, which maps the (selected)
+ * numeric columns of a parquet file to the columns of a matrix.
+ * 
+ */
+public class ReaderParquet extends MatrixReader
+{
+	protected final FileFormatPropertiesParquet _props;
+	
+	public ReaderParquet(FileFormatPropertiesParquet props) {
+		_props = (props != null) ? props : new FileFormatPropertiesParquet();
+	}
+	
+	@Override
+	public MatrixBlock readMatrixFromHDFS(String fname, long rlen, long clen, int blen, long estnnz) 
+		throws IOException, DMLRuntimeException 
+	{
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//check existence and non-empty file
+		checkValidInputFile(fs, path);
+		
+		//obtain row groups and projected schema from footers
+		List<RowGroup> groups = ParquetUtils.getRowGroups(fs, path, job);
+		MessageType schema = ParquetUtils.getProjection(groups.isEmpty() ?
+			ParquetUtils.readSchema(fs, path, job) : groups.get(0).getSchema(), _props.getColumns());
+		long nrow = ParquetUtils.getNumRows(groups);
+		long ncol = schema.getFieldCount();
+		if( (rlen >= 0 && rlen != nrow) || (clen >= 0 && clen != ncol) )
+			throw new IOException("Read matrix dimensions mismatch with metadata: "
+				+ nrow + "x" + ncol + " vs " + rlen + "x" + clen + ".");
+		
+		//allocate output matrix block
+		MatrixBlock ret = createOutputMatrixBlock(nrow, ncol, (int)nrow, estnnz, true, true);
+		
+		//core read (sequential/parallel)
+		long lnnz = readParquetMatrixFromHDFS(groups, schema, job, ret);
+		
+		//finally check if change of sparse/dense block representation required
+		ret.setNonZeros(lnnz);
+		ret.examSparsity();
+		
+		return ret;
+	}
+	
+	@Override
+	public MatrixBlock readMatrixFromInputStream(InputStream is, long rlen, long clen, int blen, long estnnz) 
+		throws IOException, DMLRuntimeException 
+	{
+		//parquet requires random access to the footer
+		throw new DMLRuntimeException("Not implemented yet.");
+	}
+	
+	protected long readParquetMatrixFromHDFS(List<RowGroup> groups, MessageType schema, JobConf job, MatrixBlock dest)
+		throws IOException
+	{
+		long lnnz = 0;
+		for( RowGroup group : groups )
+			lnnz += readRowGroup(group, schema, job, dest);
+		return lnnz;
+	}
+	
+	protected static long readRowGroup(RowGroup group, MessageType schema, JobConf job, MatrixBlock dest)
+		throws IOException
+	{
+		final PrimitiveTypeName[] types = ParquetUtils.getPrimitiveTypes(schema);
+		final long[] lnnz = new long[1];
+		if( dest.isInSparseFormat() ) {
+			ParquetUtils.readRowGroup(group, schema, job, (row, record) -> {
+				for( int j=0; j<types.length; j++ ) {
+					double val = ParquetUtils.getDouble(record, j, types[j]);
+					if( val != 0 ) {
+						dest.appendValue(row, j, val);
+						lnnz[0]++;
+					}
+				}
+			});
+		}
+		else {
+			final DenseBlock a = dest.getDenseBlock();
+			ParquetUtils.readRowGroup(group, schema, job, (row, record) -> {
+				double[] avals = a.values(row);
+				int apos = a.pos(row);
+				for( int j=0; j<types.length; j++ ) {
+					double val = ParquetUtils.getDouble(record, j, types[j]);
+					avals[apos+j] = val;
+					lnnz[0] += (val != 0) ? 1 : 0;
+				}
+			});
+		}
+		return lnnz[0];
+	}
+}
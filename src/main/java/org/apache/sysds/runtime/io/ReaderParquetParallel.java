@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.io.ParquetUtils.RowGroup;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+
+/**
+ * Multi-threaded parquet matrix reader, which reads the row groups
+ * of all part files in parallel into disjoint row ranges of the output.
+ * 
+ */
+public class ReaderParquetParallel extends ReaderParquet
+{
+	public ReaderParquetParallel(FileFormatPropertiesParquet props) {
+		super(props);
+	}
+	
+	@Override
+	protected long readParquetMatrixFromHDFS(List<RowGroup> groups, MessageType schema, JobConf job, MatrixBlock dest)
+		throws IOException
+	{
+		int numThreads = Math.min(OptimizerUtils.getParallelBinaryReadParallelism(), groups.size());
+		
+		//fall back to sequential read for single row groups
+		if( numThreads <= 1 )
+			return super.readParquetMatrixFromHDFS(groups, schema, job, dest);
+		
+		ExecutorService pool = CommonThreadPool.get(numThreads);
+		try {
+			ArrayList<ReadRowGroupTask> tasks = new ArrayList<>();
+			for( RowGroup group : groups )
+				tasks.add(new ReadRowGroupTask(group, schema, job, dest));
+			long lnnz = 0;
+			for( Future<Long> task : pool.invokeAll(tasks) )
+				lnnz += task.get();
+			return lnnz;
+		}
+		catch (Exception e) {
+			throw new IOException("Failed parallel read of parquet input.", e);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+	
+	private static class ReadRowGroupTask implements Callable<Long> 
+	{
+		private final RowGroup _group;
+		private final MessageType _schema;
+		private final JobConf _job;
+		private final MatrixBlock _dest;
+		
+		public ReadRowGroupTask(RowGroup group, MessageType schema, JobConf job, MatrixBlock dest) {
+			_group = group;
+			_schema = schema;
+			_job = job;
+			_dest = dest;
+		}
+		
+		@Override
+		public Long call() throws Exception {
+			return readRowGroup(_group, _schema, _job, _dest);
+		}
+	}
+}
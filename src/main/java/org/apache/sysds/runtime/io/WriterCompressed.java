@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupIO;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupUncompressed;
+import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Writer for the native compressed matrix format. Instead of reblocking into binary blocks, the column groups and
+ * dictionaries of a compressed matrix block are persisted as they are, which avoids a recompression when the matrix
+ * is read again. Uncompressed inputs are compressed before writing.
+ * 
+ * Every file (or part file of a parallel write) consists of a header with the matrix metadata followed by a subset of
+ * the column groups. Each column group is prefixed with its column indexes and serialized length, such that readers
+ * can skip groups that are not needed.
+ * 
+ * <pre>
+ * header: int rlen, int clen, long nnz, boolean overlapping, int numGroups
+ * group:  int numCols, int[numCols] colIndexes, int numBytes, byte[numBytes] (type and serialized ColGroup)
+ * </pre>
+ */
+public class WriterCompressed extends MatrixWriter {
+	protected int _replication = -1;
+
+	public WriterCompressed(int replication) {
+		_replication = replication;
+	}
+
+	@Override
+	public final void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen, long nnz,
+		boolean diag) throws IOException, DMLRuntimeException {
+		if(diag)
+			throw new DMLRuntimeException("Diagonal matrices are not supported by the compressed writer.");
+		if(src.getNumRows() != rlen || src.getNumColumns() != clen)
+			throw new IOException("Matrix block [1:" + src.getNumRows() + ",1:" + src.getNumColumns() + "] "
+				+ "does not match the overall matrix range [1:" + rlen + ",1:" + clen + "].");
+
+		// prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+
+		// if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+
+		// core write sequential/parallel
+		writeCompressedMatrixToHDFS(path, job, fs, getCompressed(src));
+
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	@Override
+	public final void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen)
+		throws IOException, DMLRuntimeException {
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path(fname);
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		CompressedMatrixBlock empty = new CompressedMatrixBlock((int) rlen, (int) clen);
+		empty.setNonZeros(0);
+		writeCompressedFile(path, fs, empty, Collections.emptyList());
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+
+	protected void writeCompressedMatrixToHDFS(Path path, JobConf job, FileSystem fs, CompressedMatrixBlock src)
+		throws IOException {
+		// sequential write of all column groups into a single file
+		writeCompressedFile(path, fs, src, src.getColGroups());
+	}
+
+	protected final void writeCompressedFile(Path path, FileSystem fs, CompressedMatrixBlock src,
+		List<ColGroup> colGroups) throws IOException {
+		DataOutputStream out = (_replication > 0) ? fs.create(path, true,
+			fs.getConf().getInt(HDFSTool.IO_FILE_BUFFER_SIZE, 4096), (short) _replication,
+			fs.getDefaultBlockSize(path)) : fs.create(path, true);
+		try {
+			// header with the metadata of the entire matrix
+			out.writeInt(src.getNumRows());
+			out.writeInt(src.getNumColumns());
+			out.writeLong(src.getNonZeros());
+			out.writeBoolean(src.isOverlapping());
+			out.writeInt(colGroups.size());
+
+			// column groups incl column indexes for selective reads
+			ByteArrayOutputStream buff = new ByteArrayOutputStream();
+			DataOutputStream dbuff = new DataOutputStream(buff);
+			for(ColGroup grp : colGroups) {
+				buff.reset();
+				ColGroupIO.writeGroup(dbuff, grp);
+				dbuff.flush();
+
+				int[] colIndexes = grp.getColIndices();
+				out.writeInt(colIndexes.length);
+				for(int col : colIndexes)
+					out.writeInt(col);
+				out.writeInt(buff.size());
+				buff.writeTo(out);
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(out);
+		}
+	}
+
+	/**
+	 * Get the compressed representation of the given block. Blocks that are not compressible are wrapped into a single
+	 * uncompressed column group, such that any matrix can be written in the compressed format.
+	 * 
+	 * @param src The block to write
+	 * @return A compressed matrix block
+	 */
+	protected static CompressedMatrixBlock getCompressed(MatrixBlock src) {
+		if(src instanceof CompressedMatrixBlock)
+			return (CompressedMatrixBlock) src;
+
+		MatrixBlock mb = CompressedMatrixBlockFactory.compress(src, InfrastructureAnalyzer.getLocalParallelism())
+			.getLeft();
+		if(mb instanceof CompressedMatrixBlock)
+			return (CompressedMatrixBlock) mb;
+
+		int[] colIndexes = new int[src.getNumColumns()];
+		for(int i = 0; i < colIndexes.length; i++)
+			colIndexes[i] = i;
+		CompressedMatrixBlock ret = new CompressedMatrixBlock(src.getNumRows(), src.getNumColumns());
+		List<ColGroup> colGroups = new ArrayList<>(1);
+		colGroups.add(new ColGroupUncompressed(colIndexes, src, false));
+		ret.allocateColGroupList(colGroups);
+		ret.setNonZeros(src.getNonZeros());
+		return ret;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup;
+import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Parallel writer for the native compressed matrix format, which distributes the column groups over multiple part
+ * files of similar size.
+ */
+public class WriterCompressedParallel extends WriterCompressed {
+	public WriterCompressedParallel(int replication) {
+		super(replication);
+	}
+
+	@Override
+	protected void writeCompressedMatrixToHDFS(Path path, JobConf job, FileSystem fs, CompressedMatrixBlock src)
+		throws IOException {
+		List<ColGroup> colGroups = src.getColGroups();
+
+		// estimate output size and number of output files (min 1)
+		int numPartFiles = (int) (src.getExactSizeOnDisk() / InfrastructureAnalyzer.getHDFSBlockSize());
+		numPartFiles = Math.max(numPartFiles, 1);
+
+		// determine degree of parallelism
+		int numThreads = OptimizerUtils.getParallelBinaryWriteParallelism();
+		numThreads = Math.min(Math.min(numThreads, numPartFiles), colGroups.size());
+
+		// fall back to sequential write if dop is 1 (e.g., <128MB) in order to create single file
+		if(numThreads <= 1) {
+			super.writeCompressedMatrixToHDFS(path, job, fs, src);
+			return;
+		}
+
+		// create directory for concurrent tasks
+		HDFSTool.createDirIfNotExistOnHDFS(path, DMLConfig.DEFAULT_SHARED_DIR_PERMISSION);
+
+		// assign column groups to part files, largest groups first into the currently smallest file
+		List<List<ColGroup>> parts = new ArrayList<>();
+		long[] partSizes = new long[numThreads];
+		for(int i = 0; i < numThreads; i++)
+			parts.add(new ArrayList<>());
+		List<ColGroup> sorted = new ArrayList<>(colGroups);
+		sorted.sort((a, b) -> Long.compare(b.getExactSizeOnDisk(), a.getExactSizeOnDisk()));
+		for(ColGroup grp : sorted) {
+			int minIx = 0;
+			for(int i = 1; i < numThreads; i++)
+				minIx = partSizes[i] < partSizes[minIx] ? i : minIx;
+			parts.get(minIx).add(grp);
+			partSizes[minIx] += grp.getExactSizeOnDisk();
+		}
+
+		// create and execute write tasks
+		try {
+			ExecutorService pool = CommonThreadPool.get(numThreads);
+			ArrayList<WriteFileTask> tasks = new ArrayList<>();
+			for(int i = 0; i < numThreads; i++) {
+				Path newPath = new Path(path, IOUtilFunctions.getPartFileName(i));
+				tasks.add(new WriteFileTask(newPath, fs, src, parts.get(i)));
+			}
+
+			// wait until all tasks have been executed
+			List<Future<Object>> rt = pool.invokeAll(tasks);
+			pool.shutdown();
+
+			// check for exceptions
+			for(Future<Object> task : rt)
+				task.get();
+
+			// delete crc files if written to local file system
+			if(fs instanceof LocalFileSystem) {
+				for(int i = 0; i < numThreads; i++)
+					IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs,
+						new Path(path, IOUtilFunctions.getPartFileName(i)));
+			}
+		}
+		catch(Exception e) {
+			throw new IOException("Failed parallel write of compressed input.", e);
+		}
+	}
+
+	private class WriteFileTask implements Callable<Object> {
+		private final Path _path;
+		private final FileSystem _fs;
+		private final CompressedMatrixBlock _src;
+		private final List<ColGroup> _colGroups;
+
+		public WriteFileTask(Path path, FileSystem fs, CompressedMatrixBlock src, List<ColGroup> colGroups) {
+			_path = path;
+			_fs = fs;
+			_src = src;
+			_colGroups = colGroups;
+		}
+
+		@Override
+		public Object call() throws Exception {
+			writeCompressedFile(_path, _fs, _src, _colGroups);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.io;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+
+/**
+ * Single-threaded parquet matrix writer, which writes a matrix as
+ * parquet file of required double columns C1, ..., Cn.
+ * 
+ */
+public class WriterParquet extends MatrixWriter
+{
+	protected final FileFormatPropertiesParquet _props;
+	
+	public WriterParquet(FileFormatPropertiesParquet props) {
+		_props = props;
+	}
+	
+	@Override
+	public final void writeMatrixToHDFS(MatrixBlock src, String fname, long rlen, long clen, int blen, long nnz, boolean diag) 
+		throws IOException, DMLRuntimeException 
+	{
+		//validity check matrix dimensions
+		if( src.getNumRows() != rlen || src.getNumColumns() != clen )
+			throw new IOException("Matrix dimensions mismatch with metadata: "+src.getNumRows()+"x"+src.getNumColumns()+" vs "+rlen+"x"+clen+".");
+		if( clen == 0 )
+			throw new IOException("Write of matrices with zero columns not supported ("+rlen+"x"+clen+").");
+		
+		//prepare file access
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path path = new Path( fname );
+		FileSystem fs = IOUtilFunctions.getFileSystem(path, job);
+		
+		//if the file already exists on HDFS, remove it.
+		HDFSTool.deleteFileIfExistOnHDFS( fname );
+		
+		//core write (sequential/parallel)
+		writeParquetMatrixToHDFS(path, job, fs, src);
+		
+		IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fs, path);
+	}
+	
+	@Override
+	public final void writeEmptyMatrixToHDFS(String fname, long rlen, long clen, int blen) 
+		throws IOException, DMLRuntimeException 
+	{
+		MatrixBlock empty = new MatrixBlock((int)Math.max(rlen, 0), (int)Math.max(clen, 1), true);
+		writeMatrixToHDFS(empty, fname, empty.getNumRows(), empty.getNumColumns(), blen, 0, false);
+	}
+	
+	protected void writeParquetMatrixToHDFS(Path path, JobConf job, FileSystem fs, MatrixBlock src) 
+		throws IOException 
+	{
+		//sequential write to single file
+		writeParquetMatrixToFile(path, job, src, 0, src.getNumRows());
+	}
+	
+	protected final void writeParquetMatrixToFile(Path path, JobConf job, MatrixBlock src, int rl, int ru) 
+		throws IOException 
+	{
+		int clen = src.getNumColumns();
+		MessageType schema = ParquetUtils.createMatrixSchema(clen);
+		SimpleGroupFactory factory = new SimpleGroupFactory(schema);
+		ParquetWriter<Group> writer = ParquetUtils.createWriter(path, job, schema, _props);
+		
+		try {
+			double[] row = new double[clen];
+			for( int i=rl; i<ru; i++ ) {
+				//obtain dense row (dense, sparse, or empty)
+				if( src.isEmptyBlock(false) )
+					Arrays.fill(row, 0);
+				else if( src.isInSparseFormat() ) {
+					SparseBlock a = src.getSparseBlock();
+					Arrays.fill(row, 0);
+					if( !a.isEmpty(i) ) {
+						int apos = a.pos(i);
+						int alen = a.size(i);
+						int[] aix = a.indexes(i);
+						double[] avals = a.values(i);
+						for( int k=apos; k<apos+alen; k++ )
+							row[aix[k]] = avals[k];
+					}
+				}
+				else {
+					DenseBlock a = src.getDenseBlock();
+					System.arraycopy(a.values(i), a.pos(i), row, 0, clen);
+				}
+				
+				//append record
+				Group record = factory.newGroup();
+				for( int j=0; j<clen; j++ )
+					record.add(j, row[j]);
+				writer.write(record);
+			}
+		}
+		finally {
+			IOUtilFunctions.closeSilently(writer);
+		}
+	}
+}
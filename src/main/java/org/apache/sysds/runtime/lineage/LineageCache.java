@@ -111,6 +111,10 @@ public class LineageCache
 				for (MutablePair<LineageItem,LineageCacheEntry> item : liList) {
 					if (LineageCacheConfig.getCacheType().isFullReuse())
 						e = LineageCache.probe(item.getKey()) ? getIntern(item.getKey()) : null;
+					//try to reuse intermediates of previous processes
+					if (e == null && LineageCacheConfig.getCacheType().isFullReuse()
+						&& LineagePersistentCache.isEnabled())
+						e = getPersistent(item.getKey());
 					//TODO need to also move execution of compensation plan out of here
 					//(create lazily evaluated entry)
 					if (e == null && LineageCacheConfig.getCacheType().isPartialReuse())
@@ -154,6 +158,7 @@ public class LineageCache
 				}
 				if (DMLScript.STATISTICS)
 					LineageCacheStatistics.incrementInstHits();
+				LineageCacheStatistics.incrementThreadInstHits();
 			}
 		}
 		
@@ -292,6 +297,7 @@ public class LineageCache
 				liData = inst instanceof ComputationCPInstruction ? 
 						Arrays.asList(Pair.of(instLI, ec.getVariable(((ComputationCPInstruction) inst).output))) :
 						Arrays.asList(Pair.of(instLI, ec.getVariable(((ComputationFEDInstruction) inst).output)));
+			List<LineageCacheEntry> toPersist = new ArrayList<>();
 			synchronized( _cache ) {
 				for (Pair<LineageItem, Data> entry : liData) {
 					LineageItem item = entry.getKey();
@@ -341,8 +347,14 @@ public class LineageCache
 
 					//maintain order for eviction
 					LineageCacheEviction.addEntry(centry);
+					
+					if (LineagePersistentCache.isEnabled() && LineagePersistentCache.isPersistable(centry))
+						toPersist.add(centry);
 				}
 			}
+			//write to the persistent cache outside the critical section
+			for (LineageCacheEntry centry : toPersist)
+				LineagePersistentCache.put(centry);
 		}
 	}
 	
@@ -436,6 +448,21 @@ public class LineageCache
 			return LineageCacheEviction.readFromLocalFS(_cache, key);
 	}
 	
+	private static LineageCacheEntry getPersistent(LineageItem key) {
+		LineageCacheEntry pe = LineagePersistentCache.get(key);
+		if (pe == null)
+			return null;
+		// Place the entry in the in-memory cache for subsequent hits.
+		if (pe.isMatrixValue())
+			putIntern(key, DataType.MATRIX, pe.getMBValue(), null, pe._computeTime);
+		else
+			putIntern(key, DataType.SCALAR, null, pe.getSOValue(), pe._computeTime);
+		if (DMLScript.STATISTICS)
+			LineageCacheStatistics.incrementSavedComputeTime(pe._computeTime);
+		// Entries exceeding the cache size are reused without caching.
+		return _cache.containsKey(key) ? _cache.get(key) : pe;
+	}
+	
 	private static void mvIntern(LineageItem item, LineageItem probeItem, long computetime) {
 		if (ReuseCacheType.isNone())
 			return;
@@ -126,7 +126,8 @@ public class LineageCacheConfig
 		LRU,
 		COSTNSIZE,
 		DAGHEIGHT,
-		HYBRID;
+		HYBRID,
+		LRUK; //GreedyDual-Size-Frequency w/ LRU-K
 	}
 	
 	protected static Comparator<LineageCacheEntry> LineageCacheComparator = (e1, e2) -> {
@@ -159,6 +160,7 @@ public class LineageCacheConfig
 					break;
 				}
 				case HYBRID:
+				case LRUK:
 					// order entries with same score by IDs
 					ret = Long.compare(e1._key.getId(), e2._key.getId());
 			}
@@ -281,6 +283,10 @@ public class LineageCacheConfig
 			case DAGHEIGHT:
 				WEIGHTS[0] = 0; WEIGHTS[1] = 0; WEIGHTS[2] = 1;
 				break;
+			case LRUK:
+				// Ordering maintained by LineageCacheLRUKPolicy.
+				WEIGHTS[0] = 0; WEIGHTS[1] = 0; WEIGHTS[2] = 0;
+				break;
 			case HYBRID:
 				WEIGHTS[0] = 1; WEIGHTS[1] = 0.0033; WEIGHTS[2] = 0;
 				// FIXME: Relative timestamp fix reduces the absolute
@@ -298,6 +304,15 @@ public class LineageCacheConfig
 		return _cachepolicy;
 	}
 	
+	protected static LineageCacheEvictionPolicy createEvictionPolicy(LineageCachePolicy policy) {
+		return (policy == LineageCachePolicy.LRUK) ?
+			new LineageCacheLRUKPolicy() : new LineageCacheWeightedPolicy();
+	}
+	
+	public static void setTraceFile(String fname) {
+		LineageCacheTrace.setTraceFile(fname);
+	}
+	
 	public static void setEstimator(boolean onlyEstimator) { 
 		_onlyEstimate = onlyEstimator;
 	}
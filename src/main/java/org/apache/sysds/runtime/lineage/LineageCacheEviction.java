@@ -22,11 +22,11 @@ package org.apache.sysds.runtime.lineage;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeSet;
 
 import org.apache.sysds.api.DMLScript;
 import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.lineage.LineageCacheConfig.LineageCachePolicy;
 import org.apache.sysds.runtime.lineage.LineageCacheConfig.LineageCacheStatus;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.util.LocalFileUtils;
@@ -38,13 +38,15 @@ public class LineageCacheEviction
 	private static long _startTimestamp = 0;
 	protected static final Map<LineageItem, Integer> _removelist = new HashMap<>();
 	private static String _outdir = null;
-	private static TreeSet<LineageCacheEntry> weightedQueue = new TreeSet<>(LineageCacheConfig.LineageCacheComparator);
+	private static LineageCacheEvictionPolicy _policy = null;
+	private static LineageCachePolicy _policyType = null;
 	
 	protected static void resetEviction() {
 		// reset cache size, otherwise the cache clear leads to unusable 
 		// space which means evictions could run into endless loops
 		_cachesize = 0;
-		weightedQueue.clear();
+		if (_policy != null)
+			_policy.clear();
 		_outdir = null;
 		if (DMLScript.STATISTICS)
 			_removelist.clear();
@@ -70,29 +72,31 @@ public class LineageCacheEviction
 			// Don't add the memory pinned entries in weighted queue. 
 			// The eviction queue should contain only entries that can
 			// be removed or spilled to disk.
-			//entry.setTimestamp();
-			entry.computeScore(_removelist); 
-			// Adjust score according to cache miss counts.
-			weightedQueue.add(entry);
+			getPolicy().add(entry);
+			if (LineageCacheTrace.isEnabled())
+				LineageCacheTrace.traceAdd(entry);
 		}
 	}
 	
 	protected static void getEntry(LineageCacheEntry entry) {
-		// Reset the timestamp to maintain the LRU component of the scoring function
-		if (LineageCacheConfig.isTimeBased()) { 
-			if (weightedQueue.remove(entry)) {
-				entry.setTimestamp();
-				weightedQueue.add(entry);
-			}
-		}
-		// Increase computation time of the sought entry.
-		// FIXME: avoid when called from partial reuse methods
-		if (LineageCacheConfig.isCostNsize()) {
-			if (weightedQueue.remove(entry)) {
-				entry.updateComputeTime();
-				weightedQueue.add(entry);
-			}
+		// Maintain the eviction order on cache hits
+		getPolicy().access(entry);
+		if (LineageCacheTrace.isEnabled())
+			LineageCacheTrace.traceHit(entry);
+	}
+	
+	private static LineageCacheEvictionPolicy getPolicy() {
+		// Create the policy on first use or policy changes, and
+		// move all evictable entries to the new policy
+		LineageCachePolicy type = LineageCacheConfig.getCachePolicy();
+		if (_policy == null || _policyType != type) {
+			LineageCacheEvictionPolicy old = _policy;
+			_policy = LineageCacheConfig.createEvictionPolicy(type);
+			_policyType = type;
+			for (LineageCacheEntry e = (old != null) ? old.pollVictim() : null; e != null; e = old.pollVictim())
+				_policy.add(e);
 		}
+		return _policy;
 	}
 
 	private static void removeEntry(Map<LineageItem, LineageCacheEntry> cache, LineageCacheEntry e) {
@@ -196,7 +200,7 @@ public class LineageCacheEviction
 		//Cost based eviction
 		while ((spaceNeeded + _cachesize) > CACHE_LIMIT)
 		{
-			LineageCacheEntry e = weightedQueue.pollFirst();
+			LineageCacheEntry e = getPolicy().pollVictim();
 			if (e == null)
 				// Nothing to evict.
 				break;
@@ -209,7 +213,7 @@ public class LineageCacheEviction
 			
 			if (!e.getCacheStatus().canEvict()) {
 				// Note: Execution should never reach here, as these 
-				//       entries are not part of the weightedQueue.
+				//       entries are not part of the eviction policy.
 				continue;
 				//TODO: Graceful handling of status.
 			}
@@ -259,7 +263,7 @@ public class LineageCacheEviction
 		return _startTimestamp;
 	}
 
-	private static double getDiskSpillEstimate(LineageCacheEntry e) {
+	protected static double getDiskSpillEstimate(LineageCacheEntry e) {
 		if (!e.isMatrixValue() || e.isNullVal())
 			return 0;
 		// This includes sum of writing to and reading from disk
@@ -398,6 +402,8 @@ public class LineageCacheEviction
 			LineageCacheStatistics.incrementFSReadTime(t1-t0);
 			LineageCacheStatistics.incrementFSHits();
 		}
+		if (LineageCacheTrace.isEnabled())
+			LineageCacheTrace.traceHit(e);
 		return cache.get(key);
 	}
 }
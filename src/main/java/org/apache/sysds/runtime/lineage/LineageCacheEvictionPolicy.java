@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.lineage;
+
+/**
+ * Eviction policy of the lineage cache, which maintains the order of all
+ * evictable cache entries. Entries that are pinned to memory or spilled to
+ * disk are not part of the policy.
+ */
+public interface LineageCacheEvictionPolicy
+{
+	/**
+	 * Adds an entry that became evictable (new or re-cached value).
+	 * 
+	 * @param e cache entry
+	 */
+	public void add(LineageCacheEntry e);
+	
+	/**
+	 * Updates the order of an entry on a cache hit, if maintained by this policy.
+	 * 
+	 * @param e cache entry
+	 */
+	public void access(LineageCacheEntry e);
+	
+	/**
+	 * Removes and returns the next entry to evict.
+	 * 
+	 * @return cache entry, or null if there are no evictable entries
+	 */
+	public LineageCacheEntry pollVictim();
+	
+	/**
+	 * Removes all entries.
+	 */
+	public void clear();
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.lineage;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Eviction policy that combines GreedyDual-Size-Frequency priorities with
+ * LRU-K access histories. The priority of an entry is H = L + f * c / s, where
+ * c is the compute time, s the size, f the access frequency, and L an inflation
+ * value that is set to the priority of the last victim (which ages entries that
+ * are not accessed anymore). Entries of equal priority are evicted by their
+ * backward K-distance, i.e., entries with fewer than K accesses or an older K-th
+ * most recent access first. All access times are logical, which makes the
+ * policy deterministic for replaying recorded traces.
+ */
+public class LineageCacheLRUKPolicy implements LineageCacheEvictionPolicy
+{
+	public static final int DEFAULT_K = 2;
+	
+	private final int _k;
+	private final Map<LineageCacheEntry, Meta> _meta = new IdentityHashMap<>();
+	private final TreeSet<Meta> _queue = new TreeSet<>(Comparator
+		.comparingDouble((Meta m) -> m._priority)
+		.thenComparingLong(m -> m.getKthAccess())
+		.thenComparingLong(m -> m._entry._key.getId())
+		.thenComparingLong(m -> m._seq));
+	private long _clock = 0;
+	private double _inflation = 0;
+	
+	public LineageCacheLRUKPolicy() {
+		this(DEFAULT_K);
+	}
+	
+	public LineageCacheLRUKPolicy(int k) {
+		_k = k;
+	}
+	
+	@Override
+	public void add(LineageCacheEntry e) {
+		Meta m = _meta.get(e);
+		if (m == null) {
+			m = new Meta(e, _k, _clock);
+			_meta.put(e, m);
+		}
+		else
+			_queue.remove(m);
+		update(m);
+	}
+	
+	@Override
+	public void access(LineageCacheEntry e) {
+		Meta m = _meta.get(e);
+		if (m == null)
+			return; //not evictable
+		_queue.remove(m);
+		update(m);
+	}
+	
+	@Override
+	public LineageCacheEntry pollVictim() {
+		Meta m = _queue.pollFirst();
+		if (m == null)
+			return null;
+		_meta.remove(m._entry);
+		_inflation = m._priority;
+		return m._entry;
+	}
+	
+	@Override
+	public void clear() {
+		_meta.clear();
+		_queue.clear();
+		_clock = 0;
+		_inflation = 0;
+	}
+	
+	private void update(Meta m) {
+		m.recordAccess(++_clock);
+		double cost = Math.max(m._entry._computeTime, 1);
+		double size = Math.max(m._entry.getSize(), 1);
+		m._priority = _inflation + m._freq * cost / size;
+		_queue.add(m);
+	}
+	
+	private static class Meta {
+		private final LineageCacheEntry _entry;
+		private final long _seq;      //insertion order for ties
+		private final long[] _hist;   //circular buffer of last K accesses
+		private int _freq = 0;        //number of accesses
+		private double _priority = 0;
+		
+		private Meta(LineageCacheEntry e, int k, long seq) {
+			_entry = e;
+			_seq = seq;
+			_hist = new long[k];
+		}
+		
+		private void recordAccess(long time) {
+			_hist[_freq % _hist.length] = time;
+			_freq++;
+		}
+		
+		private long getKthAccess() {
+			//oldest of the last K accesses, 0 if less than K accesses
+			return (_freq < _hist.length) ? 0 : _hist[_freq % _hist.length];
+		}
+	}
+}
@@ -40,6 +40,12 @@ public class LineageCacheStatistics {
 	private static final LongAdder _ctimeFSWrite    = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeSaved      = new LongAdder(); //in nano sec
 	private static final LongAdder _ctimeMissed     = new LongAdder(); //in nano sec
+	private static final LongAdder _numHitsPersist  = new LongAdder();
+	private static final LongAdder _numWritesPersist = new LongAdder();
+	private static final LongAdder _ctimePersistRead = new LongAdder(); //in nano sec
+	private static final LongAdder _ctimePersistWrite = new LongAdder(); //in nano sec
+	//instruction hits of the current thread (e.g., for reuse reporting of federated workers)
+	private static final ThreadLocal<long[]> _numHitsInstThread = ThreadLocal.withInitial(() -> new long[1]);
 
 	public static void reset() {
 		_numHitsMem.reset();
@@ -56,6 +62,10 @@ public class LineageCacheStatistics {
 		_ctimeFSWrite.reset();
 		_ctimeSaved.reset();
 		_ctimeMissed.reset();
+		_numHitsPersist.reset();
+		_numWritesPersist.reset();
+		_ctimePersistRead.reset();
+		_ctimePersistWrite.reset();
 	}
 	
 	public static void incrementMemHits() {
@@ -82,6 +92,16 @@ public class LineageCacheStatistics {
 		return _numHitsInst.longValue();
 	}
 
+	public static void incrementThreadInstHits() {
+		// Number of times single instruction results are reused by the current thread,
+		// maintained independent of statistics and never reset.
+		_numHitsInstThread.get()[0]++;
+	}
+
+	public static long getThreadInstHits() {
+		return _numHitsInstThread.get()[0];
+	}
+
 	public static void incrementSBHits() {
 		// Number of times statementblock results are reused.
 		_numHitsSB.increment();
@@ -138,6 +158,34 @@ public class LineageCacheStatistics {
 		_ctimeMissed.add(delta);
 	}
 
+	public static void incrementPersistHits() {
+		// Number of times found in the persistent cache.
+		_numHitsPersist.increment();
+	}
+	
+	public static long getPersistHits() {
+		return _numHitsPersist.longValue();
+	}
+
+	public static void incrementPersistWrites() {
+		// Number of times written to the persistent cache.
+		_numWritesPersist.increment();
+	}
+	
+	public static long getPersistWrites() {
+		return _numWritesPersist.longValue();
+	}
+
+	public static void incrementPersistReadTime(long delta) {
+		// Total time spent on reading from the persistent cache.
+		_ctimePersistRead.add(delta);
+	}
+
+	public static void incrementPersistWriteTime(long delta) {
+		// Total time spent on writing to the persistent cache.
+		_ctimePersistWrite.add(delta);
+	}
+
 	public static long getMultiLevelFnHits() {
 		return _numHitsFunc.longValue();
 	}
@@ -189,6 +237,19 @@ public class LineageCacheStatistics {
 		sb.append(String.format("%.3f", ((double)_ctimeFSWrite.longValue())/1000000000)); //in sec
 		return sb.toString();
 	}
+	
+	public static String displayPersist() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(_numHitsPersist.longValue());
+		sb.append("/");
+		sb.append(_numWritesPersist.longValue());
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_ctimePersistRead.longValue())/1000000000)); //in sec
+		sb.append("/");
+		sb.append(String.format("%.3f", ((double)_ctimePersistWrite.longValue())/1000000000)); //in sec
+		return sb.toString();
+	}
+	
 	public static String displayComputeTime() {
 		StringBuilder sb = new StringBuilder();
 		sb.append(String.format("%.3f", ((double)_ctimeSaved.longValue())/1000000000)); //in sec
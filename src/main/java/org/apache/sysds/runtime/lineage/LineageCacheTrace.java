@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.lineage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+
+/**
+ * Recorder and replayer of lineage cache access traces, which allows comparing
+ * eviction policies offline. The trace contains one event per line:
+ * <code>A,id,size,computeTime</code> for evictable entries added to the
+ * cache, and <code>H,id</code> for cache hits (in memory or spilled).
+ */
+public class LineageCacheTrace
+{
+	private static String _fname = null;
+	private static BufferedWriter _writer = null;
+	
+	public static void setTraceFile(String fname) {
+		close();
+		_fname = (fname != null && !fname.isEmpty()) ? fname : null;
+	}
+	
+	public static boolean isEnabled() {
+		return _fname != null;
+	}
+	
+	protected static synchronized void traceAdd(LineageCacheEntry e) {
+		write("A," + e._key.getId() + "," + e.getSize() + "," + e._computeTime);
+	}
+	
+	protected static synchronized void traceHit(LineageCacheEntry e) {
+		write("H," + e._key.getId());
+	}
+	
+	public static synchronized void close() {
+		IOUtilFunctions.closeSilently(_writer);
+		_writer = null;
+	}
+	
+	private static void write(String event) {
+		try {
+			if (_writer == null)
+				_writer = new BufferedWriter(new FileWriter(_fname, true));
+			_writer.write(event);
+			_writer.newLine();
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException("Failed to write lineage cache trace: " + _fname, ex);
+		}
+	}
+	
+	/**
+	 * Replays a recorded trace against the given eviction policy and cache size,
+	 * where entries are recomputed on misses (the first access of an entry is
+	 * a compulsory miss for all policies).
+	 * 
+	 * @param fname trace file name
+	 * @param policy eviction policy
+	 * @param limit cache size in bytes
+	 * @return replay statistics
+	 * @throws IOException if IOException occurs
+	 */
+	public static ReplayStatistics replay(String fname, LineageCacheEvictionPolicy policy, long limit)
+		throws IOException
+	{
+		ReplayStatistics ret = new ReplayStatistics();
+		Map<Long, TraceEntry> entries = new HashMap<>();
+		Map<Long, TraceEntry> cached = new HashMap<>();
+		long size = 0;
+		policy.clear();
+		
+		try( BufferedReader br = new BufferedReader(new FileReader(fname)) ) {
+			String line = null;
+			while( (line = br.readLine()) != null ) {
+				String[] parts = IOUtilFunctions.split(line, ",");
+				long id = Long.parseLong(parts[1]);
+				if( parts[0].equals("A") )
+					entries.putIfAbsent(id, new TraceEntry(id,
+						Long.parseLong(parts[2]), Long.parseLong(parts[3])));
+				TraceEntry e = entries.get(id);
+				if( e == null )
+					continue; //hit of an entry added before tracing
+				
+				if( cached.containsKey(id) ) {
+					ret._hits++;
+					ret._savedTime += e._computeTime;
+					policy.access(e);
+					continue;
+				}
+				
+				//miss: recompute and cache entry
+				ret._misses++;
+				ret._missedTime += e._computeTime;
+				if( e._size > limit )
+					continue;
+				while( size + e._size > limit ) {
+					TraceEntry v = (TraceEntry) policy.pollVictim();
+					if( v == null )
+						break;
+					cached.remove(v._key.getId());
+					size -= v._size;
+					ret._evictions++;
+				}
+				cached.put(id, e);
+				size += e._size;
+				policy.add(e);
+			}
+		}
+		return ret;
+	}
+	
+	public static void main(String[] args) throws IOException {
+		if( args.length < 2 ) {
+			System.out.println("Usage: LineageCacheTrace <trace file> <cache size in bytes>");
+			return;
+		}
+		long limit = Long.parseLong(args[1]);
+		System.out.println("WEIGHTED: " + replay(args[0], new LineageCacheWeightedPolicy(), limit));
+		System.out.println("LRUK:     " + replay(args[0], new LineageCacheLRUKPolicy(), limit));
+	}
+	
+	public static class ReplayStatistics {
+		private long _hits = 0;
+		private long _misses = 0;
+		private long _evictions = 0;
+		private long _savedTime = 0;  //in nano sec
+		private long _missedTime = 0; //in nano sec
+		
+		public long getHits() {
+			return _hits;
+		}
+		
+		public long getMisses() {
+			return _misses;
+		}
+		
+		public long getEvictions() {
+			return _evictions;
+		}
+		
+		public long getSavedComputeTime() {
+			return _savedTime;
+		}
+		
+		public long getMissedComputeTime() {
+			return _missedTime;
+		}
+		
+		@Override
+		public String toString() {
+			return "hits=" + _hits + ", misses=" + _misses + ", evictions=" + _evictions
+				+ ", saved=" + String.format("%.3f", _savedTime*1e-9) + " sec"
+				+ ", missed=" + String.format("%.3f", _missedTime*1e-9) + " sec";
+		}
+	}
+	
+	private static class TraceEntry extends LineageCacheEntry {
+		private final long _size;
+		
+		private TraceEntry(long id, long size, long computeTime) {
+			super(new LineageItem(id, "trace"), DataType.MATRIX, null, null, computeTime);
+			_size = size;
+		}
+		
+		@Override
+		public synchronized long getSize() {
+			return _size;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.lineage;
+
+import java.util.TreeSet;
+
+/**
+ * Default eviction policy, which orders entries by a weighted score of
+ * compute time per size, last access time and DAG height (see
+ * {@link LineageCacheConfig#setCachePolicy(LineageCacheConfig.LineageCachePolicy)}).
+ */
+public class LineageCacheWeightedPolicy implements LineageCacheEvictionPolicy
+{
+	private final TreeSet<LineageCacheEntry> _weightedQueue =
+		new TreeSet<>(LineageCacheConfig.LineageCacheComparator);
+	
+	@Override
+	public void add(LineageCacheEntry e) {
+		// Adjust score according to cache miss counts.
+		e.computeScore(LineageCacheEviction._removelist);
+		_weightedQueue.add(e);
+	}
+	
+	@Override
+	public void access(LineageCacheEntry e) {
+		// Reset the timestamp to maintain the LRU component of the scoring function
+		if (LineageCacheConfig.isTimeBased()) { 
+			if (_weightedQueue.remove(e)) {
+				e.setTimestamp();
+				_weightedQueue.add(e);
+			}
+		}
+		// Increase computation time of the sought entry.
+		// FIXME: avoid when called from partial reuse methods
+		if (LineageCacheConfig.isCostNsize()) {
+			if (_weightedQueue.remove(e)) {
+				e.updateComputeTime();
+				_weightedQueue.add(e);
+			}
+		}
+	}
+	
+	@Override
+	public LineageCacheEntry pollVictim() {
+		return _weightedQueue.pollFirst();
+	}
+	
+	@Override
+	public void clear() {
+		_weightedQueue.clear();
+	}
+}
@@ -33,6 +33,7 @@ public class LineageItem {
 	private final String _data;
 	private LineageItem[] _inputs;
 	private int _hash = 0;
+	private byte[] _digest = null; //stable DAG digest, see LineagePersistentCache
 	private long _distLeaf2Node;
 	// init visited to true to ensure visited items are
 	// not hidden when used as inputs to new items
@@ -96,11 +97,13 @@ public class LineageItem {
 	public void resetInputs() {
 		_inputs = null;
 		_hash = 0;
+		_digest = null;
 	}
 	
 	public void setInput(int i, LineageItem item) {
 		_inputs[i] = item;
 		_hash = 0; //reset hash
+		_digest = null;
 	}
 	
 	public String getData() {
@@ -112,6 +115,14 @@ public class LineageItem {
 		_hash = hashCode();
 	}
 
+	protected byte[] getDigest() {
+		return _digest;
+	}
+	
+	protected void setDigest(byte[] digest) {
+		_digest = digest;
+	}
+
 	public boolean isVisited() {
 		return _visited;
 	}
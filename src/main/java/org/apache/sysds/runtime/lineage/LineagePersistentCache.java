@@ -0,0 +1,447 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.lineage;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FileChecksum;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.DataType;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.lops.Lop;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.instructions.cp.ScalarObject;
+import org.apache.sysds.runtime.instructions.cp.ScalarObjectFactory;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.FastBufferedDataInputStream;
+import org.apache.sysds.runtime.util.FastBufferedDataOutputStream;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+
+/**
+ * Persistent tier of the lineage cache, which stores reusable intermediates
+ * in a local directory that outlives the JVM. Entries are keyed by a stable
+ * SHA-256 digest of the lineage DAG, which covers opcodes and data of all
+ * items as well as checksums of the files read by createvar leaves, but not
+ * the process-local item IDs. Lineage DAGs that depend on unbound in-memory
+ * inputs (e.g., JMLC or MLContext inputs without lineage) or on other
+ * non-reproducible leaves are never persisted.
+ * 
+ * Entries are written with an atomic rename to allow concurrent processes
+ * sharing the directory, and evicted in LRU order (by file modification time,
+ * which is updated on hits) once the directory exceeds its size limit. The
+ * size accounting only covers entries known to this process.
+ */
+public class LineagePersistentCache
+{
+	private static final Log LOG = LogFactory.getLog(LineagePersistentCache.class.getName());
+	
+	private static final String FILE_SUFFIX = ".lin";
+	private static final byte TYPE_MATRIX = 0;
+	private static final byte TYPE_SCALAR = 1;
+	private static final byte[] NONE = new byte[0]; //non-persistable lineage
+	private static final int BUFFER_SIZE = 64 * 1024;
+	
+	private static String _dir = null;
+	private static long _limit = 0;
+	private static long _size = 0;
+	//index of known entries (digest -> file size) in LRU order
+	private static final LinkedHashMap<String, Long> _index = new LinkedHashMap<>(16, 0.75f, true);
+	//input file checksums by path, length, and modification time
+	private static final Map<String, byte[]> _checksums = new ConcurrentHashMap<>();
+	
+	/**
+	 * Enables the persistent cache in the given directory and loads the index
+	 * of existing entries, or disables the persistent cache if the directory is
+	 * null or empty.
+	 * 
+	 * @param dir local cache directory
+	 * @param limit maximum size of the cache directory in bytes
+	 */
+	public static synchronized void init(String dir, long limit) {
+		if( dir != null && dir.equals(_dir) && limit == _limit )
+			return; //already initialized
+		_index.clear();
+		_size = 0;
+		_dir = (dir != null && !dir.isEmpty()) ? dir : null;
+		_limit = limit;
+		if( _dir == null )
+			return;
+		
+		LocalFileUtils.createLocalFileIfNotExist(_dir);
+		File[] files = new File(_dir).listFiles((d, name) -> name.endsWith(FILE_SUFFIX));
+		if( files == null )
+			throw new DMLRuntimeException("Failed to open persistent lineage cache directory: " + _dir);
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for( File f : files ) {
+			String name = f.getName();
+			_index.put(name.substring(0, name.length()-FILE_SUFFIX.length()), f.length());
+			_size += f.length();
+		}
+		evict(0);
+	}
+	
+	public static synchronized boolean isEnabled() {
+		return _dir != null;
+	}
+	
+	public static synchronized long getSize() {
+		return _size;
+	}
+	
+	public static synchronized int getNumEntries() {
+		return _index.size();
+	}
+	
+	/**
+	 * Deletes all entries of the persistent cache known to this process.
+	 */
+	public static synchronized void clear() {
+		if( _dir == null )
+			return;
+		for( String key : _index.keySet() )
+			LocalFileUtils.deleteFileIfExists(getFileName(key), true);
+		_index.clear();
+		_size = 0;
+	}
+	
+	/**
+	 * Obtains a detached cache entry for the given lineage item from the
+	 * persistent cache.
+	 * 
+	 * @param key lineage item
+	 * @return cache entry, or null if not available
+	 */
+	protected static LineageCacheEntry get(LineageItem key) {
+		String digest = getDigest(key);
+		if( digest == null )
+			return null;
+		synchronized( LineagePersistentCache.class ) {
+			if( !_index.containsKey(digest) && !new File(getFileName(digest)).exists() )
+				return null;
+		}
+		
+		long t0 = System.nanoTime();
+		File f = new File(getFileName(digest));
+		LineageCacheEntry ret = null;
+		try( InputStream is = new FileInputStream(f) ) {
+			FastBufferedDataInputStream in = new FastBufferedDataInputStream(is, BUFFER_SIZE);
+			byte type = in.readByte();
+			long computetime = in.readLong();
+			if( type == TYPE_MATRIX ) {
+				MatrixBlock mb = new MatrixBlock();
+				mb.readFields(in);
+				ret = new LineageCacheEntry(key, DataType.MATRIX, mb, null, computetime);
+			}
+			else {
+				ValueType vt = ValueType.valueOf(in.readUTF());
+				ScalarObject so = ScalarObjectFactory.createScalarObject(vt, in.readUTF());
+				ret = new LineageCacheEntry(key, DataType.SCALAR, null, so, computetime);
+			}
+		}
+		catch(IOException | RuntimeException ex) {
+			//concurrently evicted or partially written by other processes
+			LOG.debug("Failed to read persistent lineage cache entry " + f + ": " + ex.getMessage());
+			synchronized( LineagePersistentCache.class ) {
+				Long size = _index.remove(digest);
+				_size -= (size != null) ? size : 0;
+			}
+			return null;
+		}
+		
+		//maintain LRU order (across processes via modification time)
+		f.setLastModified(System.currentTimeMillis());
+		synchronized( LineagePersistentCache.class ) {
+			if( _index.get(digest) == null ) {
+				_index.put(digest, f.length());
+				_size += f.length();
+			}
+		}
+		if (DMLScript.STATISTICS) {
+			LineageCacheStatistics.incrementPersistReadTime(System.nanoTime()-t0);
+			LineageCacheStatistics.incrementPersistHits();
+		}
+		return ret;
+	}
+	
+	/**
+	 * Indicates if the given entry is worth persisting, i.e., if it took
+	 * longer to compute than to write and read it from local disk.
+	 * 
+	 * @param e lineage cache entry
+	 * @return true if the entry should be persisted
+	 */
+	protected static boolean isPersistable(LineageCacheEntry e) {
+		if( e.isNullVal() )
+			return false;
+		double exectime = ((double) e._computeTime) / 1000000; // in milliseconds
+		double iotime = LineageCacheEviction.getDiskSpillEstimate(e) * 1000; // in milliseconds
+		return exectime >= LineageCacheConfig.MIN_SPILL_TIME_ESTIMATE && exectime > iotime;
+	}
+	
+	/**
+	 * Writes the given entry to the persistent cache, if its lineage
+	 * is reproducible and not yet persisted.
+	 * 
+	 * @param e lineage cache entry
+	 */
+	protected static void put(LineageCacheEntry e) {
+		String digest = getDigest(e._key);
+		if( digest == null )
+			return;
+		synchronized( LineagePersistentCache.class ) {
+			if( _dir == null || _index.containsKey(digest) )
+				return;
+		}
+		
+		long t0 = System.nanoTime();
+		String fname = getFileName(digest);
+		File tmp = new File(fname + "." + DMLScript.getUUID() + ".tmp");
+		try {
+			try( FileOutputStream fos = new FileOutputStream(tmp) ) {
+				FastBufferedDataOutputStream out = new FastBufferedDataOutputStream(fos, BUFFER_SIZE);
+				if( e.isMatrixValue() ) {
+					out.writeByte(TYPE_MATRIX);
+					out.writeLong(e._computeTime);
+					e.getMBValue().write(out);
+				}
+				else {
+					ScalarObject so = e.getSOValue();
+					out.writeByte(TYPE_SCALAR);
+					out.writeLong(e._computeTime);
+					out.writeUTF(so.getValueType().name());
+					out.writeUTF(so.getStringValue());
+				}
+				out.flush();
+			}
+			//atomic publish for concurrent readers in other processes
+			Files.move(tmp.toPath(), new File(fname).toPath(),
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch(IOException ex) {
+			LocalFileUtils.deleteFileIfExists(tmp.getAbsolutePath(), true);
+			throw new DMLRuntimeException("Failed to write persistent lineage cache entry: " + fname, ex);
+		}
+		
+		long size = new File(fname).length();
+		synchronized( LineagePersistentCache.class ) {
+			if( _index.get(digest) == null ) {
+				evict(size);
+				_index.put(digest, size);
+				_size += size;
+			}
+		}
+		if (DMLScript.STATISTICS) {
+			LineageCacheStatistics.incrementPersistWriteTime(System.nanoTime()-t0);
+			LineageCacheStatistics.incrementPersistWrites();
+		}
+	}
+	
+	private static void evict(long size) {
+		Iterator<Entry<String, Long>> iter = _index.entrySet().iterator();
+		while( _size + size > _limit && iter.hasNext() ) {
+			Entry<String, Long> e = iter.next();
+			LocalFileUtils.deleteFileIfExists(getFileName(e.getKey()), true);
+			_size -= e.getValue();
+			iter.remove();
+		}
+	}
+	
+	private static String getFileName(String digest) {
+		return _dir + File.separator + digest + FILE_SUFFIX;
+	}
+	
+	//---------------- STABLE LINEAGE DIGESTS -----------------
+	
+	/**
+	 * Computes a stable digest of the given lineage DAG, which is independent
+	 * of the process-local item IDs. The digests of all DAG items are memoized
+	 * in the items themselves.
+	 * 
+	 * @param root root lineage item
+	 * @return hex-encoded digest, or null if the lineage is not reproducible
+	 */
+	public static String getDigest(LineageItem root) {
+		byte[] digest = root.getDigest();
+		if( digest == null ) {
+			MessageDigest md = createMessageDigest();
+			//non-recursive post-order traversal for robustness
+			Stack<LineageItem> stack = new Stack<>();
+			stack.push(root);
+			while( !stack.empty() ) {
+				LineageItem li = stack.peek();
+				if( li.getDigest() != null ) {
+					stack.pop();
+					continue;
+				}
+				boolean ready = true;
+				if( li.getInputs() != null )
+					for( LineageItem in : li.getInputs() )
+						if( in.getDigest() == null ) {
+							stack.push(in);
+							ready = false;
+						}
+				if( ready ) {
+					stack.pop();
+					li.setDigest(computeDigest(li, md));
+				}
+			}
+			digest = root.getDigest();
+		}
+		return (digest != NONE) ? toHexString(digest) : null;
+	}
+	
+	private static byte[] computeDigest(LineageItem li, MessageDigest md) {
+		md.reset();
+		md.update(li.getOpcode().getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+		md.update(li.getData().getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+		if( li.isDedup() )
+			return NONE; //loop patches are process-local
+		if( li.isLeaf() ) {
+			if( li.isInstruction() ) {
+				if( li.getOpcode().equals("createvar") ) {
+					String[] parts = li.getData().split(Lop.OPERAND_DELIMITOR);
+					byte[] checksum = (parts.length > 3) ? getFileChecksum(parts[3]) : null;
+					if( checksum == null )
+						return NONE;
+					md.update(checksum);
+				}
+				else if( !isReproducibleCreation(li.getOpcode()) )
+					return NONE;
+			}
+			else {
+				//unbound variables (e.g., in-memory inputs) are
+				//represented by their names instead of values
+				String[] parts = li.getData().split(Lop.OPERAND_DELIMITOR);
+				if( parts.length == 4 && !parts[1].equals(DataType.SCALAR.name())
+					&& parts[3].equals("false") )
+					return NONE;
+			}
+		}
+		else {
+			for( LineageItem in : li.getInputs() ) {
+				if( in.getDigest() == NONE )
+					return NONE;
+				md.update(in.getDigest());
+			}
+		}
+		return md.digest();
+	}
+	
+	private static boolean isReproducibleCreation(String opcode) {
+		//data generators w/ seeds captured in the lineage data
+		return opcode.equals("rand") || opcode.equals("seq") || opcode.equals("sample");
+	}
+	
+	/**
+	 * Obtains a checksum of the given file or directory. Filesystems with native
+	 * checksums (e.g., HDFS) are queried directly, otherwise a CRC32 of the file
+	 * contents is computed and memoized by path, length, and modification time.
+	 * 
+	 * @param fname file or directory name
+	 * @return checksum, or null if the file does not exist
+	 */
+	protected static byte[] getFileChecksum(String fname) {
+		try {
+			Path path = new Path(fname);
+			FileSystem fs = IOUtilFunctions.getFileSystem(path);
+			if( !fs.exists(path) )
+				return null;
+			MessageDigest md = createMessageDigest();
+			FileStatus[] stats = fs.isDirectory(path) ?
+				fs.listStatus(path) : new FileStatus[]{fs.getFileStatus(path)};
+			Arrays.sort(stats);
+			for( FileStatus stat : stats ) {
+				if( stat.isDirectory() )
+					continue;
+				md.update(stat.getPath().getName().getBytes(StandardCharsets.UTF_8));
+				FileChecksum fcs = fs.getFileChecksum(stat.getPath());
+				if( fcs != null )
+					md.update(fcs.getBytes());
+				else
+					md.update(getContentChecksum(fs, stat));
+			}
+			return md.digest();
+		}
+		catch(IOException ex) {
+			LOG.debug("Failed to obtain checksum of " + fname + ": " + ex.getMessage());
+			return null;
+		}
+	}
+	
+	private static byte[] getContentChecksum(FileSystem fs, FileStatus stat) throws IOException {
+		String key = stat.getPath().toString() + "_" + stat.getLen() + "_" + stat.getModificationTime();
+		byte[] ret = _checksums.get(key);
+		if( ret == null ) {
+			CRC32 crc = new CRC32();
+			byte[] buff = new byte[BUFFER_SIZE];
+			try( InputStream is = fs.open(stat.getPath()) ) {
+				for( int len = is.read(buff); len > 0; len = is.read(buff) )
+					crc.update(buff, 0, len);
+			}
+			long v = crc.getValue();
+			ret = new byte[] {(byte)(v>>>24), (byte)(v>>>16), (byte)(v>>>8), (byte)v};
+			_checksums.put(key, ret);
+		}
+		return ret;
+	}
+	
+	private static MessageDigest createMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch(NoSuchAlgorithmException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static String toHexString(byte[] digest) {
+		StringBuilder sb = new StringBuilder(2 * digest.length);
+		for( byte b : digest )
+			sb.append(String.format("%02x", b));
+		return sb.toString();
+	}
+}
@@ -565,7 +565,9 @@ public class FrameBlock implements CacheBlock, Externalizable  {
 			case STRING:  return ((StringArray)_coldata[c])._data;
 			case BOOLEAN: return ((BooleanArray)_coldata[c])._data;
 			case INT64:     return ((LongArray)_coldata[c])._data;
+			case INT32:   return ((IntegerArray)_coldata[c])._data;
 			case FP64:  return ((DoubleArray)_coldata[c])._data;
+			case FP32:    return ((FloatArray)_coldata[c])._data;
 			default:      return null;
 	 	}
 	}
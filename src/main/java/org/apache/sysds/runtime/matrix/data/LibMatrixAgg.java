@@ -34,6 +34,7 @@ import org.apache.sysds.runtime.codegen.SpoofOperator.SideInputSparseCell;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
 import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFP64Off;
 import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
@@ -1277,6 +1278,12 @@ public class LibMatrixAgg
 	private static void aggregateUnaryMatrixDense(MatrixBlock in, MatrixBlock out, AggType optype, ValueFunction vFn, IndexFunction ixFn, int rl, int ru) {
 		final int n = in.clen;
 		
+		//off-heap input w/o migration to the heap (if supported)
+		if( in.getDenseBlock().isOffHeap() && isSupportedOffHeapAggregate(optype, ixFn) ) {
+			aggregateUnaryMatrixDenseOffHeap(in, out, optype, vFn, ixFn, rl, ru);
+			return;
+		}
+		
 		//note: due to corrections, even the output might be a large dense block
 		DenseBlock a = in.getDenseBlock();
 		DenseBlock c = out.getDenseBlock();
@@ -1485,6 +1492,72 @@ public class LibMatrixAgg
 		}
 	}
 
+	private static boolean isSupportedOffHeapAggregate(AggType optype, IndexFunction ixFn) {
+		return (optype == AggType.KAHAN_SUM || optype == AggType.KAHAN_SUM_SQ
+			|| optype == AggType.MIN || optype == AggType.MAX)
+			&& (ixFn instanceof ReduceAll || ixFn instanceof ReduceCol || ixFn instanceof ReduceRow);
+	}
+	
+	/**
+	 * SUM/SUM_SQ/MIN/MAX (full, row, col) over an off-heap dense input, where
+	 * the rows are staged in a heap buffer and aggregated with the same
+	 * primitives as the on-heap dense kernels.
+	 * 
+	 * @param in input matrix with off-heap dense block
+	 * @param out output matrix
+	 * @param optype aggregation type
+	 * @param vFn value function
+	 * @param ixFn index function
+	 * @param rl row lower index
+	 * @param ru row upper index
+	 */
+	private static void aggregateUnaryMatrixDenseOffHeap(MatrixBlock in, MatrixBlock out, AggType optype, ValueFunction vFn, IndexFunction ixFn, int rl, int ru) {
+		final int n = in.clen;
+		DenseBlockFP64Off a = (DenseBlockFP64Off) in.getDenseBlock();
+		DenseBlock c = out.getDenseBlock();
+		double[] buff = new double[n];
+		
+		if( optype == AggType.KAHAN_SUM || optype == AggType.KAHAN_SUM_SQ ) {
+			KahanObject kbuff = new KahanObject(0, 0);
+			KahanFunction kplus = (KahanFunction) vFn;
+			for( int i=rl; i<ru; i++ ) {
+				a.copyTo(a.pos(i), buff, 0, n);
+				if( ixFn instanceof ReduceCol ) { //ROWSUM
+					kbuff.set(0, 0); //reset buffer
+					sum(buff, 0, n, kbuff, kplus);
+					c.set(i, kbuff);
+				}
+				else if( ixFn instanceof ReduceRow ) //COLSUM
+					sumAgg(buff, c, 0, n, kbuff, kplus);
+				else //SUM
+					sum(buff, 0, n, kbuff, kplus);
+			}
+			if( ixFn instanceof ReduceAll )
+				c.set(kbuff);
+		}
+		else { //MIN/MAX
+			double init = (optype==AggType.MAX) ? Double.NEGATIVE_INFINITY:Double.POSITIVE_INFINITY;
+			Builtin builtin = (Builtin) vFn;
+			double tmp = init;
+			double[] lc = null;
+			if( ixFn instanceof ReduceRow ) {
+				c.set(init); //base for incremental agg
+				lc = c.values(0); //guaranteed single row
+			}
+			for( int i=rl; i<ru; i++ ) {
+				a.copyTo(a.pos(i), buff, 0, n);
+				if( ixFn instanceof ReduceCol ) //ROWMIN/ROWMAX
+					c.set(i, 0, builtin(buff, 0, init, n, builtin));
+				else if( ixFn instanceof ReduceRow ) //COLMIN/COLMAX
+					builtinAgg(buff, lc, 0, n, builtin);
+				else //MIN/MAX
+					tmp = builtin(buff, 0, tmp, n, builtin);
+			}
+			if( ixFn instanceof ReduceAll )
+				c.set(0, 0, tmp);
+		}
+	}
+	
 	private static void cumaggregateUnaryMatrixDense(MatrixBlock in, MatrixBlock out, AggType optype, ValueFunction vFn, double[] agg, int rl, int ru) {
 		final int n = in.clen;
 		
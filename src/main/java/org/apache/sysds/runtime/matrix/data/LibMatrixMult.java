@@ -41,6 +41,7 @@ import org.apache.sysds.lops.WeightedUnaryMM.WUMMType;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.parfor.stat.InfrastructureAnalyzer;
 import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFP64Off;
 import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCSR;
@@ -128,10 +129,15 @@ public class LibMatrixMult
 		boolean m1Perm = m1.isSparsePermutationMatrix();
 		boolean ultraSparse = (fixedRet && ret.sparse)
 			|| (!fixedRet && isUltraSparseMatrixMult(m1, m2, m1Perm));
-		boolean tm2 = checkPrepMatrixMultRightInput(m1,m2);
-		m2 = prepMatrixMultRightInput(m1, m2);
+		//note: off-heap decision before rhs preparation (kernel expects untransposed rhs)
+		boolean offHeap = isOffHeapMatrixMult(m1, m2, ultraSparse);
+		boolean tm2 = !offHeap && checkPrepMatrixMultRightInput(m1,m2);
+		m2 = offHeap ? m2 : prepMatrixMultRightInput(m1, m2);
 		ret.sparse = ultraSparse;
-		ret.allocateBlock();
+		if( offHeap )
+			ret.allocateDenseBlock(true, true);
+		else
+			ret.allocateBlock();
 		
 		//prepare row-upper for special cases of vector-matrix
 		boolean pm2 = !ultraSparse &&
@@ -142,6 +148,8 @@ public class LibMatrixMult
 		//core matrix mult computation
 		if( ultraSparse )
 			matrixMultUltraSparse(m1, m2, ret, m1Perm, 0, ru2);
+		else if( offHeap )
+			matrixMultDenseDenseOffHeap(m1, m2, ret, 0, ru);
 		else if(!m1.sparse && !m2.sparse)
 			matrixMultDenseDense(m1, m2, ret, tm2, pm2, 0, ru2, 0, cu);
 		else if(m1.sparse && m2.sparse)
@@ -190,10 +198,15 @@ public class LibMatrixMult
 		//we need to allocate sparse as well in order to prevent synchronization)
 		boolean m1Perm = m1.isSparsePermutationMatrix();
 		boolean ultraSparse = isUltraSparseMatrixMult(m1, m2, m1Perm);
-		boolean tm2 = checkPrepMatrixMultRightInput(m1,m2);
-		m2 = prepMatrixMultRightInput(m1, m2);
+		//note: off-heap decision before rhs preparation (kernel expects untransposed rhs)
+		boolean offHeap = isOffHeapMatrixMult(m1, m2, ultraSparse);
+		boolean tm2 = !offHeap && checkPrepMatrixMultRightInput(m1,m2);
+		m2 = offHeap ? m2 : prepMatrixMultRightInput(m1, m2);
 		ret.sparse = ultraSparse;
-		ret.allocateBlock();
+		if( offHeap )
+			ret.allocateDenseBlock(true, true);
+		else
+			ret.allocateBlock();
 		
 		if (!ret.isThreadSafe()) {
 			matrixMult(m1, m2, ret);
@@ -201,8 +214,9 @@ public class LibMatrixMult
 		}
 		
 		//prepare row-upper for special cases of vector-matrix / matrix-matrix
-		boolean pm2r = !ultraSparse && checkParMatrixMultRightInputRows(m1, m2, k);
-		boolean pm2c = !ultraSparse && checkParMatrixMultRightInputCols(m1, m2, k, pm2r);
+		//(off-heap inputs/outputs are always partitioned over rows of the lhs)
+		boolean pm2r = !ultraSparse && !offHeap && checkParMatrixMultRightInputRows(m1, m2, k);
+		boolean pm2c = !ultraSparse && !offHeap && checkParMatrixMultRightInputCols(m1, m2, k, pm2r);
 		int num = pm2r ? m2.rlen : pm2c ? m2.clen : m1.rlen; 
 		
 		//core multi-threaded matrix mult computation
@@ -212,7 +226,7 @@ public class LibMatrixMult
 			ArrayList<MatrixMultTask> tasks = new ArrayList<>();
 			ArrayList<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(num, k, (pm2r||pm2c));
 			for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
-				tasks.add(new MatrixMultTask(m1, m2, ret, tm2, pm2r, pm2c, m1Perm, lb, lb+blklens.get(i)));
+				tasks.add(new MatrixMultTask(m1, m2, ret, tm2, pm2r, pm2c, m1Perm, offHeap, lb, lb+blklens.get(i)));
 			//execute tasks
 			List<Future<Object>> taskret = pool.invokeAll(tasks);
 			pool.shutdown();
@@ -889,6 +903,61 @@ public class LibMatrixMult
 	// optimized matrix mult implementation //
 	//////////////////////////////////////////
 
+	/**
+	 * Dense-dense matrix multiplication for inputs with off-heap dense blocks (and
+	 * outputs that are allocated off-heap if enabled and sufficiently large).
+	 * Rows of the lhs and the output are staged in row blocks of small heap buffers and
+	 * the rows of the rhs are streamed through these buffers (IKJ), which avoids the
+	 * migration of the off-heap blocks to the heap.
+	 * 
+	 * @param m1 first matrix
+	 * @param m2 second matrix
+	 * @param ret result matrix
+	 * @param rl row lower index
+	 * @param ru row upper index
+	 */
+	private static void matrixMultDenseDenseOffHeap(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, int rl, int ru) {
+		DenseBlock a = m1.getDenseBlock();
+		DenseBlock b = m2.getDenseBlock();
+		DenseBlock c = ret.getDenseBlock();
+		final int n = m2.clen;
+		final int cd = m1.clen;
+		
+		//row block size such that the lhs and output tiles fit into L3 cache
+		final int blksz = Math.max(1, Math.min(32, L3_CACHESIZE / (8 * (n + cd))));
+		double[] atile = new double[blksz * cd];
+		double[] ctile = new double[blksz * n];
+		double[] bbuff = b.isOffHeap() ? new double[n] : null;
+		
+		for( int bi=rl; bi<ru; bi+=blksz ) {
+			int bimin = Math.min(ru, bi+blksz);
+			int len = bimin - bi;
+			//stage row block of lhs and reset output tile
+			for( int i=bi; i<bimin; i++ )
+				getRowValues(a, i, atile, (i-bi)*cd, cd);
+			Arrays.fill(ctile, 0, len*n, 0);
+			//stream rows of rhs through the output tile
+			for( int k=0; k<cd; k++ ) {
+				double[] bvals = bbuff;
+				int bix = 0;
+				if( bbuff != null )
+					((DenseBlockFP64Off)b).copyTo(b.pos(k), bbuff, 0, n);
+				else {
+					bvals = b.values(k);
+					bix = b.pos(k);
+				}
+				for( int i=0, aix=k, cix=0; i<len; i++, aix+=cd, cix+=n ) {
+					double aval = atile[aix];
+					if( aval != 0 )
+						vectMultiplyAdd(aval, bvals, ctile, bix, cix, n);
+				}
+			}
+			//write back output tile
+			for( int i=bi; i<bimin; i++ )
+				setRowValues(c, i, ctile, (i-bi)*n, n);
+		}
+	}
+	
 	private static void matrixMultDenseDense(MatrixBlock m1, MatrixBlock m2, MatrixBlock ret, boolean tm2, boolean pm2, int rl, int ru, int cl, int cu) {
 		DenseBlock a = m1.getDenseBlock();
 		DenseBlock b = m2.getDenseBlock();
@@ -3887,6 +3956,27 @@ public class LibMatrixMult
 				&& outSp < MatrixBlock.SPARSITY_TURN_POINT);
 	}
 
+	private static boolean isOffHeapMatrixMult( MatrixBlock m1, MatrixBlock m2, boolean ultraSparse ) {
+		//off-heap inputs only, because heap inputs are better served by the
+		//blocked dense kernels (w/ heap outputs independent of off-heap allocation)
+		return !ultraSparse && !m1.sparse && !m2.sparse
+			&& (m1.getDenseBlock().isOffHeap() || m2.getDenseBlock().isOffHeap());
+	}
+	
+	private static void getRowValues( DenseBlock a, int r, double[] dst, int dpos, int len ) {
+		if( a.isOffHeap() )
+			((DenseBlockFP64Off)a).copyTo(a.pos(r), dst, dpos, len);
+		else
+			System.arraycopy(a.values(r), a.pos(r), dst, dpos, len);
+	}
+	
+	private static void setRowValues( DenseBlock c, int r, double[] src, int spos, int len ) {
+		if( c.isOffHeap() )
+			((DenseBlockFP64Off)c).copyFrom(c.pos(r), src, spos, len);
+		else
+			System.arraycopy(src, spos, c.values(r), c.pos(r), len);
+	}
+	
 	private static MatrixBlock prepMatrixMultRightInput( MatrixBlock m1, MatrixBlock m2 ) {
 		MatrixBlock ret = m2;
 		
@@ -3985,11 +4075,12 @@ public class LibMatrixMult
 		private final boolean _pm2r; //par over m2 rows
 		private final boolean _pm2c; //par over m2 rows
 		private final boolean _m1Perm; //sparse permutation
+		private final boolean _offHeap; //off-heap dense-dense
 		private final int _rl;
 		private final int _ru;
 
 		protected MatrixMultTask( MatrixBlock m1, MatrixBlock m2, MatrixBlock ret,
-			boolean tm2, boolean pm2r, boolean pm2c, boolean m1Perm, int rl, int ru )
+			boolean tm2, boolean pm2r, boolean pm2c, boolean m1Perm, boolean offHeap, int rl, int ru )
 		{
 			_m1 = m1;
 			_m2 = m2;
@@ -3997,6 +4088,7 @@ public class LibMatrixMult
 			_pm2r = pm2r;
 			_pm2c = pm2c;
 			_m1Perm = m1Perm;
+			_offHeap = offHeap;
 			_rl = rl;
 			_ru = ru;
 			
@@ -4024,6 +4116,8 @@ public class LibMatrixMult
 			//compute block matrix multiplication
 			if( _ret.sparse ) //ultra-sparse
 				matrixMultUltraSparse(_m1, _m2, _ret, _m1Perm, rl, ru);
+			else if( _offHeap )
+				matrixMultDenseDenseOffHeap(_m1, _m2, _ret, rl, ru);
 			else if(!_m1.sparse && !_m2.sparse)
 				matrixMultDenseDense(_m1, _m2, _ret, _tm2, _pm2r, rl, ru, cl, cu);
 			else if(_m1.sparse && _m2.sparse)
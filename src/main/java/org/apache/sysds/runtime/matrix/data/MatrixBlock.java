@@ -30,10 +30,12 @@ import org.apache.sysds.hops.OptimizerUtils;
 import org.apache.sysds.lops.MMTSJ.MMTSJType;
 import org.apache.sysds.lops.MapMultChain.ChainType;
 import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer;
 import org.apache.sysds.runtime.controlprogram.caching.MatrixObject.UpdateType;
 import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFP64Off;
 import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.data.SparseBlock;
 import org.apache.sysds.runtime.data.SparseBlockCOO;
@@ -363,11 +365,16 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 	}
 	
 	public boolean allocateDenseBlock(boolean clearNNZ) {
+		return allocateDenseBlock(clearNNZ, false);
+	}
+	
+	public boolean allocateDenseBlock(boolean clearNNZ, boolean offHeap) {
 		//allocate block if non-existing or too small (guaranteed to be 0-initialized),
 		long limit = (long)rlen * clen;
 		boolean reset = (denseBlock == null || denseBlock.capacity() < limit);
 		if( denseBlock == null )
-			denseBlock = DenseBlockFactory.createDenseBlock(rlen, clen);
+			denseBlock = offHeap ? DenseBlockFactory.createOffHeapDenseBlock(rlen, clen) :
+				DenseBlockFactory.createDenseBlock(rlen, clen);
 		else if( denseBlock.capacity() < limit )
 			denseBlock.reset(rlen, clen);
 		
@@ -1867,6 +1874,13 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 						sparseBlock.reset();
 					nonZeros = 0;
 					break;
+				case COMPRESSED_BLOCK:
+					//compressed blocks read into uncompressed blocks (e.g., 
+					//binary block files or cache restore) are decompressed
+					CompressedMatrixBlock cmb = new CompressedMatrixBlock(rlen, clen);
+					cmb.readCompressedBlock(in);
+					copy(cmb.decompress());
+					break;
 			}
 		}
 		catch(DMLRuntimeException ex)
@@ -1883,7 +1897,19 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		
 		DenseBlock a = getDenseBlock();
 		long nnz = 0;
-		if( in instanceof MatrixBlockDataInput ) { //fast deserialize
+		if( a.isOffHeap() ) { //row-wise deserialize w/o heap migration
+			DenseBlockFP64Off off = (DenseBlockFP64Off) a;
+			double[] buff = new double[clen];
+			for( int i=0; i<rlen; i++ ) {
+				if( in instanceof MatrixBlockDataInput )
+					nnz += ((MatrixBlockDataInput)in).readDoubleArray(clen, buff);
+				else
+					for( int j=0; j<clen; j++ )
+						nnz += ((buff[j] = in.readDouble()) != 0) ? 1 : 0;
+				off.copyFrom(a.pos(i), buff, 0, clen);
+			}
+		}
+		else if( in instanceof MatrixBlockDataInput ) { //fast deserialize
 			MatrixBlockDataInput mbin = (MatrixBlockDataInput)in;
 			for( int i=0; i<a.numBlocks(); i++ )
 				nnz += mbin.readDoubleArray(a.size(i), a.valuesAt(i));
@@ -2059,7 +2085,19 @@ public class MatrixBlock extends MatrixValue implements CacheBlock, Externalizab
 		out.writeByte( BlockType.DENSE_BLOCK.ordinal() );
 		
 		DenseBlock a = getDenseBlock();
-		if( out instanceof MatrixBlockDataOutput ) { //fast serialize
+		if( a.isOffHeap() ) { //row-wise serialize w/o heap migration
+			DenseBlockFP64Off off = (DenseBlockFP64Off) a;
+			double[] buff = new double[clen];
+			for( int i=0; i<rlen; i++ ) {
+				off.copyTo(a.pos(i), buff, 0, clen);
+				if( out instanceof MatrixBlockDataOutput )
+					((MatrixBlockDataOutput)out).writeDoubleArray(clen, buff);
+				else
+					for( int j=0; j<clen; j++ )
+						out.writeDouble(buff[j]);
+			}
+		}
+		else if( out instanceof MatrixBlockDataOutput ) { //fast serialize
 			MatrixBlockDataOutput mout = (MatrixBlockDataOutput)out;
 			for(int i=0; i<a.numBlocks(); i++)
 				mout.writeDoubleArray(a.size(i), a.valuesAt(i));
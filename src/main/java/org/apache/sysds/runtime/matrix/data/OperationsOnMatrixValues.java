@@ -226,8 +226,8 @@ public class OperationsOnMatrixValues
 		//compute output index
 		indexesOut.setIndexes(indexes1.getRowIndex(), indexes2.getColumnIndex());
 		//perform on the value
-		if (value2 instanceof CompressedMatrixBlock)
-			return value2.aggregateBinaryOperations(value1, value2, valueOut, op);
+		if( value1 instanceof CompressedMatrixBlock || value2 instanceof CompressedMatrixBlock )
+			return matMultCompressed(value1, value2, valueOut, op);
 		else
 			return value1.aggregateBinaryOperations(indexes1, value1, indexes2, value2, valueOut, op);
 	}
@@ -235,11 +235,28 @@ public class OperationsOnMatrixValues
 	public static MatrixBlock matMult(MatrixBlock value1, MatrixBlock value2,
 			MatrixBlock valueOut, AggregateBinaryOperator op) {
 		//perform on the value
-		if( value2 instanceof CompressedMatrixBlock )
-			return value2.aggregateBinaryOperations(value1, value2, valueOut, op);
+		if( value1 instanceof CompressedMatrixBlock || value2 instanceof CompressedMatrixBlock )
+			return matMultCompressed(value1, value2, valueOut, op);
 		else
 			return value1.aggregateBinaryOperations(value1, value2, valueOut, op);
 	}
+	
+	private static MatrixBlock matMultCompressed(MatrixBlock value1, MatrixBlock value2,
+		MatrixBlock valueOut, AggregateBinaryOperator op)
+	{
+		//multiply in compressed form (left or right), where overlapping compressed
+		//outputs are decompressed because the block results are further aggregated
+		//by uncompressed block operations, and callers rely on the given output
+		MatrixBlock cmb = (value2 instanceof CompressedMatrixBlock) ? value2 : value1;
+		MatrixBlock ret = cmb.aggregateBinaryOperations(value1, value2, valueOut, op);
+		if( ret instanceof CompressedMatrixBlock )
+			ret = ((CompressedMatrixBlock)ret).decompress();
+		if( valueOut != null && ret != valueOut ) {
+			valueOut.copy(ret);
+			return valueOut;
+		}
+		return ret;
+	}
 
 	@SuppressWarnings("rawtypes")
 	public static List performSlice(IndexRange ixrange, int blen, int iix, int jix, CacheBlock in) {
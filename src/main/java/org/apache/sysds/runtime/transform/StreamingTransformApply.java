@@ -0,0 +1,453 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.transform;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.mapred.FileInputFormat;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapred.TextInputFormat;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.hops.OptimizerUtils;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.controlprogram.caching.FrameObject;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameReaderTextCSV;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.runtime.transform.encode.Encoder;
+import org.apache.sysds.runtime.transform.encode.EncoderComposite;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.transform.encode.EncoderOmit;
+import org.apache.sysds.runtime.util.CommonThreadPool;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.runtime.util.UtilFunctions;
+
+/**
+ * Streaming transformapply over csv files that exceed the available memory.
+ * The input is read sequentially in chunks of rows (aligned with the output
+ * blocksize), and a pool of workers parses and encodes these chunks with an
+ * already built encoder, and appends the resulting matrix blocks to their own
+ * binary block part files. Hence, at most k+1 chunks are in memory at a time,
+ * independent of the size of the input file.
+ */
+public class StreamingTransformApply
+{
+	private static final Log LOG = LogFactory.getLog(StreamingTransformApply.class.getName());
+	
+	//approximate size of a parsed csv cell in memory (string object,
+	//frame array entry, and line buffer), used for sizing the chunks
+	private static final long CSV_CELL_SIZE = 72;
+	
+	//poison pill to signal the workers the end of the input
+	private static final Chunk EOF = new Chunk(-1, null);
+	
+	private StreamingTransformApply() {
+		//prevent instantiation via private constructor
+	}
+	
+	/**
+	 * Indicates if transformapply should stream over the input file, which
+	 * is the case if the input is a csv frame that is only available in its
+	 * persistent file and too large for the memory budget, and the output is
+	 * a binary block matrix.
+	 * 
+	 * @param fo input frame object
+	 * @param mo output matrix object
+	 * @return true if transformapply should stream over the input
+	 */
+	public static boolean isApplicable(FrameObject fo, MatrixObject mo) {
+		if( !ConfigurationManager.getDMLConfig().getBooleanValue(DMLConfig.TRANSFORM_STREAMING)
+			|| !fo.isPersistentOnly() || !(fo.getMetaData() instanceof MetaDataFormat)
+			|| !(mo.getMetaData() instanceof MetaDataFormat) )
+			return false;
+		if( ((MetaDataFormat)fo.getMetaData()).getFileFormat() != FileFormat.CSV
+			|| ((MetaDataFormat)mo.getMetaData()).getFileFormat() != FileFormat.BINARY )
+			return false;
+		
+		//strings take at least twice the size of the utf-8 encoded file
+		try {
+			long fsize = HDFSTool.getFilesizeOnHDFS(new Path(fo.getFileName()));
+			return 2 * fsize > OptimizerUtils.getLocalMemBudget();
+		}
+		catch(IOException ex) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Applies the given transform specification and meta data to the csv
+	 * file of the input frame object, and writes the encoded binary block
+	 * matrix to the file of the output matrix object, which is afterwards
+	 * read lazily on demand.
+	 * 
+	 * @param fo input frame object (csv)
+	 * @param spec transform specification
+	 * @param meta transform meta data
+	 * @param mo output matrix object (binary block)
+	 * @param k degree of parallelism
+	 */
+	public static void apply(FrameObject fo, String spec, FrameBlock meta, MatrixObject mo, int k) {
+		FileFormatPropertiesCSV props = (fo.getFileFormatProperties() instanceof FileFormatPropertiesCSV) ?
+			(FileFormatPropertiesCSV) fo.getFileFormatProperties() : new FileFormatPropertiesCSV();
+		int clen = (int) fo.getNumColumns();
+		ValueType[] schema = (fo.getSchema() != null) ? fo.getSchema() :
+			UtilFunctions.nCopies(clen, ValueType.STRING);
+		
+		try {
+			String[] colnames = readColumnNames(fo.getFileName(), props, clen);
+			Encoder encoder = EncoderFactory.createEncoder(spec, colnames, clen, meta);
+			int blen = mo.getDataCharacteristics().getBlocksize() > 0 ?
+				mo.getDataCharacteristics().getBlocksize() : ConfigurationManager.getBlocksize();
+			DataCharacteristics dc = apply(fo.getFileName(), props, schema, colnames,
+				encoder, mo.getFileName(), blen, k);
+			
+			//update output meta data for lazy read
+			mo.getDataCharacteristics().set(dc);
+			mo.setHDFSFileExists(true);
+			mo.setDirty(false);
+		}
+		catch(IOException ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	/**
+	 * Applies the given encoder to the csv file fnameIn in chunks of rows
+	 * and writes the encoded output as binary block matrix to fnameOut.
+	 * 
+	 * @param fnameIn input file name (csv)
+	 * @param props csv file format properties
+	 * @param schema value types of the input columns
+	 * @param colnames column names of the input
+	 * @param encoder already built encoder
+	 * @param fnameOut output file name (binary block)
+	 * @param blen blocksize of the output
+	 * @param k degree of parallelism
+	 * @return data characteristics of the encoded output
+	 * @throws IOException if IOException occurs
+	 */
+	public static DataCharacteristics apply(String fnameIn, FileFormatPropertiesCSV props, ValueType[] schema,
+		String[] colnames, Encoder encoder, String fnameOut, int blen, int k) throws IOException
+	{
+		return apply(fnameIn, props, schema, colnames, encoder, fnameOut, blen, k, -1);
+	}
+	
+	/**
+	 * Applies the given encoder to the csv file fnameIn in chunks of the
+	 * given number of rows (rounded to a multiple of the blocksize, or
+	 * derived from the memory budget if non-positive).
+	 * 
+	 * @param fnameIn input file name (csv)
+	 * @param props csv file format properties
+	 * @param schema value types of the input columns
+	 * @param colnames column names of the input
+	 * @param encoder already built encoder
+	 * @param fnameOut output file name (binary block)
+	 * @param blen blocksize of the output
+	 * @param k degree of parallelism
+	 * @param chunkRows number of rows per chunk
+	 * @return data characteristics of the encoded output
+	 * @throws IOException if IOException occurs
+	 */
+	public static DataCharacteristics apply(String fnameIn, FileFormatPropertiesCSV props, ValueType[] schema,
+		String[] colnames, Encoder encoder, String fnameOut, int blen, int k, int chunkRows) throws IOException
+	{
+		if( containsOmit(encoder) )
+			throw new DMLRuntimeException("Streaming transformapply does not support "
+				+ "omit, which removes rows and hence breaks the row alignment of chunks.");
+		
+		int clen = schema.length;
+		int lk = Math.max(k, 1);
+		chunkRows = (chunkRows > 0) ? Math.max(chunkRows / blen, 1) * blen :
+			getChunkRows(clen, blen, lk);
+		if( LOG.isDebugEnabled() )
+			LOG.debug("Streaming transformapply of '"+fnameIn+"' with "
+				+lk+" workers and chunks of "+chunkRows+" rows.");
+		
+		//prepare output directory (one part file per worker)
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		Path pathOut = new Path(fnameOut);
+		FileSystem fsOut = IOUtilFunctions.getFileSystem(pathOut, job);
+		HDFSTool.deleteFileIfExistOnHDFS(pathOut, job);
+		HDFSTool.createDirIfNotExistOnHDFS(pathOut, DMLConfig.DEFAULT_SHARED_DIR_PERMISSION);
+		
+		//start workers, which consume chunks from a bounded queue
+		BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(lk);
+		ExecutorService pool = CommonThreadPool.get(lk);
+		List<Future<long[]>> rt = new ArrayList<>();
+		long nrow = 0;
+		try {
+			FrameReaderTextCSV reader = new FrameReaderTextCSV(props);
+			for( int i = 0; i < lk; i++ )
+				rt.add(pool.submit(new ApplyChunkTask(queue, reader, schema, colnames, encoder,
+					new Path(pathOut, IOUtilFunctions.getPartFileName(i)), fsOut, job, blen)));
+			
+			//read input sequentially and produce chunks
+			try {
+				nrow = readChunks(fnameIn, props, chunkRows, queue);
+			}
+			finally {
+				for( int i = 0; i < lk; i++ )
+					queue.put(EOF);
+			}
+			
+			//wait for workers and aggregate output meta data
+			long ncol = -1, nnz = 0;
+			for( Future<long[]> task : rt ) {
+				long[] tmp = task.get();
+				ncol = Math.max(ncol, tmp[0]);
+				nnz += tmp[1];
+			}
+			IOUtilFunctions.deleteCrcFilesFromLocalFileSystem(fsOut, pathOut);
+			return new MatrixCharacteristics(nrow, (ncol >= 0) ? ncol : clen, blen, nnz);
+		}
+		catch(Exception ex) {
+			throw new IOException("Failed streaming transformapply of '"+fnameIn+"'.", ex);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+	
+	/**
+	 * Reads the column names from the header of the given csv file, or
+	 * creates default column names if the file has no header.
+	 * 
+	 * @param fname file name (csv)
+	 * @param props csv file format properties
+	 * @param clen number of columns
+	 * @return column names
+	 * @throws IOException if IOException occurs
+	 */
+	public static String[] readColumnNames(String fname, FileFormatPropertiesCSV props, int clen)
+		throws IOException
+	{
+		if( !props.hasHeader() )
+			return FrameBlock.createColNames(clen);
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		TextInputFormat informat = new TextInputFormat();
+		InputSplit[] splits = getSortedSplits(fname, job, informat);
+		if( splits.length == 0 )
+			return FrameBlock.createColNames(clen);
+		RecordReader<LongWritable, Text> reader = informat.getRecordReader(splits[0], job, Reporter.NULL);
+		try {
+			LongWritable key = new LongWritable();
+			Text value = new Text();
+			return reader.next(key, value) ? IOUtilFunctions.splitCSV(value.toString(), props.getDelim()) :
+				FrameBlock.createColNames(clen);
+		}
+		finally {
+			IOUtilFunctions.closeSilently(reader);
+		}
+	}
+	
+	private static long readChunks(String fname, FileFormatPropertiesCSV props, int chunkRows,
+		BlockingQueue<Chunk> queue) throws IOException, InterruptedException
+	{
+		JobConf job = new JobConf(ConfigurationManager.getCachedJobConf());
+		TextInputFormat informat = new TextInputFormat();
+		InputSplit[] splits = getSortedSplits(fname, job, informat);
+		
+		long rpos = 0;
+		List<String> lines = new ArrayList<>(chunkRows);
+		for( int i = 0; i < splits.length; i++ ) {
+			RecordReader<LongWritable, Text> reader = informat.getRecordReader(splits[i], job, Reporter.NULL);
+			LongWritable key = new LongWritable();
+			Text value = new Text();
+			try {
+				//ignore header of first split
+				if( i == 0 && props.hasHeader() )
+					reader.next(key, value);
+				
+				//collect data lines, ignore meta data
+				while( reader.next(key, value) ) {
+					String line = value.toString();
+					if( line.startsWith(TfUtils.TXMTD_MVPREFIX) || line.startsWith(TfUtils.TXMTD_NDPREFIX) )
+						continue;
+					lines.add(line);
+					if( lines.size() == chunkRows ) {
+						queue.put(new Chunk(rpos, lines));
+						rpos += lines.size();
+						lines = new ArrayList<>(chunkRows);
+					}
+				}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(reader);
+			}
+		}
+		if( !lines.isEmpty() ) {
+			queue.put(new Chunk(rpos, lines));
+			rpos += lines.size();
+		}
+		return rpos;
+	}
+	
+	private static InputSplit[] getSortedSplits(String fname, JobConf job, TextInputFormat informat)
+		throws IOException
+	{
+		Path path = new Path(fname);
+		if( !IOUtilFunctions.getFileSystem(path, job).exists(path) )
+			throw new IOException("File " + fname + " does not exist on HDFS/LFS.");
+		FileInputFormat.addInputPath(job, path);
+		informat.configure(job);
+		return IOUtilFunctions.sortInputSplits(informat.getSplits(job, 1));
+	}
+	
+	private static int getChunkRows(int clen, int blen, int k) {
+		//k chunks in the queue, k chunks in the workers, and their outputs
+		double budget = OptimizerUtils.getLocalMemBudget() / (4 * k);
+		long rows = (long) (budget / (Math.max(clen, 1) * CSV_CELL_SIZE));
+		rows = Math.max(rows / blen, 1) * blen;
+		return (int) Math.min(rows, Integer.MAX_VALUE / blen * blen);
+	}
+	
+	private static boolean containsOmit(Encoder encoder) {
+		if( encoder instanceof EncoderComposite ) {
+			for( Encoder e : ((EncoderComposite) encoder).getEncoders() )
+				if( e instanceof EncoderOmit )
+					return true;
+			return false;
+		}
+		return encoder instanceof EncoderOmit;
+	}
+	
+	private static class Chunk {
+		private final long _rowOffset;
+		private final List<String> _lines;
+		
+		protected Chunk(long rowOffset, List<String> lines) {
+			_rowOffset = rowOffset;
+			_lines = lines;
+		}
+	}
+	
+	private static class ApplyChunkTask implements Callable<long[]>
+	{
+		private final BlockingQueue<Chunk> _queue;
+		private final FrameReaderTextCSV _reader;
+		private final ValueType[] _schema;
+		private final String[] _colnames;
+		private final Encoder _encoder;
+		private final Path _path;
+		private final FileSystem _fs;
+		private final JobConf _job;
+		private final int _blen;
+		
+		protected ApplyChunkTask(BlockingQueue<Chunk> queue, FrameReaderTextCSV reader, ValueType[] schema,
+			String[] colnames, Encoder encoder, Path path, FileSystem fs, JobConf job, int blen)
+		{
+			_queue = queue;
+			_reader = reader;
+			_schema = schema;
+			_colnames = colnames;
+			_encoder = encoder;
+			_path = path;
+			_fs = fs;
+			_job = job;
+			_blen = blen;
+		}
+		
+		@Override
+		@SuppressWarnings("deprecation")
+		public long[] call() throws Exception {
+			long ncol = -1, nnz = 0;
+			Exception err = null;
+			SequenceFile.Writer writer = null;
+			try {
+				writer = new SequenceFile.Writer(_fs, _job, _path, MatrixIndexes.class, MatrixBlock.class);
+				Chunk chunk = null;
+				while( (chunk = _queue.take()) != EOF ) {
+					//keep draining the queue on errors to unblock the reader
+					if( err != null )
+						continue;
+					try {
+						FrameBlock in = _reader.readFrameFromLines(chunk._lines, _schema, _colnames);
+						MatrixBlock out = _encoder.apply(in,
+							new MatrixBlock(in.getNumRows(), in.getNumColumns(), false));
+						writeBlocks(writer, out, chunk._rowOffset);
+						ncol = out.getNumColumns();
+						nnz += out.getNonZeros();
+					}
+					catch(Exception ex) {
+						err = ex;
+					}
+				}
+			}
+			finally {
+				IOUtilFunctions.closeSilently(writer);
+			}
+			if( err != null )
+				throw err;
+			return new long[] {ncol, nnz};
+		}
+		
+		private void writeBlocks(SequenceFile.Writer writer, MatrixBlock src, long rowOffset)
+			throws IOException
+		{
+			int rlen = src.getNumRows();
+			int clen = src.getNumColumns();
+			MatrixBlock[] blocks = MatrixWriter.createMatrixBlocksForReuse(
+				rlen, clen, _blen, src.isInSparseFormat(), src.getNonZeros());
+			MatrixIndexes indexes = new MatrixIndexes();
+			long brOffset = rowOffset / _blen; //chunks aligned with blocksize
+			for( int bi = 0; bi < rlen; bi += _blen ) {
+				for( int bj = 0; bj < clen; bj += _blen ) {
+					int maxRow = Math.min(_blen, rlen - bi);
+					int maxCol = Math.min(_blen, clen - bj);
+					MatrixBlock block = MatrixWriter.getMatrixBlockForReuse(blocks, maxRow, maxCol, _blen);
+					src.slice(bi, bi + maxRow - 1, bj, bj + maxCol - 1, block);
+					indexes.setIndexes(brOffset + bi / _blen + 1, bj / _blen + 1);
+					writer.append(indexes, block);
+					block.reset();
+				}
+			}
+		}
+	}
+}
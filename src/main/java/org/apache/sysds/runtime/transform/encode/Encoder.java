@@ -45,6 +45,9 @@ public abstract class Encoder implements Serializable
 	private static final long serialVersionUID = 2299156350718979064L;
 	protected static final Log LOG = LogFactory.getLog(Encoder.class.getName());
 	
+	//minimum number of cells (rows x encoded columns) per task of multi-threaded build/apply
+	protected static final int PAR_MIN_CELLS_PER_TASK = 64 * 1024;
+	
 	protected int _clen = -1; 
 	protected int[] _colList = null;
 	
@@ -110,6 +113,21 @@ public abstract class Encoder implements Serializable
 	 */
 	public abstract MatrixBlock encode(FrameBlock in, MatrixBlock out);
 
+	/**
+	 * Multi-threaded block encode: build and apply (transform encode).
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 */
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out, int k) {
+		if( k <= 1 )
+			return encode(in, out);
+		build(in, k);
+		return apply(in, out, k);
+	}
+
 	/**
 	 * Build the transform meta data for the given block input. This call modifies
 	 * and keeps meta data as encoder state.
@@ -118,6 +136,17 @@ public abstract class Encoder implements Serializable
 	 */
 	public abstract void build(FrameBlock in);
 	
+	/**
+	 * Multi-threaded build of the transform meta data for the given block
+	 * input. By default, the meta data is built single-threaded.
+	 * 
+	 * @param in input frame block
+	 * @param k degree of parallelism
+	 */
+	public void build(FrameBlock in, int k) {
+		build(in);
+	}
+	
 	/**
 	 * Encode input data blockwise according to existing transform meta
 	 * data (transform apply).
@@ -128,6 +157,61 @@ public abstract class Encoder implements Serializable
 	 */
 	public abstract MatrixBlock apply(FrameBlock in, MatrixBlock out);
 
+	/**
+	 * Multi-threaded encode of the input data according to existing 
+	 * transform meta data. By default, the data is encoded single-threaded.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param k degree of parallelism
+	 * @return output matrix block
+	 */
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		return apply(in, out);
+	}
+
+	/**
+	 * Encode the rows [rl, ru) of the input data according to existing 
+	 * transform meta data. This is only supported by encoders that are 
+	 * row-partitionable, and allows to apply disjoint row ranges in parallel
+	 * into a preallocated dense output.
+	 * 
+	 * @param in input frame block
+	 * @param out output matrix block
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 * @return output matrix block
+	 */
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
+		throw new DMLRuntimeException(
+			this.getClass().getSimpleName() + " does not support row-range apply");
+	}
+
+	/**
+	 * Indicates if this encoder maps every input row i to output row i and
+	 * only reads and writes its own columns, i.e., if it supports the 
+	 * row-range apply.
+	 * 
+	 * @return true if the encoder can be applied on disjoint row ranges
+	 */
+	public boolean isRowPartitionable() {
+		return false;
+	}
+
+	/**
+	 * Obtains the number of row blocks for a multi-threaded build or apply,
+	 * which ensures a minimum number of cells per task.
+	 * 
+	 * @param nrow number of rows
+	 * @param ncol number of encoded columns
+	 * @param k degree of parallelism
+	 * @return number of row blocks (at least 1)
+	 */
+	protected static int getNumRowBlocks(int nrow, int ncol, int k) {
+		long cells = (long) nrow * Math.max(ncol, 1);
+		return (int) Math.max(1, Math.min(k, Math.min(nrow, cells / PAR_MIN_CELLS_PER_TASK)));
+	}
+
 	protected int[] subRangeColList(IndexRange ixRange) {
 		List<Integer> cols = new ArrayList<>();
 		for(int col : _colList) {
@@ -25,14 +25,19 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang3.tuple.MutableTriple;
 import org.apache.sysds.lops.Lop;
+import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.matrix.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.transform.TfUtils.TfMethod;
 import org.apache.sysds.runtime.transform.meta.TfMetaUtils;
+import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.IndexRange;
 import org.apache.sysds.runtime.util.UtilFunctions;
 import org.apache.wink.json4j.JSONArray;
@@ -107,29 +112,81 @@ public class EncoderBin extends Encoder
 		
 		// derive bin boundaries from min/max per column
 		for(int j=0; j <_colList.length; j++) {
-			double min = Double.POSITIVE_INFINITY;
-			double max = Double.NEGATIVE_INFINITY;
-			int colID = _colList[j];
-			for( int i=0; i<in.getNumRows(); i++ ) {
-				double inVal = UtilFunctions.objectToDouble(
-					in.getSchema()[colID-1], in.get(i, colID-1));
-				min = Math.min(min, inVal);
-				max = Math.max(max, inVal);
-			}
-			_binMins[j] = new double[_numBins[j]];
-			_binMaxs[j] = new double[_numBins[j]];
-			for(int i=0; i<_numBins[j]; i++) {
-				_binMins[j][i] = min + i*(max-min)/_numBins[j];
-				_binMaxs[j][i] = min + (i+1)*(max-min)/_numBins[j];
+			double[] minmax = computeMinMax(in, _colList[j], 0, in.getNumRows());
+			computeBins(j, minmax[0], minmax[1]);
+		}
+	}
+	
+	@Override
+	public void build(FrameBlock in, int k) {
+		if ( !isApplicable() )
+			return;
+		int nrow = in.getNumRows();
+		if( k <= 1 || (long)nrow * _colList.length < 2L * PAR_MIN_CELLS_PER_TASK ) {
+			build(in);
+			return;
+		}
+		_binMins = new double[_colList.length][];
+		_binMaxs = new double[_colList.length][];
+		
+		// compute partial min/max per column and row block, and merge them
+		int nblk = getNumRowBlocks(nrow, 1, (int)Math.ceil((double)k/_colList.length));
+		List<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(nrow, nblk, true);
+		ExecutorService pool = CommonThreadPool.get(k);
+		try {
+			ArrayList<MinMaxTask> tasks = new ArrayList<>();
+			for( int colID : _colList )
+				for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+					tasks.add(new MinMaxTask(in, colID, lb, lb+blklens.get(i)));
+			List<Future<double[]>> rtasks = pool.invokeAll(tasks);
+			pool.shutdown();
+			for( int j=0; j<_colList.length; j++ ) {
+				double min = Double.POSITIVE_INFINITY;
+				double max = Double.NEGATIVE_INFINITY;
+				for( int i=0; i<blklens.size(); i++ ) {
+					double[] minmax = rtasks.get(j*blklens.size()+i).get();
+					min = Math.min(min, minmax[0]);
+					max = Math.max(max, minmax[1]);
+				}
+				computeBins(j, min, max);
 			}
 		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+	}
+	
+	private static double[] computeMinMax(FrameBlock in, int colID, int rl, int ru) {
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		for( int i=rl; i<ru; i++ ) {
+			double inVal = UtilFunctions.objectToDouble(
+				in.getSchema()[colID-1], in.get(i, colID-1));
+			min = Math.min(min, inVal);
+			max = Math.max(max, inVal);
+		}
+		return new double[] {min, max};
+	}
+	
+	private void computeBins(int j, double min, double max) {
+		_binMins[j] = new double[_numBins[j]];
+		_binMaxs[j] = new double[_numBins[j]];
+		for(int i=0; i<_numBins[j]; i++) {
+			_binMins[j][i] = min + i*(max-min)/_numBins[j];
+			_binMaxs[j][i] = min + (i+1)*(max-min)/_numBins[j];
+		}
 	}
 	
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
+		return apply(in, out, 0, in.getNumRows());
+	}
+	
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
 		for(int j=0; j<_colList.length; j++) {
 			int colID = _colList[j];
-			for( int i=0; i<in.getNumRows(); i++ ) {
+			for( int i=rl; i<ru; i++ ) {
 				double inVal = UtilFunctions.objectToDouble(
 						in.getSchema()[colID-1], in.get(i, colID-1));
 				int ix = Arrays.binarySearch(_binMaxs[j], inVal);
@@ -140,6 +197,11 @@ public class EncoderBin extends Encoder
 		return out;
 	}
 	
+	@Override
+	public boolean isRowPartitionable() {
+		return true;
+	}
+	
 	@Override
 	public Encoder subRangeEncoder(IndexRange ixRange) {
 		List<Integer> colsList = new ArrayList<>();
@@ -262,4 +324,23 @@ public class EncoderBin extends Encoder
 			}
 		}
 	}
+	
+	private static class MinMaxTask implements Callable<double[]> {
+		private final FrameBlock _in;
+		private final int _colID;
+		private final int _rl;
+		private final int _ru;
+		
+		protected MinMaxTask(FrameBlock in, int colID, int rl, int ru) {
+			_in = in;
+			_colID = colID;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public double[] call() {
+			return computeMinMax(_in, _colID, _rl, _ru);
+		}
+	}
 }
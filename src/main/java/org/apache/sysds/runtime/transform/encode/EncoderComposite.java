@@ -22,12 +22,16 @@ package org.apache.sysds.runtime.transform.encode;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.sysds.common.Types.ValueType;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.matrix.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.IndexRange;
+import org.apache.sysds.runtime.util.UtilFunctions;
 
 /**
  * Simple composite encoder that applies a list of encoders 
@@ -61,10 +65,15 @@ public class EncoderComposite extends Encoder
 	
 	@Override
 	public MatrixBlock encode(FrameBlock in, MatrixBlock out) {
+		return encode(in, out, 1);
+	}
+	
+	@Override
+	public MatrixBlock encode(FrameBlock in, MatrixBlock out, int k) {
 		try {
 			//build meta data first (for all encoders)
 			for( Encoder encoder : _encoders )
-				encoder.build(in);
+				encoder.build(in, k);
 			
 			//propagate meta data 
 			_meta = new FrameBlock(in.getNumColumns(), ValueType.STRING);
@@ -74,8 +83,7 @@ public class EncoderComposite extends Encoder
 				encoder.initMetaData(_meta);
 			
 			//apply meta data
-			for( Encoder encoder : _encoders )
-				out = encoder.apply(in, out);
+			out = applyEncoders(in, out, k);
 		}
 		catch(Exception ex) {
 			LOG.error("Failed transform-encode frame with \n" + this);
@@ -91,6 +99,12 @@ public class EncoderComposite extends Encoder
 			encoder.build(in);
 	}
 	
+	@Override
+	public void build(FrameBlock in, int k) {
+		for( Encoder encoder : _encoders )
+			encoder.build(in, k);
+	}
+	
 	@Override 
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
 		try {
@@ -103,6 +117,68 @@ public class EncoderComposite extends Encoder
 		}
 		return out;
 	}
+	
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
+		if( k <= 1 )
+			return apply(in, out);
+		try {
+			out = applyEncoders(in, out, k);
+		}
+		catch(Exception ex) {
+			LOG.error("Failed to transform-apply frame with \n" + this);
+			throw ex;
+		}
+		return out;
+	}
+	
+	private MatrixBlock applyEncoders(FrameBlock in, MatrixBlock out, int k) {
+		if( k <= 1 ) {
+			for( Encoder encoder : _encoders )
+				out = encoder.apply(in, out);
+			return out;
+		}
+		//apply consecutive row-partitionable encoders in a single pass over
+		//row blocks, and all other encoders (e.g., dummycode, omit) in order
+		List<Encoder> rowEncoders = new ArrayList<>();
+		for( Encoder encoder : _encoders ) {
+			if( encoder.isRowPartitionable() ) {
+				rowEncoders.add(encoder);
+				continue;
+			}
+			out = applyRowPartitioned(rowEncoders, in, out, k);
+			rowEncoders.clear();
+			out = encoder.apply(in, out, k);
+		}
+		return applyRowPartitioned(rowEncoders, in, out, k);
+	}
+	
+	private static MatrixBlock applyRowPartitioned(List<Encoder> encoders, FrameBlock in, MatrixBlock out, int k) {
+		if( encoders.isEmpty() )
+			return out;
+		int ncol = 0;
+		for( Encoder encoder : encoders )
+			ncol += encoder.getColList().length;
+		int nblk = getNumRowBlocks(in.getNumRows(), ncol, k);
+		if( nblk <= 1 || out.isInSparseFormat() ) {
+			for( Encoder encoder : encoders )
+				out = encoder.apply(in, out);
+			return out;
+		}
+		
+		//preallocate output, all tasks write disjoint rows
+		out.allocateDenseBlock(false);
+		ExecutorService pool = CommonThreadPool.get(k);
+		ArrayList<ApplyRowsTask> tasks = new ArrayList<>();
+		List<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(in.getNumRows(), nblk, true);
+		for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+			tasks.add(new ApplyRowsTask(encoders, in, out, lb, lb+blklens.get(i)));
+		CommonThreadPool.invokeAndShutdown(pool, tasks);
+		
+		//maintain nnz once (unsynchronized updates of tasks)
+		out.recomputeNonZeros();
+		return out;
+	}
 
 	@Override
 	public Encoder subRangeEncoder(IndexRange ixRange) {
@@ -206,6 +282,29 @@ public class EncoderComposite extends Encoder
 		return out;
 	}
 	
+	private static class ApplyRowsTask implements Callable<Object> {
+		private final List<Encoder> _encoders;
+		private final FrameBlock _in;
+		private final MatrixBlock _out;
+		private final int _rl;
+		private final int _ru;
+		
+		protected ApplyRowsTask(List<Encoder> encoders, FrameBlock in, MatrixBlock out, int rl, int ru) {
+			_encoders = new ArrayList<>(encoders);
+			_in = in;
+			_out = out;
+			_rl = rl;
+			_ru = ru;
+		}
+		
+		@Override
+		public Object call() {
+			for( Encoder encoder : _encoders )
+				encoder.apply(_in, _out, _rl, _ru);
+			return null;
+		}
+	}
+	
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
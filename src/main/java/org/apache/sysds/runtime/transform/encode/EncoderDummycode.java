@@ -24,12 +24,16 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.sysds.runtime.matrix.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.transform.TfUtils.TfMethod;
 import org.apache.sysds.runtime.transform.meta.TfMetaUtils;
+import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.IndexRange;
+import org.apache.sysds.runtime.util.UtilFunctions;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
 
@@ -78,14 +82,45 @@ public class EncoderDummycode extends Encoder
 	
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
+		return apply(in, out, 1);
+	}
+	
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int k) {
 		//allocate output in dense or sparse representation
 		final boolean sparse = MatrixBlock.evalSparseFormatInMemory(
 			out.getNumRows(), getNumCols(), out.getNonZeros());
 		MatrixBlock ret = new MatrixBlock(out.getNumRows(), getNumCols(), sparse);
 		
+		int nblk = getNumRowBlocks(out.getNumRows(), out.getNumColumns(), k);
+		if( k <= 1 || nblk <= 1 ) {
+			applyRows(out, ret, 0, out.getNumRows());
+			return ret;
+		}
+		
+		//preallocate output (dense or sparse rows), all tasks write disjoint rows
+		if( sparse )
+			ret.allocateSparseRowsBlock();
+		else
+			ret.allocateDenseBlock();
+		ExecutorService pool = CommonThreadPool.get(k);
+		ArrayList<Callable<Object>> tasks = new ArrayList<>();
+		List<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(out.getNumRows(), nblk, true);
+		for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ ) {
+			final int rl = lb, ru = lb+blklens.get(i);
+			tasks.add(() -> { applyRows(out, ret, rl, ru); return null; });
+		}
+		CommonThreadPool.invokeAndShutdown(pool, tasks);
+		
+		//maintain nnz once (unsynchronized updates of tasks)
+		ret.recomputeNonZeros();
+		return ret;
+	}
+	
+	private void applyRows(MatrixBlock out, MatrixBlock ret, int rl, int ru) {
 		//append dummy coded or unchanged values to output
 		final int clen = out.getNumColumns();
-		for( int i=0; i<out.getNumRows(); i++ ) {
+		for( int i=rl; i<ru; i++ ) {
 			for(int colID=1, idx=0, ncolID=1; colID <= clen; colID++) {
 				double val = out.quickGetValue(i, colID-1);
 				if( idx < _colList.length && colID==_colList[idx] ) {
@@ -100,7 +135,6 @@ public class EncoderDummycode extends Encoder
 				}
 			}
 		}
-		return ret;
 	}
 
 	@Override
@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 import org.apache.wink.json4j.JSONArray;
@@ -41,6 +43,7 @@ import org.apache.sysds.runtime.matrix.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.transform.TfUtils.TfMethod;
 import org.apache.sysds.runtime.transform.meta.TfMetaUtils;
+import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.IndexRange;
 import org.apache.sysds.runtime.util.UtilFunctions;
 
@@ -157,46 +160,77 @@ public class EncoderMVImpute extends Encoder
 	@Override
 	public void build(FrameBlock in) {
 		try {
-			for( int j=0; j<_colList.length; j++ ) {
-				int colID = _colList[j];
-				if( _mvMethodList[j] == MVMethod.GLOBAL_MEAN ) {
-					//compute global column mean (scale)
-					long off = _countList[j];
-					for( int i=0; i<in.getNumRows(); i++ )
-						_meanFn.execute2(_meanList[j], UtilFunctions.objectToDouble(
-							in.getSchema()[colID-1], in.get(i, colID-1)), off+i+1);
-					_replacementList[j] = String.valueOf(_meanList[j]._sum);
-					_countList[j] += in.getNumRows();
-				}
-				else if( _mvMethodList[j] == MVMethod.GLOBAL_MODE ) {
-					//compute global column mode (categorical), i.e., most frequent category
-					HashMap<String,Long> hist = _hist.containsKey(colID) ? 
-							_hist.get(colID) : new HashMap<>();
-					for( int i=0; i<in.getNumRows(); i++ ) {
-						String key = String.valueOf(in.get(i, colID-1));
-						if( key != null && !key.isEmpty() ) {
-							Long val = hist.get(key);
-							hist.put(key, (val!=null) ? val+1 : 1);
-						}
-					}
-					_hist.put(colID, hist);
-					long max = Long.MIN_VALUE; 
-					for( Entry<String, Long> e : hist.entrySet() ) 
-						if( e.getValue() > max  ) {
-							_replacementList[j] = e.getKey();
-							max = e.getValue();
-						}
-				}
-			}
+			for( int j=0; j<_colList.length; j++ )
+				buildColumn(in, j);
 		}
 		catch(Exception ex) {
 			throw new RuntimeException(ex);
 		}
 	}
 	
+	@Override
+	public void build(FrameBlock in, int k) {
+		if( k <= 1 || _colList.length <= 1
+			|| (long)in.getNumRows() * _colList.length < 2L * PAR_MIN_CELLS_PER_TASK ) {
+			build(in);
+			return;
+		}
+		//allocate histograms upfront, tasks only modify their own column state
+		for( int j=0; j<_colList.length; j++ )
+			if( _mvMethodList[j] == MVMethod.GLOBAL_MODE && !_hist.containsKey(_colList[j]) )
+				_hist.put(_colList[j], new HashMap<>());
+		//column partitioning (no row partitioning to retain the incremental mean)
+		ExecutorService pool = CommonThreadPool.get(k);
+		ArrayList<Callable<Object>> tasks = new ArrayList<>();
+		for( int j=0; j<_colList.length; j++ ) {
+			final int pos = j;
+			tasks.add(() -> { buildColumn(in, pos); return null; });
+		}
+		CommonThreadPool.invokeAndShutdown(pool, tasks);
+	}
+	
+	private void buildColumn(FrameBlock in, int j) {
+		int colID = _colList[j];
+		if( _mvMethodList[j] == MVMethod.GLOBAL_MEAN ) {
+			//compute global column mean (scale)
+			long off = _countList[j];
+			for( int i=0; i<in.getNumRows(); i++ )
+				_meanFn.execute2(_meanList[j], UtilFunctions.objectToDouble(
+					in.getSchema()[colID-1], in.get(i, colID-1)), off+i+1);
+			_replacementList[j] = String.valueOf(_meanList[j]._sum);
+			_countList[j] += in.getNumRows();
+		}
+		else if( _mvMethodList[j] == MVMethod.GLOBAL_MODE ) {
+			//compute global column mode (categorical), i.e., most frequent category
+			HashMap<String,Long> hist = _hist.get(colID);
+			if( hist == null ) {
+				hist = new HashMap<>();
+				_hist.put(colID, hist);
+			}
+			for( int i=0; i<in.getNumRows(); i++ ) {
+				String key = String.valueOf(in.get(i, colID-1));
+				if( key != null && !key.isEmpty() ) {
+					Long val = hist.get(key);
+					hist.put(key, (val!=null) ? val+1 : 1);
+				}
+			}
+			long max = Long.MIN_VALUE; 
+			for( Entry<String, Long> e : hist.entrySet() ) 
+				if( e.getValue() > max  ) {
+					_replacementList[j] = e.getKey();
+					max = e.getValue();
+				}
+		}
+	}
+	
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
-		for(int i=0; i<in.getNumRows(); i++) {
+		return apply(in, out, 0, in.getNumRows());
+	}
+	
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
+		for(int i=rl; i<ru; i++) {
 			for(int j=0; j<_colList.length; j++) {
 				int colID = _colList[j];
 				if( Double.isNaN(out.quickGetValue(i, colID-1)) )
@@ -205,6 +239,11 @@ public class EncoderMVImpute extends Encoder
 		}
 		return out;
 	}
+	
+	@Override
+	public boolean isRowPartitionable() {
+		return true;
+	}
 
 	@Override
 	public Encoder subRangeEncoder(IndexRange ixRange) {
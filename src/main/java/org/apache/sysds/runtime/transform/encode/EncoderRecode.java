@@ -20,15 +20,17 @@
 package org.apache.sysds.runtime.transform.encode;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.util.CommonThreadPool;
 import org.apache.sysds.runtime.util.IndexRange;
+import org.apache.sysds.runtime.util.UtilFunctions;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
 import org.apache.sysds.lops.Lop;
@@ -44,9 +46,10 @@ public class EncoderRecode extends Encoder
 	//test property to ensure consistent encoding for local and federated
 	public static boolean SORT_RECODE_MAP = false;
 	
-	//recode maps and custom map for partial recode maps 
-	private HashMap<Integer, HashMap<String, Long>> _rcdMaps  = new HashMap<>();
-	private HashMap<Integer, HashSet<Object>> _rcdMapsPart = null;
+	//recode maps and partial recode maps (distinct tokens w/o codes),
+	//specialized for the value types of the recoded columns
+	private HashMap<Integer, RecodeMap> _rcdMaps  = new HashMap<>();
+	private HashMap<Integer, RecodeMap> _rcdMapsPart = null;
 	
 	public EncoderRecode(JSONObject parsedSpec, String[] colnames, int clen, int minCol, int maxCol)
 		throws JSONException 
@@ -63,34 +66,44 @@ public class EncoderRecode extends Encoder
 		this(new int[0], 0);
 	}
 	
-	private EncoderRecode(int[] colList, int clen, HashMap<Integer, HashMap<String, Long>> rcdMaps) {
+	private EncoderRecode(int[] colList, int clen, HashMap<Integer, RecodeMap> rcdMaps) {
 		super(colList, clen);
 		_rcdMaps = rcdMaps;
 	}
 	
-	public HashMap<Integer, HashMap<String,Long>> getCPRecodeMaps() { 
+	public HashMap<Integer, RecodeMap> getCPRecodeMaps() { 
 		return _rcdMaps; 
 	}
 	
-	public HashMap<Integer, HashSet<Object>> getCPRecodeMapsPartial() { 
+	public HashMap<Integer, RecodeMap> getCPRecodeMapsPartial() { 
 		return _rcdMapsPart; 
 	}
 	
 	public void sortCPRecodeMaps() {
-		for( HashMap<String,Long> map : _rcdMaps.values() ) {
-			String[] keys= map.keySet().toArray(new String[0]);
-			Arrays.sort(keys);
-			map.clear();
-			for(String key : keys)
-				putCode(map, key);
-		}
+		for( RecodeMap map : _rcdMaps.values() )
+			map.sort();
 	}
 	
-	private long lookupRCDMap(int colID, String key) {
-		if( !_rcdMaps.containsKey(colID) )
-			return -1; //empty recode map
-		Long tmp = _rcdMaps.get(colID).get(key);
-		return (tmp!=null) ? tmp : -1;
+	/**
+	 * Obtains the recode map of the given column, specialized for the given 
+	 * value type. Existing maps of other value types (e.g., string maps from
+	 * transform meta data) are converted once.
+	 * 
+	 * @param maps recode maps
+	 * @param colID column ID (1-based)
+	 * @param vt value type of the column
+	 * @param create allocate a new map if necessary
+	 * @return recode map, or null if it does not exist and create is false
+	 */
+	private static RecodeMap getRecodeMap(HashMap<Integer, RecodeMap> maps, int colID, ValueType vt, boolean create) {
+		synchronized( maps ) {
+			RecodeMap map = maps.get(colID);
+			if( map == null && create )
+				maps.put(colID, map = RecodeMap.create(vt));
+			else if( map != null && !map.isCompatible(vt) )
+				maps.put(colID, map = map.convert(vt));
+			return map;
+		}
 	}
 	
 	@Override
@@ -110,36 +123,74 @@ public class EncoderRecode extends Encoder
 		if( !isApplicable() )
 			return;
 
-		Iterator<String[]> iter = in.getStringRowIterator(_colList);
-		while( iter.hasNext() ) {
-			String[] row = iter.next(); 
-			for( int j=0; j<_colList.length; j++ ) {
-				int colID = _colList[j]; //1-based
-				//allocate column map if necessary
-				if( !_rcdMaps.containsKey(colID) ) 
-					_rcdMaps.put(colID, new HashMap<String,Long>());
-				//probe and build column map
-				HashMap<String,Long> map = _rcdMaps.get(colID);
-				String key = row[j];
-				if( key!=null && !key.isEmpty() && !map.containsKey(key) )
-					putCode(map, key);
-			}
+		//build column maps over the typed column data
+		//(iterate over columns for sequential access)
+		for( int j=0; j<_colList.length; j++ ) {
+			int colID = _colList[j]; //1-based
+			getRecodeMap(_rcdMaps, colID, in.getSchema()[colID-1], true)
+				.build(in, colID-1, 0, in.getNumRows());
 		}
 		
 		if( SORT_RECODE_MAP ) {
 			sortCPRecodeMaps();
 		}
 	}
-
-	/**
-	 * Put the code into the map with the provided key. The code depends on the type of encoder. 
-	 * @param map column map
-	 * @param key key for the new entry
-	 */
-	protected void putCode(HashMap<String,Long> map, String key) {
-		map.put(key, Long.valueOf(map.size()+1));
+	
+	@Override
+	public void build(FrameBlock in, int k) {
+		if( !isApplicable() )
+			return;
+		int nrow = in.getNumRows();
+		if( k <= 1 || (long)nrow * _colList.length < 2L * PAR_MIN_CELLS_PER_TASK ) {
+			build(in);
+			return;
+		}
+		//partition rows only if there are too few columns to occupy all threads
+		int nblk = getNumRowBlocks(nrow, 1, (int)Math.ceil((double)k/_colList.length));
+		
+		//allocate column maps upfront, tasks only modify their own column map
+		for( int colID : _colList )
+			getRecodeMap(_rcdMaps, colID, in.getSchema()[colID-1], true);
+		
+		ExecutorService pool = CommonThreadPool.get(k);
+		try {
+			if( nblk <= 1 ) {
+				//column partitioning: build each column map independently
+				ArrayList<Callable<Object>> tasks = new ArrayList<>();
+				for( int colID : _colList )
+					tasks.add(new RecodeBuildTask(in, colID, 0, nrow, _rcdMaps.get(colID)));
+				CommonThreadPool.invokeAndShutdown(pool, tasks);
+			}
+			else {
+				//column and row partitioning: build partial maps per row block
+				//in order of appearance, and merge them in row block order, which
+				//yields the same codes as the single-threaded build
+				List<Integer> blklens = UtilFunctions.getBalancedBlockSizesDefault(nrow, nblk, true);
+				ArrayList<RecodeBuildTask> tasks = new ArrayList<>();
+				for( int colID : _colList )
+					for( int i=0, lb=0; i<blklens.size(); lb+=blklens.get(i), i++ )
+						tasks.add(new RecodeBuildTask(in, colID, lb, lb+blklens.get(i),
+							RecodeMap.create(in.getSchema()[colID-1])));
+				List<Future<Object>> rtasks = pool.invokeAll(tasks);
+				ArrayList<Callable<Object>> mtasks = new ArrayList<>();
+				for( int j=0; j<_colList.length; j++ ) {
+					List<Future<Object>> partials = 
+						rtasks.subList(j*blklens.size(), (j+1)*blklens.size());
+					mtasks.add(new RecodeMergeTask(partials, _rcdMaps.get(_colList[j])));
+				}
+				CommonThreadPool.invokeAndShutdown(pool, mtasks);
+			}
+		}
+		catch(Exception ex) {
+			throw new DMLRuntimeException(ex);
+		}
+		
+		if( SORT_RECODE_MAP ) {
+			sortCPRecodeMaps();
+		}
 	}
 	
+
 	public void prepareBuildPartial() {
 		//ensure allocated partial recode map
 		if( _rcdMapsPart == null )
@@ -154,40 +205,43 @@ public class EncoderRecode extends Encoder
 		//iterate over columns for sequential access
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j]; //1-based
-			//allocate column map if necessary
-			if( !_rcdMapsPart.containsKey(colID) ) 
-				_rcdMapsPart.put(colID, new HashSet<>());
-			HashSet<Object> map = _rcdMapsPart.get(colID);
-			//probe and build column map
-			for( int i=0; i<in.getNumRows(); i++ )
-				map.add(in.get(i, colID-1));
-			//cleanup unnecessary entries once
-			map.remove(null);
-			map.remove("");
+			//allocate column map if necessary, and probe and build column map
+			//(excluding null and empty tokens)
+			getRecodeMap(_rcdMapsPart, colID, in.getSchema()[colID-1], true)
+				.build(in, colID-1, 0, in.getNumRows());
 		}
 	}
 	
 	@Override
 	public MatrixBlock apply(FrameBlock in, MatrixBlock out) {
+		return apply(in, out, 0, in.getNumRows());
+	}
+	
+	@Override
+	public MatrixBlock apply(FrameBlock in, MatrixBlock out, int rl, int ru) {
 		//apply recode maps column wise
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j];
-			for( int i=0; i<in.getNumRows(); i++ ) {
-				Object okey = in.get(i, colID-1);
-				String key = (okey!=null) ? okey.toString() : null;
-				long code = lookupRCDMap(colID, key);
-				out.quickSetValue(i, colID-1,
-					(code >= 0) ? code : Double.NaN);
-			}
+			RecodeMap map = getRecodeMap(_rcdMaps, colID, in.getSchema()[colID-1], false);
+			if( map != null )
+				map.apply(in, colID-1, out, rl, ru);
+			else //empty recode map
+				for( int i=rl; i<ru; i++ )
+					out.quickSetValue(i, colID-1, Double.NaN);
 		}
 		
 		return out;
 	}
+	
+	@Override
+	public boolean isRowPartitionable() {
+		return true;
+	}
 
 	@Override
 	public Encoder subRangeEncoder(IndexRange ixRange) {
 		List<Integer> cols = new ArrayList<>();
-		HashMap<Integer, HashMap<String, Long>> rcdMaps = new HashMap<>();
+		HashMap<Integer, RecodeMap> rcdMaps = new HashMap<>();
 		for(int col : _colList) {
 			if(ixRange.inColRange(col)) {
 				// add the correct column, removed columns before start
@@ -195,7 +249,7 @@ public class EncoderRecode extends Encoder
 				int corrColumn = (int) (col - (ixRange.colStart - 1));
 				cols.add(corrColumn);
 				// copy rcdMap for column
-				rcdMaps.put(corrColumn, new HashMap<>(_rcdMaps.get(col)));
+				rcdMaps.put(corrColumn, _rcdMaps.get(col).copy());
 			}
 		}
 		if(cols.isEmpty())
@@ -215,19 +269,16 @@ public class EncoderRecode extends Encoder
 			EncoderRecode otherRec = (EncoderRecode) other;
 			for (int otherColID : other._colList) {
 				int colID = otherColID + col - 1;
+				RecodeMap otherMap = otherRec._rcdMaps.get(otherColID);
 				//allocate column map if necessary
 				if( !_rcdMaps.containsKey(colID) )
-					_rcdMaps.put(colID, new HashMap<>());
+					_rcdMaps.put(colID, (otherMap != null) ?
+						RecodeMap.create(otherMap.getValueType()) : RecodeMap.create(ValueType.STRING));
 				
-				HashMap<String, Long> otherMap = otherRec._rcdMaps.get(otherColID);
 				if(otherMap != null) {
 					// for each column, add all non present recode values
-					for(Map.Entry<String, Long> entry : otherMap.entrySet()) {
-						if (lookupRCDMap(colID, entry.getKey()) == -1) {
-							// key does not yet exist
-							putCode(_rcdMaps.get(colID), entry.getKey());
-						}
-					}
+					// (via tokens if the value types differ)
+					getRecodeMap(_rcdMaps, colID, otherMap.getValueType(), false).merge(otherMap);
 				}
 			}
 			return;
@@ -264,11 +315,13 @@ public class EncoderRecode extends Encoder
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j]; //1-based
 			int rowID = 0;
-			if( _rcdMaps.containsKey(_colList[j]) )
-				for( Entry<String, Long> e : _rcdMaps.get(colID).entrySet() ) {
+			if( _rcdMaps.containsKey(_colList[j]) ) {
+				RecodeMap map = _rcdMaps.get(colID);
+				for( int i=0; i<map.size(); i++ ) {
 					meta.set(rowID++, colID-1, 
-						constructRecodeMapEntry(e.getKey(), e.getValue(), sb)); 
+						constructRecodeMapEntry(map.getToken(i), map.getCode(i), sb)); 
 				}
+			}
 			meta.getColumnMetadata(colID-1).setNumDistinct(
 					_rcdMaps.get(colID).size());
 		}
@@ -290,7 +343,7 @@ public class EncoderRecode extends Encoder
 		
 		for( int j=0; j<_colList.length; j++ ) {
 			int colID = _colList[j]; //1-based
-			_rcdMaps.put(colID, meta.getRecodeMap(colID-1));
+			_rcdMaps.put(colID, RecodeMap.create(meta.getRecodeMap(colID-1)));
 		}
 	}
 	
@@ -306,10 +359,10 @@ public class EncoderRecode extends Encoder
 		return constructRecodeMapEntry(token, code, sb);
 	}
 	
-	private static String constructRecodeMapEntry(String token, Long code, StringBuilder sb) {
+	private static String constructRecodeMapEntry(String token, long code, StringBuilder sb) {
 		sb.setLength(0); //reset reused string builder
 		return sb.append(token).append(Lop.DATATYPE_PREFIX)
-			.append(code.longValue()).toString();
+			.append(code).toString();
 	}
 	
 	/**
@@ -324,4 +377,43 @@ public class EncoderRecode extends Encoder
 		int pos = value.toString().lastIndexOf(Lop.DATATYPE_PREFIX);
 		return new String[] {value.substring(0, pos), value.substring(pos+1)};
 	}
+	
+	private static class RecodeBuildTask implements Callable<Object> {
+		private final FrameBlock _in;
+		private final int _colID;
+		private final int _rl;
+		private final int _ru;
+		private final RecodeMap _map;
+		
+		protected RecodeBuildTask(FrameBlock in, int colID, int rl, int ru, RecodeMap map) {
+			_in = in;
+			_colID = colID;
+			_rl = rl;
+			_ru = ru;
+			_map = map;
+		}
+		
+		@Override
+		public RecodeMap call() {
+			_map.build(_in, _colID-1, _rl, _ru);
+			return _map;
+		}
+	}
+	
+	private static class RecodeMergeTask implements Callable<Object> {
+		private final List<Future<Object>> _partials;
+		private final RecodeMap _map;
+		
+		protected RecodeMergeTask(List<Future<Object>> partials, RecodeMap map) {
+			_partials = partials;
+			_map = map;
+		}
+		
+		@Override
+		public Object call() throws Exception {
+			for( Future<Object> partial : _partials )
+				_map.merge((RecodeMap) partial.get());
+			return null;
+		}
+	}
 }
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.transform.encode;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Recode map of a single column, i.e., a dictionary of distinct tokens and
+ * their codes. In contrast to a HashMap&lt;String,Long&gt;, the subclasses are
+ * specialized for the value type of the frame column (long, double, string),
+ * store tokens and int codes in primitive arrays in order of insertion, and
+ * use an open-addressing hash table (linear probing) of insertion positions.
+ * This avoids boxing and string conversion of numeric tokens in build and
+ * apply, and reduces the memory overhead of high-cardinality columns.
+ * 
+ * Tokens are equal if their string representations are equal, which retains
+ * the semantics of string-based recoding.
+ */
+public abstract class RecodeMap implements Serializable
+{
+	private static final long serialVersionUID = -4386541296843361395L;
+	
+	protected static final int INIT_CAPACITY = 16;
+	
+	//value type of the tokens
+	protected final ValueType _vt;
+	//number of distinct tokens
+	protected int _size = 0;
+	//codes in order of insertion
+	protected int[] _codes;
+	//hash table of insertion positions + 1 (0 for empty slots)
+	protected int[] _table;
+	
+	protected RecodeMap(ValueType vt) {
+		_vt = vt;
+		_codes = new int[INIT_CAPACITY];
+		_table = new int[2 * INIT_CAPACITY];
+	}
+	
+	/**
+	 * Creates an empty recode map that is specialized for the given 
+	 * value type of a frame column.
+	 * 
+	 * @param vt value type of the column
+	 * @return empty recode map
+	 */
+	public static RecodeMap create(ValueType vt) {
+		switch( vt ) {
+			case INT32:
+			case INT64: return new RecodeMapLong(vt);
+			case FP32:
+			case FP64:  return new RecodeMapDouble(vt);
+			default:    return new RecodeMapString(vt);
+		}
+	}
+	
+	/**
+	 * Creates a string recode map from the given map of tokens and codes,
+	 * e.g., as obtained from the transform meta data.
+	 * 
+	 * @param map map of tokens and codes
+	 * @return string recode map
+	 */
+	public static RecodeMap create(Map<String,Long> map) {
+		RecodeMap ret = new RecodeMapString(ValueType.STRING);
+		for( Entry<String,Long> e : map.entrySet() )
+			ret.put(e.getKey(), e.getValue());
+		return ret;
+	}
+	
+	public ValueType getValueType() {
+		return _vt;
+	}
+	
+	public int size() {
+		return _size;
+	}
+	
+	/**
+	 * Returns the code of the token at the given insertion position.
+	 * 
+	 * @param ix insertion position in [0, size)
+	 * @return code
+	 */
+	public long getCode(int ix) {
+		return _codes[ix];
+	}
+	
+	/**
+	 * Returns the string representation of the token at the given
+	 * insertion position, as used in the transform meta data.
+	 * 
+	 * @param ix insertion position in [0, size)
+	 * @return token string
+	 */
+	public abstract String getToken(int ix);
+	
+	/**
+	 * Returns the token at the given insertion position as an object 
+	 * of the value type of this map.
+	 * 
+	 * @param ix insertion position in [0, size)
+	 * @return token object
+	 */
+	public abstract Object getTokenObject(int ix);
+	
+	/**
+	 * Indicates if this map can be used for build and apply over a
+	 * frame column of the given value type.
+	 * 
+	 * @param vt value type of the column
+	 * @return true if compatible
+	 */
+	public abstract boolean isCompatible(ValueType vt);
+	
+	/**
+	 * Looks up the code of the given token string.
+	 * 
+	 * @param token token string
+	 * @return code, or -1 if the token does not exist
+	 */
+	public abstract long lookup(String token);
+	
+	/**
+	 * Puts the given token string and code into this map, which 
+	 * overwrites the code of existing tokens.
+	 * 
+	 * @param token token string
+	 * @param code code
+	 */
+	public abstract void put(String token, long code);
+	
+	/**
+	 * Adds all distinct tokens of the rows [rl, ru) of the given column, 
+	 * which are not yet contained, with codes in order of appearance.
+	 * 
+	 * @param in input frame block
+	 * @param col column index (0-based)
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 */
+	public abstract void build(FrameBlock in, int col, int rl, int ru);
+	
+	/**
+	 * Writes the codes of the rows [rl, ru) of the given column into the 
+	 * same column of the output, and NaN for unknown tokens.
+	 * 
+	 * @param in input frame block
+	 * @param col column index (0-based)
+	 * @param out output matrix block
+	 * @param rl row lower bound (inclusive)
+	 * @param ru row upper bound (exclusive)
+	 */
+	public abstract void apply(FrameBlock in, int col, MatrixBlock out, int rl, int ru);
+	
+	/**
+	 * Adds all tokens of the given map, which are not yet contained,
+	 * with new codes in their order of insertion.
+	 * 
+	 * @param that other recode map
+	 */
+	public abstract void merge(RecodeMap that);
+	
+	public abstract RecodeMap copy();
+	
+	protected abstract int hashAt(int ix);
+	
+	protected abstract void permuteKeys(int[] perm);
+	
+	/**
+	 * Converts this map into a map for the given value type. If the tokens
+	 * cannot be represented in the given value type, a string map is returned.
+	 * 
+	 * @param vt value type of the column
+	 * @return recode map compatible with the given value type
+	 */
+	public RecodeMap convert(ValueType vt) {
+		RecodeMap ret = create(vt);
+		try {
+			for( int i=0; i<_size; i++ )
+				ret.put(getToken(i), _codes[i]);
+		}
+		catch(DMLRuntimeException ex) {
+			//tokens not representable in the value type
+			ret = new RecodeMapString(vt);
+			for( int i=0; i<_size; i++ )
+				ret.put(getToken(i), _codes[i]);
+		}
+		return ret;
+	}
+	
+	/**
+	 * Sorts the tokens by their string representation and reassigns 
+	 * the codes 1 to size in this order.
+	 */
+	public void sort() {
+		String[] tokens = new String[_size];
+		Integer[] ix = new Integer[_size];
+		for( int i=0; i<_size; i++ ) {
+			tokens[i] = getToken(i);
+			ix[i] = i;
+		}
+		Arrays.sort(ix, (a, b) -> tokens[a].compareTo(tokens[b]));
+		int[] perm = new int[_size];
+		for( int i=0; i<_size; i++ ) {
+			perm[i] = ix[i];
+			_codes[i] = i + 1;
+		}
+		permuteKeys(perm);
+		rehash(_table.length);
+	}
+	
+	protected void mergeTokens(RecodeMap that) {
+		for( int i=0; i<that._size; i++ ) {
+			String token = that.getToken(i);
+			if( lookup(token) < 0 )
+				put(token, _size + 1);
+		}
+	}
+	
+	/**
+	 * Appends a new code and returns its insertion position. Subclasses 
+	 * append the key at this position and afterwards call insert.
+	 * 
+	 * @param code code of the new token
+	 * @return insertion position
+	 */
+	protected int appendCode(long code) {
+		if( code > Integer.MAX_VALUE )
+			throw new DMLRuntimeException("Recode map code exceeds integer range: " + code);
+		if( _size == _codes.length )
+			_codes = Arrays.copyOf(_codes, 2 * _size);
+		_codes[_size] = (int) code;
+		return _size++;
+	}
+	
+	/**
+	 * Inserts the key at the given insertion position into the hash table,
+	 * and grows the hash table to retain a load factor of at most 0.5.
+	 * 
+	 * @param ix insertion position
+	 */
+	protected void insert(int ix) {
+		if( 2 * _size > _table.length )
+			rehash(2 * _table.length);
+		else
+			insertSlot(hashAt(ix), ix);
+	}
+	
+	private void rehash(int capacity) {
+		_table = new int[capacity];
+		for( int i=0; i<_size; i++ )
+			insertSlot(hashAt(i), i);
+	}
+	
+	private void insertSlot(int hash, int ix) {
+		int mask = _table.length - 1;
+		int pos = hash & mask;
+		while( _table[pos] != 0 )
+			pos = (pos + 1) & mask;
+		_table[pos] = ix + 1;
+	}
+	
+	protected static int hash(long key) {
+		//murmur3 finalizer for well-spread low bits
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		return (int) key;
+	}
+	
+	protected static void setCode(MatrixBlock out, int row, int col, long code) {
+		out.quickSetValue(row, col, (code >= 0) ? code : Double.NaN);
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(getClass().getSimpleName());
+		sb.append("(" + _vt + ", " + _size + ")");
+		return sb.toString();
+	}
+}
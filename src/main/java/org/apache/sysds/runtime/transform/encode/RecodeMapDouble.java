@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.transform.encode;
+
+import java.util.Arrays;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Recode map for FP32 and FP64 columns with primitive double tokens. 
+ * Tokens are compared by their bit patterns (with a canonical NaN), which 
+ * matches the equality of their string representations.
+ */
+public class RecodeMapDouble extends RecodeMap
+{
+	private static final long serialVersionUID = -6301924835262096124L;
+	
+	private double[] _keys;
+	
+	public RecodeMapDouble(ValueType vt) {
+		super(vt);
+		_keys = new double[INIT_CAPACITY];
+	}
+	
+	public long lookup(double key) {
+		long bits = Double.doubleToLongBits(key);
+		int mask = _table.length - 1;
+		int pos = hash(bits) & mask;
+		int ix;
+		while( (ix = _table[pos]) != 0 ) {
+			if( Double.doubleToLongBits(_keys[ix-1]) == bits )
+				return _codes[ix-1];
+			pos = (pos + 1) & mask;
+		}
+		return -1;
+	}
+	
+	public void put(double key, long code) {
+		long bits = Double.doubleToLongBits(key);
+		int mask = _table.length - 1;
+		int pos = hash(bits) & mask;
+		int ix;
+		while( (ix = _table[pos]) != 0 ) {
+			if( Double.doubleToLongBits(_keys[ix-1]) == bits ) {
+				_codes[ix-1] = (int) code;
+				return;
+			}
+			pos = (pos + 1) & mask;
+		}
+		add(key, code);
+	}
+	
+	private void addIfAbsent(double key) {
+		if( lookup(key) < 0 )
+			add(key, _size + 1);
+	}
+	
+	private void add(double key, long code) {
+		int ix = appendCode(code);
+		if( ix == _keys.length )
+			_keys = Arrays.copyOf(_keys, 2 * ix);
+		_keys[ix] = key;
+		insert(ix);
+	}
+	
+	@Override
+	public String getToken(int ix) {
+		return (_vt == ValueType.FP32) ? 
+			Float.toString((float) _keys[ix]) : Double.toString(_keys[ix]);
+	}
+	
+	@Override
+	public Object getTokenObject(int ix) {
+		return (_vt == ValueType.FP32) ? 
+			Float.valueOf((float) _keys[ix]) : Double.valueOf(_keys[ix]);
+	}
+	
+	@Override
+	public boolean isCompatible(ValueType vt) {
+		//FP32 and FP64 tokens have different string representations
+		return vt == _vt;
+	}
+	
+	@Override
+	public long lookup(String token) {
+		try {
+			double key = parse(token);
+			return getTokenString(key).equals(token) ? lookup(key) : -1;
+		}
+		catch(NumberFormatException ex) {
+			return -1;
+		}
+	}
+	
+	@Override
+	public void put(String token, long code) {
+		double key;
+		try {
+			key = parse(token);
+		}
+		catch(NumberFormatException ex) {
+			throw new DMLRuntimeException("Invalid "+_vt+" recode token: '"+token+"'");
+		}
+		if( !getTokenString(key).equals(token) )
+			throw new DMLRuntimeException("Invalid "+_vt+" recode token: '"+token+"'");
+		put(key, code);
+	}
+	
+	private double parse(String token) {
+		return (_vt == ValueType.FP32) ? 
+			Float.parseFloat(token) : Double.parseDouble(token);
+	}
+	
+	private String getTokenString(double key) {
+		return (_vt == ValueType.FP32) ? 
+			Float.toString((float) key) : Double.toString(key);
+	}
+	
+	@Override
+	public void build(FrameBlock in, int col, int rl, int ru) {
+		Object data = (ru > rl) ? in.getColumnData(col) : null;
+		if( data instanceof double[] ) {
+			double[] a = (double[]) data;
+			for( int i=rl; i<ru; i++ )
+				addIfAbsent(a[i]);
+		}
+		else if( data instanceof float[] ) {
+			float[] a = (float[]) data;
+			for( int i=rl; i<ru; i++ )
+				addIfAbsent(a[i]);
+		}
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				Object o = in.get(i, col);
+				if( o != null )
+					addIfAbsent(((Number) o).doubleValue());
+			}
+		}
+	}
+	
+	@Override
+	public void apply(FrameBlock in, int col, MatrixBlock out, int rl, int ru) {
+		Object data = (ru > rl) ? in.getColumnData(col) : null;
+		if( data instanceof double[] ) {
+			double[] a = (double[]) data;
+			for( int i=rl; i<ru; i++ )
+				setCode(out, i, col, lookup(a[i]));
+		}
+		else if( data instanceof float[] ) {
+			float[] a = (float[]) data;
+			for( int i=rl; i<ru; i++ )
+				setCode(out, i, col, lookup(a[i]));
+		}
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				Object o = in.get(i, col);
+				setCode(out, i, col, (o != null) ? lookup(((Number) o).doubleValue()) : -1);
+			}
+		}
+	}
+	
+	@Override
+	public void merge(RecodeMap that) {
+		if( that instanceof RecodeMapDouble && that._vt == _vt ) {
+			double[] keys = ((RecodeMapDouble) that)._keys;
+			for( int i=0; i<that._size; i++ )
+				addIfAbsent(keys[i]);
+		}
+		else {
+			mergeTokens(that);
+		}
+	}
+	
+	@Override
+	public RecodeMap copy() {
+		RecodeMapDouble ret = new RecodeMapDouble(_vt);
+		ret._size = _size;
+		ret._keys = Arrays.copyOf(_keys, _keys.length);
+		ret._codes = Arrays.copyOf(_codes, _codes.length);
+		ret._table = Arrays.copyOf(_table, _table.length);
+		return ret;
+	}
+	
+	@Override
+	protected int hashAt(int ix) {
+		return hash(Double.doubleToLongBits(_keys[ix]));
+	}
+	
+	@Override
+	protected void permuteKeys(int[] perm) {
+		double[] keys = new double[_keys.length];
+		for( int i=0; i<_size; i++ )
+			keys[i] = _keys[perm[i]];
+		_keys = keys;
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.transform.encode;
+
+import java.util.Arrays;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Recode map for INT32 and INT64 columns with primitive long tokens.
+ */
+public class RecodeMapLong extends RecodeMap
+{
+	private static final long serialVersionUID = 2741520817436018571L;
+	
+	private long[] _keys;
+	
+	public RecodeMapLong(ValueType vt) {
+		super(vt);
+		_keys = new long[INIT_CAPACITY];
+	}
+	
+	public long lookup(long key) {
+		int mask = _table.length - 1;
+		int pos = hash(key) & mask;
+		int ix;
+		while( (ix = _table[pos]) != 0 ) {
+			if( _keys[ix-1] == key )
+				return _codes[ix-1];
+			pos = (pos + 1) & mask;
+		}
+		return -1;
+	}
+	
+	public void put(long key, long code) {
+		int mask = _table.length - 1;
+		int pos = hash(key) & mask;
+		int ix;
+		while( (ix = _table[pos]) != 0 ) {
+			if( _keys[ix-1] == key ) {
+				_codes[ix-1] = (int) code;
+				return;
+			}
+			pos = (pos + 1) & mask;
+		}
+		add(key, code);
+	}
+	
+	private void addIfAbsent(long key) {
+		if( lookup(key) < 0 )
+			add(key, _size + 1);
+	}
+	
+	private void add(long key, long code) {
+		int ix = appendCode(code);
+		if( ix == _keys.length )
+			_keys = Arrays.copyOf(_keys, 2 * ix);
+		_keys[ix] = key;
+		insert(ix);
+	}
+	
+	@Override
+	public String getToken(int ix) {
+		return Long.toString(_keys[ix]);
+	}
+	
+	@Override
+	public Object getTokenObject(int ix) {
+		return (_vt == ValueType.INT32) ? 
+			Integer.valueOf((int) _keys[ix]) : Long.valueOf(_keys[ix]);
+	}
+	
+	@Override
+	public boolean isCompatible(ValueType vt) {
+		return vt == ValueType.INT32 || vt == ValueType.INT64;
+	}
+	
+	@Override
+	public long lookup(String token) {
+		try {
+			long key = Long.parseLong(token);
+			return Long.toString(key).equals(token) ? lookup(key) : -1;
+		}
+		catch(NumberFormatException ex) {
+			return -1;
+		}
+	}
+	
+	@Override
+	public void put(String token, long code) {
+		long key;
+		try {
+			key = Long.parseLong(token);
+		}
+		catch(NumberFormatException ex) {
+			throw new DMLRuntimeException("Invalid "+_vt+" recode token: '"+token+"'");
+		}
+		if( !Long.toString(key).equals(token) )
+			throw new DMLRuntimeException("Invalid "+_vt+" recode token: '"+token+"'");
+		put(key, code);
+	}
+	
+	@Override
+	public void build(FrameBlock in, int col, int rl, int ru) {
+		Object data = (ru > rl) ? in.getColumnData(col) : null;
+		if( data instanceof long[] ) {
+			long[] a = (long[]) data;
+			for( int i=rl; i<ru; i++ )
+				addIfAbsent(a[i]);
+		}
+		else if( data instanceof int[] ) {
+			int[] a = (int[]) data;
+			for( int i=rl; i<ru; i++ )
+				addIfAbsent(a[i]);
+		}
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				Object o = in.get(i, col);
+				if( o != null )
+					addIfAbsent(((Number) o).longValue());
+			}
+		}
+	}
+	
+	@Override
+	public void apply(FrameBlock in, int col, MatrixBlock out, int rl, int ru) {
+		Object data = (ru > rl) ? in.getColumnData(col) : null;
+		if( data instanceof long[] ) {
+			long[] a = (long[]) data;
+			for( int i=rl; i<ru; i++ )
+				setCode(out, i, col, lookup(a[i]));
+		}
+		else if( data instanceof int[] ) {
+			int[] a = (int[]) data;
+			for( int i=rl; i<ru; i++ )
+				setCode(out, i, col, lookup(a[i]));
+		}
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				Object o = in.get(i, col);
+				setCode(out, i, col, (o != null) ? lookup(((Number) o).longValue()) : -1);
+			}
+		}
+	}
+	
+	@Override
+	public void merge(RecodeMap that) {
+		if( that instanceof RecodeMapLong ) {
+			long[] keys = ((RecodeMapLong) that)._keys;
+			for( int i=0; i<that._size; i++ )
+				addIfAbsent(keys[i]);
+		}
+		else {
+			mergeTokens(that);
+		}
+	}
+	
+	@Override
+	public RecodeMap copy() {
+		RecodeMapLong ret = new RecodeMapLong(_vt);
+		ret._size = _size;
+		ret._keys = Arrays.copyOf(_keys, _keys.length);
+		ret._codes = Arrays.copyOf(_codes, _codes.length);
+		ret._table = Arrays.copyOf(_table, _table.length);
+		return ret;
+	}
+	
+	@Override
+	protected int hashAt(int ix) {
+		return hash(_keys[ix]);
+	}
+	
+	@Override
+	protected void permuteKeys(int[] perm) {
+		long[] keys = new long[_keys.length];
+		for( int i=0; i<_size; i++ )
+			keys[i] = _keys[perm[i]];
+		_keys = keys;
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.transform.encode;
+
+import java.util.Arrays;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Recode map for string tokens, which is used for STRING and BOOLEAN 
+ * columns, for maps obtained from transform meta data, and as fallback for 
+ * numeric columns whose tokens are not in canonical number format. Tokens 
+ * are kept as references to the frame strings (with their cached hash codes)
+ * and map to primitive int codes.
+ */
+public class RecodeMapString extends RecodeMap
+{
+	private static final long serialVersionUID = 3529417201628432207L;
+	
+	private String[] _keys;
+	
+	public RecodeMapString(ValueType vt) {
+		super(vt);
+		_keys = new String[INIT_CAPACITY];
+	}
+	
+	@Override
+	public long lookup(String key) {
+		if( key == null )
+			return -1;
+		int mask = _table.length - 1;
+		int pos = hash(key.hashCode()) & mask;
+		int ix;
+		while( (ix = _table[pos]) != 0 ) {
+			if( _keys[ix-1].equals(key) )
+				return _codes[ix-1];
+			pos = (pos + 1) & mask;
+		}
+		return -1;
+	}
+	
+	@Override
+	public void put(String key, long code) {
+		int mask = _table.length - 1;
+		int pos = hash(key.hashCode()) & mask;
+		int ix;
+		while( (ix = _table[pos]) != 0 ) {
+			if( _keys[ix-1].equals(key) ) {
+				_codes[ix-1] = (int) code;
+				return;
+			}
+			pos = (pos + 1) & mask;
+		}
+		add(key, code);
+	}
+	
+	private void addIfAbsent(String key) {
+		if( key != null && !key.isEmpty() && lookup(key) < 0 )
+			add(key, _size + 1);
+	}
+	
+	private void add(String key, long code) {
+		int ix = appendCode(code);
+		if( ix == _keys.length )
+			_keys = Arrays.copyOf(_keys, 2 * ix);
+		_keys[ix] = key;
+		insert(ix);
+	}
+	
+	@Override
+	public String getToken(int ix) {
+		return _keys[ix];
+	}
+	
+	@Override
+	public Object getTokenObject(int ix) {
+		return _keys[ix];
+	}
+	
+	@Override
+	public boolean isCompatible(ValueType vt) {
+		//numeric columns use specialized maps if possible
+		return vt == _vt || !vt.isNumeric();
+	}
+	
+	@Override
+	public void build(FrameBlock in, int col, int rl, int ru) {
+		Object data = (ru > rl) ? in.getColumnData(col) : null;
+		if( data instanceof String[] ) {
+			String[] a = (String[]) data;
+			for( int i=rl; i<ru; i++ )
+				addIfAbsent(a[i]);
+		}
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				Object o = in.get(i, col);
+				if( o != null )
+					addIfAbsent(o.toString());
+			}
+		}
+	}
+	
+	@Override
+	public void apply(FrameBlock in, int col, MatrixBlock out, int rl, int ru) {
+		Object data = (ru > rl) ? in.getColumnData(col) : null;
+		if( data instanceof String[] ) {
+			String[] a = (String[]) data;
+			for( int i=rl; i<ru; i++ )
+				setCode(out, i, col, lookup(a[i]));
+		}
+		else {
+			for( int i=rl; i<ru; i++ ) {
+				Object o = in.get(i, col);
+				setCode(out, i, col, (o != null) ? lookup(o.toString()) : -1);
+			}
+		}
+	}
+	
+	@Override
+	public void merge(RecodeMap that) {
+		if( that instanceof RecodeMapString ) {
+			String[] keys = ((RecodeMapString) that)._keys;
+			for( int i=0; i<that._size; i++ )
+				addIfAbsent(keys[i]);
+		}
+		else {
+			mergeTokens(that);
+		}
+	}
+	
+	@Override
+	public RecodeMap copy() {
+		RecodeMapString ret = new RecodeMapString(_vt);
+		ret._size = _size;
+		ret._keys = Arrays.copyOf(_keys, _keys.length);
+		ret._codes = Arrays.copyOf(_codes, _codes.length);
+		ret._table = Arrays.copyOf(_table, _table.length);
+		return ret;
+	}
+	
+	@Override
+	protected int hashAt(int ix) {
+		return hash(_keys[ix].hashCode());
+	}
+	
+	@Override
+	protected void permuteKeys(int[] perm) {
+		String[] keys = new String[_keys.length];
+		for( int i=0; i<_size; i++ )
+			keys[i] = _keys[perm[i]];
+		_keys = keys;
+	}
+}
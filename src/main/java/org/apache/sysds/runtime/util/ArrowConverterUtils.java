@@ -0,0 +1,562 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.runtime.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.ipc.ArrowWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+
+/**
+ * Utils for exchanging frames and matrices in the Apache Arrow IPC
+ * stream and file formats. Frame columns map to arrow vectors of the
+ * corresponding primitive type, and matrices map to one FP64 vector per
+ * column. Primitive columns are copied in bulk from and to the arrow
+ * buffers, without per-cell object or string conversions.
+ */
+public class ArrowConverterUtils {
+	/** Number of rows per arrow record batch on write */
+	public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
+	public static byte[] convertFrameToArrow(FrameBlock fb) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeFrameToStream(fb, out);
+		return out.toByteArray();
+	}
+
+	public static FrameBlock convertArrowToFrame(byte[] data) throws IOException {
+		return readFrameFromStream(new ByteArrayInputStream(data));
+	}
+
+	public static byte[] convertMatrixToArrow(MatrixBlock mb) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writeMatrixToStream(mb, out);
+		return out.toByteArray();
+	}
+
+	public static MatrixBlock convertArrowToMatrix(byte[] data) throws IOException {
+		return readMatrixFromStream(new ByteArrayInputStream(data));
+	}
+
+	/**
+	 * Writes the given frame in arrow IPC stream format to the output stream.
+	 *
+	 * @param fb frame block
+	 * @param out output stream (not closed)
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeFrameToStream(FrameBlock fb, OutputStream out) throws IOException {
+		try( BufferAllocator alloc = new RootAllocator(Long.MAX_VALUE);
+			VectorSchemaRoot root = VectorSchemaRoot.create(createSchema(fb), alloc);
+			ArrowWriter writer = new ArrowStreamWriter(root, new DictionaryProvider.MapDictionaryProvider(), out) )
+		{
+			writeFrame(fb, root, writer);
+		}
+	}
+
+	/**
+	 * Writes the given frame in arrow IPC file format to the local file.
+	 *
+	 * @param fb frame block
+	 * @param fname local file name
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeFrameToFile(FrameBlock fb, String fname) throws IOException {
+		try( FileOutputStream out = new FileOutputStream(fname);
+			BufferAllocator alloc = new RootAllocator(Long.MAX_VALUE);
+			VectorSchemaRoot root = VectorSchemaRoot.create(createSchema(fb), alloc);
+			ArrowWriter writer = new ArrowFileWriter(root, new DictionaryProvider.MapDictionaryProvider(), out.getChannel()) )
+		{
+			writeFrame(fb, root, writer);
+		}
+	}
+
+	/**
+	 * Reads a frame in arrow IPC stream format from the input stream.
+	 *
+	 * @param in input stream (not closed)
+	 * @return frame block
+	 * @throws IOException if IOException occurs
+	 */
+	public static FrameBlock readFrameFromStream(InputStream in) throws IOException {
+		try( BufferAllocator alloc = new RootAllocator(Long.MAX_VALUE);
+			ArrowReader reader = new ArrowStreamReader(in, alloc) )
+		{
+			return readFrame(reader);
+		}
+	}
+
+	/**
+	 * Reads a frame in arrow IPC file format from the local file.
+	 *
+	 * @param fname local file name
+	 * @return frame block
+	 * @throws IOException if IOException occurs
+	 */
+	public static FrameBlock readFrameFromFile(String fname) throws IOException {
+		try( FileInputStream in = new FileInputStream(fname);
+			BufferAllocator alloc = new RootAllocator(Long.MAX_VALUE);
+			ArrowReader reader = new ArrowFileReader(in.getChannel(), alloc) )
+		{
+			return readFrame(reader);
+		}
+	}
+
+	/**
+	 * Writes the given matrix in arrow IPC stream format to the output stream,
+	 * with one FP64 column per matrix column.
+	 *
+	 * @param mb matrix block
+	 * @param out output stream (not closed)
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeMatrixToStream(MatrixBlock mb, OutputStream out) throws IOException {
+		try( BufferAllocator alloc = new RootAllocator(Long.MAX_VALUE);
+			VectorSchemaRoot root = VectorSchemaRoot.create(createSchema(mb), alloc);
+			ArrowWriter writer = new ArrowStreamWriter(root, new DictionaryProvider.MapDictionaryProvider(), out) )
+		{
+			writeMatrix(mb, root, writer);
+		}
+	}
+
+	/**
+	 * Writes the given matrix in arrow IPC file format to the local file,
+	 * with one FP64 column per matrix column.
+	 *
+	 * @param mb matrix block
+	 * @param fname local file name
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeMatrixToFile(MatrixBlock mb, String fname) throws IOException {
+		try( FileOutputStream out = new FileOutputStream(fname);
+			BufferAllocator alloc = new RootAllocator(Long.MAX_VALUE);
+			VectorSchemaRoot root = VectorSchemaRoot.create(createSchema(mb), alloc);
+			ArrowWriter writer = new ArrowFileWriter(root, new DictionaryProvider.MapDictionaryProvider(), out.getChannel()) )
+		{
+			writeMatrix(mb, root, writer);
+		}
+	}
+
+	/**
+	 * Reads a matrix in arrow IPC stream format from the input stream.
+	 * All columns are required to be of numeric or boolean type.
+	 *
+	 * @param in input stream (not closed)
+	 * @return matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixBlock readMatrixFromStream(InputStream in) throws IOException {
+		try( BufferAllocator alloc = new RootAllocator(Long.MAX_VALUE);
+			ArrowReader reader = new ArrowStreamReader(in, alloc) )
+		{
+			return readMatrix(reader);
+		}
+	}
+
+	/**
+	 * Reads a matrix in arrow IPC file format from the local file.
+	 * All columns are required to be of numeric or boolean type.
+	 *
+	 * @param fname local file name
+	 * @return matrix block
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixBlock readMatrixFromFile(String fname) throws IOException {
+		try( FileInputStream in = new FileInputStream(fname);
+			BufferAllocator alloc = new RootAllocator(Long.MAX_VALUE);
+			ArrowReader reader = new ArrowFileReader(in.getChannel(), alloc) )
+		{
+			return readMatrix(reader);
+		}
+	}
+
+	public static Schema createSchema(FrameBlock fb) {
+		ValueType[] schema = fb.getSchema();
+		String[] names = fb.getColumnNames();
+		List<Field> fields = new ArrayList<>();
+		for( int j=0; j<schema.length; j++ )
+			fields.add(new Field(names[j], FieldType.nullable(getArrowType(schema[j])), null));
+		return new Schema(fields);
+	}
+
+	public static Schema createSchema(MatrixBlock mb) {
+		String[] names = FrameBlock.createColNames(mb.getNumColumns());
+		ArrowType type = getArrowType(ValueType.FP64);
+		List<Field> fields = new ArrayList<>();
+		for( String name : names )
+			fields.add(new Field(name, FieldType.nullable(type), null));
+		return new Schema(fields);
+	}
+
+	public static ArrowType getArrowType(ValueType vt) {
+		switch( vt ) {
+			case FP64:    return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+			case FP32:    return new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+			case INT64:   return new ArrowType.Int(64, true);
+			case INT32:   return new ArrowType.Int(32, true);
+			case BOOLEAN: return ArrowType.Bool.INSTANCE;
+			default:      return ArrowType.Utf8.INSTANCE;
+		}
+	}
+
+	public static ValueType getValueType(ArrowType type) {
+		switch( type.getTypeID() ) {
+			case FloatingPoint:
+				switch( ((ArrowType.FloatingPoint)type).getPrecision() ) {
+					case DOUBLE: return ValueType.FP64;
+					case SINGLE: return ValueType.FP32;
+					default:     return ValueType.STRING;
+				}
+			case Int:
+				ArrowType.Int itype = (ArrowType.Int) type;
+				if( itype.getIsSigned() && itype.getBitWidth() == 64 )
+					return ValueType.INT64;
+				else if( itype.getIsSigned() && itype.getBitWidth() == 32 )
+					return ValueType.INT32;
+				return ValueType.STRING;
+			case Bool:
+				return ValueType.BOOLEAN;
+			default:
+				return ValueType.STRING;
+		}
+	}
+
+	private static void writeFrame(FrameBlock fb, VectorSchemaRoot root, ArrowWriter writer) throws IOException {
+		ValueType[] schema = fb.getSchema();
+		List<FieldVector> vectors = root.getFieldVectors();
+		int nrow = fb.getNumRows();
+		writer.start();
+		for( int rl=0; rl<nrow; rl+=DEFAULT_BATCH_SIZE ) {
+			int len = Math.min(DEFAULT_BATCH_SIZE, nrow - rl);
+			for( int j=0; j<schema.length; j++ )
+				writeColumn(fb, j, schema[j], vectors.get(j), rl, len);
+			root.setRowCount(len);
+			writer.writeBatch();
+		}
+		writer.end();
+	}
+
+	private static void writeColumn(FrameBlock fb, int c, ValueType vt, FieldVector vec, int rl, int len) {
+		switch( vt ) {
+			case FP64:
+				getDataBuffer(vec, len, Double.BYTES).asDoubleBuffer().put((double[])fb.getColumnData(c), rl, len);
+				break;
+			case FP32:
+				getDataBuffer(vec, len, Float.BYTES).asFloatBuffer().put((float[])fb.getColumnData(c), rl, len);
+				break;
+			case INT64:
+				getDataBuffer(vec, len, Long.BYTES).asLongBuffer().put((long[])fb.getColumnData(c), rl, len);
+				break;
+			case INT32:
+				getDataBuffer(vec, len, Integer.BYTES).asIntBuffer().put((int[])fb.getColumnData(c), rl, len);
+				break;
+			case BOOLEAN: {
+				BitVector bvec = (BitVector) vec;
+				boolean[] col = (boolean[]) fb.getColumnData(c);
+				bvec.allocateNew(len);
+				for( int i=0; i<len; i++ )
+					bvec.set(i, col[rl+i] ? 1 : 0);
+				break;
+			}
+			default: {
+				VarCharVector svec = (VarCharVector) vec;
+				svec.allocateNew(len);
+				for( int i=0; i<len; i++ ) {
+					Object val = fb.get(rl+i, c);
+					if( val != null )
+						svec.setSafe(i, val.toString().getBytes(StandardCharsets.UTF_8));
+					else
+						svec.setNull(i);
+				}
+			}
+		}
+		vec.setValueCount(len);
+	}
+
+	private static void writeMatrix(MatrixBlock mb, VectorSchemaRoot root, ArrowWriter writer) throws IOException {
+		List<FieldVector> vectors = root.getFieldVectors();
+		int nrow = mb.getNumRows();
+		int ncol = mb.getNumColumns();
+		writer.start();
+		for( int rl=0; rl<nrow; rl+=DEFAULT_BATCH_SIZE ) {
+			int len = Math.min(DEFAULT_BATCH_SIZE, nrow - rl);
+			//transpose the row batch into column buffers in a single pass
+			double[][] cols = new double[ncol][len];
+			if( mb.isInSparseFormat() && !mb.isEmptyBlock(false) ) {
+				SparseBlock a = mb.getSparseBlock();
+				for( int i=rl; i<rl+len; i++ ) {
+					if( a.isEmpty(i) ) continue;
+					int apos = a.pos(i);
+					int alen = a.size(i);
+					int[] aix = a.indexes(i);
+					double[] avals = a.values(i);
+					for( int k=apos; k<apos+alen; k++ )
+						cols[aix[k]][i-rl] = avals[k];
+				}
+			}
+			else if( !mb.isEmptyBlock(false) ) {
+				DenseBlock a = mb.getDenseBlock();
+				for( int i=rl; i<rl+len; i++ ) {
+					double[] avals = a.values(i);
+					int apos = a.pos(i);
+					for( int j=0; j<ncol; j++ )
+						cols[j][i-rl] = avals[apos+j];
+				}
+			}
+			for( int j=0; j<ncol; j++ ) {
+				FieldVector vec = vectors.get(j);
+				getDataBuffer(vec, len, Double.BYTES).asDoubleBuffer().put(cols[j]);
+				vec.setValueCount(len);
+			}
+			root.setRowCount(len);
+			writer.writeBatch();
+		}
+		writer.end();
+	}
+
+	private static ByteBuffer getDataBuffer(FieldVector vec, int len, int width) {
+		//allocate vector without nulls, and expose its data buffer for bulk writes
+		BaseFixedWidthVector fvec = (BaseFixedWidthVector) vec;
+		fvec.allocateNew(len);
+		for( int i=0; i<len; i++ )
+			fvec.setIndexDefined(i);
+		return readDataBuffer(fvec, len, width);
+	}
+
+	private static ByteBuffer readDataBuffer(FieldVector vec, int len, int width) {
+		//arrow buffers are little-endian independent of the platform
+		return vec.getDataBuffer().nioBuffer(0, len * width).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static FrameBlock readFrame(ArrowReader reader) throws IOException {
+		VectorSchemaRoot root = reader.getVectorSchemaRoot();
+		List<Field> fields = root.getSchema().getFields();
+		ValueType[] schema = new ValueType[fields.size()];
+		String[] names = new String[fields.size()];
+		for( int j=0; j<fields.size(); j++ ) {
+			schema[j] = getValueType(fields.get(j).getType());
+			names[j] = fields.get(j).getName();
+		}
+
+		//read record batches into primitive column arrays
+		List<FrameBlock> batches = new ArrayList<>();
+		long nrow = 0;
+		while( reader.loadNextBatch() ) {
+			int len = root.getRowCount();
+			FrameBlock batch = new FrameBlock(schema, names);
+			batch.ensureAllocatedColumns(len);
+			for( int j=0; j<schema.length; j++ )
+				readColumn(root.getVector(j), schema[j], batch.getColumnData(j), 0, len);
+			batches.add(batch);
+			nrow += len;
+		}
+		if( nrow > Integer.MAX_VALUE )
+			throw new DMLRuntimeException("Arrow input of "+nrow+" rows exceeds the maximum frame size.");
+
+		//concatenate record batches if necessary
+		if( batches.size() == 1 )
+			return batches.get(0);
+		FrameBlock ret = new FrameBlock(schema, names);
+		ret.ensureAllocatedColumns((int)nrow);
+		int off = 0;
+		for( FrameBlock batch : batches ) {
+			for( int j=0; j<schema.length; j++ )
+				System.arraycopy(batch.getColumnData(j), 0, ret.getColumnData(j), off, batch.getNumRows());
+			off += batch.getNumRows();
+		}
+		return ret;
+	}
+
+	private static void readColumn(FieldVector vec, ValueType vt, Object dest, int off, int len) {
+		boolean bulk = vec.getNullCount() == 0;
+		switch( vt ) {
+			case FP64: {
+				Float8Vector dvec = (Float8Vector) vec;
+				double[] col = (double[]) dest;
+				if( bulk )
+					readDataBuffer(dvec, len, Double.BYTES).asDoubleBuffer().get(col, off, len);
+				else
+					for( int i=0; i<len; i++ )
+						col[off+i] = dvec.isNull(i) ? 0 : dvec.get(i);
+				break;
+			}
+			case FP32: {
+				Float4Vector fvec = (Float4Vector) vec;
+				float[] col = (float[]) dest;
+				if( bulk )
+					readDataBuffer(fvec, len, Float.BYTES).asFloatBuffer().get(col, off, len);
+				else
+					for( int i=0; i<len; i++ )
+						col[off+i] = fvec.isNull(i) ? 0 : fvec.get(i);
+				break;
+			}
+			case INT64: {
+				BigIntVector lvec = (BigIntVector) vec;
+				long[] col = (long[]) dest;
+				if( bulk )
+					readDataBuffer(lvec, len, Long.BYTES).asLongBuffer().get(col, off, len);
+				else
+					for( int i=0; i<len; i++ )
+						col[off+i] = lvec.isNull(i) ? 0 : lvec.get(i);
+				break;
+			}
+			case INT32: {
+				IntVector ivec = (IntVector) vec;
+				int[] col = (int[]) dest;
+				if( bulk )
+					readDataBuffer(ivec, len, Integer.BYTES).asIntBuffer().get(col, off, len);
+				else
+					for( int i=0; i<len; i++ )
+						col[off+i] = ivec.isNull(i) ? 0 : ivec.get(i);
+				break;
+			}
+			case BOOLEAN: {
+				BitVector bvec = (BitVector) vec;
+				boolean[] col = (boolean[]) dest;
+				for( int i=0; i<len; i++ )
+					col[off+i] = !bvec.isNull(i) && bvec.get(i) == 1;
+				break;
+			}
+			default: {
+				String[] col = (String[]) dest;
+				if( vec instanceof VarCharVector ) {
+					VarCharVector svec = (VarCharVector) vec;
+					for( int i=0; i<len; i++ )
+						col[off+i] = svec.isNull(i) ? null :
+							new String(svec.get(i), StandardCharsets.UTF_8);
+				}
+				else {
+					//generic fallback for other arrow types (e.g., dates, decimals)
+					for( int i=0; i<len; i++ ) {
+						Object val = vec.getObject(i);
+						col[off+i] = (val != null) ? val.toString() : null;
+					}
+				}
+			}
+		}
+	}
+
+	private static MatrixBlock readMatrix(ArrowReader reader) throws IOException {
+		VectorSchemaRoot root = reader.getVectorSchemaRoot();
+		List<Field> fields = root.getSchema().getFields();
+		int ncol = fields.size();
+		ValueType[] schema = new ValueType[ncol];
+		for( int j=0; j<ncol; j++ ) {
+			schema[j] = getValueType(fields.get(j).getType());
+			if( schema[j] == ValueType.STRING )
+				throw new DMLRuntimeException("Unsupported arrow type for matrix conversion: "
+					+ fields.get(j).getName() + " (" + fields.get(j).getType() + ")");
+		}
+
+		//read record batches into FP64 column arrays
+		List<double[][]> batches = new ArrayList<>();
+		long nrow = 0;
+		while( reader.loadNextBatch() ) {
+			int len = root.getRowCount();
+			double[][] cols = new double[ncol][];
+			for( int j=0; j<ncol; j++ )
+				cols[j] = readDoubleColumn(root.getVector(j), schema[j], len);
+			batches.add(cols);
+			nrow += len;
+		}
+		if( nrow > Integer.MAX_VALUE )
+			throw new DMLRuntimeException("Arrow input of "+nrow+" rows exceeds the maximum matrix size.");
+
+		//transpose column batches into the row-major dense block
+		MatrixBlock ret = new MatrixBlock((int)nrow, ncol, false);
+		if( nrow == 0 || ncol == 0 )
+			return ret;
+		ret.allocateDenseBlock();
+		DenseBlock c = ret.getDenseBlock();
+		int off = 0;
+		for( double[][] cols : batches ) {
+			int len = cols[0].length;
+			for( int i=0; i<len; i++ ) {
+				double[] cvals = c.values(off+i);
+				int cpos = c.pos(off+i);
+				for( int j=0; j<ncol; j++ )
+					cvals[cpos+j] = cols[j][i];
+			}
+			off += len;
+		}
+		ret.recomputeNonZeros();
+		ret.examSparsity();
+		return ret;
+	}
+
+	private static double[] readDoubleColumn(FieldVector vec, ValueType vt, int len) {
+		if( vt == ValueType.FP64 ) {
+			double[] ret = new double[len];
+			readColumn(vec, vt, ret, 0, len);
+			return ret;
+		}
+		double[] ret = new double[len];
+		for( int i=0; i<len; i++ ) {
+			if( vec.isNull(i) ) continue;
+			switch( vt ) {
+				case FP32:    ret[i] = ((Float4Vector)vec).get(i); break;
+				case INT64:   ret[i] = ((BigIntVector)vec).get(i); break;
+				case INT32:   ret[i] = ((IntVector)vec).get(i); break;
+				case BOOLEAN: ret[i] = ((BitVector)vec).get(i); break;
+				default: throw new DMLRuntimeException("Unsupported value type: " + vt);
+			}
+		}
+		return ret;
+	}
+}
@@ -28,9 +28,12 @@ import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
@@ -44,6 +47,10 @@ import org.apache.sysds.lops.Lop;
 import org.apache.sysds.runtime.DMLRuntimeException;
 import org.apache.sysds.runtime.controlprogram.caching.CacheBlock;
 import org.apache.sysds.runtime.controlprogram.parfor.util.IDSequence;
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFP64;
+import org.apache.sysds.runtime.data.DenseBlockFP64Off;
+import org.apache.sysds.runtime.data.DenseBlockFactory;
 import org.apache.sysds.runtime.io.IOUtilFunctions;
 import org.apache.sysds.runtime.matrix.data.FrameBlock;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
@@ -55,6 +62,11 @@ public class LocalFileUtils
 {
 	public static final int BUFFER_SIZE = 8192;
 	
+	//header of memory-mapped matrix files (magic, rows, cols, pad, nnz), where the
+	//negative magic distinguishes them from serialized blocks starting with rows
+	private static final int MMAP_MAGIC = 0xDA7A0F64;
+	private static final int MMAP_HEADER_SIZE = 24;
+	
 	//unique IDs per JVM for tmp files
 	private static IDSequence _seq = null;
 	private static String _workingDir = null;
@@ -113,6 +125,41 @@ public class LocalFileUtils
 		return (CacheBlock) readWritableFromLocal(fname, matrix?new MatrixBlock():new FrameBlock());
 	}
 	
+	/**
+	 * Reads a dense matrix block from a memory-mapped local file written via
+	 * {@link #writeMatrixBlockToLocalMapped(String, MatrixBlock)}. The mapped
+	 * region becomes the storage of the returned block (zero-copy), and updates
+	 * of this block are private (copy-on-write), i.e., never written back.
+	 * 
+	 * @param fname file name to read
+	 * @return matrix block, or null if the file is not a memory-mapped matrix file
+	 * @throws IOException if IOException occurs
+	 */
+	public static MatrixBlock readMatrixBlockFromLocalMapped(String fname) throws IOException {
+		//note: private mappings require a channel opened for read and write
+		try( RandomAccessFile raf = new RandomAccessFile(fname, "rw") ) {
+			FileChannel ch = raf.getChannel();
+			ByteBuffer header = ByteBuffer.allocate(MMAP_HEADER_SIZE);
+			while( header.hasRemaining() )
+				if( ch.read(header, header.position()) < 0 )
+					return null;
+			header.flip();
+			if( header.getInt() != MMAP_MAGIC )
+				return null;
+			int rlen = header.getInt();
+			int clen = header.getInt();
+			header.getInt(); //padding
+			long nnz = header.getLong();
+			
+			//the mapping remains valid after the channel is closed
+			DenseBlock db = DenseBlockFP64Off.mapFile(ch,
+				MMAP_HEADER_SIZE, new int[]{rlen, clen}, MapMode.PRIVATE);
+			MatrixBlock ret = new MatrixBlock(rlen, clen, db);
+			ret.setNonZeros(nnz);
+			return ret;
+		}
+	}
+	
 	/**
 	 * Reads an arbitrary writable from local file system, using a fused buffered reader
 	 * with special support for matrix blocks.
@@ -220,6 +267,53 @@ public class LocalFileUtils
 		writeWritableToLocal(fname, cb);
 	}
 	
+	/**
+	 * Indicates if the given cache block is a large, single-block dense FP64 
+	 * matrix block, which can be written to a memory-mapped local file.
+	 * 
+	 * @param cb cache block
+	 * @return true if the block qualifies for memory-mapped files
+	 */
+	public static boolean isMappableCacheBlock(CacheBlock cb) {
+		if( cb == null || cb.getClass() != MatrixBlock.class )
+			return false;
+		MatrixBlock mb = (MatrixBlock) cb;
+		DenseBlock db = mb.getDenseBlock();
+		return !mb.isInSparseFormat() && db != null && mb.getNonZeros() != 0
+			&& (db instanceof DenseBlockFP64 || db instanceof DenseBlockFP64Off)
+			&& mb.getLength() >= DenseBlockFactory.OFFHEAP_MIN_CELLS;
+	}
+	
+	/**
+	 * Writes a dense matrix block into a memory-mapped local file, consisting
+	 * of a small header and the raw values in native byte order. An existing file
+	 * is deleted first, which keeps blocks that are still mapped from this file
+	 * intact (on POSIX file systems) instead of overwriting their storage.
+	 * 
+	 * @param fname file name to write
+	 * @param mb dense matrix block (see {@link #isMappableCacheBlock(CacheBlock)})
+	 * @throws IOException if IOException occurs
+	 */
+	public static void writeMatrixBlockToLocalMapped(String fname, MatrixBlock mb) throws IOException {
+		Files.deleteIfExists(Paths.get(fname));
+		int rlen = mb.getNumRows();
+		int clen = mb.getNumColumns();
+		try( RandomAccessFile raf = new RandomAccessFile(fname, "rw") ) {
+			raf.setLength(MMAP_HEADER_SIZE + 8L * rlen * clen);
+			FileChannel ch = raf.getChannel();
+			ByteBuffer header = ByteBuffer.allocate(MMAP_HEADER_SIZE);
+			header.putInt(MMAP_MAGIC).putInt(rlen).putInt(clen)
+				.putInt(0).putLong(mb.getNonZeros());
+			header.flip();
+			while( header.hasRemaining() )
+				ch.write(header, header.position());
+			
+			//copy values into the mapped region, flushed by the OS page cache
+			DenseBlockFP64Off.mapFile(ch, MMAP_HEADER_SIZE,
+				new int[]{rlen, clen}, MapMode.READ_WRITE).set(mb.getDenseBlock());
+		}
+	}
+	
 	/**
 	 * Writes an arbitrary writable to local file system, using a fused buffered writer
 	 * with special support for matrix blocks.
@@ -245,6 +339,12 @@ public class LocalFileUtils
 
 	public static void writeByteArrayToLocal( String fname, byte[] data )
 		throws IOException
+	{
+		writeByteArrayToLocal(fname, data, data.length);
+	}
+	
+	public static void writeByteArrayToLocal( String fname, byte[] data, int len )
+		throws IOException
 	{	
 		//byte array write via java.nio file channel ~10-15% faster than java.io
 		FileChannel channel = null;
@@ -252,7 +352,7 @@ public class LocalFileUtils
 			Path path = Paths.get(fname);
 			channel = FileChannel.open(path, StandardOpenOption.CREATE, 
 				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
-			channel.write(ByteBuffer.wrap(data));
+			channel.write(ByteBuffer.wrap(data, 0, len));
 		}
 		finally {
 			IOUtilFunctions.closeSilently(channel);
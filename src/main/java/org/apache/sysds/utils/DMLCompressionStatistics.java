@@ -79,7 +79,7 @@ public class DMLCompressionStatistics {
 	public static void display(StringBuilder sb) {
 		
 		sb.append(String.format(
-			"CLA Compression Phases :\t%.3f/%.3f/%.3f/%.3f/%.3f/%.3f\n",
+			"CLA Compression Phases (Classify/Grouping/Transpose/Compress/Share/Cleanup) :\t%.3f/%.3f/%.3f/%.3f/%.3f/%.3f\n",
 			Phase0 / 1000,
 			Phase1 / 1000,
 			Phase2 / 1000,
@@ -55,6 +55,7 @@ setup(
     author_email='dev@systemds.apache.org',
     packages=find_packages(),
     install_requires=REQUIRED_PACKAGES,
+    extras_require={'arrow': ['pyarrow >= 1.0.1', 'pandas']},
     include_package_data=True,
     python_requires='>=3.6',
     platforms=['Microsoft :: Windows', 'POSIX', 'Unix', 'MacOS'],
@@ -71,3 +71,78 @@ def matrix_block_to_numpy(jvm: JVMView, mb: JavaObject):
     buf = jvm.org.apache.sysds.runtime.util.Py4jConverterUtils.convertMBtoPy4JDenseArr(
         mb)
     return np.frombuffer(buf, count=num_ros * num_cols, dtype=np.float64).reshape((num_ros, num_cols))
+
+
+def _arrow_to_ipc_bytes(table: 'pa.Table') -> bytearray:
+    import pyarrow as pa
+    sink = pa.BufferOutputStream()
+    writer = pa.RecordBatchStreamWriter(sink, table.schema)
+    writer.write_table(table)
+    writer.close()
+    return bytearray(sink.getvalue().to_pybytes())
+
+
+def _ipc_bytes_to_arrow(buf: bytes) -> 'pa.Table':
+    import pyarrow as pa
+    return pa.ipc.open_stream(pa.py_buffer(buf)).read_all()
+
+
+def arrow_to_frame_block(sds: 'SystemDSContext', table):
+    """Converts a given arrow table (or pandas data frame), to internal frame block representation.
+    The columns are handed over in Arrow IPC stream format, which avoids per-cell
+    conversions to strings.
+
+    :param sds: The current systemds context.
+    :param table: the pyarrow table or pandas data frame to convert to frameblock.
+    """
+    import pyarrow as pa
+    if not isinstance(table, pa.Table):
+        table = pa.Table.from_pandas(table, preserve_index=False)
+    buf = _arrow_to_ipc_bytes(table)
+
+    # Send data to java.
+    try:
+        j_class: JavaClass = sds.java_gateway.jvm.org.apache.sysds.runtime.util.ArrowConverterUtils
+        return j_class.convertArrowToFrame(buf)
+    except Exception as e:
+        sds.exception_and_close(e)
+
+
+def frame_block_to_arrow(jvm: JVMView, fb: JavaObject):
+    """Converts a FrameBlock object in the JVM to a pyarrow table.
+
+    :param jvm: The current JVM instance running systemds.
+    :param fb: A pointer to the JVM's FrameBlock object.
+    """
+    buf = jvm.org.apache.sysds.runtime.util.ArrowConverterUtils.convertFrameToArrow(fb)
+    return _ipc_bytes_to_arrow(buf)
+
+
+def arrow_to_matrix_block(sds: 'SystemDSContext', table):
+    """Converts a given arrow table (or pandas data frame) with numeric columns,
+    to internal matrix block representation.
+
+    :param sds: The current systemds context.
+    :param table: the pyarrow table or pandas data frame to convert to matrixblock.
+    """
+    import pyarrow as pa
+    if not isinstance(table, pa.Table):
+        table = pa.Table.from_pandas(table, preserve_index=False)
+    buf = _arrow_to_ipc_bytes(table)
+
+    # Send data to java.
+    try:
+        j_class: JavaClass = sds.java_gateway.jvm.org.apache.sysds.runtime.util.ArrowConverterUtils
+        return j_class.convertArrowToMatrix(buf)
+    except Exception as e:
+        sds.exception_and_close(e)
+
+
+def matrix_block_to_arrow(jvm: JVMView, mb: JavaObject):
+    """Converts a MatrixBlock object in the JVM to a pyarrow table with one float64 column per matrix column.
+
+    :param jvm: The current JVM instance running systemds.
+    :param mb: A pointer to the JVM's MatrixBlock object.
+    """
+    buf = jvm.org.apache.sysds.runtime.util.ArrowConverterUtils.convertMatrixToArrow(mb)
+    return _ipc_bytes_to_arrow(buf)
@@ -0,0 +1,87 @@
+# -------------------------------------------------------------
+#
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#   http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+#
+# -------------------------------------------------------------
+
+
+
+import unittest
+
+import numpy as np
+import pyarrow as pa
+from systemds.context import SystemDSContext
+from systemds.utils.converters import (arrow_to_frame_block,
+                                       arrow_to_matrix_block,
+                                       frame_block_to_arrow,
+                                       matrix_block_to_arrow)
+
+
+class Test_ArrowConverter(unittest.TestCase):
+    """Test class for exchanging frame and matrix blocks in Arrow IPC format
+    """
+
+    sds: SystemDSContext = None
+
+    @classmethod
+    def setUpClass(cls):
+        cls.sds = SystemDSContext()
+
+    @classmethod
+    def tearDownClass(cls):
+        cls.sds.close()
+
+    def test_frame_types(self):
+        table = pa.table({
+            'd': pa.array([1.5, -2.25, 3.0], type=pa.float64()),
+            'f': pa.array([0.5, 1.0, 2.0], type=pa.float32()),
+            'l': pa.array([7, 2 ** 40, -3], type=pa.int64()),
+            'i': pa.array([1, 2, 3], type=pa.int32()),
+            'b': pa.array([True, False, True]),
+            's': pa.array(['a', None, 'ccc'])})
+        frame_block = arrow_to_frame_block(self.sds, table)
+        self.assertEqual(3, frame_block.getNumRows())
+        self.assertEqual(6, frame_block.getNumColumns())
+        returned = frame_block_to_arrow(self.sds.java_gateway.jvm, frame_block)
+        self.assertTrue(table.equals(returned))
+
+    def test_frame_random(self):
+        rng = np.random.default_rng(seed=7)
+        n = 1000
+        table = pa.table({
+            'x': pa.array(rng.standard_normal(n)),
+            'y': pa.array(rng.integers(0, 100, n), type=pa.int64()),
+            'z': pa.array([str(v) for v in rng.integers(0, 10, n)])})
+        returned = frame_block_to_arrow(self.sds.java_gateway.jvm,
+                                        arrow_to_frame_block(self.sds, table))
+        self.assertTrue(table.equals(returned))
+
+    def test_matrix(self):
+        rng = np.random.default_rng(seed=7)
+        array = rng.standard_normal((100, 4))
+        table = pa.table({'C' + str(j + 1): pa.array(array[:, j]) for j in range(4)})
+        matrix_block = arrow_to_matrix_block(self.sds, table)
+        self.assertEqual(100, matrix_block.getNumRows())
+        self.assertEqual(4, matrix_block.getNumColumns())
+        returned = matrix_block_to_arrow(self.sds.java_gateway.jvm, matrix_block)
+        self.assertTrue(np.allclose(array, np.column_stack(
+            [returned.column(j).to_numpy() for j in range(4)])))
+
+
+if __name__ == "__main__":
+    unittest.main(exit=False)
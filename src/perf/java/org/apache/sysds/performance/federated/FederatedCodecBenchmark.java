@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.federated;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.conf.ConfigurationManager;
+import org.apache.sysds.conf.DMLConfig;
+import org.apache.sysds.performance.matrix.MatrixBlockState;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedData;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedWorker;
+import org.apache.sysds.runtime.controlprogram.federated.FederationUtils;
+import org.apache.sysds.runtime.instructions.cp.DoubleObject;
+import org.apache.sysds.runtime.instructions.cp.VariableCPInstruction;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Round-trip latency and throughput of federated requests against a local
+ * federated worker (same JVM), comparing Java serialization with the binary
+ * codec with and without LZ4 compression. Every operation sends a block to
+ * the worker, fetches it back, and removes it again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class FederatedCodecBenchmark {
+	@Param({"java", "binary", "binary_lz4"})
+	public String codec;
+
+	@Param({"10x10", "10000x100", "1000x1000"})
+	public String shape;
+
+	@Param({"1.0", "0.1"})
+	public double sparsity;
+
+	private InetSocketAddress address;
+	private Thread worker;
+	private MatrixBlock X;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		DMLConfig conf = new DMLConfig();
+		conf.setTextValue(DMLConfig.FEDERATED_BINARY_CODEC, String.valueOf(!codec.equals("java")));
+		conf.setTextValue(DMLConfig.FEDERATED_LZ4, String.valueOf(codec.endsWith("lz4")));
+		ConfigurationManager.setGlobalConfig(conf);
+
+		String[] parts = shape.split("x");
+		X = MatrixBlockState.generate(Integer.parseInt(parts[0]),
+			Integer.parseInt(parts[1]), sparsity, "DENSE", MatrixBlockState.SEED);
+		if(sparsity < 0.4)
+			X.examSparsity();
+
+		int port = getFreePort();
+		address = new InetSocketAddress("localhost", port);
+		worker = new Thread(() -> {
+			try {
+				new FederatedWorker(port).run();
+			}
+			catch(Exception ex) {
+				throw new RuntimeException(ex);
+			}
+		});
+		worker.setDaemon(true);
+		worker.start();
+		waitForWorker(port);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		worker.interrupt();
+	}
+
+	@Benchmark
+	public Object roundTripMatrix() throws Exception {
+		return roundTrip(X);
+	}
+
+	@Benchmark
+	public Object roundTripScalar() throws Exception {
+		return roundTrip(new DoubleObject(7));
+	}
+
+	private Object roundTrip(Object data) throws Exception {
+		long id = FederationUtils.getNextFedDataID();
+		FederatedRequest put = new FederatedRequest(RequestType.PUT_VAR, id, data);
+		FederatedRequest get = new FederatedRequest(RequestType.GET_VAR, id);
+		FederatedRequest rm = new FederatedRequest(RequestType.EXEC_INST, -1,
+			VariableCPInstruction.prepareRemoveInstruction(id).toString());
+		FederatedResponse response = FederatedData.executeFederatedOperation(address, put, get, rm).get();
+		return response.getData()[0];
+	}
+
+	private static int getFreePort() throws IOException {
+		try(ServerSocket s = new ServerSocket(0)) {
+			return s.getLocalPort();
+		}
+	}
+
+	private static void waitForWorker(int port) throws InterruptedException {
+		for(int i = 0; i < 100; i++) {
+			try(Socket s = new Socket("localhost", port)) {
+				return;
+			}
+			catch(IOException ex) {
+				Thread.sleep(100);
+			}
+		}
+		throw new RuntimeException("Federated worker did not start at port " + port);
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.matrix;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
+import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks for the cellwise kernels in LibMatrixBincell, covering
+ * matrix-scalar, matrix-matrix, and matrix-vector (row and column vector)
+ * binary operations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class MatrixBincellBenchmark extends MatrixBlockState {
+	@Param({"+", "*", "/", ">"})
+	public String opcode;
+
+	private MatrixBlock Y;
+	private MatrixBlock rowVect;
+	private MatrixBlock colVect;
+	private BinaryOperator bop;
+	private ScalarOperator sop;
+
+	@Setup(Level.Trial)
+	public void setupOperands() {
+		Y = generate(rows, cols, sparsity, format, SEED + 1);
+		rowVect = generate(1, cols, 1.0, "DENSE", SEED + 2);
+		colVect = generate(rows, 1, 1.0, "DENSE", SEED + 3);
+		bop = InstructionUtils.parseBinaryOperator(opcode);
+		sop = InstructionUtils.parseScalarBinaryOperator(opcode, false, 7);
+	}
+
+	@Benchmark
+	public MatrixBlock matrixScalar() {
+		return X.scalarOperations(sop, new MatrixBlock());
+	}
+
+	@Benchmark
+	public MatrixBlock matrixMatrix() {
+		return X.binaryOperations(bop, Y, new MatrixBlock());
+	}
+
+	@Benchmark
+	public MatrixBlock matrixRowVector() {
+		return X.binaryOperations(bop, rowVect, new MatrixBlock());
+	}
+
+	@Benchmark
+	public MatrixBlock matrixColVector() {
+		return X.binaryOperations(bop, colVect, new MatrixBlock());
+	}
+}
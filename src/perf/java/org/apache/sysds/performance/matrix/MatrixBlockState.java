@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.sysds.performance.matrix;
+
+import org.apache.sysds.runtime.data.SparseBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark state that generates the input matrix block of a given
+ * shape, sparsity and physical format (dense, or one of the sparse block
+ * types MCSR, CSR, COO). All kernel benchmarks extend this state in order
+ * to obtain a consistent parameter space across releases.
+ */
+@State(Scope.Benchmark)
+public class MatrixBlockState {
+	public static final long SEED = 7;
+
+	@Param({"DENSE", "MCSR", "CSR", "COO"})
+	public String format;
+
+	@Param({"10000x100", "1000x1000", "100000x10"})
+	public String shape;
+
+	@Param({"1.0", "0.1", "0.01"})
+	public double sparsity;
+
+	@Param({"1", "8"})
+	public int k;
+
+	protected int rows;
+	protected int cols;
+	protected MatrixBlock X;
+
+	@Setup(Level.Trial)
+	public void setupInput() {
+		String[] parts = shape.split("x");
+		rows = Integer.parseInt(parts[0]);
+		cols = Integer.parseInt(parts[1]);
+		X = generate(rows, cols, sparsity, format, SEED);
+	}
+
+	/**
+	 * Generates a uniform random matrix block and converts it into the
+	 * requested physical representation, independent of the in-memory
+	 * format the sparsity would normally imply.
+	 *
+	 * @param rows     number of rows
+	 * @param cols     number of columns
+	 * @param sparsity fraction of non-zero values
+	 * @param format   DENSE or a sparse block type (MCSR, CSR, COO)
+	 * @param seed     random seed
+	 * @return matrix block in the requested format
+	 */
+	public static MatrixBlock generate(int rows, int cols, double sparsity, String format, long seed) {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", seed);
+		if(format.equals("DENSE")) {
+			if(mb.isInSparseFormat())
+				mb.sparseToDense();
+			return mb;
+		}
+		SparseBlock.Type type = SparseBlock.Type.valueOf(format);
+		if(!mb.isInSparseFormat()) {
+			//force sparse representation for the given sparse block type
+			MatrixBlock tmp = new MatrixBlock(rows, cols, true);
+			tmp.allocateSparseRowsBlock();
+			for(int i = 0; i < rows; i++)
+				for(int j = 0; j < cols; j++)
+					tmp.appendValue(i, j, mb.quickGetValue(i, j));
+			mb = tmp;
+		}
+		return new MatrixBlock(mb, type, true);
+	}
+}
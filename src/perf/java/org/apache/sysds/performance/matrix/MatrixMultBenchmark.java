@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.performance.matrix;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.lops.MapMultChain.ChainType;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks for the matrix multiplication kernels in LibMatrixMult:
+ * matrix-vector, matrix-matrix, transpose-self (tsmm), and matrix
+ * multiplication chains (mmchain).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class MatrixMultBenchmark extends MatrixBlockState {
+	private MatrixBlock v;
+	private MatrixBlock w;
+	private MatrixBlock Y;
+
+	@Setup(Level.Trial)
+	public void setupOperands() {
+		v = generate(cols, 1, 1.0, "DENSE", SEED + 1);
+		w = generate(rows, 1, 1.0, "DENSE", SEED + 2);
+		Y = generate(cols, 100, 1.0, "DENSE", SEED + 3);
+	}
+
+	@Benchmark
+	public MatrixBlock matVectMult() {
+		MatrixBlock ret = new MatrixBlock(rows, 1, false);
+		LibMatrixMult.matrixMult(X, v, ret, k);
+		return ret;
+	}
+
+	@Benchmark
+	public MatrixBlock matMatMult() {
+		MatrixBlock ret = new MatrixBlock(rows, Y.getNumColumns(), false);
+		LibMatrixMult.matrixMult(X, Y, ret, k);
+		return ret;
+	}
+
+	@Benchmark
+	public MatrixBlock tsmmLeft() {
+		MatrixBlock ret = new MatrixBlock(cols, cols, false);
+		LibMatrixMult.matrixMultTransposeSelf(X, ret, true, k);
+		return ret;
+	}
+
+	@Benchmark
+	public MatrixBlock mmchainXtXv() {
+		MatrixBlock ret = new MatrixBlock(cols, 1, false);
+		LibMatrixMult.matrixMultChain(X, v, null, ret, ChainType.XtXv, k);
+		return ret;
+	}
+
+	@Benchmark
+	public MatrixBlock mmchainXtwXv() {
+		MatrixBlock ret = new MatrixBlock(cols, 1, false);
+		LibMatrixMult.matrixMultChain(X, v, w, ret, ChainType.XtwXv, k);
+		return ret;
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.compress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.lib.LibSlice;
+import org.apache.sysds.runtime.instructions.spark.data.PartitionedBlock;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixReaderFactory;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.junit.Test;
+
+/**
+ * Verify that slices of compressed matrix blocks are written into the given output block, which is used by the
+ * block-wise writers and other callers that ignore the returned block.
+ */
+public class CompressedSliceWriteTest {
+
+	private static final String TEST_DIR = "target/testTemp/component/compress/CompressedSliceWriteTest/";
+	private static final int rows = 2500;
+	private static final int cols = 7;
+	private static final int blen = 1000;
+
+	@Test
+	public void testSliceRowsIntoOutput() {
+		testSliceIntoOutput(1000, 1999, 0, cols - 1);
+	}
+
+	@Test
+	public void testSliceColumnsIntoOutput() {
+		testSliceIntoOutput(0, rows - 1, 2, 4);
+	}
+
+	@Test
+	public void testSliceRowsColumnsIntoOutput() {
+		testSliceIntoOutput(17, 1234, 1, 5);
+	}
+
+	@Test
+	public void testWriteReadBinaryMultiBlock() throws IOException {
+		MatrixBlock mb = generateCategorical(rows, 5, 7);
+		CompressedMatrixBlock cmb = compress(mb);
+		String fname = TEST_DIR + "compressed";
+		MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(FileFormat.BINARY);
+		writer.writeMatrixToHDFS(cmb, fname, rows, cols, blen, cmb.getNonZeros());
+		MatrixReader reader = MatrixReaderFactory.createMatrixReader(FileFormat.BINARY);
+		MatrixBlock ret = reader.readMatrixFromHDFS(fname, rows, cols, blen, mb.getNonZeros());
+		compare(mb, ret);
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+	}
+
+	@Test
+	public void testSliceCompressedNonZeros() {
+		MatrixBlock mb = generateCategorical(rows, 4, 13, 0);
+		CompressedMatrixBlock cmb = compress(mb);
+		MatrixBlock slice = LibSlice.sliceCompressed(cmb, 17, 1234, 1, 5);
+		MatrixBlock expected = mb.slice(17, 1234, 1, 5, new MatrixBlock());
+		assertEquals(expected.getNonZeros(), slice.getNonZeros());
+		compare(expected, slice);
+	}
+
+	@Test
+	public void testPartitionedBlockDecompressed() {
+		CompressedMatrixBlock cmb = compress(generateCategorical(rows, 5, 7));
+		// default partitioning hands out uncompressed blocks to all consumers
+		PartitionedBlock<MatrixBlock> pmb = new PartitionedBlock<>(cmb, blen);
+		for(int i = 1; i <= pmb.getNumRowBlocks(); i++)
+			assertFalse(pmb.getBlock(i, 1) instanceof CompressedMatrixBlock);
+		// compressed partitioning only on request (e.g., broadcasts of mapmm)
+		PartitionedBlock<MatrixBlock> cpmb = new PartitionedBlock<>(cmb, blen, true);
+		for(int i = 1; i <= cpmb.getNumRowBlocks(); i++) {
+			assertTrue(cpmb.getBlock(i, 1) instanceof CompressedMatrixBlock);
+			compare(pmb.getBlock(i, 1), cpmb.getBlock(i, 1));
+		}
+	}
+
+	private static void testSliceIntoOutput(int rl, int ru, int cl, int cu) {
+		MatrixBlock mb = generateCategorical(rows, 5, 11);
+		CompressedMatrixBlock cmb = compress(mb);
+		MatrixBlock expected = mb.slice(rl, ru, cl, cu, new MatrixBlock());
+		// reused output block of different shape, as in the block-wise writers
+		MatrixBlock out = new MatrixBlock(3, 3, false);
+		out.allocateDenseBlock();
+		cmb.slice(rl, ru, cl, cu, out);
+		compare(expected, out);
+		assertEquals(expected.getNonZeros(), out.getNonZeros());
+	}
+
+	private static CompressedMatrixBlock compress(MatrixBlock mb) {
+		MatrixBlock ret = CompressedMatrixBlockFactory.compress(mb).getLeft();
+		assertTrue("Compression was aborted", ret instanceof CompressedMatrixBlock);
+		return (CompressedMatrixBlock) ret;
+	}
+
+	private static void compare(MatrixBlock expected, MatrixBlock actual) {
+		assertEquals(expected.getNumRows(), actual.getNumRows());
+		assertEquals(expected.getNumColumns(), actual.getNumColumns());
+		for(int i = 0; i < expected.getNumRows(); i++)
+			for(int j = 0; j < expected.getNumColumns(); j++)
+				assertEquals(expected.quickGetValue(i, j), actual.quickGetValue(i, j), 1e-10);
+	}
+
+	private static MatrixBlock generateCategorical(int nrow, int numCategories, long seed) {
+		return generateCategorical(nrow, numCategories, seed, 1);
+	}
+
+	private static MatrixBlock generateCategorical(int nrow, int numCategories, long seed, int min) {
+		Random r = new Random(seed);
+		MatrixBlock mb = new MatrixBlock(nrow, cols, false);
+		mb.allocateDenseBlock();
+		for(int i = 0; i < nrow; i++)
+			for(int j = 0; j < cols; j++)
+				mb.quickSetValue(i, j, r.nextInt(numCategories) + min);
+		mb.recomputeNonZeros();
+		return mb;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.compress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.functionobjects.CM;
+import org.apache.sysds.runtime.functionobjects.KahanPlus;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.AggregateOperator;
+import org.apache.sysds.runtime.matrix.operators.CMOperator;
+import org.apache.sysds.runtime.matrix.operators.CMOperator.AggregateOperationTypes;
+import org.apache.sysds.runtime.matrix.operators.Operator;
+import org.junit.Test;
+
+/**
+ * Verify contingency tables and grouped aggregates over compressed categorical columns against the uncompressed
+ * results.
+ */
+public class CompressedTableTest {
+
+	private static final int rows = 10000;
+
+	@Test
+	public void testHistogram() {
+		MatrixBlock a = generateCategorical(5, 7);
+		CompressedMatrixBlock ca = compress(a);
+		MatrixBlock expected = new MatrixBlock(5, 2, false);
+		a.ctableOperations(null, 2, 1.5, null, expected);
+		MatrixBlock actual = new MatrixBlock(5, 2, false);
+		ca.ctableOperations(null, 2, 1.5, null, actual);
+		compare(expected, actual);
+	}
+
+	@Test
+	public void testWeightedHistogram() {
+		MatrixBlock a = generateCategorical(5, 11);
+		MatrixBlock w = MatrixBlock.randOperations(rows, 1, 1.0, 0, 1, "uniform", 3);
+		CompressedMatrixBlock ca = compress(a);
+		MatrixBlock expected = new MatrixBlock(5, 1, false);
+		a.ctableOperations(null, 1, w, null, expected);
+		MatrixBlock actual = new MatrixBlock(5, 1, false);
+		ca.ctableOperations(null, 1, w, null, actual);
+		compare(expected, actual);
+	}
+
+	@Test
+	public void testContingencyTableBothCompressed() {
+		MatrixBlock a = generateCategorical(5, 13);
+		MatrixBlock b = generateCategorical(3, 17);
+		CompressedMatrixBlock ca = compress(a);
+		CompressedMatrixBlock cb = compress(b);
+		MatrixBlock expected = new MatrixBlock(5, 3, false);
+		a.ctableOperations(null, b, 1, false, null, expected);
+		MatrixBlock actual = new MatrixBlock(5, 3, false);
+		ca.ctableOperations(null, cb, 1, false, null, actual);
+		compare(expected, actual);
+	}
+
+	@Test
+	public void testContingencyTableUncompressedRight() {
+		MatrixBlock a = generateCategorical(5, 19);
+		MatrixBlock b = generateCategorical(4, 23);
+		CompressedMatrixBlock ca = compress(a);
+		MatrixBlock expected = new MatrixBlock(5, 4, false);
+		a.ctableOperations(null, b, 2, false, null, expected);
+		MatrixBlock actual = new MatrixBlock(5, 4, false);
+		ca.ctableOperations(null, b, 2, false, null, actual);
+		compare(expected, actual);
+	}
+
+	@Test
+	public void testGroupedSum() {
+		testGroupedAggregate(new AggregateOperator(0, KahanPlus.getKahanPlusFnObject()), 3);
+	}
+
+	@Test
+	public void testGroupedSumMatrix() {
+		testGroupedAggregate(new AggregateOperator(0, KahanPlus.getKahanPlusFnObject()), 3, 4);
+	}
+
+	@Test
+	public void testGroupedCount() {
+		testGroupedAggregate(getCMOperator(AggregateOperationTypes.COUNT), 6);
+	}
+
+	@Test
+	public void testGroupedMean() {
+		testGroupedAggregate(getCMOperator(AggregateOperationTypes.MEAN), 6);
+	}
+
+	@Test
+	public void testGroupedVariance() {
+		testGroupedAggregate(getCMOperator(AggregateOperationTypes.VARIANCE), -1);
+	}
+
+	private static void testGroupedAggregate(Operator op, int ngroups) {
+		testGroupedAggregate(op, ngroups, 1);
+	}
+
+	private static void testGroupedAggregate(Operator op, int ngroups, int targetCols) {
+		MatrixBlock groups = generateCategorical(6, 29);
+		MatrixBlock target = MatrixBlock.randOperations(rows, targetCols, 0.7, -1, 1, "uniform", 31);
+		CompressedMatrixBlock cgroups = compress(groups);
+		MatrixBlock expected = groups.groupedAggOperations(target, null, new MatrixBlock(), ngroups, op);
+		MatrixBlock actual = cgroups.groupedAggOperations(target, null, new MatrixBlock(), ngroups, op);
+		compare(expected, actual);
+	}
+
+	private static CMOperator getCMOperator(AggregateOperationTypes type) {
+		return new CMOperator(CM.getCMFnObject(type), type);
+	}
+
+	private static CompressedMatrixBlock compress(MatrixBlock mb) {
+		MatrixBlock ret = CompressedMatrixBlockFactory.compress(mb).getLeft();
+		assertTrue("Compression was aborted", ret instanceof CompressedMatrixBlock);
+		return (CompressedMatrixBlock) ret;
+	}
+
+	private static void compare(MatrixBlock expected, MatrixBlock actual) {
+		assertEquals(expected.getNumRows(), actual.getNumRows());
+		assertEquals(expected.getNumColumns(), actual.getNumColumns());
+		for(int i = 0; i < expected.getNumRows(); i++)
+			for(int j = 0; j < expected.getNumColumns(); j++)
+				assertEquals(expected.quickGetValue(i, j), actual.quickGetValue(i, j), 1e-10);
+	}
+
+	private static MatrixBlock generateCategorical(int numCategories, long seed) {
+		Random r = new Random(seed);
+		MatrixBlock mb = new MatrixBlock(rows, 1, false);
+		mb.allocateDenseBlock();
+		for(int i = 0; i < rows; i++)
+			mb.quickSetValue(i, 0, r.nextInt(numCategories) + 1);
+		mb.recomputeNonZeros();
+		return mb;
+	}
+}
@@ -19,9 +19,18 @@
 
 package org.apache.sysds.test.component.compress;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -37,6 +46,9 @@ import org.apache.sysds.runtime.compress.CompressionSettings;
 import org.apache.sysds.runtime.compress.CompressionSettingsBuilder;
 import org.apache.sysds.runtime.compress.CompressionStatistics;
 import org.apache.sysds.runtime.compress.colgroup.ColGroup.CompressionType;
+import org.apache.sysds.runtime.compress.lib.LibSlice;
+import org.apache.sysds.runtime.functionobjects.Builtin;
+import org.apache.sysds.runtime.functionobjects.Builtin.BuiltinCode;
 import org.apache.sysds.runtime.functionobjects.Divide;
 import org.apache.sysds.runtime.functionobjects.Equals;
 import org.apache.sysds.runtime.functionobjects.GreaterThan;
@@ -51,6 +63,9 @@ import org.apache.sysds.runtime.functionobjects.SwapIndex;
 import org.apache.sysds.runtime.functionobjects.ValueFunction;
 import org.apache.sysds.runtime.functionobjects.Xor;
 import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.instructions.spark.data.PartitionedBlock;
+import org.apache.sysds.runtime.io.ReaderCompressed;
+import org.apache.sysds.runtime.io.WriterCompressed;
 import org.apache.sysds.runtime.matrix.data.MatrixBlock;
 import org.apache.sysds.runtime.matrix.operators.AggregateBinaryOperator;
 import org.apache.sysds.runtime.matrix.operators.BinaryOperator;
@@ -58,6 +73,7 @@ import org.apache.sysds.runtime.matrix.operators.LeftScalarOperator;
 import org.apache.sysds.runtime.matrix.operators.ReorgOperator;
 import org.apache.sysds.runtime.matrix.operators.RightScalarOperator;
 import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.UnaryOperator;
 import org.apache.sysds.runtime.util.DataConverter;
 import org.apache.sysds.test.TestUtils;
 import org.apache.sysds.test.component.compress.TestConstants.MatrixTypology;
@@ -109,6 +125,8 @@ public abstract class CompressedTestBase extends TestBase {
 			.setValidCompressions(EnumSet.of(CompressionType.OLE)).setInvestigateEstimate(true),
 		new CompressionSettingsBuilder().setSamplingRatio(0.1).setSeed(compressionSeed)
 			.setValidCompressions(EnumSet.of(CompressionType.RLE)).setInvestigateEstimate(true),
+		new CompressionSettingsBuilder().setSamplingRatio(0.1).setSeed(compressionSeed)
+			.setValidCompressions(EnumSet.of(CompressionType.SDC)).setInvestigateEstimate(true),
 		new CompressionSettingsBuilder().setSamplingRatio(0.1).setSeed(compressionSeed).setInvestigateEstimate(true),
 		new CompressionSettingsBuilder().setSamplingRatio(1.0).setSeed(compressionSeed).setInvestigateEstimate(true)
 			.setAllowSharedDictionary(false).setmaxStaticColGroupCoCode(1),
@@ -933,6 +951,359 @@ public abstract class CompressedTestBase extends TestBase {
 		}
 	}
 
+	@Test
+	public void testBinaryMVInPlacePlusROW() {
+		ValueFunction vf = Plus.getPlusFnObject();
+		MatrixBlock vector = DataConverter
+			.convertToMatrixBlock(TestUtils.generateTestMatrix(1, cols, -1.0, 1.5, 1.0, 3));
+		testBinaryMVInPlace(vf, vector);
+	}
+
+	@Test
+	public void testBinaryMVInPlaceMultiplyROW() {
+		ValueFunction vf = Multiply.getMultiplyFnObject();
+		MatrixBlock vector = DataConverter
+			.convertToMatrixBlock(TestUtils.generateTestMatrix(1, cols, -1.0, 1.5, 1.0, 3));
+		testBinaryMVInPlace(vf, vector);
+	}
+
+	@Test
+	public void testBinaryMVInPlaceMinusCOL() {
+		ValueFunction vf = Minus.getMinusFnObject();
+		MatrixBlock vector = DataConverter
+			.convertToMatrixBlock(TestUtils.generateTestMatrix(rows, 1, -1.0, 1.5, 1.0, 3));
+		testBinaryMVInPlace(vf, vector);
+	}
+
+	@Test
+	public void testBinaryMMInPlacePlus() {
+		ValueFunction vf = Plus.getPlusFnObject();
+		MatrixBlock matrix = DataConverter
+			.convertToMatrixBlock(TestUtils.generateTestMatrix(rows, cols, -1.0, 1.5, 1.0, 3));
+		testBinaryMVInPlace(vf, matrix);
+	}
+
+	public void testBinaryMVInPlace(ValueFunction vf, MatrixBlock vector) {
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			BinaryOperator bop = new BinaryOperator(vf);
+			// the uncompressed in-place operation does not support vectors
+			MatrixBlock ret1 = mb.binaryOperations(bop, vector, new MatrixBlock());
+			MatrixBlock ret2 = cmb.binaryOperationsInPlace(bop, vector);
+			compareResultMatrices(ret1, ret2);
+			// the result has to be written into the receiver, as callers ignore the returned block
+			assertTrue("In-place operation returned a different block", ret2 == cmb);
+			compareResultMatrices(ret1, cmb);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testUnaryOperatorAbs() {
+		testUnaryOperators(BuiltinCode.ABS);
+	}
+
+	@Test
+	public void testUnaryOperatorRound() {
+		testUnaryOperators(BuiltinCode.ROUND);
+	}
+
+	@Test
+	public void testUnaryOperatorSign() {
+		testUnaryOperators(BuiltinCode.SIGN);
+	}
+
+	@Test
+	public void testUnaryOperatorSigmoid() {
+		testUnaryOperators(BuiltinCode.SIGMOID);
+	}
+
+	@Test
+	public void testUnaryOperatorCos() {
+		testUnaryOperators(BuiltinCode.COS);
+	}
+
+	public void testUnaryOperators(BuiltinCode code) {
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			UnaryOperator op = new UnaryOperator(Builtin.getBuiltinFnObject(code));
+			MatrixBlock ret1 = mb.unaryOperations(op, new MatrixBlock());
+			MatrixBlock ret2 = cmb.unaryOperations(op, new MatrixBlock());
+			compareResultMatrices(ret1, ret2);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testUnaryOperatorOnDecompressed() {
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			// unary ops on (lossy) dictionaries must not add a quantization error to the compressed values
+			UnaryOperator op = new UnaryOperator(Builtin.getBuiltinFnObject(BuiltinCode.SIGMOID));
+			MatrixBlock ret1 = ((CompressedMatrixBlock) cmb).decompress().unaryOperations(op, new MatrixBlock());
+			MatrixBlock ret2 = cmb.unaryOperations(op, new MatrixBlock());
+			if(ret2 instanceof CompressedMatrixBlock)
+				ret2 = ((CompressedMatrixBlock) ret2).decompress();
+			TestUtils.compareMatrices(DataConverter.convertToDoubleMatrix(ret1),
+				DataConverter.convertToDoubleMatrix(ret2), 1e-10, this.toString());
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testSliceRows() {
+		testSlice(rows / 5, Math.min(rows - 1, (rows / 5) * 2), 0, cols - 1);
+	}
+
+	@Test
+	public void testSliceSingleRow() {
+		testSlice(rows - 1, rows - 1, 0, cols - 1);
+	}
+
+	@Test
+	public void testSliceColumns() {
+		testSlice(0, rows - 1, cols / 2, cols - 1);
+	}
+
+	@Test
+	public void testSliceRowsAndColumns() {
+		testSlice(rows / 3, rows - 1, 0, cols / 2);
+	}
+
+	public void testSlice(int rl, int ru, int cl, int cu) {
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			MatrixBlock ret1 = mb.slice(rl, ru, cl, cu, new MatrixBlock());
+			MatrixBlock ret2 = cmb.slice(rl, ru, cl, cu, new MatrixBlock());
+			assertEquals(ret1.getNumRows(), ret2.getNumRows());
+			assertEquals(ret1.getNumColumns(), ret2.getNumColumns());
+			compareResultMatrices(ret1, ret2);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testWriteAndReadCompressed() {
+		testWriteAndRead(-1, -1);
+	}
+
+	@Test
+	public void testWriteAndReadCompressedColumns() {
+		testWriteAndRead(cols / 2, cols - 1);
+	}
+
+	public void testWriteAndRead(int cl, int cu) {
+		File tmp = null;
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			tmp = File.createTempFile("compressed", ".bin");
+			tmp.delete();
+			String fname = tmp.getAbsolutePath();
+			new WriterCompressed(-1).writeMatrixToHDFS(cmb, fname, rows, cols, 1000, cmb.getNonZeros());
+
+			ReaderCompressed reader = new ReaderCompressed(false);
+			MatrixBlock ret = (cl < 0) ? reader.readMatrixFromHDFS(fname, rows, cols, 1000,
+				-1) : reader.readColumnsFromHDFS(fname, rows, cols, cl, cu);
+			MatrixBlock expected = (cl < 0) ? mb : mb.slice(0, rows - 1, cl, cu, new MatrixBlock());
+			assertEquals(expected.getNumRows(), ret.getNumRows());
+			assertEquals(expected.getNumColumns(), ret.getNumColumns());
+			if(cl < 0)
+				assertTrue("Read block should stay compressed", ret instanceof CompressedMatrixBlock);
+			compareResultMatrices(expected, ret);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+		finally {
+			if(tmp != null)
+				tmp.delete();
+		}
+	}
+
+	@Test
+	public void testSliceCompressedRows() {
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			int rl = rows / 5;
+			int ru = Math.min(rows - 1, (rows / 5) * 2);
+			MatrixBlock ret1 = mb.slice(rl, ru, 0, cols - 1, new MatrixBlock());
+			MatrixBlock ret2 = LibSlice.sliceCompressed((CompressedMatrixBlock) cmb, rl, ru, 0, cols - 1);
+			assertTrue("Row slice should stay compressed", ret2 instanceof CompressedMatrixBlock);
+			assertEquals(ret1.getNumRows(), ret2.getNumRows());
+			compareResultMatrices(ret1, ret2);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testPartitionedBlockSerialization() {
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			// serialize and deserialize the partitioned (broadcast) block
+			int blen = Math.max(rows / 3, 1);
+			PartitionedBlock<MatrixBlock> pmb = new PartitionedBlock<>(cmb, blen, true);
+			PartitionedBlock<?> pmb2 = serializeAndDeserialize(pmb);
+
+			// compare all blocks, which should stay compressed
+			for(int i = 1; i <= pmb2.getNumRowBlocks(); i++)
+				for(int j = 1; j <= pmb2.getNumColumnBlocks(); j++) {
+					MatrixBlock blk = (MatrixBlock) pmb2.getBlock(i, j);
+					assertTrue("Broadcast block should stay compressed", blk instanceof CompressedMatrixBlock);
+					MatrixBlock expected = mb.slice((i - 1) * blen, Math.min(i * blen, rows) - 1, (j - 1) * blen,
+						Math.min(j * blen, cols) - 1, new MatrixBlock());
+					compareResultMatrices(expected, blk);
+				}
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testPartitionedBlockSerializationMixed() {
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			// replace the last block by an uncompressed block, which requires the generic partition code
+			int blen = Math.max(rows / 3, 1);
+			PartitionedBlock<MatrixBlock> pmb = new PartitionedBlock<>(cmb, blen, true);
+			int nr = pmb.getNumRowBlocks();
+			int nc = pmb.getNumColumnBlocks();
+			pmb.setBlock(nr, nc, mb.slice((nr - 1) * blen, rows - 1, (nc - 1) * blen, cols - 1, new MatrixBlock()));
+			PartitionedBlock<?> pmb2 = serializeAndDeserialize(pmb);
+
+			// compare all blocks, which are read back as uncompressed blocks
+			for(int i = 1; i <= nr; i++)
+				for(int j = 1; j <= nc; j++) {
+					MatrixBlock blk = (MatrixBlock) pmb2.getBlock(i, j);
+					assertTrue("Mixed broadcast block should be uncompressed", !(blk instanceof CompressedMatrixBlock));
+					MatrixBlock expected = mb.slice((i - 1) * blen, Math.min(i * blen, rows) - 1, (j - 1) * blen,
+						Math.min(j * blen, cols) - 1, new MatrixBlock());
+					compareResultMatrices(expected, blk);
+				}
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	private static PartitionedBlock<?> serializeAndDeserialize(PartitionedBlock<MatrixBlock> pmb) throws Exception {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try(ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+			oos.writeObject(pmb);
+		}
+		try(ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+			return (PartitionedBlock<?>) ois.readObject();
+		}
+	}
+
+	@Test
+	public void testDeserializeCompressedAsUncompressed() {
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			cmb.write(new DataOutputStream(bos));
+			MatrixBlock ret = new MatrixBlock();
+			ret.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+			assertFalse(ret instanceof CompressedMatrixBlock);
+			compareResultMatrices(mb, ret);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	@Test
+	public void testCBindConstant() {
+		MatrixBlock ones = new MatrixBlock(rows, 1, 1.0);
+		testAppend(ones, true);
+	}
+
+	@Test
+	public void testCBindMatrix() {
+		MatrixBlock other = DataConverter
+			.convertToMatrixBlock(TestUtils.generateTestMatrix(rows, 3, -1.0, 1.5, 1.0, 3));
+		testAppend(other, true);
+	}
+
+	@Test
+	public void testRBindSelf() {
+		testAppend(cmb, false);
+	}
+
+	@Test
+	public void testRBindSelfReuseOutput() {
+		if(!(cmb instanceof CompressedMatrixBlock))
+			return; // Input was not compressed then just pass test
+
+		try {
+			MatrixBlock ret = new CompressedMatrixBlock(1, 1);
+			MatrixBlock ret2 = cmb.append(cmb, ret, false);
+			if(ret2 instanceof CompressedMatrixBlock)
+				assertTrue(this.toString(), ret == ret2);
+			compareResultMatrices(mb.append(mb, new MatrixBlock(), false), ret2);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
+	public void testAppend(MatrixBlock that, boolean cbind) {
+		try {
+			if(!(cmb instanceof CompressedMatrixBlock))
+				return; // Input was not compressed then just pass test
+
+			MatrixBlock thatUncompressed = (that instanceof CompressedMatrixBlock) ? ((CompressedMatrixBlock) that)
+				.decompress() : that;
+			MatrixBlock ret1 = mb.append(thatUncompressed, new MatrixBlock(), cbind);
+			MatrixBlock ret2 = cmb.append(that, new MatrixBlock(), cbind);
+			assertEquals(ret1.getNumRows(), ret2.getNumRows());
+			assertEquals(ret1.getNumColumns(), ret2.getNumColumns());
+			compareResultMatrices(ret1, ret2);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			throw new RuntimeException(this.toString() + "\n" + e.getMessage(), e);
+		}
+	}
+
 	private void compareResultMatrices(MatrixBlock ret1, MatrixBlock ret2) {
 		if(ret2 instanceof CompressedMatrixBlock)
 			ret2 = ((CompressedMatrixBlock) ret2).decompress();
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.compress;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.apache.sysds.runtime.compress.BitmapEncoder;
+import org.apache.sysds.runtime.compress.utils.ABitmap;
+import org.apache.sysds.runtime.compress.utils.Bitmap;
+import org.apache.sysds.runtime.matrix.data.LibMatrixReorg;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.junit.Test;
+
+/**
+ * Verify that the row partitioned parallel bitmap extraction produces the same bitmaps as the single threaded
+ * extraction.
+ */
+public class ParallelBitmapEncoderTest {
+
+	private static final int rows = 200000;
+	private static final int cols = 4;
+	private static final int k = 4;
+
+	@Test
+	public void testDenseSingleColumn() {
+		MatrixBlock mb = generate(1.0, 7);
+		compare(new int[] {1}, mb, false);
+	}
+
+	@Test
+	public void testDenseMultiColumn() {
+		MatrixBlock mb = generate(1.0, 7);
+		compare(new int[] {0, 2, 3}, mb, false);
+	}
+
+	@Test
+	public void testSparseSingleColumn() {
+		MatrixBlock mb = generate(0.1, 13);
+		compare(new int[] {2}, mb, false);
+	}
+
+	@Test
+	public void testSparseMultiColumn() {
+		MatrixBlock mb = generate(0.1, 13);
+		compare(new int[] {0, 1}, mb, false);
+	}
+
+	@Test
+	public void testSparseTransposedSingleColumn() {
+		MatrixBlock mb = transpose(generate(0.1, 17));
+		compare(new int[] {3}, mb, true);
+	}
+
+	@Test
+	public void testSparseTransposedMultiColumn() {
+		MatrixBlock mb = transpose(generate(0.1, 17));
+		compare(new int[] {1, 2, 3}, mb, true);
+	}
+
+	@Test
+	public void testDenseTransposedMultiColumn() {
+		MatrixBlock mb = transpose(generate(1.0, 19));
+		compare(new int[] {0, 3}, mb, true);
+	}
+
+	private static void compare(int[] colIndexes, MatrixBlock mb, boolean transposed) {
+		Bitmap expected = (Bitmap) BitmapEncoder.extractBitmap(colIndexes, mb, transposed);
+		ABitmap actual = BitmapEncoder.extractBitmap(colIndexes, mb, transposed, k);
+		assertEquals(expected.getNumValues(), actual.getNumValues());
+		assertEquals(expected.getNumOffsets(), actual.getNumOffsets());
+		assertArrayEquals(expected.getValues(), ((Bitmap) actual).getValues(), 0.0);
+		for(int i = 0; i < expected.getNumValues(); i++)
+			assertArrayEquals(expected.getOffsetsList(i).extractValues(true),
+				actual.getOffsetsList(i).extractValues(true));
+	}
+
+	private static MatrixBlock generate(double sparsity, long seed) {
+		Random r = new Random(seed);
+		MatrixBlock mb = new MatrixBlock(rows, cols, sparsity < 0.4);
+		for(int i = 0; i < rows; i++)
+			for(int j = 0; j < cols; j++)
+				if(r.nextDouble() < sparsity)
+					mb.appendValue(i, j, r.nextInt(8) + 1);
+		mb.examSparsity();
+		return mb;
+	}
+
+	private static MatrixBlock transpose(MatrixBlock mb) {
+		return LibMatrixReorg.transpose(mb, new MatrixBlock(mb.getNumColumns(), mb.getNumRows(), mb.isInSparseFormat()),
+			k);
+	}
+}
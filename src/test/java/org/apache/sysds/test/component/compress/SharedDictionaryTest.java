@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.compress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.CompressionSettings;
+import org.apache.sysds.runtime.compress.CompressionSettingsBuilder;
+import org.apache.sysds.runtime.compress.cocode.PlanningCoCoder.PartitionerType;
+import org.apache.sysds.runtime.compress.colgroup.ADictionary;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup.CompressionType;
+import org.apache.sysds.runtime.compress.colgroup.ColGroupValue;
+import org.apache.sysds.runtime.compress.colgroup.Dictionary;
+import org.apache.sysds.runtime.compress.colgroup.DictionaryRegistry;
+import org.apache.sysds.runtime.functionobjects.Multiply;
+import org.apache.sysds.runtime.functionobjects.Plus;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.RightScalarOperator;
+import org.apache.sysds.runtime.matrix.operators.ScalarOperator;
+import org.junit.Test;
+
+/**
+ * Verify that column groups with identical dictionaries (e.g., binary columns) share a single dictionary instance, and
+ * that the sharing is preserved by scalar operations and serialization.
+ */
+public class SharedDictionaryTest {
+
+	private static final int rows = 10000;
+	private static final int cols = 20;
+
+	@Test
+	public void testSharedDictionary() {
+		MatrixBlock mb = generate(0.3, 7);
+		CompressedMatrixBlock cmb = compress(mb, true);
+		assertEquals(1, countDictionaries(cmb));
+		compare(mb, cmb, 1.0, 0.0);
+	}
+
+	@Test
+	public void testNotSharedDictionary() {
+		MatrixBlock mb = generate(0.3, 7);
+		CompressedMatrixBlock cmb = compress(mb, false);
+		assertEquals(cols, countDictionaries(cmb));
+	}
+
+	@Test
+	public void testSharedDictionarySmallerEstimate() {
+		MatrixBlock mb = generate(0.3, 13);
+		CompressedMatrixBlock shared = compress(mb, true);
+		CompressedMatrixBlock notShared = compress(mb, false);
+		assertTrue(shared.estimateCompressedSizeInMemory() < notShared.estimateCompressedSizeInMemory());
+	}
+
+	@Test
+	public void testScalarMultiplySharedDictionary() {
+		MatrixBlock mb = generate(0.3, 17);
+		CompressedMatrixBlock cmb = compress(mb, true);
+		ScalarOperator sop = new RightScalarOperator(Multiply.getMultiplyFnObject(), 3);
+		MatrixBlock ret = cmb.scalarOperations(sop, new MatrixBlock());
+		assertTrue(ret instanceof CompressedMatrixBlock);
+		assertEquals(1, countDictionaries((CompressedMatrixBlock) ret));
+		compare(mb, ret, 3.0, 0.0);
+		// the input is not modified by the operation
+		compare(mb, cmb, 1.0, 0.0);
+	}
+
+	@Test
+	public void testScalarPlusSharedDictionary() {
+		MatrixBlock mb = generate(0.3, 19);
+		CompressedMatrixBlock cmb = compress(mb, true);
+		ScalarOperator sop = new RightScalarOperator(Plus.getPlusFnObject(), 2);
+		MatrixBlock ret = cmb.scalarOperations(sop, new MatrixBlock());
+		compare(mb, ret, 1.0, 2.0);
+		compare(mb, cmb, 1.0, 0.0);
+	}
+
+	@Test
+	public void testSerializationSharedDictionary() throws Exception {
+		MatrixBlock mb = generate(0.3, 23);
+		CompressedMatrixBlock cmb = compress(mb, true);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		DataOutputStream dos = new DataOutputStream(bos);
+		cmb.write(dos);
+		dos.flush();
+		CompressedMatrixBlock read = new CompressedMatrixBlock();
+		read.readFields(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())));
+		assertEquals(1, countDictionaries(read));
+		compare(mb, read, 1.0, 0.0);
+	}
+
+	@Test
+	public void testRegistryShare() {
+		DictionaryRegistry reg = new DictionaryRegistry();
+		ADictionary a = new Dictionary(new double[] {1, 2, 3});
+		ADictionary b = new Dictionary(new double[] {1, 2, 3});
+		ADictionary c = new Dictionary(new double[] {1, 2, 4});
+		assertSame(a, reg.share(a));
+		assertSame(a, reg.share(b));
+		assertSame(c, reg.share(c));
+		assertEquals(2, reg.getNumDictionaries());
+	}
+
+	private static CompressedMatrixBlock compress(MatrixBlock mb, boolean shared) {
+		CompressionSettings cs = new CompressionSettingsBuilder().setSamplingRatio(1.0)
+			.setValidCompressions(EnumSet.of(CompressionType.OLE)).setColumnPartitioner(PartitionerType.STATIC)
+			.setmaxStaticColGroupCoCode(1).setAllowSharedDictionary(shared).create();
+		MatrixBlock ret = CompressedMatrixBlockFactory.compress(mb, 1, cs).getLeft();
+		assertTrue("Compression was aborted", ret instanceof CompressedMatrixBlock);
+		return (CompressedMatrixBlock) ret;
+	}
+
+	private static int countDictionaries(CompressedMatrixBlock cmb) {
+		Set<ADictionary> dicts = Collections.newSetFromMap(new IdentityHashMap<>());
+		for(ColGroup grp : cmb.getColGroups())
+			if(grp instanceof ColGroupValue)
+				dicts.add(((ColGroupValue) grp).getDictionary());
+		return dicts.size();
+	}
+
+	private static void compare(MatrixBlock expected, MatrixBlock actual, double mult, double add) {
+		MatrixBlock ret = (actual instanceof CompressedMatrixBlock) ? ((CompressedMatrixBlock) actual)
+			.decompress() : actual;
+		for(int i = 0; i < rows; i++)
+			for(int j = 0; j < cols; j++)
+				assertEquals(expected.quickGetValue(i, j) * mult + add, ret.quickGetValue(i, j), 0.0);
+	}
+
+	private static MatrixBlock generate(double sparsity, long seed) {
+		Random r = new Random(seed);
+		MatrixBlock mb = new MatrixBlock(rows, cols, false);
+		mb.allocateDenseBlock();
+		for(int i = 0; i < rows; i++)
+			for(int j = 0; j < cols; j++)
+				if(r.nextDouble() < sparsity)
+					mb.quickSetValue(i, j, 1);
+		mb.recomputeNonZeros();
+		return mb;
+	}
+}
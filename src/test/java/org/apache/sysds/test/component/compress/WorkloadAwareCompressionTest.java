@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.compress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Random;
+
+import org.apache.sysds.runtime.compress.CompressedMatrixBlock;
+import org.apache.sysds.runtime.compress.CompressedMatrixBlockFactory;
+import org.apache.sysds.runtime.compress.CompressionSettings;
+import org.apache.sysds.runtime.compress.CompressionSettingsBuilder;
+import org.apache.sysds.runtime.compress.colgroup.ColGroup.CompressionType;
+import org.apache.sysds.runtime.compress.estim.CompressedSizeEstimatorExact;
+import org.apache.sysds.runtime.compress.estim.CompressedSizeInfoColGroup;
+import org.apache.sysds.runtime.compress.workload.Workload;
+import org.apache.sysds.runtime.compress.workload.Workload.OpType;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.junit.Test;
+
+/**
+ * Verify that a workload summary makes the selection of column group types cost-based instead of size-based.
+ */
+public class WorkloadAwareCompressionTest {
+
+	private static final int rows = 10000;
+	private static final int cols = 4;
+
+	@Test
+	public void testEncodeParse() {
+		Workload w = new Workload();
+		w.add(OpType.RIGHT_MM, 15);
+		w.add(OpType.AGGREGATE, 1);
+		w.add(OpType.RIGHT_MM, 15);
+		Workload w2 = Workload.parse(w.encode());
+		for(OpType type : OpType.values())
+			assertEquals(w.getWeight(type), w2.getWeight(type), 0.0);
+		assertEquals(30, w2.getWeight(OpType.RIGHT_MM), 0.0);
+	}
+
+	@Test
+	public void testEmptyWorkloadSizeBased() {
+		MatrixBlock mb = generate(0.1, 7);
+		CompressedSizeInfoColGroup noWorkload = estimate(mb, null);
+		CompressedSizeInfoColGroup empty = estimate(mb, new Workload());
+		assertEquals(CompressionType.OLE, noWorkload.getBestCompressionType());
+		assertEquals(noWorkload.getBestCompressionType(), empty.getBestCompressionType());
+		assertEquals(noWorkload.getMinSize(), noWorkload.getMinCost());
+	}
+
+	@Test
+	public void testIndexingWorkloadPrefersDDC() {
+		MatrixBlock mb = generate(0.1, 7);
+		Workload w = new Workload();
+		w.add(OpType.INDEXING, 100);
+		CompressedSizeInfoColGroup info = estimate(mb, w);
+		assertEquals(CompressionType.DDC, info.getBestCompressionType());
+		assertEquals(info.getCompressionSize(CompressionType.DDC), info.getMinSize());
+	}
+
+	@Test
+	public void testRightMultWorkloadKeepsOLE() {
+		MatrixBlock mb = generate(0.1, 7);
+		Workload w = new Workload();
+		w.add(OpType.RIGHT_MM, 100);
+		assertEquals(CompressionType.OLE, estimate(mb, w).getBestCompressionType());
+	}
+
+	@Test
+	public void testCompressWithWorkload() {
+		MatrixBlock mb = generate(0.1, 13);
+		Workload w = new Workload();
+		w.add(OpType.LEFT_MM, 15);
+		w.add(OpType.INDEXING, 15);
+		CompressionSettings cs = new CompressionSettingsBuilder().setSamplingRatio(1.0).setWorkload(w).create();
+		MatrixBlock cmb = CompressedMatrixBlockFactory.compress(mb, 1, cs).getLeft();
+		assertTrue(cmb instanceof CompressedMatrixBlock);
+		MatrixBlock ret = ((CompressedMatrixBlock) cmb).decompress();
+		for(int i = 0; i < rows; i++)
+			for(int j = 0; j < cols; j++)
+				assertEquals(mb.quickGetValue(i, j), ret.quickGetValue(i, j), 0.0);
+	}
+
+	private static CompressedSizeInfoColGroup estimate(MatrixBlock mb, Workload w) {
+		CompressionSettings cs = new CompressionSettingsBuilder().setSamplingRatio(1.0)
+			.setValidCompressions(EnumSet.of(CompressionType.DDC, CompressionType.OLE)).setWorkload(w).create();
+		return new CompressedSizeEstimatorExact(mb, cs, false).estimateCompressedColGroupSize(new int[] {0});
+	}
+
+	private static MatrixBlock generate(double sparsity, long seed) {
+		Random r = new Random(seed);
+		MatrixBlock mb = new MatrixBlock(rows, cols, false);
+		mb.allocateDenseBlock();
+		for(int i = 0; i < rows; i++)
+			for(int j = 0; j < cols; j++)
+				if(r.nextDouble() < sparsity)
+					mb.quickSetValue(i, j, j + 1);
+		mb.recomputeNonZeros();
+		return mb;
+	}
+}
@@ -48,6 +48,7 @@ public abstract class JolEstimateTest {
 	protected static final CompressionType ddc = CompressionType.DDC;
 	protected static final CompressionType ole = CompressionType.OLE;
 	protected static final CompressionType rle = CompressionType.RLE;
+	protected static final CompressionType sdc = CompressionType.SDC;
 	protected static final CompressionType unc = CompressionType.UNCOMPRESSED;
 
 	public static long kbTolerance = 1024;
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.federated;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.lops.Lop;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedCodec;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedRequest.RequestType;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse;
+import org.apache.sysds.runtime.controlprogram.federated.FederatedResponse.ResponseType;
+import org.apache.sysds.runtime.instructions.cp.DoubleObject;
+import org.apache.sysds.runtime.instructions.cp.ScalarObject;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+
+public class FederatedCodecTest
+{
+	private static final String RMVAR = "CP" + Lop.OPERAND_DELIMITOR + "rmvar" + Lop.OPERAND_DELIMITOR + "7";
+	
+	@Test
+	public void testRequestDense() throws Exception {
+		runRequestTest(MatrixBlock.randOperations(100, 50, 1.0, -1, 1, "uniform", 7), false);
+	}
+	
+	@Test
+	public void testRequestSparse() throws Exception {
+		runRequestTest(MatrixBlock.randOperations(100, 50, 0.05, -1, 1, "uniform", 7), false);
+	}
+	
+	@Test
+	public void testRequestDenseLZ4() throws Exception {
+		runRequestTest(MatrixBlock.randOperations(1000, 10, 0.5, 0, 1, "uniform", 7), true);
+	}
+	
+	@Test
+	public void testResponseFrameAndException() throws Exception {
+		FrameBlock fb = new FrameBlock(new ValueType[]{ValueType.STRING, ValueType.FP64},
+			new String[][]{{"a", "1.5"}, {"b", "-3"}, {null, "7"}});
+		FederatedResponse resp = decode(new EmbeddedChannel(new FederatedCodec.Encoder(false, true)),
+			new FederatedResponse(ResponseType.SUCCESS, fb));
+		assertTrue(resp.isSuccessful());
+		FrameBlock fb2 = (FrameBlock) resp.getData()[0];
+		assertEquals(fb.getNumRows(), fb2.getNumRows());
+		for( int i=0; i<fb.getNumRows(); i++ )
+			for( int j=0; j<fb.getNumColumns(); j++ )
+				assertEquals(fb.get(i, j), fb2.get(i, j));
+		
+		resp = decode(new EmbeddedChannel(new FederatedCodec.Encoder(false, true)),
+			new FederatedResponse(ResponseType.ERROR, new IllegalStateException("failed")));
+		assertFalse(resp.isSuccessful());
+		assertTrue(resp.getErrorMessage().contains("failed"));
+	}
+	
+	@Test
+	public void testNegotiatedResponseCompression() throws Exception {
+		//worker compresses responses only if the coordinator accepts LZ4
+		MatrixBlock mb = MatrixBlock.randOperations(1000, 10, 1.0, 1, 1, "uniform", 3);
+		for( boolean accept : new boolean[]{false, true} ) {
+			EmbeddedChannel client = new EmbeddedChannel(new FederatedCodec.Encoder(accept, false));
+			EmbeddedChannel worker = new EmbeddedChannel(new FederatedCodec.Decoder(),
+				new FederatedCodec.Encoder(true, true));
+			client.writeOutbound((Object) new FederatedRequest[]{new FederatedRequest(RequestType.GET_VAR, 1)});
+			worker.writeInbound((ByteBuf) client.readOutbound());
+			worker.readInbound();
+			worker.writeOutbound(new FederatedResponse(ResponseType.SUCCESS, mb));
+			ByteBuf buf = (ByteBuf) worker.readOutbound();
+			assertEquals(accept, buf.readableBytes() < mb.getExactSizeOnDisk());
+			EmbeddedChannel decoder = new EmbeddedChannel(new FederatedCodec.Decoder());
+			decoder.writeInbound(buf);
+			FederatedResponse resp = (FederatedResponse) decoder.readInbound();
+			TestUtils.compareMatrices(mb, (MatrixBlock) resp.getData()[0], 0);
+		}
+	}
+	
+	private static void runRequestTest(MatrixBlock mb, boolean lz4) throws Exception {
+		FederatedRequest put = new FederatedRequest(RequestType.PUT_VAR, 7, mb);
+		put.setTID(3);
+		FederatedRequest exec = new FederatedRequest(RequestType.EXEC_INST, -1, RMVAR);
+		FederatedRequest udf = new FederatedRequest(RequestType.EXEC_UDF, -1,
+			new DoubleObject(3.5), 11L, new long[]{1, 2}, null);
+		
+		EmbeddedChannel client = new EmbeddedChannel(new FederatedCodec.Encoder(lz4, false));
+		client.writeOutbound((Object) new FederatedRequest[]{put, exec, udf});
+		EmbeddedChannel worker = new EmbeddedChannel(new FederatedCodec.Decoder());
+		worker.writeInbound((ByteBuf) client.readOutbound());
+		FederatedRequest[] requests = (FederatedRequest[]) worker.readInbound();
+		
+		assertEquals(3, requests.length);
+		assertEquals(RequestType.PUT_VAR, requests[0].getType());
+		assertEquals(7, requests[0].getID());
+		assertEquals(3, requests[0].getTID());
+		TestUtils.compareMatrices(mb, (MatrixBlock) requests[0].getParam(0), 0);
+		assertEquals(mb.getNonZeros(), ((MatrixBlock) requests[0].getParam(0)).getNonZeros());
+		assertEquals(RMVAR, requests[1].getParam(0));
+		assertEquals(3.5, ((ScalarObject) requests[2].getParam(0)).getDoubleValue(), 0);
+		assertEquals(11L, requests[2].getParam(1));
+		assertEquals(2, ((long[]) requests[2].getParam(2))[1]);
+		assertEquals(null, requests[2].getParam(3));
+		assertEquals(put.checkPrivacy(), requests[0].checkPrivacy());
+	}
+	
+	private static FederatedResponse decode(EmbeddedChannel encoder, FederatedResponse resp) {
+		encoder.writeOutbound(resp);
+		EmbeddedChannel decoder = new EmbeddedChannel(new FederatedCodec.Decoder());
+		decoder.writeInbound((ByteBuf) encoder.readOutbound());
+		return (FederatedResponse) decoder.readInbound();
+	}
+}
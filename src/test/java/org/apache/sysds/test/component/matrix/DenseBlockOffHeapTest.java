@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.apache.sysds.runtime.data.DenseBlock;
+import org.apache.sysds.runtime.data.DenseBlockFP64Off;
+import org.apache.sysds.runtime.data.DenseBlockFactory;
+import org.apache.sysds.runtime.instructions.InstructionUtils;
+import org.apache.sysds.runtime.matrix.data.LibMatrixMult;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixIndexes;
+import org.apache.sysds.runtime.matrix.operators.AggregateUnaryOperator;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DenseBlockOffHeapTest {
+	private static final int rows = 321;
+	private static final int cols = 47;
+
+	@Test
+	public void testGetSetNnz() {
+		double[][] A = TestUtils.generateTestMatrix(rows, cols, -1, 1, 0.7, 7);
+		DenseBlock db = createOffHeap(A).getDenseBlock();
+		Assert.assertTrue(db.isOffHeap());
+		long nnz = 0;
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ ) {
+				Assert.assertEquals(A[i][j], db.get(i, j), 0);
+				nnz += (A[i][j] != 0) ? 1 : 0;
+			}
+		Assert.assertEquals(nnz, db.countNonZeros());
+		Assert.assertTrue(db.isOffHeap());
+	}
+
+	@Test
+	public void testMigrationToHeap() {
+		double[][] A = TestUtils.generateTestMatrix(rows, cols, -1, 1, 0.7, 3);
+		MatrixBlock mb = createOffHeap(A);
+		double[] vals = mb.getDenseBlockValues();
+		Assert.assertFalse(mb.getDenseBlock().isOffHeap());
+		Assert.assertEquals(A[rows-1][cols-1], vals[rows*cols-1], 0);
+		vals[0] = 7;
+		Assert.assertEquals(7, mb.quickGetValue(0, 0), 0);
+	}
+
+	@Test
+	public void testMatrixMult() {
+		testMatrixMult(1);
+	}
+
+	@Test
+	public void testMatrixMultParallel() {
+		testMatrixMult(4);
+	}
+
+	@Test
+	public void testMatrixMultHeapSkinnyRhs() {
+		//off-heap lhs with heap rhs that qualifies for the skinny-rhs transpose
+		double[][] A = TestUtils.generateTestMatrix(rows, cols, -1, 1, 0.9, 23);
+		double[][] B = TestUtils.generateTestMatrix(cols, 29, -1, 1, 0.9, 29);
+		for( int k : new int[]{1, 4} ) {
+			MatrixBlock ret1 = new MatrixBlock(rows, 29, false);
+			MatrixBlock ret2 = new MatrixBlock(rows, 29, false);
+			MatrixBlock mB = DataConverter.convertToMatrixBlock(B);
+			LibMatrixMult.matrixMult(DataConverter.convertToMatrixBlock(A), mB, ret1, k);
+			LibMatrixMult.matrixMult(createOffHeap(A), mB, ret2, k);
+			TestUtils.compareMatrices(ret1, ret2, 1e-10);
+		}
+	}
+
+	@Test
+	public void testOffHeapAllocation() {
+		int m = 1024, n = 1024;
+		DenseBlockFactory.setOffHeapAllocation(true);
+		try {
+			//generic allocation remains on heap
+			MatrixBlock mb = new MatrixBlock(m, n, false);
+			mb.allocateDenseBlock();
+			Assert.assertFalse(mb.getDenseBlock().isOffHeap());
+			//heap inputs use the default kernels w/ heap outputs
+			double[][] A = TestUtils.generateTestMatrix(m, 3, -1, 1, 0.9, 31);
+			double[][] B = TestUtils.generateTestMatrix(3, n, -1, 1, 0.9, 37);
+			MatrixBlock ret1 = new MatrixBlock(m, n, false);
+			LibMatrixMult.matrixMult(DataConverter.convertToMatrixBlock(A),
+				DataConverter.convertToMatrixBlock(B), ret1, 1);
+			Assert.assertFalse(ret1.getDenseBlock().isOffHeap());
+			//large matrix multiplication outputs of off-heap inputs are allocated off-heap
+			MatrixBlock ret = new MatrixBlock(m, n, false);
+			LibMatrixMult.matrixMult(createOffHeap(A),
+				DataConverter.convertToMatrixBlock(B), ret, 1);
+			Assert.assertTrue(ret.getDenseBlock().isOffHeap());
+			DenseBlockFactory.setOffHeapAllocation(false);
+			MatrixBlock ret2 = new MatrixBlock(m, n, false);
+			LibMatrixMult.matrixMult(DataConverter.convertToMatrixBlock(A),
+				DataConverter.convertToMatrixBlock(B), ret2, 1);
+			TestUtils.compareMatrices(ret2, ret1, 1e-10);
+			TestUtils.compareMatrices(ret2, ret, 1e-10);
+		}
+		finally {
+			DenseBlockFactory.setOffHeapAllocation(false);
+		}
+	}
+
+	@Test
+	public void testAggregates() {
+		double[][] A = TestUtils.generateTestMatrix(rows, cols, -1, 1, 0.9, 11);
+		MatrixBlock heap = DataConverter.convertToMatrixBlock(A);
+		MatrixBlock off = createOffHeap(A);
+		for( String opcode : new String[]{"uak+", "uark+", "uack+", "uasqk+", "uamax", "uarmin", "uacmax"} ) {
+			AggregateUnaryOperator op = InstructionUtils.parseBasicAggregateUnaryOperator(opcode);
+			MatrixBlock ret1 = heap.aggregateUnaryOperations(op, new MatrixBlock(), rows, new MatrixIndexes(1, 1), true);
+			MatrixBlock ret2 = off.aggregateUnaryOperations(op, new MatrixBlock(), rows, new MatrixIndexes(1, 1), true);
+			TestUtils.compareMatrices(ret1, ret2, 1e-10);
+		}
+		Assert.assertTrue(off.getDenseBlock().isOffHeap());
+	}
+
+	@Test
+	public void testSerialization() throws IOException {
+		double[][] A = TestUtils.generateTestMatrix(rows, cols, -1, 1, 0.9, 13);
+		MatrixBlock off = createOffHeap(A);
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try(DataOutputStream dos = new DataOutputStream(bos)) {
+			off.write(dos);
+		}
+		Assert.assertTrue(off.getDenseBlock().isOffHeap());
+		MatrixBlock ret = new MatrixBlock();
+		try(DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+			ret.readFields(dis);
+		}
+		TestUtils.compareMatrices(DataConverter.convertToMatrixBlock(A), ret, 0);
+	}
+
+	private static void testMatrixMult(int k) {
+		double[][] A = TestUtils.generateTestMatrix(rows, cols, -1, 1, 0.9, 17);
+		double[][] B = TestUtils.generateTestMatrix(cols, 29, -1, 1, 0.9, 19);
+		MatrixBlock ret1 = new MatrixBlock(rows, 29, false);
+		MatrixBlock ret2 = new MatrixBlock(rows, 29, false);
+		LibMatrixMult.matrixMult(DataConverter.convertToMatrixBlock(A),
+			DataConverter.convertToMatrixBlock(B), ret1, k);
+		MatrixBlock off = createOffHeap(A);
+		LibMatrixMult.matrixMult(off, createOffHeap(B), ret2, k);
+		TestUtils.compareMatrices(ret1, ret2, 1e-10);
+		Assert.assertTrue(off.getDenseBlock().isOffHeap());
+	}
+
+	private static MatrixBlock createOffHeap(double[][] A) {
+		int m = A.length, n = A[0].length;
+		MatrixBlock ret = new MatrixBlock(m, n, new DenseBlockFP64Off(new int[]{m, n}));
+		for( int i=0; i<m; i++ )
+			ret.getDenseBlock().set(i, A[i]);
+		ret.recomputeNonZeros();
+		return ret;
+	}
+}
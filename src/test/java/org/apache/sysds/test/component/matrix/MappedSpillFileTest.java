@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappedSpillFileTest {
+	private static final int rows = 1100;
+	private static final int cols = 1000;
+
+	private File _file;
+
+	@Before
+	public void setup() throws IOException {
+		_file = File.createTempFile("mmap", ".dat");
+	}
+
+	@After
+	public void cleanup() {
+		_file.delete();
+	}
+
+	@Test
+	public void testWriteReadMapped() throws IOException {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 0.9, -1, 1, "uniform", 7);
+		Assert.assertTrue(LocalFileUtils.isMappableCacheBlock(mb));
+		LocalFileUtils.writeMatrixBlockToLocalMapped(_file.getPath(), mb);
+		MatrixBlock mb2 = LocalFileUtils.readMatrixBlockFromLocalMapped(_file.getPath());
+		Assert.assertNotNull(mb2);
+		Assert.assertTrue(mb2.getDenseBlock().isOffHeap());
+		Assert.assertEquals(mb.getNonZeros(), mb2.getNonZeros());
+		TestUtils.compareMatrices(mb, mb2, 0);
+	}
+
+	@Test
+	public void testCopyOnWrite() throws IOException {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 3);
+		LocalFileUtils.writeMatrixBlockToLocalMapped(_file.getPath(), mb);
+		MatrixBlock mb2 = LocalFileUtils.readMatrixBlockFromLocalMapped(_file.getPath());
+		mb2.quickSetValue(0, 0, 7);
+		MatrixBlock mb3 = LocalFileUtils.readMatrixBlockFromLocalMapped(_file.getPath());
+		Assert.assertEquals(mb.quickGetValue(0, 0), mb3.quickGetValue(0, 0), 0);
+		Assert.assertEquals(7, mb2.quickGetValue(0, 0), 0);
+	}
+
+	@Test
+	public void testRewriteWhileMapped() throws IOException {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 5);
+		LocalFileUtils.writeMatrixBlockToLocalMapped(_file.getPath(), mb);
+		MatrixBlock mb2 = LocalFileUtils.readMatrixBlockFromLocalMapped(_file.getPath());
+		MatrixBlock mb3 = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 9);
+		LocalFileUtils.writeMatrixBlockToLocalMapped(_file.getPath(), mb3);
+		TestUtils.compareMatrices(mb, mb2, 0);
+		TestUtils.compareMatrices(mb3,
+			LocalFileUtils.readMatrixBlockFromLocalMapped(_file.getPath()), 0);
+	}
+
+	@Test
+	public void testSerializedFallback() throws IOException {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 11);
+		LocalFileUtils.writeMatrixBlockToLocal(_file.getPath(), mb);
+		Assert.assertNull(LocalFileUtils.readMatrixBlockFromLocalMapped(_file.getPath()));
+	}
+
+	@Test
+	public void testNotMappable() {
+		Assert.assertFalse(LocalFileUtils.isMappableCacheBlock(
+			MatrixBlock.randOperations(rows, cols, 0.01, -1, 1, "uniform", 7)));
+		Assert.assertFalse(LocalFileUtils.isMappableCacheBlock(
+			MatrixBlock.randOperations(10, 10, 1.0, -1, 1, "uniform", 7)));
+	}
+}
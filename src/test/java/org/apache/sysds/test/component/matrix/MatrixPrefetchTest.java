@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.matrix;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.runtime.meta.MetaDataFormat;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class MatrixPrefetchTest {
+	private static final int rows = 1000;
+	private static final int cols = 100;
+
+	@Test
+	public void testEvictPrefetchModifyCleanup() throws Exception {
+		runEvictPrefetchModifyTest(true);
+	}
+
+	@Test
+	public void testEvictPrefetchModifyNoCleanup() throws Exception {
+		runEvictPrefetchModifyTest(false);
+	}
+
+	private static void runEvictPrefetchModifyTest(boolean cleanup) throws Exception {
+		CacheableData.initCaching("tmp_matrix_prefetch_test");
+		try {
+			MatrixBlock mb1 = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 7);
+			MatrixBlock mb2 = MatrixBlock.randOperations(rows, cols, 1.0, -1, 1, "uniform", 3);
+			MatrixCharacteristics mc = new MatrixCharacteristics(rows, cols, 1000, rows * cols);
+			MatrixObject mo = new MatrixObject(ValueType.FP64, "mA", new MetaDataFormat(mc, FileFormat.BINARY));
+			mo.enableCleanup(cleanup);
+			mo.acquireModify(mb1);
+			mo.release();
+
+			// evict matrix and issue a prefetch of the evicted data
+			evict(mo);
+			ExecutorService pool = Executors.newSingleThreadExecutor();
+			Method prefetch = CacheableData.class
+				.getDeclaredMethod("startPrefetch", ExecutorService.class, long.class, boolean.class);
+			prefetch.setAccessible(true);
+			Assert.assertTrue((Boolean) prefetch.invoke(mo, pool, mb1.getInMemorySize(), false));
+			pool.shutdown();
+			pool.awaitTermination(1, TimeUnit.MINUTES);
+
+			// modify matrix, which has to discard the pending prefetch
+			mo.acquireModify(mb2);
+			Assert.assertNull(getPrefetch(mo));
+			mo.release();
+
+			// read matrix through the buffer pool after re-eviction
+			evict(mo);
+			MatrixBlock ret = mo.acquireRead();
+			mo.release();
+			TestUtils.compareMatrices(mb2, ret, 0);
+		}
+		finally {
+			CacheableData.cleanupCacheDir();
+		}
+	}
+
+	private static void evict(MatrixObject mo) throws Exception {
+		LazyWriteBuffer.forceEviction();
+		Method clear = CacheableData.class.getDeclaredMethod("clearCache");
+		clear.setAccessible(true);
+		clear.invoke(mo);
+	}
+
+	private static Object getPrefetch(MatrixObject mo) throws Exception {
+		Field prefetch = CacheableData.class.getDeclaredField("_prefetch");
+		prefetch.setAccessible(true);
+		return prefetch.get(mo);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.misc;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import org.apache.sysds.runtime.lineage.LineageCacheLRUKPolicy;
+import org.apache.sysds.runtime.lineage.LineageCacheTrace;
+import org.apache.sysds.runtime.lineage.LineageCacheTrace.ReplayStatistics;
+import org.junit.Test;
+
+public class LineageCacheTraceTest {
+
+	@Test
+	public void testReplayLRUKEvictsCheapEntries() throws IOException {
+		//entry 1 is expensive, entry 2 cheap, both of equal size
+		ReplayStatistics stats = replay(new LineageCacheLRUKPolicy(), 100,
+			"A,1,50,1000", "A,2,50,10", "H,1", "H,2", "A,3,50,500", "H,1", "H,2");
+		assertEquals(3, stats.getHits());
+		assertEquals(4, stats.getMisses());
+		assertEquals(2, stats.getEvictions());
+		assertEquals(2010, stats.getSavedComputeTime());
+	}
+
+	@Test
+	public void testReplayLRUKFrequency() throws IOException {
+		//frequently accessed entry survives a more expensive one-time entry
+		ReplayStatistics stats = replay(new LineageCacheLRUKPolicy(), 100,
+			"A,1,50,100", "H,1", "H,1", "H,1", "A,2,50,150", "A,3,50,10", "H,1");
+		assertEquals(4, stats.getHits());
+		assertEquals(3, stats.getMisses());
+		assertEquals(1, stats.getEvictions());
+	}
+
+	@Test
+	public void testReplayOversizedEntries() throws IOException {
+		ReplayStatistics stats = replay(new LineageCacheLRUKPolicy(), 10,
+			"A,1,50,100", "H,1", "H,7");
+		assertEquals(0, stats.getHits());
+		assertEquals(2, stats.getMisses());
+		assertEquals(0, stats.getEvictions());
+	}
+
+	private static ReplayStatistics replay(LineageCacheLRUKPolicy policy, long limit, String... events)
+		throws IOException
+	{
+		File f = File.createTempFile("lineageTrace", ".csv");
+		try {
+			try( FileWriter fw = new FileWriter(f) ) {
+				for( String e : events )
+					fw.write(e + "\n");
+			}
+			return LineageCacheTrace.replay(f.getAbsolutePath(), policy, limit);
+		}
+		finally {
+			f.delete();
+		}
+	}
+}
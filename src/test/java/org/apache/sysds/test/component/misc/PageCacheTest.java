@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.component.misc;
+
+import java.io.IOException;
+
+import org.apache.sysds.api.DMLScript;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysds.runtime.controlprogram.caching.CacheableData;
+import org.apache.sysds.runtime.controlprogram.caching.LazyWriteBuffer;
+import org.apache.sysds.runtime.controlprogram.caching.PageCache;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.TestUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class PageCacheTest {
+
+	@After
+	public void cleanup() {
+		PageCache.clear();
+	}
+
+	@Test
+	public void testWriteBufferPageReuse() throws IOException {
+		runWriteBufferTest(true);
+	}
+
+	@Test
+	public void testWriteBufferNoPageCache() throws IOException {
+		runWriteBufferTest(false);
+	}
+
+	@Test
+	public void testExactSize() {
+		PageCache.init(1024 * 1024);
+		byte[] page = new byte[5000];
+		PageCache.putPage(page);
+		Assert.assertSame(page, PageCache.getPage(5000));
+		Assert.assertNull(PageCache.getPage(5000));
+	}
+
+	@Test
+	public void testSizeClass() {
+		PageCache.init(1024 * 1024);
+		byte[] page = new byte[6000];
+		PageCache.putPage(page);
+		//too small, and too large (more than twice the size)
+		Assert.assertNull(PageCache.getPage(6001));
+		Assert.assertNull(PageCache.getPage(2900));
+		//same and next smaller size class
+		Assert.assertSame(page, PageCache.getPage(4500));
+		PageCache.putPage(page);
+		Assert.assertSame(page, PageCache.getPage(3500));
+	}
+
+	@Test
+	public void testBudget() {
+		PageCache.init(10000);
+		byte[] page1 = new byte[6000];
+		byte[] page2 = new byte[6000];
+		PageCache.putPage(page1);
+		PageCache.putPage(page2);
+		Assert.assertSame(page1, PageCache.getPage(6000));
+		Assert.assertNull(PageCache.getPage(6000));
+	}
+
+	private static void runWriteBufferTest(boolean pageCache) throws IOException {
+		boolean stats = DMLScript.STATISTICS;
+		try {
+			DMLScript.STATISTICS = true;
+			LazyWriteBuffer.setPageCache(pageCache);
+			CacheableData.initCaching("tmp_page_cache_test");
+			CacheStatistics.reset();
+
+			// string frames are deep-serialized into byte arrays of the write buffer
+			// second frame of at most the same serialized size (served by the pooled page)
+			FrameBlock fb1 = createFrame(7);
+			FrameBlock fb2 = createFrame(7);
+			fb2.set(0, 0, "1.0");
+			LazyWriteBuffer.writeBlock("fb1", fb1);
+			LazyWriteBuffer.deleteBlock("fb1");
+			LazyWriteBuffer.writeBlock("fb2", fb2);
+			FrameBlock ret = (FrameBlock) LazyWriteBuffer.readBlock("fb2", false);
+			LazyWriteBuffer.deleteBlock("fb2");
+
+			Assert.assertEquals(pageCache ? 1 : 0, CacheStatistics.getPageCacheHits());
+			TestUtils.compareFrames(DataConverter.convertToStringFrame(fb2),
+				DataConverter.convertToStringFrame(ret), fb2.getNumRows(), fb2.getNumColumns());
+		}
+		finally {
+			LazyWriteBuffer.cleanup();
+			LazyWriteBuffer.setPageCache(false);
+			CacheableData.cleanupCacheDir();
+			DMLScript.STATISTICS = stats;
+		}
+	}
+
+	private static FrameBlock createFrame(long seed) {
+		ValueType[] schema = new ValueType[] {ValueType.STRING, ValueType.STRING};
+		return DataConverter.convertToFrameBlock(
+			TestUtils.round(MatrixBlock.randOperations(1000, 2, 1.0, 1, 100, "uniform", seed)), schema);
+	}
+}
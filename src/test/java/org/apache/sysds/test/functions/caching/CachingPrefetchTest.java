@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.caching;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysds.runtime.controlprogram.caching.CacheStatistics;
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+
+public class CachingPrefetchTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME = "Prefetch";
+	private final static String TEST_DIR = "functions/caching/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + CachingPrefetchTest.class.getSimpleName() + "/";
+	private final static File TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, "SystemDS-config-prefetch.xml");
+	
+	private final static int rows = 500;
+	private final static int cols = 70;
+	
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME,
+			new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] { "R" }) ); 
+	}
+	
+	@Test
+	public void testPrefetchReadInputs() {
+		TestConfiguration config = getTestConfiguration(TEST_NAME);
+		loadTestConfiguration(config);
+		
+		String HOME = SCRIPT_DIR + TEST_DIR;
+		fullDMLScriptName = HOME + TEST_NAME + ".dml";
+		programArgs = new String[]{"-stats", "-args", input("X"), input("Y"), output("R")};
+		
+		double[][] X = getRandomMatrix(rows, cols, -1, 1, 0.9, 7);
+		double[][] Y = getRandomMatrix(cols, rows, -1, 1, 0.9, 3);
+		writeInputMatrixWithMTD("X", X, true);
+		writeInputMatrixWithMTD("Y", Y, true);
+		
+		runTest(true, false, null, -1);
+		
+		//compare with expected result
+		HashMap<CellIndex, Double> R = readDMLMatrixFromOutputDir("R");
+		double[][] Rexp = new double[rows][rows];
+		for( int i=0; i<rows; i++ )
+			for( int k=0; k<cols; k++ )
+				for( int j=0; j<rows; j++ )
+					Rexp[i][j] += X[i][k] * Y[k][j];
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<rows; j++ )
+				Rexp[i][j] += 7;
+		TestUtils.compareMatrices(Rexp,
+			TestUtils.convertHashMapToDoubleArray(R, rows, rows), 1e-10);
+		
+		//check that inputs have been read asynchronously
+		Assert.assertTrue(CacheStatistics.getPrefetchHits() > 0);
+	}
+	
+	@Override
+	protected File getConfigTemplateFile() {
+		return TEST_CONF_FILE;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.federated.io;
+
+import java.io.File;
+
+import org.apache.sysds.common.Types;
+import org.apache.sysds.runtime.controlprogram.caching.MatrixObject;
+import org.apache.sysds.runtime.meta.MatrixCharacteristics;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.apache.sysds.test.functions.federated.FederatedTestObjectConstructor;
+import org.junit.Assert;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class FederatedBatchingTest extends AutomatedTestBase {
+	private final static String TEST_DIR = "functions/federated/io/";
+	private final static String TEST_NAME = "FederatedBatchingTest";
+	private final static String TEST_CLASS_DIR = TEST_DIR + FederatedBatchingTest.class.getSimpleName() + "/";
+	private final static int blocksize = 1024;
+	private final static File TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR + "BatchingConfig.xml");
+
+	private final static int rows = 100;
+	private final static int cols = 13;
+
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME));
+	}
+
+	@Test
+	public void federatedBatchingSinglenode() {
+		Types.ExecMode oldPlatform = setExecMode(Types.ExecMode.SINGLE_NODE);
+		getAndLoadTestConfiguration(TEST_NAME);
+		setOutputBuffering(true);
+
+		// write input matrices
+		int halfRows = rows / 2;
+		long[][] begins = new long[][] {new long[] {0, 0}, new long[] {halfRows, 0}};
+		long[][] ends = new long[][] {new long[] {halfRows, cols}, new long[] {rows, cols}};
+		double[][] X1 = getRandomMatrix(halfRows, cols, 0, 1, 1, 42);
+		double[][] X2 = getRandomMatrix(halfRows, cols, 0, 1, 1, 1340);
+		writeInputMatrixWithMTD("X1", X1, false, new MatrixCharacteristics(halfRows, cols, blocksize, halfRows * cols));
+		writeInputMatrixWithMTD("X2", X2, false, new MatrixCharacteristics(halfRows, cols, blocksize, halfRows * cols));
+
+		// empty script name because we don't execute any script, just start the worker
+		fullDMLScriptName = "";
+		int port1 = getRandomAvailablePort();
+		int port2 = getRandomAvailablePort();
+		Thread t1 = startLocalFedWorkerThread(port1, FED_WORKER_WAIT_S);
+		Thread t2 = startLocalFedWorkerThread(port2);
+
+		try {
+			MatrixObject fed = FederatedTestObjectConstructor.constructFederatedInput(
+				rows, cols, blocksize, "localhost", begins, ends, new int[] {port1, port2},
+				new String[] {input("X1"), input("X2")}, input("X.json"));
+			writeInputFederatedWithMTD("X.json", fed, null);
+
+			// run reference dml script with normal matrix
+			fullDMLScriptName = SCRIPT_DIR + TEST_DIR + TEST_NAME + "Reference.dml";
+			programArgs = new String[] {"-args", input("X1"), input("X2")};
+			String refOut = runTest(null).toString();
+
+			// run federated with deferred elementwise operations
+			fullDMLScriptName = SCRIPT_DIR + TEST_DIR + TEST_NAME + ".dml";
+			programArgs = new String[] {"-stats", "-args", input("X.json")};
+			String out = runTest(null).toString();
+
+			Assert.assertTrue(heavyHittersContainsString("fed_uak+"));
+			Assert.assertTrue(out.contains("Federated (Msg/Req/Deferred/Sent/Recv/Wait):"));
+			Assert.assertEquals(Double.parseDouble(refOut.split("\n")[0]),
+				Double.parseDouble(out.split("\n")[0]), 1e-8);
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			Assert.fail(e.getMessage());
+		}
+		finally {
+			resetExecMode(oldPlatform);
+			TestUtils.shutdownThreads(t1, t2);
+		}
+	}
+
+	@Override
+	protected File getConfigTemplateFile() {
+		return TEST_CONF_FILE;
+	}
+}
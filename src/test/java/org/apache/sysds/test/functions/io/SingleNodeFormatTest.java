@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.io;
+
+import java.util.HashMap;
+
+import org.apache.sysds.common.Types.ExecMode;
+import org.apache.sysds.runtime.matrix.data.MatrixValue.CellIndex;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Test;
+
+/**
+ * Write and read of formats without spark readers and writers (compressed, parquet), which are always written in CP
+ * and read through the buffer pool if consumed by spark operations.
+ */
+public class SingleNodeFormatTest extends AutomatedTestBase
+{
+	private final static String TEST_NAME1 = "SingleNodeFormatWrite";
+	private final static String TEST_NAME2 = "SingleNodeFormatRead";
+	private final static String TEST_DIR = "functions/io/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + SingleNodeFormatTest.class.getSimpleName() + "/";
+
+	private final static int rows = 1200;
+	private final static int cols = 30;
+
+	@Override
+	public void setUp() {
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1, new String[] {"Y"}));
+		addTestConfiguration(TEST_NAME2, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME2, new String[] {"R"}));
+	}
+
+	@Test
+	public void testCompressedHybrid() {
+		runSingleNodeFormatTest("compressed", ExecMode.HYBRID);
+	}
+
+	@Test
+	public void testCompressedSpark() {
+		runSingleNodeFormatTest("compressed", ExecMode.SPARK);
+	}
+
+	@Test
+	public void testParquetHybrid() {
+		runSingleNodeFormatTest("parquet", ExecMode.HYBRID);
+	}
+
+	@Test
+	public void testParquetSpark() {
+		runSingleNodeFormatTest("parquet", ExecMode.SPARK);
+	}
+
+	private void runSingleNodeFormatTest(String format, ExecMode mode) {
+		ExecMode platformOld = setExecMode(mode);
+		try {
+			// write the input in the given format
+			loadTestConfiguration(getTestConfiguration(TEST_NAME1));
+			String HOME = SCRIPT_DIR + TEST_DIR;
+			fullDMLScriptName = HOME + TEST_NAME1 + ".dml";
+			programArgs = new String[] {"-args", input("X"), output("Y"), format};
+			double[][] X = TestUtils.round(getRandomMatrix(rows, cols, 0, 10, 0.7, 7));
+			writeInputMatrixWithMTD("X", X, true);
+			runTest(true, false, null, -1);
+			String fname = output("Y");
+
+			// read the written input and consume it by (spark) operations
+			loadTestConfiguration(getTestConfiguration(TEST_NAME2));
+			fullDMLScriptName = HOME + TEST_NAME2 + ".dml";
+			programArgs = new String[] {"-args", fname, format, output("R")};
+			runTest(true, false, null, -1);
+
+			// compare with expected result
+			double[][] Rexp = new double[cols][cols];
+			for(int i = 0; i < cols; i++)
+				for(int j = 0; j < cols; j++) {
+					for(int k = 0; k < rows; k++)
+						Rexp[i][j] += X[k][i] * X[k][j];
+					Rexp[i][j] += 7;
+				}
+			HashMap<CellIndex, Double> R = readDMLMatrixFromOutputDir("R");
+			TestUtils.compareMatrices(Rexp, TestUtils.convertHashMapToDoubleArray(R, cols, cols), 1e-10);
+		}
+		finally {
+			resetExecMode(platformOld);
+		}
+	}
+}
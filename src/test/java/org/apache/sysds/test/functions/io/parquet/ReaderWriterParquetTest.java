@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.io.parquet;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.io.FileFormatPropertiesParquet;
+import org.apache.sysds.runtime.io.FrameReader;
+import org.apache.sysds.runtime.io.FrameReaderFactory;
+import org.apache.sysds.runtime.io.FrameReaderParquetParallel;
+import org.apache.sysds.runtime.io.FrameWriter;
+import org.apache.sysds.runtime.io.FrameWriterFactory;
+import org.apache.sysds.runtime.io.IOUtilFunctions;
+import org.apache.sysds.runtime.io.MatrixReader;
+import org.apache.sysds.runtime.io.MatrixReaderFactory;
+import org.apache.sysds.runtime.io.MatrixWriter;
+import org.apache.sysds.runtime.io.MatrixWriterFactory;
+import org.apache.sysds.runtime.io.ParquetUtils;
+import org.apache.sysds.runtime.io.ReaderParquetParallel;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReaderWriterParquetTest {
+
+	private static final String TEST_DIR = "target/testTemp/functions/data/ReaderWriterParquetTest/";
+	private static final long SEED = 7;
+
+	@Test
+	public void testWriteReadDenseMatrix() throws IOException {
+		runMatrixTest(1013, 17, 0.9);
+	}
+
+	@Test
+	public void testWriteReadSparseMatrix() throws IOException {
+		runMatrixTest(1013, 17, 0.05);
+	}
+
+	@Test
+	public void testWriteReadMatrixParts() throws IOException {
+		MatrixBlock mb = MatrixBlock.randOperations(1500, 13, 0.7, -1, 1, "uniform", SEED);
+		String dir = TEST_DIR + "matrixParts";
+		HDFSTool.deleteFileIfExistOnHDFS(dir);
+
+		//write three part files (row groups) and read them in parallel
+		MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(FileFormat.PARQUET);
+		for( int i=0; i<3; i++ ) {
+			MatrixBlock part = mb.slice(i*500, (i+1)*500-1);
+			writer.writeMatrixToHDFS(part, dir + "/" + IOUtilFunctions.getPartFileName(i),
+				part.getNumRows(), part.getNumColumns(), -1, part.getNonZeros());
+		}
+		long[] dims = ParquetUtils.readDimensions(dir, null);
+		Assert.assertArrayEquals(new long[] {1500, 13}, dims);
+		MatrixBlock ret = new ReaderParquetParallel(null).readMatrixFromHDFS(dir, 1500, 13, -1, -1);
+		TestUtils.compareMatrices(mb, ret, 0);
+		HDFSTool.deleteFileIfExistOnHDFS(dir);
+	}
+
+	@Test
+	public void testWriteReadFrame() throws IOException {
+		runFrameTest(694, 23, null);
+	}
+
+	@Test
+	public void testWriteReadFrameProjection() throws IOException {
+		runFrameTest(694, 23, new String[] {"C7", "C2", "C19"});
+	}
+
+	@Test
+	public void testWriteReadFrameInferredSchema() throws IOException {
+		FrameBlock fb = createFrame(100, 5);
+		String fname = TEST_DIR + "frameSchema.parquet";
+		FrameWriter writer = FrameWriterFactory.createFrameWriter(FileFormat.PARQUET);
+		writer.writeFrameToHDFS(fb, fname, fb.getNumRows(), fb.getNumColumns());
+
+		//read with unknown dimensions and schema from parquet footers
+		Assert.assertArrayEquals(fb.getSchema(), ParquetUtils.readValueTypes(fname, null));
+		FrameReader reader = FrameReaderFactory.createFrameReader(FileFormat.PARQUET);
+		FrameBlock ret = reader.readFrameFromHDFS(fname, null, null, -1, -1);
+		Assert.assertArrayEquals(fb.getSchema(), ret.getSchema());
+		Assert.assertArrayEquals(fb.getColumnNames(), ret.getColumnNames());
+		TestUtils.compareFrames(DataConverter.convertToStringFrame(fb),
+			DataConverter.convertToStringFrame(ret), fb.getNumRows(), fb.getNumColumns());
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+	}
+
+	private static void runMatrixTest(int rows, int cols, double sparsity) throws IOException {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", SEED);
+		String fname = TEST_DIR + "matrix.parquet";
+
+		MatrixWriter writer = MatrixWriterFactory.createMatrixWriter(FileFormat.PARQUET);
+		writer.writeMatrixToHDFS(mb, fname, rows, cols, -1, mb.getNonZeros());
+		MatrixReader reader = MatrixReaderFactory.createMatrixReader(FileFormat.PARQUET);
+		MatrixBlock ret = reader.readMatrixFromHDFS(fname, rows, cols, -1, mb.getNonZeros());
+
+		Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0);
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+	}
+
+	private static void runFrameTest(int rows, int cols, String[] columns) throws IOException {
+		FrameBlock fb = createFrame(rows, cols);
+		String fname = TEST_DIR + "frame.parquet";
+
+		FrameWriter writer = FrameWriterFactory.createFrameWriter(FileFormat.PARQUET);
+		writer.writeFrameToHDFS(fb, fname, rows, cols);
+		FrameReader reader = new FrameReaderParquetParallel(new FileFormatPropertiesParquet(columns));
+
+		//obtain expected frame (with optional column projection)
+		String[][] full = DataConverter.convertToStringFrame(fb);
+		int[] cix = new int[(columns != null) ? columns.length : cols];
+		for( int j=0; j<cix.length; j++ )
+			cix[j] = (columns != null) ? Integer.parseInt(columns[j].substring(1)) - 1 : j;
+		String[][] expected = new String[rows][cix.length];
+		ValueType[] schema = new ValueType[cix.length];
+		for( int j=0; j<cix.length; j++ ) {
+			schema[j] = fb.getSchema()[cix[j]];
+			for( int i=0; i<rows; i++ )
+				expected[i][j] = full[i][cix[j]];
+		}
+
+		FrameBlock ret = reader.readFrameFromHDFS(fname, schema, rows, cix.length);
+		if( columns != null )
+			Assert.assertArrayEquals(columns, ret.getColumnNames());
+		TestUtils.compareFrames(expected, DataConverter.convertToStringFrame(ret), rows, cix.length);
+		HDFSTool.deleteFileIfExistOnHDFS(fname);
+	}
+
+	private static FrameBlock createFrame(int rows, int cols) {
+		Random random = new Random(SEED);
+		ValueType[] schema = TestUtils.generateRandomSchema(cols, random);
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(rows, cols, schema, random);
+		fb.setColumnNames(FrameBlock.createColNames(cols));
+		return fb;
+	}
+}
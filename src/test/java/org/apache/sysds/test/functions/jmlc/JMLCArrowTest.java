@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.jmlc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import org.apache.sysds.api.jmlc.Connection;
+import org.apache.sysds.api.jmlc.PreparedScript;
+import org.apache.sysds.api.jmlc.ResultVariables;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.functionobjects.Multiply;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.matrix.operators.RightScalarOperator;
+import org.apache.sysds.runtime.util.ArrowConverterUtils;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JMLCArrowTest extends AutomatedTestBase
+{
+	private static final String TEST_DIR = "target/testTemp/functions/jmlc/JMLCArrowTest/";
+	private static final long SEED = 7;
+
+	@Override
+	public void setUp() { }
+
+	@Test
+	public void testFrameStream() throws IOException {
+		//more rows than a single record batch
+		FrameBlock fb = createFrame(ArrowConverterUtils.DEFAULT_BATCH_SIZE + 1013, 6);
+		FrameBlock ret = ArrowConverterUtils.convertArrowToFrame(ArrowConverterUtils.convertFrameToArrow(fb));
+		compareFrames(fb, ret);
+	}
+
+	@Test
+	public void testFrameFile() throws IOException {
+		FrameBlock fb = createFrame(1013, 6);
+		String fname = TEST_DIR + "frame.arrow";
+		new File(TEST_DIR).mkdirs();
+		ArrowConverterUtils.writeFrameToFile(fb, fname);
+		try( Connection conn = new Connection() ) {
+			compareFrames(fb, conn.readArrowFrame(fname));
+		}
+		new File(fname).delete();
+	}
+
+	@Test
+	public void testDenseMatrixStream() throws IOException {
+		runMatrixStreamTest(ArrowConverterUtils.DEFAULT_BATCH_SIZE + 1013, 7, 0.9);
+	}
+
+	@Test
+	public void testSparseMatrixStream() throws IOException {
+		runMatrixStreamTest(ArrowConverterUtils.DEFAULT_BATCH_SIZE + 1013, 7, 0.05);
+	}
+
+	@Test
+	public void testMatrixFile() throws IOException {
+		MatrixBlock mb = MatrixBlock.randOperations(1013, 7, 0.7, -1, 1, "uniform", SEED);
+		String fname = TEST_DIR + "matrix.arrow";
+		new File(TEST_DIR).mkdirs();
+		ArrowConverterUtils.writeMatrixToFile(mb, fname);
+		try( Connection conn = new Connection() ) {
+			TestUtils.compareMatrices(mb, conn.readArrowMatrix(fname), 0);
+		}
+		new File(fname).delete();
+	}
+
+	@Test
+	public void testScriptFrameInputOutput() throws IOException {
+		FrameBlock fb = createFrame(1013, 6);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ArrowConverterUtils.writeFrameToStream(fb, out);
+
+		try( Connection conn = new Connection() ) {
+			PreparedScript pscript = conn.prepareScript(
+				"X = read(\"tmp\", data_type=\"frame\"); Y = X; write(Y, \"tmp2\");",
+				new String[]{"X"}, new String[]{"Y"});
+			pscript.setFrame("X", conn.convertArrowToFrame(
+				new ByteArrayInputStream(out.toByteArray())), false);
+			ResultVariables rs = pscript.executeScript();
+			ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+			rs.writeArrowFrame("Y", out2);
+			compareFrames(fb, ArrowConverterUtils.readFrameFromStream(
+				new ByteArrayInputStream(out2.toByteArray())));
+		}
+	}
+
+	@Test
+	public void testScriptMatrixInputOutput() throws IOException {
+		MatrixBlock mb = MatrixBlock.randOperations(1013, 7, 0.7, -1, 1, "uniform", SEED);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ArrowConverterUtils.writeMatrixToStream(mb, out);
+
+		try( Connection conn = new Connection() ) {
+			PreparedScript pscript = conn.prepareScript(
+				"X = read(\"tmp\", data_type=\"matrix\"); Y = X * 2; write(Y, \"tmp2\");",
+				new String[]{"X"}, new String[]{"Y"});
+			pscript.setMatrix("X", conn.convertArrowToMatrix(
+				new ByteArrayInputStream(out.toByteArray())), false);
+			ResultVariables rs = pscript.executeScript();
+			ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+			rs.writeArrowMatrix("Y", out2);
+			MatrixBlock ret = ArrowConverterUtils.readMatrixFromStream(
+				new ByteArrayInputStream(out2.toByteArray()));
+			MatrixBlock expected = mb.scalarOperations(new RightScalarOperator(
+				Multiply.getMultiplyFnObject(), 2), new MatrixBlock());
+			TestUtils.compareMatrices(expected, ret, 0);
+		}
+	}
+
+	private static void runMatrixStreamTest(int rows, int cols, double sparsity) throws IOException {
+		MatrixBlock mb = MatrixBlock.randOperations(rows, cols, sparsity, -1, 1, "uniform", SEED);
+		MatrixBlock ret = ArrowConverterUtils.convertArrowToMatrix(ArrowConverterUtils.convertMatrixToArrow(mb));
+		Assert.assertEquals(mb.getNonZeros(), ret.getNonZeros());
+		TestUtils.compareMatrices(mb, ret, 0);
+	}
+
+	private static FrameBlock createFrame(int rows, int cols) {
+		Random random = new Random(SEED);
+		ValueType[] schema = TestUtils.generateRandomSchema(cols, random);
+		FrameBlock fb = TestUtils.generateRandomFrameBlock(rows, cols, schema, random);
+		fb.setColumnNames(FrameBlock.createColNames(cols));
+		return fb;
+	}
+
+	private static void compareFrames(FrameBlock expected, FrameBlock actual) {
+		Assert.assertArrayEquals(expected.getSchema(), actual.getSchema());
+		Assert.assertArrayEquals(expected.getColumnNames(), actual.getColumnNames());
+		TestUtils.compareFrames(DataConverter.convertToStringFrame(expected),
+			DataConverter.convertToStringFrame(actual), expected.getNumRows(), expected.getNumColumns());
+	}
+}
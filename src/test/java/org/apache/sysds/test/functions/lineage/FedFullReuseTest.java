@@ -24,6 +24,7 @@ import static org.junit.Assert.assertTrue;
 import java.util.Arrays;
 import java.util.Collection;
 
+import org.apache.sysds.runtime.controlprogram.federated.FederatedStatistics;
 import org.apache.sysds.runtime.lineage.Lineage;
 import org.apache.sysds.runtime.meta.MatrixCharacteristics;
 import org.apache.sysds.test.AutomatedTestBase;
@@ -139,6 +140,8 @@ public class FedFullReuseTest extends AutomatedTestBase {
 				// If the o/p is federated, fed_ba+* will be called everytime
 				// but the workers should be able to reuse ba+*
 				assertTrue(fedMMCount > mmCount_fed);
+				// the workers report their reuse back to the coordinator
+				assertTrue(FederatedStatistics.getTotalReuseHits() > 0);
 				break;
 			case TEST_NAME2:
 				// If the o/p is non-federated, fed_ba+* will be called once
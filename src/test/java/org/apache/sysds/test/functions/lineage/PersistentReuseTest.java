@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.lineage;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.apache.sysds.runtime.lineage.Lineage;
+import org.apache.sysds.runtime.lineage.LineageCacheConfig.ReuseCacheType;
+import org.apache.sysds.runtime.lineage.LineageCacheStatistics;
+import org.apache.sysds.runtime.lineage.LineagePersistentCache;
+import org.apache.sysds.runtime.matrix.data.MatrixValue;
+import org.apache.sysds.runtime.util.LocalFileUtils;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+@net.jcip.annotations.NotThreadSafe
+public class PersistentReuseTest extends LineageBase {
+	
+	protected static final String TEST_DIR = "functions/lineage/";
+	protected static final String TEST_NAME1 = "PersistentReuse";
+	protected String TEST_CLASS_DIR = TEST_DIR + PersistentReuseTest.class.getSimpleName() + "/";
+	private final static File TEST_CONF_FILE = new File(SCRIPT_DIR + TEST_DIR, "SystemDS-config-persist.xml");
+	private final static String CACHE_DIR = "target/testTemp/" + TEST_DIR + PersistentReuseTest.class.getSimpleName() + "/cache";
+	
+	private final static int rows = 10000;
+	private final static int cols = 200;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME1, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME1));
+	}
+	
+	@Test
+	public void testReuseAcrossRuns() {
+		runPersistentReuseTest(false);
+	}
+	
+	@Test
+	public void testNoReuseOnChangedInput() {
+		runPersistentReuseTest(true);
+	}
+	
+	public void runPersistentReuseTest(boolean changeInput) {
+		try {
+			LOG.debug("------------ BEGIN " + TEST_NAME1 + "------------");
+			getAndLoadTestConfiguration(TEST_NAME1);
+			fullDMLScriptName = getScript();
+			programArgs = new String[]{"-stats", "-lineage",
+				ReuseCacheType.REUSE_FULL.name().toLowerCase(),
+				"-args", input("X"), output("R")};
+			LocalFileUtils.deleteFileIfExists(CACHE_DIR);
+			
+			double[][] X = getRandomMatrix(rows, cols, -1, 1, 1.0, 7);
+			writeInputMatrixWithMTD("X", X, true);
+			
+			//first run populates the persistent cache
+			Lineage.resetInternalState();
+			Lineage.setLinReuseFull();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			HashMap<MatrixValue.CellIndex, Double> R_orig = readDMLMatrixFromOutputDir("R");
+			Assert.assertTrue(LineagePersistentCache.isEnabled());
+			Assert.assertTrue(LineageCacheStatistics.getPersistWrites() > 0);
+			
+			if( changeInput ) {
+				X = getRandomMatrix(rows, cols, -1, 1, 1.0, 3);
+				writeInputMatrixWithMTD("X", X, true);
+			}
+			
+			//second run with empty in-memory cache (i.e., new process)
+			Lineage.resetInternalState();
+			runTest(true, EXCEPTION_NOT_EXPECTED, null, -1);
+			HashMap<MatrixValue.CellIndex, Double> R_reused = readDMLMatrixFromOutputDir("R");
+			Lineage.setLinReuseNone();
+			
+			if( changeInput )
+				Assert.assertEquals(0, LineageCacheStatistics.getPersistHits());
+			else {
+				Assert.assertTrue(LineageCacheStatistics.getPersistHits() > 0);
+				TestUtils.compareMatrices(R_orig, R_reused, 1e-6, "Origin", "Reused");
+			}
+		}
+		finally {
+			LineagePersistentCache.clear();
+			LineagePersistentCache.init(null, 0);
+		}
+	}
+	
+	@Override
+	protected File getConfigTemplateFile() {
+		return TEST_CONF_FILE;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.transform;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.transform.encode.Encoder;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestUtils;
+
+public class TransformEncodeMultithreadedTest extends AutomatedTestBase 
+{
+	private static final int rows = 150000;
+	private static final int cols = 4;
+	private static final int k = 4;
+	
+	@Override
+	public void setUp()  {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testRecode() {
+		runTransformEncodeTest("{ids:true, recode:[1,2]}");
+	}
+	
+	@Test
+	public void testRecodeDummycode() {
+		runTransformEncodeTest("{ids:true, recode:[1,2], dummycode:[1]}");
+	}
+	
+	@Test
+	public void testBinDummycode() {
+		runTransformEncodeTest("{ids:true, bin:[{id:3, method:equi-width, numbins:4}], dummycode:[3]}");
+	}
+	
+	@Test
+	public void testHash() {
+		runTransformEncodeTest("{ids:true, hash:[1,2], K:100}");
+	}
+	
+	@Test
+	public void testImpute() {
+		runTransformEncodeTest("{ids:true, recode:[1], impute:[{id:4, method:global_mean}]}");
+	}
+	
+	private void runTransformEncodeTest(String spec) {
+		//generate input data with few distinct values per column
+		MatrixBlock mb = DataConverter.convertToMatrixBlock(getRandomMatrix(rows, cols, 1, 50, 1, 7));
+		for( int i=0; i<rows; i++ )
+			for( int j=0; j<cols; j++ )
+				mb.quickSetValue(i, j, Math.round(mb.quickGetValue(i, j)));
+		FrameBlock data = DataConverter.convertToFrameBlock(mb);
+		
+		//single- and multi-threaded transform encode
+		Encoder encoder1 = EncoderFactory.createEncoder(spec, data.getColumnNames(), cols, null);
+		MatrixBlock out1 = encoder1.encode(data, new MatrixBlock(rows, cols, false));
+		Encoder encoder2 = EncoderFactory.createEncoder(spec, data.getColumnNames(), cols, null);
+		MatrixBlock out2 = encoder2.encode(data, new MatrixBlock(rows, cols, false), k);
+		
+		//check equal outputs and meta data
+		TestUtils.compareMatrices(out1, out2, 0);
+		FrameBlock meta1 = encoder1.getMetaData(new FrameBlock(cols, ValueType.STRING));
+		FrameBlock meta2 = encoder2.getMetaData(new FrameBlock(cols, ValueType.STRING));
+		for( int j=0; j<cols; j++ )
+			Assert.assertEquals(meta1.getColumnMetadata(j).getNumDistinct(), meta2.getColumnMetadata(j).getNumDistinct());
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.transform;
+
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.transform.encode.Encoder;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.transform.encode.RecodeMap;
+import org.apache.sysds.runtime.transform.encode.RecodeMapDouble;
+import org.apache.sysds.runtime.transform.encode.RecodeMapLong;
+import org.apache.sysds.runtime.transform.encode.RecodeMapString;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestUtils;
+
+public class TransformRecodeMapTest extends AutomatedTestBase 
+{
+	private static final int rows = 5000;
+	private static final int distinct = 700;
+	
+	@Override
+	public void setUp()  {
+		TestUtils.clearAssertionInformation();
+	}
+	
+	@Test
+	public void testRecodeLong() {
+		runRecodeTest(ValueType.INT64);
+	}
+	
+	@Test
+	public void testRecodeInt() {
+		runRecodeTest(ValueType.INT32);
+	}
+	
+	@Test
+	public void testRecodeDouble() {
+		runRecodeTest(ValueType.FP64);
+	}
+	
+	@Test
+	public void testRecodeFloat() {
+		runRecodeTest(ValueType.FP32);
+	}
+	
+	@Test
+	public void testRecodeString() {
+		runRecodeTest(ValueType.STRING);
+	}
+	
+	@Test
+	public void testSpecializedMaps() {
+		Assert.assertTrue(RecodeMap.create(ValueType.INT64) instanceof RecodeMapLong);
+		Assert.assertTrue(RecodeMap.create(ValueType.FP64) instanceof RecodeMapDouble);
+		Assert.assertTrue(RecodeMap.create(ValueType.STRING) instanceof RecodeMapString);
+	}
+	
+	@Test
+	public void testConvertNonCanonicalTokens() {
+		HashMap<String,Long> tmp = new HashMap<>();
+		tmp.put("7", 1L);
+		tmp.put("007", 2L);
+		RecodeMap map = RecodeMap.create(tmp).convert(ValueType.INT64);
+		Assert.assertTrue(map instanceof RecodeMapString);
+		Assert.assertEquals(2, map.lookup("007"));
+		
+		tmp.remove("007");
+		map = RecodeMap.create(tmp).convert(ValueType.INT64);
+		Assert.assertTrue(map instanceof RecodeMapLong);
+		Assert.assertEquals(1, ((RecodeMapLong) map).lookup(7L));
+	}
+	
+	@Test
+	public void testSortRecodeMap() {
+		RecodeMap map = RecodeMap.create(ValueType.INT64);
+		map.put("3", 1);
+		map.put("10", 2);
+		map.put("2", 3);
+		map.sort();
+		Assert.assertEquals(1, map.lookup("10"));
+		Assert.assertEquals(2, map.lookup("2"));
+		Assert.assertEquals(3, map.lookup("3"));
+	}
+	
+	private static void runRecodeTest(ValueType vt) {
+		//generate input data with codes in order of first appearance
+		FrameBlock data = new FrameBlock(new ValueType[]{vt}, new String[]{"C1"});
+		Object[] tokens = new Object[distinct];
+		for( int i=0; i<distinct; i++ )
+			tokens[i] = getToken(vt, i);
+		double[] expected = new double[rows];
+		for( int i=0; i<rows; i++ ) {
+			int ix = (i < distinct) ? i : (i * 31) % distinct;
+			data.appendRow(new Object[]{tokens[ix]});
+			expected[i] = ix + 1;
+		}
+		
+		//transform encode (build and apply)
+		String spec = "{ids:true, recode:[1]}";
+		Encoder encoder = EncoderFactory.createEncoder(spec, data.getColumnNames(), data.getSchema(), null);
+		MatrixBlock out = encoder.encode(data, new MatrixBlock(rows, 1, false));
+		for( int i=0; i<rows; i++ )
+			Assert.assertEquals(expected[i], out.quickGetValue(i, 0), 0);
+		
+		//transform apply with meta data (typed map from string meta data)
+		FrameBlock meta = encoder.getMetaData(new FrameBlock(1, ValueType.STRING));
+		Assert.assertEquals(distinct, meta.getColumnMetadata(0).getNumDistinct());
+		Encoder encoder2 = EncoderFactory.createEncoder(spec, data.getColumnNames(), data.getSchema(), meta);
+		MatrixBlock out2 = encoder2.apply(data, new MatrixBlock(rows, 1, false));
+		TestUtils.compareMatrices(out, out2, 0);
+	}
+	
+	private static Object getToken(ValueType vt, int i) {
+		switch( vt ) {
+			case INT32:  return i * 7 - 100;
+			case INT64:  return (long) i * 1000003L - 5;
+			case FP32:   return i * 0.1f;
+			case FP64:   return i * 0.1;
+			default:     return "token" + i;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.apache.sysds.test.functions.transform;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.sysds.common.Types.FileFormat;
+import org.apache.sysds.common.Types.ValueType;
+import org.apache.sysds.runtime.DMLRuntimeException;
+import org.apache.sysds.runtime.io.FileFormatPropertiesCSV;
+import org.apache.sysds.runtime.io.FrameWriter;
+import org.apache.sysds.runtime.io.FrameWriterFactory;
+import org.apache.sysds.runtime.matrix.data.FrameBlock;
+import org.apache.sysds.runtime.matrix.data.MatrixBlock;
+import org.apache.sysds.runtime.meta.DataCharacteristics;
+import org.apache.sysds.runtime.transform.StreamingTransformApply;
+import org.apache.sysds.runtime.transform.encode.Encoder;
+import org.apache.sysds.runtime.transform.encode.EncoderFactory;
+import org.apache.sysds.runtime.util.DataConverter;
+import org.apache.sysds.runtime.util.HDFSTool;
+import org.apache.sysds.test.AutomatedTestBase;
+import org.apache.sysds.test.TestConfiguration;
+import org.apache.sysds.test.TestUtils;
+
+public class TransformStreamingApplyTest extends AutomatedTestBase 
+{
+	private final static String TEST_NAME = "TransformStreamingApply";
+	private final static String TEST_DIR = "functions/transform/";
+	private final static String TEST_CLASS_DIR = TEST_DIR + TransformStreamingApplyTest.class.getSimpleName() + "/";
+	
+	private static final int rows = 2371;
+	private static final int blen = 100;
+	
+	@Override
+	public void setUp() {
+		TestUtils.clearAssertionInformation();
+		addTestConfiguration(TEST_NAME, new TestConfiguration(TEST_CLASS_DIR, TEST_NAME, new String[] {"R"}));
+	}
+	
+	@Test
+	public void testStreamingRecodeSingleThreaded() {
+		runStreamingApplyTest("{ids:true, recode:[1,2]}", 1, true);
+	}
+	
+	@Test
+	public void testStreamingRecodeMultiThreaded() {
+		runStreamingApplyTest("{ids:true, recode:[1,2]}", 4, true);
+	}
+	
+	@Test
+	public void testStreamingRecodePipeDelimiter() {
+		//delimiter with special meaning in regular expressions
+		runStreamingApplyTest("{ids:true, recode:[1,2]}", 4, true, "|");
+	}
+	
+	@Test
+	public void testStreamingDummycodeMultiThreaded() {
+		runStreamingApplyTest("{ids:true, recode:[1,2], dummycode:[1]}", 4, true);
+	}
+	
+	@Test
+	public void testStreamingBinImputeMultiThreaded() {
+		runStreamingApplyTest("{ids:true, recode:[1], bin:[{id:3, method:equi-width, numbins:5}], "
+			+ "impute:[{id:4, method:global_mean}]}", 4, false);
+	}
+	
+	@Test(expected = DMLRuntimeException.class)
+	public void testStreamingOmitUnsupported() throws Exception {
+		getAndLoadTestConfiguration(TEST_NAME);
+		FrameBlock data = createData();
+		Encoder encoder = EncoderFactory.createEncoder("{ids:true, omit:[4]}",
+			data.getColumnNames(), data.getSchema(), null);
+		StreamingTransformApply.apply(input("X"), new FileFormatPropertiesCSV(), data.getSchema(),
+			data.getColumnNames(), encoder, output("R"), blen, 2);
+	}
+	
+	private void runStreamingApplyTest(String spec, int k, boolean header) {
+		runStreamingApplyTest(spec, k, header, ",");
+	}
+	
+	private void runStreamingApplyTest(String spec, int k, boolean header, String delim) {
+		try {
+			getAndLoadTestConfiguration(TEST_NAME);
+			
+			//write input csv, and build encoder in memory
+			FrameBlock data = createData();
+			FileFormatPropertiesCSV props = new FileFormatPropertiesCSV(header, delim, false);
+			FrameWriter writer = FrameWriterFactory.createFrameWriter(FileFormat.CSV, props);
+			writer.writeFrameToHDFS(data, input("X"), rows, data.getNumColumns());
+			Encoder encoder = EncoderFactory.createEncoder(spec, data.getColumnNames(), data.getSchema(), null);
+			MatrixBlock expected = encoder.encode(data, new MatrixBlock(rows, data.getNumColumns(), false));
+			
+			//streaming apply with chunks of three blocks
+			String[] colnames = StreamingTransformApply.readColumnNames(input("X"), props, data.getNumColumns());
+			if( header )
+				Assert.assertArrayEquals(data.getColumnNames(), colnames);
+			DataCharacteristics dc = StreamingTransformApply.apply(input("X"), props, data.getSchema(),
+				colnames, encoder, output("R"), blen, k, 3 * blen);
+			Assert.assertEquals(rows, dc.getRows());
+			Assert.assertEquals(expected.getNumColumns(), dc.getCols());
+			Assert.assertEquals(expected.getNonZeros(), dc.getNonZeros());
+			
+			//compare with in-memory transform encode
+			MatrixBlock out = DataConverter.readMatrixFromHDFS(output("R"),
+				FileFormat.BINARY, dc.getRows(), dc.getCols(), blen, dc.getNonZeros());
+			TestUtils.compareMatrices(expected, out, 1e-10);
+			HDFSTool.deleteFileIfExistOnHDFS(output("R"));
+		}
+		catch(Exception ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+	
+	private static FrameBlock createData() {
+		FrameBlock data = new FrameBlock(new ValueType[] {ValueType.STRING,
+			ValueType.INT64, ValueType.FP64, ValueType.FP64}, new String[] {"A", "B", "C", "D"});
+		for( int i=0; i<rows; i++ )
+			data.appendRow(new Object[] {"a" + (i % 17), (long) (i % 5), (double) (i % 101),
+				(double) i / 7});
+		return data;
+	}
+}